@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+ * Zipping a synthetic world: region files that are partly random (already compressed chunk
+ * data) and partly empty sectors, plus many small player and advancement files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class BackupsBenchmark {
+    private static final int REGION_BYTES = 1 << 20;
+    private static final int PLAYER_FILES = 500;
+
+    @Param({"16", "64"})
+    int regions;
+
+    private Path world;
+    private File zipFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        world = Files.createTempDirectory("dedicatedpower-world");
+        Random random = new Random(42);
+
+        Path regionDir = Files.createDirectories(world.resolve("region"));
+        byte[] region = new byte[REGION_BYTES];
+        for (int i = 0; i < regions; i++) {
+            // First half random, second half left as zeroed sectors
+            random.nextBytes(region);
+            Arrays.fill(region, REGION_BYTES / 2, REGION_BYTES, (byte) 0);
+            Files.write(regionDir.resolve("r." + (i % 8) + "." + (i / 8) + ".mca"), region);
+        }
+
+        Path playerDir = Files.createDirectories(world.resolve("playerdata"));
+        Path advancementDir = Files.createDirectories(world.resolve("advancements"));
+        byte[] playerData = new byte[4096];
+        for (int i = 0; i < PLAYER_FILES; i++) {
+            random.nextBytes(playerData);
+            Files.write(playerDir.resolve("player-" + i + ".dat"), playerData);
+            Files.writeString(advancementDir.resolve("player-" + i + ".json"),
+                    "{\"minecraft:story/root\":{\"done\":true},\"DataVersion\":" + (3000 + i) + "}");
+        }
+        Files.writeString(world.resolve("level.dat"), "level");
+
+        zipFile = Files.createTempFile("dedicatedpower-world", ".zip").toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(world)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+        Files.deleteIfExists(zipFile.toPath());
+    }
+
+    @Benchmark
+    public long zipDirectory() throws IOException {
+        Backups.zipDirectory(world.toFile(), zipFile);
+        return zipFile.length();
+    }
+}
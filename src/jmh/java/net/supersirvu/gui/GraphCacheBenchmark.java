@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Painting the stats graphs into an offscreen image: a full redraw (resize, zoom change), the
+ * usual scroll by one column per sample, and blitting the cached image as paint does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GraphCacheBenchmark {
+    private static final Color BAR_COLOR = new Color(46, 204, 113);
+    private static final Color SPIKE_COLOR = new Color(192, 57, 43);
+
+    // The stats panel's graph size, and a maximized window on a large screen
+    @Param({"456x100", "1920x400"})
+    String size;
+
+    private int width;
+    private int height;
+    private double[] values;
+    private GraphCache cache;
+    private BufferedImage target;
+    private Graphics2D targetGraphics;
+    private long position;
+
+    private final GraphCache.Source source = new GraphCache.Source() {
+        @Override
+        public double valueAt(int pixelFromRight, int width) {
+            return values[(int) Math.floorMod(position - pixelFromRight, (long) values.length)];
+        }
+
+        @Override
+        public Color colorAt(int pixelFromRight, int width) {
+            return valueAt(pixelFromRight, width) > 40 ? SPIKE_COLOR : BAR_COLOR;
+        }
+
+        @Override
+        public double maxValue() {
+            return 50;
+        }
+
+        @Override
+        public double peakAt(int pixelFromRight, int width) {
+            return valueAt(pixelFromRight, width) * 1.3;
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = size.split("x");
+        width = Integer.parseInt(parts[0]);
+        height = Integer.parseInt(parts[1]);
+
+        // Mostly quiet ticks with the odd spike
+        Random random = new Random(42);
+        values = new double[4096];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(50) == 0 ? 45 + random.nextDouble() * 20 : 5 + random.nextDouble() * 10;
+        }
+
+        cache = new GraphCache(Color.WHITE, new Color(220, 220, 220));
+        target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        targetGraphics = target.createGraphics();
+        cache.update(width, height, position, source);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        targetGraphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage fullRedraw() {
+        cache.invalidate();
+        return cache.update(width, height, ++position, source);
+    }
+
+    @Benchmark
+    public BufferedImage scrollOneColumn() {
+        return cache.update(width, height, ++position, source);
+    }
+
+    @Benchmark
+    public BufferedImage scrollAndBlit() {
+        targetGraphics.drawImage(cache.update(width, height, ++position, source), 0, 0, null);
+        return target;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.gui.EnhancedLogPanel.LogLevel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.swing.*;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * What the log panel does per line (level detection, storing, filtering, inserting into the
+ * styled document) and rebuilding the document from every stored line after a filter change.
+ */
+public class LogBufferBenchmark {
+    private static final int BATCH = 1000;
+
+    // Lines as the GUI console appender formats them, in roughly the mix a busy server produces
+    static String[] createLines(int count, long seed) {
+        String[] templates = {
+                "[12:00:%02d INFO]: Player%d joined the game",
+                "[12:00:%02d INFO]: <Player%d> anyone got spare iron?",
+                "[12:00:%02d WARN]: Can't keep up! Is the server overloaded? Running %dms or 40 ticks behind",
+                "[12:00:%02d INFO]: Saving chunks for level 'ServerLevel[world]'/minecraft:overworld (%d)",
+                "[12:00:%02d ERROR]: Error executing task on Server, entity %d",
+                "[12:00:%02d WARN]: Lag spike #%d: tick took 812 ms",
+                "[12:00:%02d INFO]: [Player%d: Gave 64 [Diamond] to Player7]",
+                "[12:00:%02d INFO]: Player%d lost connection: Disconnected"
+        };
+        Random random = new Random(seed);
+        String[] lines = new String[count];
+        for (int i = 0; i < count; i++) {
+            lines[i] = String.format(templates[random.nextInt(templates.length)], i % 60, random.nextInt(1000));
+        }
+        return lines;
+    }
+
+    @State(Scope.Thread)
+    public static class Lines {
+        String[] lines;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            lines = createLines(BATCH, 42);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Ingest {
+        String[] lines;
+        LogBuffer buffer;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            lines = createLines(BATCH, 42);
+            buffer = new LogBuffer(new JTextPane());
+        }
+
+        @Setup(Level.Invocation)
+        public void clear() {
+            buffer.clear();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(BATCH)
+    public void detectLevel(Lines state, Blackhole blackhole) {
+        for (String line : state.lines) {
+            blackhole.consume(LogBuffer.detectLevel(line));
+        }
+    }
+
+    // processLogMessage and the display half of appendLog, without the hop to the EDT
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(BATCH)
+    public void ingest(Ingest state) {
+        LogBuffer buffer = state.buffer;
+        for (String line : state.lines) {
+            LogBuffer.Entry entry = buffer.add(line, LogBuffer.detectLevel(line));
+            if (buffer.accepts(entry)) {
+                buffer.display(entry);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Refresh {
+        @Param({"100000", "1000000"})
+        int entries;
+
+        // What is shown after the filter change: everything, only chat, or a search
+        @Param({"all", "chat", "search"})
+        String filter;
+
+        LogBuffer buffer;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            buffer = new LogBuffer(new JTextPane());
+            for (String line : createLines(entries, 7)) {
+                buffer.add(line, LogBuffer.detectLevel(line));
+            }
+            if (filter.equals("chat")) {
+                buffer.setEnabledLevels(EnumSet.of(LogLevel.CHAT));
+            } else if (filter.equals("search")) {
+                buffer.setSearchQuery("Player42");
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public int refresh(Refresh state) {
+        state.buffer.refresh();
+        return state.buffer.size();
+    }
+}
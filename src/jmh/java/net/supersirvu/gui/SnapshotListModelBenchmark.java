@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * The player list taking a new snapshot, with a list attached to the model so its listeners
+ * pay for every event, against the old way of clearing and adding one row at a time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SnapshotListModelBenchmark {
+    // EnhancedPlayerListGui.SortMode.NAME, which compares names case-sensitively
+    private static final Comparator<Player> BY_NAME = Comparator.comparing(Player::name);
+
+    // Stands in for ServerSnapshot.PlayerStats, which needs the game's classes
+    record Player(String name, int ping) {
+    }
+
+    @Param({"100", "1000"})
+    int players;
+
+    private List<Player> snapshot;
+    private SnapshotListModel<Player> model;
+    private DefaultListModel<Player> perRowModel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        snapshot = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            snapshot.add(new Player("Player" + random.nextInt(100_000), random.nextInt(300)));
+        }
+
+        // The lists stay reachable through the listeners they add to the models
+        model = new SnapshotListModel<>();
+        new JList<>(model);
+        perRowModel = new DefaultListModel<>();
+        new JList<>(perRowModel);
+    }
+
+    @Benchmark
+    public int setContents() {
+        model.setContents(snapshot, player -> true, BY_NAME);
+        return model.size();
+    }
+
+    @Benchmark
+    public int setContentsFiltered() {
+        String filter = "player1";
+        model.setContents(snapshot, player -> player.name().toLowerCase().contains(filter), BY_NAME);
+        return model.size();
+    }
+
+    @Benchmark
+    public int addElementPerRow() {
+        List<Player> sorted = new ArrayList<>(snapshot);
+        sorted.sort(BY_NAME);
+        perRowModel.clear();
+        for (Player player : sorted) {
+            perRowModel.addElement(player);
+        }
+        return perRowModel.size();
+    }
+}
@@ -8,16 +8,128 @@ package net.supersirvu;
 
 import net.fabricmc.api.ModInitializer;
 
+import net.fabricmc.loader.api.FabricLoader;
+import net.supersirvu.core.GuiMode;
+import net.supersirvu.core.MetricsCollector;
+import net.supersirvu.core.TickAggregator;
+import net.supersirvu.export.OpenMetricsExporter;
+import net.supersirvu.export.ServerSnapshotter;
+import net.supersirvu.jfr.FlightRecorderControl;
+import net.supersirvu.metrics.GcMonitor;
+import net.supersirvu.metrics.LeakDetector;
+import net.supersirvu.metrics.MetricsStore;
+import net.supersirvu.profiling.LagWatchdog;
+import net.supersirvu.profiling.ModTickSampler;
+import net.supersirvu.profiling.StartupTimeline;
+import net.supersirvu.profiling.TickRecorder;
+import net.supersirvu.remote.RemoteGuiAgent;
+import net.supersirvu.rules.RuleEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+
 public class DedicatedPower implements ModInitializer {
 	public static final String MOD_ID = "dedicatedpower";
 
 	public static final Logger LOGGER = LoggerFactory.getLogger(MOD_ID);
 
+	private static GcMonitor gcMonitor;
+	private static LeakDetector leakDetector;
+	private static LagWatchdog lagWatchdog;
+	private static ModTickSampler modTickSampler;
+	private static FlightRecorderControl flightRecorder;
+	private static ServerSnapshotter serverSnapshotter;
+	private static OpenMetricsExporter metricsExporter;
+	private static RuleEngine ruleEngine;
+	private static MetricsCollector metricsCollector;
+	private static TickAggregator tickAggregator;
+	private static TickRecorder tickRecorder;
+
 	@Override
 	public void onInitialize() {
+		StartupTimeline.modInitStarting();
+
+		// Decided before anything can touch AWT, a headless server never loads the toolkit
+		boolean showGui = GuiMode.shouldShowGui();
+		boolean remoteGui = GuiMode.current() == GuiMode.REMOTE;
+		if (!showGui) {
+			System.setProperty("java.awt.headless", "true");
+			LOGGER.info(remoteGui ? "Running the server window as a separate process (gui.mode)"
+					: "Running without the server window (gui.mode), metrics and rules keep running");
+		}
+
+		// Start listening right away so the GC history covers the whole server startup
+		gcMonitor = GcMonitor.start();
+		leakDetector = LeakDetector.start(gcMonitor);
+		lagWatchdog = LagWatchdog.install();
+		modTickSampler = ModTickSampler.install(lagWatchdog);
+		flightRecorder = FlightRecorderControl.install(lagWatchdog);
+		serverSnapshotter = ServerSnapshotter.install();
+		tickAggregator = TickAggregator.install(serverSnapshotter);
+		tickRecorder = TickRecorder.install(gcMonitor, serverSnapshotter);
+		metricsCollector = MetricsCollector.install(serverSnapshotter, showGui || remoteGui);
+		if (remoteGui) {
+			RemoteGuiAgent.install(metricsCollector);
+		}
+		metricsExporter = OpenMetricsExporter.install(serverSnapshotter, lagWatchdog);
+		ruleEngine = RuleEngine.install(serverSnapshotter);
+		StartupTimeline.install();
+		StartupTimeline.end("DedicatedPower init");
+	}
+
+	public static GcMonitor getGcMonitor() {
+		return gcMonitor;
+	}
+
+	public static LeakDetector getLeakDetector() {
+		return leakDetector;
+	}
+
+	public static LagWatchdog getLagWatchdog() {
+		return lagWatchdog;
+	}
+
+	public static ModTickSampler getModTickSampler() {
+		return modTickSampler;
+	}
+
+	public static FlightRecorderControl getFlightRecorder() {
+		return flightRecorder;
+	}
+
+	public static ServerSnapshotter getServerSnapshotter() {
+		return serverSnapshotter;
+	}
+
+	public static OpenMetricsExporter getMetricsExporter() {
+		return metricsExporter;
+	}
+
+	public static RuleEngine getRuleEngine() {
+		return ruleEngine;
+	}
+
+	public static MetricsCollector getMetricsCollector() {
+		return metricsCollector;
+	}
+
+	public static TickAggregator getTickAggregator() {
+		return tickAggregator;
+	}
+
+	// Null when the tick recorder is turned off
+	public static TickRecorder getTickRecorder() {
+		return tickRecorder;
+	}
+
+	// Null if the store could not be opened or the server has stopped
+	public static MetricsStore getMetricsStore() {
+		return metricsCollector != null ? metricsCollector.getStore() : null;
+	}
 
+	// Where the mod keeps its own data (metrics history, etc.), next to the world folder
+	public static Path getDataDirectory() {
+		return FabricLoader.getInstance().getGameDir().resolve(MOD_ID);
 	}
-}
\ No newline at end of file
+}
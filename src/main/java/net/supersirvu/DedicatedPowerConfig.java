@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu;
+
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class DedicatedPowerConfig {
+    private static final String FILE_NAME = DedicatedPower.MOD_ID + ".properties";
+
+    // Defaults looked up together (startup, a dialog opening) go into one write
+    private static final long DEFAULTS_SAVE_DELAY_MILLIS = 1000;
+
+    private static DedicatedPowerConfig instance;
+
+    private final Path file;
+    private final Properties properties = new Properties();
+    // Keeps writes in order; the file is written outside the lock getters take
+    private final Object saveLock = new Object();
+    private boolean defaultsSavePending;
+
+    private DedicatedPowerConfig(Path file) {
+        this.file = file;
+    }
+
+    public static synchronized DedicatedPowerConfig get() {
+        if (instance == null) {
+            instance = new DedicatedPowerConfig(FabricLoader.getInstance().getConfigDir().resolve(FILE_NAME));
+            instance.load();
+        }
+        return instance;
+    }
+
+    private void load() {
+        if (!Files.exists(file)) return;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            DedicatedPower.LOGGER.error("Failed to load {}", file, e);
+        }
+    }
+
+    public void save() {
+        synchronized (saveLock) {
+            Properties copy;
+            synchronized (this) {
+                defaultsSavePending = false;
+                copy = (Properties) properties.clone();
+            }
+
+            try {
+                Files.createDirectories(file.getParent());
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    copy.store(out, "DedicatedPower settings");
+                }
+            } catch (IOException e) {
+                DedicatedPower.LOGGER.error("Failed to save {}", file, e);
+            }
+        }
+    }
+
+    public synchronized String getString(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            // Write defaults back so every setting shows up in the file, but not from the
+            // caller's thread, which may be the server's
+            properties.setProperty(key, defaultValue);
+            if (!defaultsSavePending) {
+                defaultsSavePending = true;
+                CompletableFuture.delayedExecutor(DEFAULTS_SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS).execute(this::save);
+            }
+            return defaultValue;
+        }
+        return value.trim();
+    }
+
+    public int getInt(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(getString(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            DedicatedPower.LOGGER.warn("Invalid value for {} in {}, using {}", key, FILE_NAME, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public long getLong(String key, long defaultValue) {
+        try {
+            return Long.parseLong(getString(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            DedicatedPower.LOGGER.warn("Invalid value for {} in {}, using {}", key, FILE_NAME, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        try {
+            return Double.parseDouble(getString(key, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            DedicatedPower.LOGGER.warn("Invalid value for {} in {}, using {}", key, FILE_NAME, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return Boolean.parseBoolean(getString(key, String.valueOf(defaultValue)));
+    }
+
+    public void set(String key, String value) {
+        synchronized (this) {
+            properties.setProperty(key, value);
+        }
+        save();
+    }
+}
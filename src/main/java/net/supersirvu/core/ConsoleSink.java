@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+import net.supersirvu.DedicatedPower;
+
+// Logs a one-line summary every few minutes, with min/avg/max tick time over that stretch
+public class ConsoleSink implements MetricsSink {
+    private final long intervalMillis;
+
+    private long windowStart = -1;
+    private int count;
+    private double tickSum;
+    private double tickMin = Double.MAX_VALUE;
+    private double tickMax;
+
+    public ConsoleSink(int intervalSeconds) {
+        this.intervalMillis = intervalSeconds * 1000L;
+    }
+
+    @Override
+    public void accept(MetricsSample sample) {
+        if (windowStart < 0) windowStart = sample.timeMillis();
+        count++;
+        tickSum += sample.tickMillis();
+        tickMin = Math.min(tickMin, sample.tickMillis());
+        tickMax = Math.max(tickMax, sample.tickMillis());
+
+        if (sample.timeMillis() - windowStart < intervalMillis) return;
+
+        DedicatedPower.LOGGER.info(String.format(
+                "TPS %.1f, tick %.1f ms (min %.1f, max %.1f), heap %d/%d MB, %d players, %d entities, %d chunks",
+                sample.tps(), tickSum / count, tickMin, tickMax,
+                sample.usedMemoryBytes() >> 20, sample.maxMemoryBytes() >> 20,
+                sample.players(), sample.entities(), sample.chunks()));
+
+        windowStart = sample.timeMillis();
+        count = 0;
+        tickSum = 0;
+        tickMin = Double.MAX_VALUE;
+        tickMax = 0;
+    }
+}
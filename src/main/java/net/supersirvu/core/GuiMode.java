@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+
+import java.util.Locale;
+
+/*
+ * Whether the server window gets created, from gui.mode in the config:
+ *   auto   - whenever there is a display to show it on (the default)
+ *   always - even with nogui, as this mod always did
+ *   never  - headless, the metrics core, exporter and rules keep running
+ *   remote - headless, the window runs as its own process (see RemoteGuiAgent) so its
+ *            log history, images and Swing state stay out of the server's heap
+ *
+ * Deciding this must not touch AWT: asking GraphicsEnvironment already loads the toolkit,
+ * which is the startup cost a headless server wants to skip.
+ */
+public enum GuiMode {
+    AUTO,
+    ALWAYS,
+    NEVER,
+    REMOTE;
+
+    private static GuiMode mode;
+    private static boolean displayAvailable;
+
+    public static synchronized GuiMode current() {
+        if (mode == null) {
+            mode = fromConfig();
+            displayAvailable = hasDisplay();
+        }
+        return mode;
+    }
+
+    // Whether the window is created inside the server process
+    public static boolean shouldShowGui() {
+        return switch (current()) {
+            case ALWAYS -> true;
+            case NEVER, REMOTE -> false;
+            case AUTO -> isDisplayAvailable();
+        };
+    }
+
+    // Decided before the mod makes the server headless, so it still holds afterwards
+    public static synchronized boolean isDisplayAvailable() {
+        current();
+        return displayAvailable;
+    }
+
+    private static GuiMode fromConfig() {
+        String value = DedicatedPowerConfig.get().getString("gui.mode", "auto");
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            DedicatedPower.LOGGER.warn("Unknown gui.mode {}, using auto", value);
+            return AUTO;
+        }
+    }
+
+    private static boolean hasDisplay() {
+        if (Boolean.getBoolean("java.awt.headless")) return false;
+
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        if (os.contains("win") || os.contains("mac")) return true;
+        // X11 and Wayland both announce themselves through the environment
+        return System.getenv("DISPLAY") != null || System.getenv("WAYLAND_DISPLAY") != null;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+import net.supersirvu.DedicatedPower;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+/*
+ * The mod's Unix domain sockets live in a directory only the server's user can enter.
+ * Changing a socket's own permissions after binding leaves a moment in which anyone can
+ * connect; a socket in a closed directory is never reachable by others, whatever the umask.
+ */
+public final class LocalSockets {
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private LocalSockets() {
+    }
+
+    public static Path path(String name) {
+        return DedicatedPower.getDataDirectory().resolve("sockets").resolve(name);
+    }
+
+    public static ServerSocketChannel bind(Path path) throws IOException {
+        createPrivateDirectory(path.getParent());
+        // Left behind by a server that did not shut down cleanly
+        Files.deleteIfExists(path);
+
+        ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        channel.bind(UnixDomainSocketAddress.of(path));
+        return channel;
+    }
+
+    private static void createPrivateDirectory(Path directory) throws IOException {
+        Files.createDirectories(directory.getParent());
+        try {
+            if (Files.isDirectory(directory)) {
+                // Fails unless the server's user owns it, someone else's directory is no use
+                Files.setPosixFilePermissions(directory, OWNER_ONLY);
+            } else {
+                FileAttribute<Set<PosixFilePermission>> ownerOnly = PosixFilePermissions.asFileAttribute(OWNER_ONLY);
+                Files.createDirectory(directory, ownerOnly);
+            }
+        } catch (UnsupportedOperationException e) {
+            // Not a POSIX file system (Windows), access is left to the directory's ACL
+            Files.createDirectories(directory);
+        }
+    }
+}
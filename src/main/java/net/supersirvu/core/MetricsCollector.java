@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+import net.supersirvu.export.ServerSnapshot;
+import net.supersirvu.export.ServerSnapshotter;
+import net.supersirvu.metrics.MetricsStore;
+import net.supersirvu.metrics.Resolution;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * The part of the mod that runs whether or not there is a window: turns every server
+ * snapshot into a MetricsSample, records it in the metrics history and hands it to the
+ * sinks (the stats panel, rolling CSV files, the console, a local socket).
+ *
+ * The server thread only builds the sample; writing the history and running the sinks
+ * happens on one background thread, in order, so a slow disk or a slow socket client
+ * never shows up in tick times.
+ */
+public class MetricsCollector {
+    private final List<MetricsSink> sinks = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "DedicatedPower Metrics Collector");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile MetricsStore store;
+    private volatile double guiPaintMillis = Double.NaN;
+
+    public static MetricsCollector install(ServerSnapshotter snapshotter, boolean guiShown) {
+        MetricsCollector collector = new MetricsCollector();
+        collector.store = openStore();
+
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        if (config.getBoolean("core.file-sink.enabled", false)) {
+            collector.addSink(new RollingFileSink(DedicatedPower.getDataDirectory().resolve("metrics-csv"),
+                    config.getInt("core.file-sink.keep-days", 7)));
+        }
+        // Without a window the console is the only place anyone looks
+        int summarySeconds = config.getInt("core.console-summary-seconds", guiShown ? 0 : 300);
+        if (summarySeconds > 0) {
+            collector.addSink(new ConsoleSink(summarySeconds));
+        }
+        if (config.getBoolean("core.socket-sink.enabled", false)) {
+            try {
+                collector.addSink(SocketSink.open(LocalSockets.path("metrics.sock")));
+            } catch (IOException e) {
+                DedicatedPower.LOGGER.error("Failed to open the metrics socket", e);
+            }
+        }
+
+        snapshotter.addListener(collector::onSnapshot);
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> collector.close());
+        return collector;
+    }
+
+    private static MetricsStore openStore() {
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        Map<Resolution, Long> retention = new EnumMap<>(Resolution.class);
+        for (Resolution resolution : Resolution.values()) {
+            String key = "metrics.retention." + resolution.name().toLowerCase(Locale.ROOT) + "-hours";
+            long defaultHours = resolution.getDefaultRetentionMillis() / 3_600_000L;
+            retention.put(resolution, config.getLong(key, defaultHours) * 3_600_000L);
+        }
+
+        try {
+            return MetricsStore.open(DedicatedPower.getDataDirectory().resolve("metrics"), retention);
+        } catch (IOException e) {
+            DedicatedPower.LOGGER.error("Failed to open the metrics history, only live values will be available", e);
+            return null;
+        }
+    }
+
+    // Server thread, once per snapshot
+    private void onSnapshot(ServerSnapshot snapshot) {
+        Runtime runtime = Runtime.getRuntime();
+        MetricsSample sample = new MetricsSample(snapshot, runtime.totalMemory() - runtime.freeMemory(),
+                runtime.maxMemory(), guiPaintMillis);
+        try {
+            executor.execute(() -> publish(sample));
+        } catch (RejectedExecutionException e) {
+            // Stopping
+        }
+    }
+
+    private void publish(MetricsSample sample) {
+        MetricsStore store = this.store;
+        if (store != null) {
+            store.record(sample.timeMillis(), sample.toMetricValues());
+        }
+        for (MetricsSink sink : sinks) {
+            try {
+                sink.accept(sample);
+            } catch (RuntimeException e) {
+                DedicatedPower.LOGGER.warn("Metrics sink {} failed, removing it", sink.getClass().getSimpleName(), e);
+                removeSink(sink);
+            }
+        }
+    }
+
+    public void addSink(MetricsSink sink) {
+        sinks.add(sink);
+    }
+
+    public void removeSink(MetricsSink sink) {
+        if (sinks.remove(sink)) {
+            sink.close();
+        }
+    }
+
+    // The stats panel measures its own paint time, it goes into the next sample
+    public void reportGuiPaintMillis(double millis) {
+        this.guiPaintMillis = millis;
+    }
+
+    // Null if the history could not be opened or the server has stopped
+    public MetricsStore getStore() {
+        return store;
+    }
+
+    private void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (MetricsSink sink : sinks) {
+            sink.close();
+        }
+        sinks.clear();
+
+        MetricsStore store = this.store;
+        this.store = null;
+        if (store != null) {
+            store.close();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+import net.supersirvu.export.ServerSnapshot;
+import net.supersirvu.metrics.Metric;
+
+import java.util.Arrays;
+
+// One second of server state, the snapshot keeps the per-world counts and the tick window
+public record MetricsSample(ServerSnapshot snapshot, long usedMemoryBytes, long maxMemoryBytes, double guiPaintMillis) {
+    public long timeMillis() {
+        return snapshot.timeMillis();
+    }
+
+    public double tickMillis() {
+        return snapshot.averageTickMillis();
+    }
+
+    public double tps() {
+        return snapshot.tps();
+    }
+
+    public double memoryPercent() {
+        return usedMemoryBytes * 100.0 / maxMemoryBytes;
+    }
+
+    public int entities() {
+        int entities = 0;
+        for (ServerSnapshot.WorldStats world : snapshot.worlds()) entities += world.entities();
+        return entities;
+    }
+
+    public int chunks() {
+        int chunks = 0;
+        for (ServerSnapshot.WorldStats world : snapshot.worlds()) chunks += world.loadedChunks();
+        return chunks;
+    }
+
+    public int players() {
+        return snapshot.players();
+    }
+
+    // Indexed by Metric.ordinal(), the layout MetricsStore.record expects
+    public double[] toMetricValues() {
+        double[] values = new double[Metric.values().length];
+        Arrays.fill(values, Double.NaN);
+        values[Metric.MSPT.ordinal()] = tickMillis();
+        values[Metric.TPS.ordinal()] = tps();
+        values[Metric.MEMORY.ordinal()] = memoryPercent();
+        values[Metric.ENTITIES.ordinal()] = entities();
+        values[Metric.CHUNKS.ordinal()] = chunks();
+        values[Metric.PLAYERS.ordinal()] = players();
+        values[Metric.GUI_PAINT.ordinal()] = guiPaintMillis;
+        return values;
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+// Receives every sample the collector takes, on the collector's own thread, in order
+public interface MetricsSink {
+    void accept(MetricsSample sample);
+
+    // Called once when the sink is removed or the server stops
+    default void close() {
+    }
+}
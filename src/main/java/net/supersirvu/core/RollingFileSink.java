@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+import net.supersirvu.DedicatedPower;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Locale;
+
+/*
+ * One CSV file per day in dedicatedpower/metrics-csv, for hosts where the numbers should
+ * end up in a spreadsheet or a log shipper rather than a window. Files older than
+ * keep-days are deleted when the day rolls over.
+ */
+public class RollingFileSink implements MetricsSink {
+    private static final String HEADER = "time,tick_ms,tps,heap_used_mb,heap_max_mb,players,entities,chunks,tick_p99_ms";
+
+    private final Path directory;
+    private final int keepDays;
+
+    private LocalDate day;
+    private BufferedWriter writer;
+
+    public RollingFileSink(Path directory, int keepDays) {
+        this.directory = directory;
+        this.keepDays = Math.max(1, keepDays);
+    }
+
+    @Override
+    public void accept(MetricsSample sample) {
+        try {
+            LocalDate sampleDay = LocalDate.ofInstant(Instant.ofEpochMilli(sample.timeMillis()), ZoneId.systemDefault());
+            if (!sampleDay.equals(day)) {
+                roll(sampleDay);
+            }
+
+            long p99 = sample.snapshot().tickPercentiles(0.99)[0];
+            writer.write(String.format(Locale.ROOT, "%s,%.2f,%.2f,%d,%d,%d,%d,%d,%.2f",
+                    Instant.ofEpochMilli(sample.timeMillis()), sample.tickMillis(), sample.tps(),
+                    sample.usedMemoryBytes() >> 20, sample.maxMemoryBytes() >> 20,
+                    sample.players(), sample.entities(), sample.chunks(), p99 / 1_000_000.0));
+            writer.newLine();
+            // A line a second, flushing keeps tail -f useful and costs nothing noticeable
+            writer.flush();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write " + directory, e);
+        }
+    }
+
+    private void roll(LocalDate newDay) throws IOException {
+        close();
+        Files.createDirectories(directory);
+        Path file = directory.resolve("metrics-" + newDay + ".csv");
+        boolean exists = Files.exists(file);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        if (!exists) {
+            writer.write(HEADER);
+            writer.newLine();
+        }
+        day = newDay;
+
+        String oldest = "metrics-" + newDay.minusDays(keepDays - 1) + ".csv";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "metrics-*.csv")) {
+            for (Path old : files) {
+                // ISO dates sort as strings
+                if (old.getFileName().toString().compareTo(oldest) < 0) {
+                    Files.deleteIfExists(old);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (writer == null) return;
+        try {
+            writer.close();
+        } catch (IOException e) {
+            DedicatedPower.LOGGER.warn("Failed to close the metrics CSV", e);
+        }
+        writer = null;
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+// How many ticks the live stats graphs aggregate into one column, from gui.stats.sample-window
+public enum SampleWindow {
+    TICK("tick", "per tick", 1),
+    SECOND("second", "per second", 20),
+    TEN_SECONDS("10s", "per 10 seconds", 200);
+
+    private final String configName;
+    private final String displayName;
+    private final int ticks;
+
+    SampleWindow(String configName, String displayName, int ticks) {
+        this.configName = configName;
+        this.displayName = displayName;
+        this.ticks = ticks;
+    }
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public static SampleWindow fromConfigName(String name) {
+        for (SampleWindow window : values()) {
+            if (window.configName.equalsIgnoreCase(name)) return window;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.export.ServerSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * Streams every sample as one line of JSON to whoever connects to a Unix domain socket
+ * in the data directory, e.g. `socat - UNIX-CONNECT:dedicatedpower/sockets/metrics.sock`.
+ * Only the server's user can connect (see LocalSockets), there is no port to firewall.
+ *
+ * Clients are written to without blocking; one that cannot keep up with a line a second
+ * is disconnected rather than allowed to hold up the other sinks.
+ */
+public class SocketSink implements MetricsSink {
+    private final Path path;
+    private final ServerSocketChannel serverChannel;
+    private final List<SocketChannel> clients = new CopyOnWriteArrayList<>();
+
+    private SocketSink(Path path, ServerSocketChannel serverChannel) {
+        this.path = path;
+        this.serverChannel = serverChannel;
+    }
+
+    public static SocketSink open(Path path) throws IOException {
+        SocketSink sink = new SocketSink(path, LocalSockets.bind(path));
+
+        Thread acceptThread = new Thread(sink::acceptClients, "DedicatedPower Metrics Socket");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+
+        DedicatedPower.LOGGER.info("Streaming metrics on {}", path);
+        return sink;
+    }
+
+    private void acceptClients() {
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel client = serverChannel.accept();
+                client.configureBlocking(false);
+                clients.add(client);
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                DedicatedPower.LOGGER.warn("Failed to accept a metrics socket client", e);
+            }
+        }
+    }
+
+    @Override
+    public void accept(MetricsSample sample) {
+        if (clients.isEmpty()) return;
+
+        byte[] line = (toJson(sample) + "\n").getBytes(StandardCharsets.UTF_8);
+        for (SocketChannel client : clients) {
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(line);
+                client.write(buffer);
+                if (buffer.hasRemaining()) {
+                    throw new IOException("client is not reading");
+                }
+            } catch (IOException e) {
+                clients.remove(client);
+                closeQuietly(client);
+            }
+        }
+    }
+
+    static String toJson(MetricsSample sample) {
+        JsonObject json = new JsonObject();
+        json.addProperty("time", sample.timeMillis());
+        json.addProperty("tickMillis", sample.tickMillis());
+        json.addProperty("tps", sample.tps());
+        json.addProperty("heapUsedBytes", sample.usedMemoryBytes());
+        json.addProperty("heapMaxBytes", sample.maxMemoryBytes());
+        json.addProperty("players", sample.players());
+        json.addProperty("maxPlayers", sample.snapshot().maxPlayers());
+
+        JsonArray worlds = new JsonArray();
+        for (ServerSnapshot.WorldStats world : sample.snapshot().worlds()) {
+            JsonObject worldJson = new JsonObject();
+            worldJson.addProperty("name", world.name());
+            worldJson.addProperty("entities", world.entities());
+            worldJson.addProperty("itemEntities", world.itemEntities());
+            worldJson.addProperty("loadedChunks", world.loadedChunks());
+            worlds.add(worldJson);
+        }
+        json.add("worlds", worlds);
+        return json.toString();
+    }
+
+    private static void closeQuietly(SocketChannel client) {
+        try {
+            client.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverChannel.close();
+        } catch (IOException ignored) {
+        }
+        for (SocketChannel client : clients) {
+            closeQuietly(client);
+        }
+        clients.clear();
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+}
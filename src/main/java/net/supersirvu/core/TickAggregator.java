@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+import net.supersirvu.export.ServerSnapshotter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ * Folds every tick's duration and the heap in use at its end into windows of 1, 20 or 200
+ * ticks (SampleWindow) and hands each finished window to the listeners. Windows follow the
+ * ticks rather than the clock, so a graph column is always the same number of ticks and a
+ * single 50 ms tick shows up as that column's max instead of vanishing into an average.
+ *
+ * Runs on the server thread at the end of every tick, but only while someone listens.
+ */
+public class TickAggregator {
+    private final List<Consumer<TickWindow>> listeners = new CopyOnWriteArrayList<>();
+    private final Runtime runtime = Runtime.getRuntime();
+    private volatile SampleWindow window;
+
+    // Server thread only
+    private SampleWindow activeWindow;
+    private long firstTick;
+    private int ticks;
+    private long minNanos;
+    private long maxNanos;
+    private long sumNanos;
+    private long minMemory;
+    private long maxMemory;
+    private long sumMemory;
+
+    private TickAggregator(SampleWindow window) {
+        this.window = window;
+    }
+
+    public static TickAggregator install(ServerSnapshotter snapshotter) {
+        String configured = DedicatedPowerConfig.get().getString("gui.stats.sample-window", SampleWindow.SECOND.getConfigName());
+        SampleWindow window = SampleWindow.fromConfigName(configured);
+        if (window == null) {
+            DedicatedPower.LOGGER.warn("Unknown gui.stats.sample-window {}, using {}", configured, SampleWindow.SECOND.getConfigName());
+            window = SampleWindow.SECOND;
+        }
+
+        TickAggregator aggregator = new TickAggregator(window);
+        snapshotter.addTickListener(aggregator::onTick);
+        return aggregator;
+    }
+
+    private void onTick(long tick, long durationNanos) {
+        if (listeners.isEmpty()) {
+            ticks = 0;
+            return;
+        }
+
+        // A changed window starts clean, a half-filled column of the old size would mislead
+        SampleWindow window = this.window;
+        if (window != activeWindow) {
+            activeWindow = window;
+            ticks = 0;
+        }
+
+        long memory = runtime.totalMemory() - runtime.freeMemory();
+        if (ticks == 0) {
+            firstTick = tick;
+            minNanos = maxNanos = sumNanos = durationNanos;
+            minMemory = maxMemory = sumMemory = memory;
+        } else {
+            minNanos = Math.min(minNanos, durationNanos);
+            maxNanos = Math.max(maxNanos, durationNanos);
+            sumNanos += durationNanos;
+            minMemory = Math.min(minMemory, memory);
+            maxMemory = Math.max(maxMemory, memory);
+            sumMemory += memory;
+        }
+        ticks++;
+
+        if (ticks >= window.getTicks()) {
+            double memoryScale = 100.0 / runtime.maxMemory();
+            TickWindow finished = new TickWindow(System.currentTimeMillis(), firstTick, ticks,
+                    minNanos / 1e6, sumNanos / 1e6 / ticks, maxNanos / 1e6,
+                    minMemory * memoryScale, (double) sumMemory / ticks * memoryScale, maxMemory * memoryScale);
+            ticks = 0;
+            for (Consumer<TickWindow> listener : listeners) {
+                listener.accept(finished);
+            }
+        }
+    }
+
+    public SampleWindow getWindow() {
+        return window;
+    }
+
+    // Takes effect from the next tick and is remembered in the config
+    public void setWindow(SampleWindow window) {
+        this.window = window;
+        DedicatedPowerConfig.get().set("gui.stats.sample-window", window.getConfigName());
+    }
+
+    // Called on the server thread once per window, keep it quick
+    public void addListener(Consumer<TickWindow> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<TickWindow> listener) {
+        listeners.remove(listener);
+    }
+}
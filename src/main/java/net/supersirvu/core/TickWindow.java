@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.core;
+
+// Min, average and max of consecutive ticks, one column of the live stats graphs
+public record TickWindow(
+        long endMillis,
+        long firstTick,
+        int ticks,
+        double minTickMillis,
+        double avgTickMillis,
+        double maxTickMillis,
+        double minMemoryPercent,
+        double avgMemoryPercent,
+        double maxMemoryPercent
+) {
+    public long lastTick() {
+        return firstTick + ticks - 1;
+    }
+
+    // Of the average tick, so a single spike still shows against a healthy window
+    public double tps() {
+        return avgTickMillis > 0 ? Math.min(20.0, 1000.0 / avgTickMillis) : 20.0;
+    }
+}
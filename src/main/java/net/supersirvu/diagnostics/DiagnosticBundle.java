@@ -0,0 +1,489 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.diagnostics;
+
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
+import net.minecraft.server.MinecraftServer;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+import net.supersirvu.metrics.ClassHistogram;
+import net.supersirvu.metrics.GcEvent;
+import net.supersirvu.metrics.GcMonitor;
+import net.supersirvu.metrics.Metric;
+import net.supersirvu.metrics.MetricSeries;
+import net.supersirvu.metrics.MetricsStore;
+import net.supersirvu.metrics.Resolution;
+import net.supersirvu.profiling.LagSpike;
+import net.supersirvu.profiling.LagWatchdog;
+import net.supersirvu.profiling.ModTickSampler;
+import net.supersirvu.profiling.ThreadDump;
+
+import java.io.BufferedReader;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/*
+ * Everything needed to look at a performance problem after the fact, in one zip.
+ *
+ * Each part is written straight into its zip entry as it is produced: metrics are read an
+ * hour at a time, logs are copied through a stream (only the tail of a huge latest.log),
+ * so memory use does not depend on how long the server has been up. A part that fails
+ * leaves its stack trace under errors/ instead of aborting the whole bundle.
+ */
+public class DiagnosticBundle {
+    private static final long HOUR = 3_600_000L;
+    private static final long DAY = 24 * HOUR;
+    private static final double[] TICK_BUCKETS = {5, 10, 20, 30, 40, 50, 100, 250, 1000};
+
+    private final MinecraftServer server;
+    private final MetricsStore metricsStore;
+    private final Pattern redactPattern;
+    private final int rawMetricsHours;
+    private final int rollupMetricsDays;
+    private final int archivedLogFiles;
+    private final long maxLogBytes;
+    private boolean includeClassHistogram;
+
+    public DiagnosticBundle(MinecraftServer server, MetricsStore metricsStore) {
+        this.server = server;
+        this.metricsStore = metricsStore;
+
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        this.redactPattern = Pattern.compile(config.getString("bundle.redact-pattern", "password|secret|token|seed|key|filtering-config"),
+                Pattern.CASE_INSENSITIVE);
+        this.rawMetricsHours = Math.max(1, config.getInt("bundle.raw-metrics-hours", 6));
+        this.rollupMetricsDays = Math.max(1, config.getInt("bundle.rollup-metrics-days", 7));
+        this.archivedLogFiles = Math.max(0, config.getInt("bundle.archived-log-files", 3));
+        this.maxLogBytes = Math.max(1, config.getLong("bundle.max-log-mb", 20)) * 1024 * 1024;
+        // Taking a class histogram forces a full, stop-the-world GC on the live server
+        this.includeClassHistogram = config.getBoolean("bundle.class-histogram", false);
+    }
+
+    public boolean isIncludingClassHistogram() {
+        return includeClassHistogram;
+    }
+
+    public void setIncludeClassHistogram(boolean includeClassHistogram) {
+        this.includeClassHistogram = includeClassHistogram;
+    }
+
+    public interface ProgressListener {
+        void onProgress(int step, int totalSteps, String description);
+    }
+
+    private interface Part {
+        void write(ZipOutputStream zip) throws Exception;
+    }
+
+    private record Section(String description, Part part) {
+    }
+
+    public static Path getDefaultFile() {
+        String time = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        return DedicatedPower.getDataDirectory().resolve("bundles").resolve("diagnostics-" + time + ".zip");
+    }
+
+    public void write(Path file, ProgressListener listener) throws IOException {
+        List<Section> sections = new ArrayList<>();
+        sections.add(new Section("Server summary", zip -> writeText(zip, "summary.txt", this::writeSummary)));
+        sections.add(new Section("JVM information", zip -> writeText(zip, "jvm.txt", this::writeJvm)));
+        sections.add(new Section("Metrics history", this::writeMetrics));
+        sections.add(new Section("Tick time histogram", zip -> writeText(zip, "tick-histogram.txt", this::writeTickHistogram)));
+        sections.add(new Section("Lag spikes", zip -> writeText(zip, "lag-spikes.txt", this::writeLagSpikes)));
+        sections.add(new Section("Tick time by mod", zip -> writeText(zip, "mod-tick-time.txt", this::writeModTickTime)));
+        sections.add(new Section("Thread dump", zip -> writeText(zip, "threads.txt", this::writeThreadDump)));
+        if (includeClassHistogram) {
+            sections.add(new Section("Class histogram", zip -> writeText(zip, "class-histogram.txt", this::writeClassHistogram)));
+        }
+        sections.add(new Section("GC statistics", this::writeGc));
+        sections.add(new Section("Mod list", zip -> writeText(zip, "mods.txt", this::writeMods)));
+        sections.add(new Section("Configuration", this::writeConfiguration));
+        sections.add(new Section("Logs", this::writeLogs));
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < sections.size(); i++) {
+                Section section = sections.get(i);
+                listener.onProgress(i, sections.size(), section.description());
+                try {
+                    section.part().write(zip);
+                } catch (Exception e) {
+                    // If it was the zip that failed, writing the error entry fails too and ends the bundle
+                    DedicatedPower.LOGGER.warn("Diagnostic bundle: failed to collect {}", section.description(), e);
+                    writeError(zip, section.description(), e);
+                }
+            }
+            listener.onProgress(sections.size(), sections.size(), "Done");
+        }
+    }
+
+    private interface TextWriter {
+        void write(PrintWriter out) throws Exception;
+    }
+
+    // The writer is flushed, never closed, closing it would close the whole zip
+    private static void writeText(ZipOutputStream zip, String name, TextWriter writer) throws Exception {
+        zip.putNextEntry(new ZipEntry(name));
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(nonClosing(zip), StandardCharsets.UTF_8));
+        try {
+            writer.write(out);
+        } finally {
+            out.flush();
+            zip.closeEntry();
+        }
+    }
+
+    private static void writeError(ZipOutputStream zip, String description, Exception error) throws IOException {
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        zip.putNextEntry(new ZipEntry("errors/" + description.toLowerCase(Locale.ROOT).replace(' ', '-') + ".txt"));
+        zip.write(trace.toString().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static void copyFile(ZipOutputStream zip, String name, Path file, long maxBytes) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            // Keep the end of the file, that is where the interesting part of a log is
+            long skip = Math.max(0, channel.size() - maxBytes);
+            channel.position(skip);
+            if (skip > 0) {
+                zip.write(("[" + skip + " bytes skipped]\n").getBytes(StandardCharsets.UTF_8));
+            }
+            Channels.newInputStream(channel).transferTo(nonClosing(zip));
+        }
+        zip.closeEntry();
+    }
+
+    private static OutputStream nonClosing(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+
+    private void writeSummary(PrintWriter out) {
+        String summary = ServerSummary.formatLatest();
+        out.print(summary != null ? summary : "No server snapshot has been taken yet.\n");
+    }
+
+    private void writeJvm(PrintWriter out) {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        out.printf("%s %s (%s)%n", runtime.getVmName(), runtime.getVmVersion(), runtime.getVmVendor());
+        out.printf("Uptime: %.1f hours%n", runtime.getUptime() / (double) HOUR);
+        out.printf("Processors: %d%n", Runtime.getRuntime().availableProcessors());
+        out.printf("Max heap: %d MB%n", Runtime.getRuntime().maxMemory() / 1024 / 1024);
+        out.printf("Minecraft: %s%n%n", server.getVersion());
+        out.println("Arguments:");
+        for (String argument : runtime.getInputArguments()) {
+            // -Dsome.password=... style arguments
+            int equals = argument.indexOf('=');
+            boolean secret = equals > 0 && redactPattern.matcher(argument.substring(0, equals)).find();
+            out.println("  " + (secret ? argument.substring(0, equals + 1) + "<redacted>" : argument));
+        }
+    }
+
+    private void writeMetrics(ZipOutputStream zip) throws Exception {
+        if (metricsStore == null) {
+            writeText(zip, "metrics/unavailable.txt", out -> out.println("The metrics history is not available."));
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        writeText(zip, "metrics/seconds.csv", out -> writeMetricsCsv(out, Resolution.SECOND, now - rawMetricsHours * HOUR, now, HOUR));
+        writeText(zip, "metrics/minutes.csv", out -> writeMetricsCsv(out, Resolution.MINUTE, now - rollupMetricsDays * DAY, now, DAY));
+    }
+
+    // One row per step with min/avg/max of every metric, read one chunk of time at a time
+    private void writeMetricsCsv(PrintWriter out, Resolution resolution, long from, long to, long chunkMillis) {
+        Metric[] metrics = Metric.values();
+        boolean rollup = resolution != Resolution.SECOND;
+
+        out.print("time");
+        for (Metric metric : metrics) {
+            String name = metric.name().toLowerCase(Locale.ROOT);
+            out.print(rollup ? "," + name + "_min," + name + "_avg," + name + "_max" : "," + name);
+        }
+        out.println();
+
+        SimpleDateFormat timeFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss");
+        MetricSeries[] series = new MetricSeries[metrics.length];
+        for (long chunkStart = from; chunkStart < to; chunkStart += chunkMillis) {
+            // Query ranges are inclusive, stop one step short of the next chunk
+            long chunkEnd = Math.min(to, chunkStart + chunkMillis - resolution.getStepMillis());
+            for (int m = 0; m < metrics.length; m++) {
+                series[m] = metricsStore.query(metrics[m], resolution, chunkStart, chunkEnd);
+            }
+
+            for (int i = 0; i < series[0].size(); i++) {
+                boolean empty = true;
+                for (MetricSeries s : series) {
+                    if (!Double.isNaN(s.getAvg(i))) empty = false;
+                }
+                if (empty) continue;
+
+                out.print(timeFormat.format(new Date(series[0].getTimeMillis(i))));
+                for (MetricSeries s : series) {
+                    if (rollup) {
+                        out.print("," + csvValue(s.getMin(i)) + "," + csvValue(s.getAvg(i)) + "," + csvValue(s.getMax(i)));
+                    } else {
+                        out.print("," + csvValue(s.getAvg(i)));
+                    }
+                }
+                out.println();
+            }
+        }
+    }
+
+    private static String csvValue(double value) {
+        return Double.isNaN(value) ? "" : String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    // Seconds of server time by average tick time, from the raw metrics
+    private void writeTickHistogram(PrintWriter out) {
+        if (metricsStore == null) {
+            out.println("The metrics history is not available.");
+            return;
+        }
+
+        long[] counts = new long[TICK_BUCKETS.length + 1];
+        long total = 0;
+        long now = System.currentTimeMillis();
+        for (long chunkStart = now - rawMetricsHours * HOUR; chunkStart < now; chunkStart += HOUR) {
+            long chunkEnd = Math.min(now, chunkStart + HOUR - 1000);
+            MetricSeries series = metricsStore.query(Metric.MSPT, Resolution.SECOND, chunkStart, chunkEnd);
+            for (int i = 0; i < series.size(); i++) {
+                double mspt = series.getAvg(i);
+                if (Double.isNaN(mspt)) continue;
+
+                int bucket = 0;
+                while (bucket < TICK_BUCKETS.length && mspt >= TICK_BUCKETS[bucket]) bucket++;
+                counts[bucket]++;
+                total++;
+            }
+        }
+
+        out.printf("Average tick time per second over the last %d hours, %d seconds recorded%n%n", rawMetricsHours, total);
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            String label = bucket == 0 ? String.format("< %.0f ms", TICK_BUCKETS[0])
+                    : bucket == TICK_BUCKETS.length ? String.format(">= %.0f ms", TICK_BUCKETS[bucket - 1])
+                    : String.format("%.0f - %.0f ms", TICK_BUCKETS[bucket - 1], TICK_BUCKETS[bucket]);
+            double percent = total > 0 ? counts[bucket] * 100.0 / total : 0;
+            out.printf("%-14s %8d  %5.1f%%  %s%n", label, counts[bucket], percent, "#".repeat((int) Math.round(percent / 2)));
+        }
+    }
+
+    private void writeLagSpikes(PrintWriter out) throws IOException {
+        LagWatchdog watchdog = DedicatedPower.getLagWatchdog();
+        List<LagSpike> spikes = watchdog != null ? watchdog.getSpikes() : List.of();
+        if (spikes.isEmpty()) {
+            out.println("No lag spikes recorded.");
+            return;
+        }
+
+        SimpleDateFormat timeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        for (LagSpike spike : spikes) {
+            out.printf("Lag spike #%d at %s: tick %d took %.0f ms, %d samples%n", spike.getId(),
+                    timeFormat.format(new Date(spike.getStartMillis())), spike.getTickNumber(),
+                    spike.getDurationMillis(), spike.getSampleCount());
+        }
+
+        // Collapsed stacks, one block per spike, ready for any flame graph tool
+        for (LagSpike spike : spikes) {
+            out.printf("%n# Lag spike #%d%n", spike.getId());
+            spike.getCallTree().writeCollapsed(out, spike.getFrames());
+        }
+    }
+
+    private void writeModTickTime(PrintWriter out) {
+        ModTickSampler sampler = DedicatedPower.getModTickSampler();
+        if (sampler == null || !sampler.isRunning()) {
+            out.println("Mod attribution is off (mods.attribution-enabled).");
+            return;
+        }
+
+        ModTickSampler.Report report = sampler.getReport(60);
+        out.printf("Last hour: %d tick samples over %d ticks, server thread busy %.1f%%%n%n",
+                report.tickSamples(), report.ticks(), report.busyPercent());
+        for (ModTickSampler.ModShare share : report.shares()) {
+            out.printf("%-32s %6.1f%%  %8.2f ms/tick  %s%n", share.modId(), share.percent(), share.msPerTick(), share.name());
+        }
+    }
+
+    private void writeThreadDump(PrintWriter out) {
+        ThreadDump dump = ThreadDump.capture();
+        out.print(dump.format());
+        out.println();
+        out.print(dump.formatDeadlocks());
+        out.println();
+        out.print(dump.formatGroups());
+    }
+
+    private void writeClassHistogram(PrintWriter out) throws Exception {
+        ClassHistogram histogram = ClassHistogram.capture();
+        out.printf("%d instances, %.1f MB%n%n", histogram.getTotalInstances(), histogram.getTotalBytes() / 1024.0 / 1024.0);
+        out.printf("%14s %14s  %s%n", "Instances", "Bytes", "Class");
+        for (ClassHistogram.Entry entry : histogram.getEntries()) {
+            out.printf("%14d %14d  %s%n", entry.instances(), entry.bytes(), entry.className());
+        }
+    }
+
+    private void writeGc(ZipOutputStream zip) throws Exception {
+        writeText(zip, "gc/stats.txt", this::writeGcStats);
+
+        // The JVM's own GC log, if one was enabled with -Xlog:gc...:file=
+        Path gcLog = findGcLog();
+        if (gcLog == null) return;
+        try (Stream<Path> files = Files.list(gcLog.toAbsolutePath().getParent())) {
+            String prefix = gcLog.getFileName().toString();
+            for (Path file : files.filter(f -> f.getFileName().toString().startsWith(prefix)).toList()) {
+                copyFile(zip, "gc/" + file.getFileName(), file, maxLogBytes);
+            }
+        }
+    }
+
+    private void writeGcStats(PrintWriter out) {
+        GcMonitor monitor = DedicatedPower.getGcMonitor();
+        GcMonitor.MemoryGauges gauges = GcMonitor.sampleGauges();
+        out.printf("Metaspace: %.1f MB%n", gauges.metaspaceBytes() / 1024.0 / 1024.0);
+        out.printf("Old generation: %.1f%%%n", gauges.oldGenPercent());
+        out.printf("Direct buffers: %.1f MB, mapped: %.1f MB%n", gauges.directBufferBytes() / 1024.0 / 1024.0,
+                gauges.mappedBufferBytes() / 1024.0 / 1024.0);
+        if (monitor == null) return;
+
+        out.printf("Collections: %d, total pause %d ms%n%n", monitor.getTotalCollections(), monitor.getTotalPauseMillis());
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+        for (GcEvent event : monitor.getRecentEvents()) {
+            out.printf("%s %-24s %-24s %6d ms%s  %7.1f -> %7.1f MB  %s%n", timeFormat.format(new Date(event.timeMillis())),
+                    event.collector(), event.cause(), event.durationMillis(), event.pause() ? "" : " (concurrent)",
+                    event.heapBeforeBytes() / 1024.0 / 1024.0, event.heapAfterBytes() / 1024.0 / 1024.0, event.action());
+        }
+    }
+
+    private static Path findGcLog() {
+        Pattern filePattern = Pattern.compile("file=\"?([^:\"]+)");
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (!argument.startsWith("-Xlog:gc") && !argument.startsWith("-Xloggc:")) continue;
+
+            String path;
+            if (argument.startsWith("-Xloggc:")) {
+                path = argument.substring("-Xloggc:".length());
+            } else {
+                Matcher matcher = filePattern.matcher(argument);
+                if (!matcher.find()) continue;
+                path = matcher.group(1);
+            }
+            // %p and %t are expanded by the JVM, there is no telling what the file is called
+            if (path.contains("%")) continue;
+            Path file = Path.of(path);
+            if (Files.isRegularFile(file)) return file;
+        }
+        return null;
+    }
+
+    private void writeMods(PrintWriter out) {
+        List<ModContainer> mods = new ArrayList<>(FabricLoader.getInstance().getAllMods());
+        mods.sort(Comparator.comparing(mod -> mod.getMetadata().getId()));
+        out.printf("%d mods%n%n", mods.size());
+        for (ModContainer mod : mods) {
+            out.printf("%-40s %-24s %s%n", mod.getMetadata().getId(), mod.getMetadata().getVersion().getFriendlyString(),
+                    mod.getMetadata().getName());
+        }
+    }
+
+    private void writeConfiguration(ZipOutputStream zip) throws Exception {
+        Path serverProperties = FabricLoader.getInstance().getGameDir().resolve("server.properties");
+        if (Files.isRegularFile(serverProperties)) {
+            writeText(zip, "config/server.properties", out -> writeRedacted(out, serverProperties));
+        }
+        Path modConfig = FabricLoader.getInstance().getConfigDir().resolve(DedicatedPower.MOD_ID + ".properties");
+        if (Files.isRegularFile(modConfig)) {
+            writeText(zip, "config/" + DedicatedPower.MOD_ID + ".properties", out -> writeRedacted(out, modConfig));
+        }
+    }
+
+    // Copies a properties file line by line, blanking the values of anything that looks secret
+    private void writeRedacted(PrintWriter out, Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int equals = line.indexOf('=');
+                boolean comment = line.startsWith("#") || line.startsWith("!");
+                if (!comment && equals > 0 && equals < line.length() - 1
+                        && redactPattern.matcher(line.substring(0, equals)).find()) {
+                    line = line.substring(0, equals + 1) + "<redacted>";
+                }
+                out.println(line);
+            }
+        }
+    }
+
+    private void writeLogs(ZipOutputStream zip) throws IOException {
+        Path logs = FabricLoader.getInstance().getGameDir().resolve("logs");
+        if (!Files.isDirectory(logs)) return;
+
+        Path latest = logs.resolve("latest.log");
+        if (Files.isRegularFile(latest)) {
+            copyFile(zip, "logs/latest.log", latest, maxLogBytes);
+        }
+
+        List<Path> archived;
+        try (Stream<Path> files = Files.list(logs)) {
+            archived = files.filter(file -> file.getFileName().toString().endsWith(".log.gz"))
+                    .sorted(Comparator.comparingLong(DiagnosticBundle::lastModified).reversed())
+                    .limit(archivedLogFiles)
+                    .toList();
+        }
+        for (Path file : archived) {
+            // Already compressed, copied whole
+            zip.putNextEntry(new ZipEntry("logs/" + file.getFileName()));
+            try (InputStream in = Files.newInputStream(file)) {
+                in.transferTo(nonClosing(zip));
+            }
+            zip.closeEntry();
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
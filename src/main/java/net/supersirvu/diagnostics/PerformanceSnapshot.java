@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.diagnostics;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
+import net.minecraft.server.MinecraftServer;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.metrics.GcEvent;
+import net.supersirvu.metrics.GcMonitor;
+import net.supersirvu.metrics.Metric;
+import net.supersirvu.metrics.MetricSeries;
+import net.supersirvu.metrics.MetricsStore;
+import net.supersirvu.metrics.Resolution;
+import net.supersirvu.profiling.ModTickSampler;
+import net.supersirvu.profiling.TickRecorder;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/*
+ * A saved summary of how the server performed over a window of the last few minutes, kept
+ * so the numbers from before a mod upgrade or a view-distance change can be compared with
+ * the numbers after it (SnapshotComparison).
+ *
+ * Tick metrics come from the tick recorder. Their percentiles are over single ticks, but
+ * the mean and variance are over one-second batches (a second's average), because single
+ * ticks are far from independent and a t-test on them would call every wobble significant.
+ * GC pauses are independent enough to be tested per pause.
+ *
+ * Stored as JSON under <data>/snapshots, one file per snapshot.
+ */
+public record PerformanceSnapshot(
+        String name,
+        long timeMillis,
+        long fromMillis,
+        long toMillis,
+        long ticks,
+        int viewDistance,
+        int simulationDistance,
+        String javaVersion,
+        Map<String, String> mods,
+        List<MetricStat> metrics,
+        List<ModStat> modShares,
+        long modSamples
+) {
+    public static final int[] WINDOW_MINUTES = {1, 5, 10, 30};
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().serializeSpecialFloatingPointValues().create();
+    private static final String FILE_PREFIX = "snapshot-";
+
+    /*
+     * One metric over the window. n is the number of samples the mean and variance are
+     * over; variance is NaN and n is 1 for values measured once (no significance test).
+     */
+    public record MetricStat(String key, String label, String unit, Better better, long n,
+                             double mean, double variance, double p50, double p90, double p99, double max) {
+        static MetricStat single(String key, String label, String unit, Better better, double value) {
+            return new MetricStat(key, label, unit, better, 1, value, Double.NaN,
+                    Double.NaN, Double.NaN, Double.NaN, Double.NaN);
+        }
+
+        // Mean and variance over samples, percentiles over distribution (which is sorted)
+        static MetricStat of(String key, String label, String unit, Better better, double[] samples, double[] distribution) {
+            int n = samples.length;
+            double mean = 0;
+            for (double sample : samples) mean += sample;
+            mean = n > 0 ? mean / n : Double.NaN;
+            double variance = 0;
+            for (double sample : samples) variance += (sample - mean) * (sample - mean);
+            variance = n > 1 ? variance / (n - 1) : Double.NaN;
+
+            Arrays.sort(distribution);
+            return new MetricStat(key, label, unit, better, n, mean, variance,
+                    percentile(distribution, 0.5), percentile(distribution, 0.9), percentile(distribution, 0.99),
+                    distribution.length > 0 ? distribution[distribution.length - 1] : Double.NaN);
+        }
+
+        public boolean hasPercentiles() {
+            return !Double.isNaN(p50);
+        }
+    }
+
+    // Which way a change is an improvement; load figures like entity counts are neither
+    public enum Better {
+        LOWER, HIGHER, NEITHER
+    }
+
+    public record ModStat(String modId, String name, long samples, double percent, double msPerTick) {
+    }
+
+    private static double percentile(double[] sorted, double fraction) {
+        if (sorted.length == 0) return Double.NaN;
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+    }
+
+    public MetricStat getMetric(String key) {
+        for (MetricStat metric : metrics) {
+            if (metric.key().equals(key)) return metric;
+        }
+        return null;
+    }
+
+    public long getWindowSeconds() {
+        return (toMillis - fromMillis) / 1000;
+    }
+
+    /*
+     * Summarises the last windowMinutes. Needs the tick recorder; returns null if it is off
+     * or has not recorded a full second yet.
+     */
+    public static PerformanceSnapshot capture(String name, int windowMinutes, MinecraftServer server) {
+        TickRecorder recorder = DedicatedPower.getTickRecorder();
+        if (recorder == null) return null;
+
+        TickRecorder.Segment segment = new TickRecorder.Segment();
+        long windowTicks = Math.min(recorder.getCapacity(), windowMinutes * 60L * 20);
+        recorder.copy(recorder.getRecorded() - windowTicks, recorder.getRecorded(), segment);
+        int size = segment.size();
+        if (size < 2) return null;
+
+        long fromMillis = segment.startMillis(0);
+        long toMillis = segment.startMillis(size - 1);
+        // The memory and GC queries and the window length need a forward range
+        if (toMillis <= fromMillis) return null;
+        List<MetricStat> metrics = new ArrayList<>();
+        summariseTicks(segment, metrics);
+        summariseMemory(fromMillis, toMillis, metrics);
+        summariseGc(fromMillis, toMillis, metrics);
+
+        List<ModStat> modShares = new ArrayList<>();
+        long modSamples = 0;
+        ModTickSampler sampler = DedicatedPower.getModTickSampler();
+        if (sampler != null && sampler.isRunning()) {
+            ModTickSampler.Report report = sampler.getReport(windowMinutes);
+            for (ModTickSampler.ModShare share : report.shares()) {
+                modShares.add(new ModStat(share.modId(), share.name(), share.samples(), share.percent(), share.msPerTick()));
+            }
+            modSamples = report.tickSamples();
+        }
+
+        Map<String, String> mods = new TreeMap<>();
+        for (ModContainer mod : FabricLoader.getInstance().getAllMods()) {
+            mods.put(mod.getMetadata().getId(), mod.getMetadata().getVersion().getFriendlyString());
+        }
+
+        return new PerformanceSnapshot(name, System.currentTimeMillis(), fromMillis, toMillis, size,
+                server.getPlayerManager().getViewDistance(), server.getPlayerManager().getSimulationDistance(),
+                System.getProperty("java.version"), mods, metrics, modShares, modSamples);
+    }
+
+    // Batches are wall-clock seconds; the partial first and last seconds are left out
+    private static void summariseTicks(TickRecorder.Segment segment, List<MetricStat> metrics) {
+        int size = segment.size();
+        double[] duration = new double[size];
+        double[] worlds = new double[size];
+        double[] saving = new double[size];
+        double[] other = new double[size];
+        double[] gc = new double[size];
+        for (int i = 0; i < size; i++) {
+            duration[i] = segment.durationMillis(i);
+            worlds[i] = segment.worldMillis(i);
+            saving[i] = segment.saveMillis(i);
+            other[i] = segment.otherMillis(i);
+            gc[i] = segment.gcMillis(i);
+        }
+
+        List<int[]> seconds = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i == size || segment.startMillis(i) / 1000 != segment.startMillis(start) / 1000) {
+                if (start > 0 && i < size) seconds.add(new int[]{start, i});
+                start = i;
+            }
+        }
+
+        int batches = seconds.size();
+        double[] tps = new double[batches];
+        double[] entities = new double[batches];
+        double[] chunks = new double[batches];
+        double[] players = new double[batches];
+        for (int b = 0; b < batches; b++) {
+            int[] second = seconds.get(b);
+            tps[b] = second[1] - second[0];
+            entities[b] = segment.entities(second[1] - 1);
+            chunks[b] = segment.chunks(second[1] - 1);
+            players[b] = segment.players(second[1] - 1);
+        }
+
+        metrics.add(MetricStat.of("mspt", "Tick Time", "ms", Better.LOWER, batchMeans(duration, seconds), duration));
+        metrics.add(MetricStat.of("worlds", "Worlds", "ms", Better.LOWER, batchMeans(worlds, seconds), worlds));
+        metrics.add(MetricStat.of("saving", "Saving", "ms", Better.LOWER, batchMeans(saving, seconds), saving));
+        metrics.add(MetricStat.of("other", "Other", "ms", Better.LOWER, batchMeans(other, seconds), other));
+        metrics.add(MetricStat.of("gc-in-tick", "GC Pause in Ticks", "ms", Better.LOWER, batchMeans(gc, seconds), gc));
+        metrics.add(MetricStat.of("tps", "TPS", "", Better.HIGHER, tps, tps.clone()));
+        metrics.add(MetricStat.of("entities", "Entities", "", Better.NEITHER, entities, entities.clone()));
+        metrics.add(MetricStat.of("chunks", "Chunks", "", Better.NEITHER, chunks, chunks.clone()));
+        metrics.add(MetricStat.of("players", "Players", "", Better.NEITHER, players, players.clone()));
+    }
+
+    private static double[] batchMeans(double[] values, List<int[]> batches) {
+        double[] means = new double[batches.size()];
+        for (int b = 0; b < means.length; b++) {
+            int[] batch = batches.get(b);
+            double sum = 0;
+            for (int i = batch[0]; i < batch[1]; i++) sum += values[i];
+            means[b] = sum / (batch[1] - batch[0]);
+        }
+        return means;
+    }
+
+    private static void summariseMemory(long fromMillis, long toMillis, List<MetricStat> metrics) {
+        MetricsStore store = DedicatedPower.getMetricsStore();
+        if (store != null) {
+            MetricSeries series = store.query(Metric.MEMORY, Resolution.SECOND, fromMillis, toMillis);
+            double[] values = new double[series.size()];
+            int count = 0;
+            for (int i = 0; i < series.size(); i++) {
+                if (!Double.isNaN(series.getAvg(i))) values[count++] = series.getAvg(i);
+            }
+            values = Arrays.copyOf(values, count);
+            metrics.add(MetricStat.of("heap", "Heap Used", "%", Better.LOWER, values, values.clone()));
+        }
+
+        GcMonitor.MemoryGauges gauges = GcMonitor.sampleGauges();
+        metrics.add(MetricStat.single("old-gen", "Old Gen After GC", "%", Better.LOWER, gauges.oldGenPercent()));
+        metrics.add(MetricStat.single("metaspace", "Metaspace", "MB", Better.NEITHER, gauges.metaspaceBytes() / 1048576.0));
+    }
+
+    private static void summariseGc(long fromMillis, long toMillis, List<MetricStat> metrics) {
+        GcMonitor monitor = DedicatedPower.getGcMonitor();
+        if (monitor == null) return;
+
+        List<Double> pauses = new ArrayList<>();
+        List<Double> allocationRates = new ArrayList<>();
+        int collections = 0;
+        double pauseMillis = 0;
+        for (GcEvent event : monitor.getRecentEvents()) {
+            if (event.timeMillis() < fromMillis || event.timeMillis() > toMillis) continue;
+            collections++;
+            if (event.pause()) {
+                pauses.add((double) event.durationMillis());
+                pauseMillis += event.durationMillis();
+            }
+            if (event.allocationRateBytesPerSecond() > 0) {
+                allocationRates.add(event.allocationRateBytesPerSecond() / 1048576.0);
+            }
+        }
+
+        double minutes = Math.max(1, toMillis - fromMillis) / 60000.0;
+        double[] pauseValues = pauses.stream().mapToDouble(Double::doubleValue).toArray();
+        double[] rateValues = allocationRates.stream().mapToDouble(Double::doubleValue).toArray();
+        metrics.add(MetricStat.of("gc-pause", "GC Pause", "ms", Better.LOWER, pauseValues, pauseValues.clone()));
+        metrics.add(MetricStat.single("gc-pause-rate", "GC Pause Time", "ms/min", Better.LOWER, pauseMillis / minutes));
+        metrics.add(MetricStat.single("gc-rate", "Collections", "/min", Better.LOWER, collections / minutes));
+        metrics.add(MetricStat.of("allocation", "Allocation Rate", "MB/s", Better.LOWER, rateValues, rateValues.clone()));
+    }
+
+    public static Path getDirectory() {
+        return DedicatedPower.getDataDirectory().resolve("snapshots");
+    }
+
+    // Milliseconds in the name so snapshots taken in the same second get their own files
+    private Path getFile() {
+        return getDirectory().resolve(FILE_PREFIX + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date(timeMillis)) + ".json");
+    }
+
+    // Never replaces an existing snapshot, that fails with FileAlreadyExistsException
+    public void save() throws IOException {
+        Path file = getFile();
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            GSON.toJson(this, writer);
+        }
+    }
+
+    public void delete() throws IOException {
+        Files.deleteIfExists(getFile());
+    }
+
+    // Oldest first; files that do not parse are logged and skipped
+    public static List<PerformanceSnapshot> loadAll() throws IOException {
+        List<PerformanceSnapshot> snapshots = new ArrayList<>();
+        Path directory = getDirectory();
+        if (!Files.isDirectory(directory)) return snapshots;
+
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().startsWith(FILE_PREFIX)).toList()) {
+                try (Reader reader = Files.newBufferedReader(file)) {
+                    PerformanceSnapshot snapshot = GSON.fromJson(reader, PerformanceSnapshot.class);
+                    if (snapshot != null && snapshot.metrics() != null) snapshots.add(snapshot);
+                } catch (JsonParseException e) {
+                    DedicatedPower.LOGGER.warn("Skipping unreadable performance snapshot {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        snapshots.sort(Comparator.comparingLong(PerformanceSnapshot::timeMillis));
+        return snapshots;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.diagnostics;
+
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.export.ServerSnapshot;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/*
+ * The performance report text, rendered from the latest server snapshot. Reading the
+ * snapshot never waits for the server thread, so the report also works while the server
+ * is stuck; it then says how old the numbers are.
+ */
+public final class ServerSummary {
+    private ServerSummary() {
+    }
+
+    // Null until the first snapshot has been taken
+    public static String formatLatest() {
+        ServerSnapshot snapshot = DedicatedPower.getServerSnapshotter().getLatest();
+        return snapshot != null ? format(snapshot) : null;
+    }
+
+    public static String format(ServerSnapshot snapshot) {
+        Runtime runtime = Runtime.getRuntime();
+        long usedMemory = runtime.totalMemory() - runtime.freeMemory();
+        long maxMemory = runtime.maxMemory();
+        int entities = 0;
+        int chunks = 0;
+        for (ServerSnapshot.WorldStats world : snapshot.worlds()) {
+            entities += world.entities();
+            chunks += world.loadedChunks();
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append("=== PERFORMANCE REPORT ===\n");
+        report.append("Generated: ").append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date())).append("\n");
+        long ageSeconds = (System.currentTimeMillis() - snapshot.timeMillis()) / 1000;
+        if (ageSeconds > 5) {
+            report.append(String.format("Server data is %d s old, the server thread may be stuck\n", ageSeconds));
+        }
+        report.append("\n=== MEMORY ===\n");
+        report.append(String.format("Used: %d MB\n", usedMemory / 1024 / 1024));
+        report.append(String.format("Max: %d MB\n", maxMemory / 1024 / 1024));
+        report.append(String.format("Usage: %.1f%%\n\n", (usedMemory * 100.0) / maxMemory));
+        report.append("=== SERVER ===\n");
+        report.append(String.format("TPS: %.2f\n", snapshot.tps()));
+        report.append(String.format("Average Tick: %.2f ms\n", snapshot.averageTickMillis()));
+        long[] percentiles = snapshot.tickPercentiles(0.5, 0.99, 1.0);
+        report.append(String.format("Recent Ticks: p50 %.2f ms, p99 %.2f ms, max %.2f ms\n",
+                percentiles[0] / 1e6, percentiles[1] / 1e6, percentiles[2] / 1e6));
+        report.append(String.format("Players: %d / %d\n", snapshot.players(), snapshot.maxPlayers()));
+        report.append(String.format("Entities: %d\n", entities));
+        report.append(String.format("Chunks: %d\n\n", chunks));
+        report.append("=== WORLDS ===\n");
+        for (ServerSnapshot.WorldStats world : snapshot.worlds()) {
+            report.append(String.format("%s: %d entities (%d items), %d chunks\n", world.name(), world.entities(),
+                    world.itemEntities(), world.loadedChunks()));
+        }
+        report.append("\n=== SYSTEM ===\n");
+        report.append(String.format("CPU Cores: %d\n", runtime.availableProcessors()));
+        report.append(String.format("Java Version: %s\n", System.getProperty("java.version")));
+        report.append(String.format("OS: %s %s\n", System.getProperty("os.name"), System.getProperty("os.version")));
+        return report.toString();
+    }
+}
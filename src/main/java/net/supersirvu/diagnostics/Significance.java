@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.diagnostics;
+
+/*
+ * The two tests the snapshot comparison needs: Welch's t-test for the difference of two
+ * means with unequal variances, and a two-proportion z-test for profiler sample shares.
+ * Both return a two-sided p-value, or NaN when there is not enough data to say anything.
+ */
+public final class Significance {
+    public static final double LEVEL = 0.05;
+
+    private Significance() {
+    }
+
+    public static double welch(long n1, double mean1, double variance1, long n2, double mean2, double variance2) {
+        if (n1 < 2 || n2 < 2 || Double.isNaN(variance1) || Double.isNaN(variance2)) return Double.NaN;
+        double se1 = variance1 / n1;
+        double se2 = variance2 / n2;
+        double se = se1 + se2;
+        if (se <= 0) return mean1 == mean2 ? 1.0 : 0.0;
+
+        double t = (mean1 - mean2) / Math.sqrt(se);
+        // Welch-Satterthwaite degrees of freedom
+        double df = se * se / (se1 * se1 / (n1 - 1) + se2 * se2 / (n2 - 1));
+        return studentTwoSided(t, df);
+    }
+
+    public static double twoProportions(long k1, long n1, long k2, long n2) {
+        if (n1 <= 0 || n2 <= 0) return Double.NaN;
+        double pooled = (double) (k1 + k2) / (n1 + n2);
+        double se = Math.sqrt(pooled * (1 - pooled) * (1.0 / n1 + 1.0 / n2));
+        if (se <= 0) return 1.0;
+        double z = ((double) k1 / n1 - (double) k2 / n2) / se;
+        return erfc(Math.abs(z) / Math.sqrt(2));
+    }
+
+    // P(|T| >= |t|) for Student's t with df degrees of freedom
+    static double studentTwoSided(double t, double df) {
+        if (Double.isNaN(t) || Double.isNaN(df)) return Double.NaN;
+        return regularizedBeta(df / (df + t * t), df / 2, 0.5);
+    }
+
+    // I_x(a, b) by its continued fraction (Numerical Recipes, betai/betacf)
+    static double regularizedBeta(double x, double a, double b) {
+        if (x <= 0) return 0;
+        if (x >= 1) return 1;
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b) + a * Math.log(x) + b * Math.log(1 - x));
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * betaFraction(x, a, b) / a;
+        }
+        return 1 - front * betaFraction(1 - x, b, a) / b;
+    }
+
+    private static double betaFraction(double x, double a, double b) {
+        final double tiny = 1e-300;
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        if (Math.abs(d) < tiny) d = tiny;
+        d = 1 / d;
+        double h = d;
+        for (int m = 1; m <= 300; m++) {
+            int m2 = 2 * m;
+            double aa = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1 / d;
+            h *= d * c;
+
+            aa = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < 1e-12) break;
+        }
+        return h;
+    }
+
+    // Lanczos approximation
+    private static double logGamma(double x) {
+        double[] coefficients = {76.18009172947146, -86.50532032941677, 24.01409824083091,
+                -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5};
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+
+    // Complementary error function, accurate to about 1e-7
+    private static double erfc(double x) {
+        double t = 1 / (1 + 0.5 * Math.abs(x));
+        double result = t * Math.exp(-x * x - 1.26551223 + t * (1.00002368 + t * (0.37409196 + t * (0.09678418
+                + t * (-0.18628806 + t * (0.27886807 + t * (-1.13520398 + t * (1.48851587
+                + t * (-0.82215223 + t * 0.17087277)))))))));
+        return x >= 0 ? result : 2 - result;
+    }
+}
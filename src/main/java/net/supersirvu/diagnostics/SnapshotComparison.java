@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.diagnostics;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Per-metric deltas between two performance snapshots, "before" and "after".
+ *
+ * Means are tested with Welch's t-test and mod shares with a two-proportion test; a row
+ * only gets a verdict (better/worse) when the change is significant at Significance.LEVEL.
+ * Percentile rows have no test, the snapshots do not keep the single ticks.
+ */
+public final class SnapshotComparison {
+    private final PerformanceSnapshot before;
+    private final PerformanceSnapshot after;
+    private final List<Row> rows = new ArrayList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    public enum Verdict {
+        BETTER, WORSE, NO_CHANGE, UNTESTED
+    }
+
+    public record Row(String label, String unit, double before, double after, double pValue, Verdict verdict) {
+        public double delta() {
+            return after - before;
+        }
+
+        public double deltaPercent() {
+            return before != 0 ? (after - before) * 100.0 / Math.abs(before) : Double.NaN;
+        }
+    }
+
+    public SnapshotComparison(PerformanceSnapshot before, PerformanceSnapshot after) {
+        this.before = before;
+        this.after = after;
+        compareMetrics();
+        compareModShares();
+        compareSetup();
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    // Setting, mod and Java differences that might explain the deltas
+    public List<String> getChanges() {
+        return changes;
+    }
+
+    private void compareMetrics() {
+        for (PerformanceSnapshot.MetricStat a : before.metrics()) {
+            PerformanceSnapshot.MetricStat b = after.getMetric(a.key());
+            if (b == null) continue;
+
+            double p = Significance.welch(a.n(), a.mean(), a.variance(), b.n(), b.mean(), b.variance());
+            String label = a.hasPercentiles() ? a.label() + " (mean)" : a.label();
+            rows.add(new Row(label, a.unit(), a.mean(), b.mean(), p, verdict(a.better(), a.mean(), b.mean(), p)));
+
+            if (a.hasPercentiles() && b.hasPercentiles()) {
+                rows.add(untested(a.label() + " p50", a.unit(), a.p50(), b.p50()));
+                rows.add(untested(a.label() + " p90", a.unit(), a.p90(), b.p90()));
+                rows.add(untested(a.label() + " p99", a.unit(), a.p99(), b.p99()));
+                rows.add(untested(a.label() + " max", a.unit(), a.max(), b.max()));
+            }
+        }
+    }
+
+    private void compareModShares() {
+        if (before.modSamples() == 0 || after.modSamples() == 0) return;
+
+        Map<String, PerformanceSnapshot.ModStat> afterShares = new HashMap<>();
+        for (PerformanceSnapshot.ModStat share : after.modShares()) afterShares.put(share.modId(), share);
+        Set<String> modIds = new LinkedHashSet<>();
+        for (PerformanceSnapshot.ModStat share : before.modShares()) modIds.add(share.modId());
+        modIds.addAll(afterShares.keySet());
+
+        Map<String, PerformanceSnapshot.ModStat> beforeShares = new HashMap<>();
+        for (PerformanceSnapshot.ModStat share : before.modShares()) beforeShares.put(share.modId(), share);
+        for (String modId : modIds) {
+            PerformanceSnapshot.ModStat a = beforeShares.get(modId);
+            PerformanceSnapshot.ModStat b = afterShares.get(modId);
+            long samplesBefore = a != null ? a.samples() : 0;
+            long samplesAfter = b != null ? b.samples() : 0;
+            double percentBefore = a != null ? a.percent() : 0;
+            double percentAfter = b != null ? b.percent() : 0;
+            String name = a != null ? a.name() : b.name();
+
+            double p = Significance.twoProportions(samplesBefore, before.modSamples(), samplesAfter, after.modSamples());
+            rows.add(new Row("Mod: " + name, "% of tick", percentBefore, percentAfter, p,
+                    verdict(PerformanceSnapshot.Better.LOWER, percentBefore, percentAfter, p)));
+        }
+    }
+
+    private void compareSetup() {
+        if (before.viewDistance() != after.viewDistance()) {
+            changes.add("view-distance " + before.viewDistance() + " -> " + after.viewDistance());
+        }
+        if (before.simulationDistance() != after.simulationDistance()) {
+            changes.add("simulation-distance " + before.simulationDistance() + " -> " + after.simulationDistance());
+        }
+        if (!String.valueOf(before.javaVersion()).equals(after.javaVersion())) {
+            changes.add("Java " + before.javaVersion() + " -> " + after.javaVersion());
+        }
+
+        Map<String, String> modsBefore = before.mods() != null ? before.mods() : Map.of();
+        Map<String, String> modsAfter = after.mods() != null ? after.mods() : Map.of();
+        for (Map.Entry<String, String> mod : modsBefore.entrySet()) {
+            String version = modsAfter.get(mod.getKey());
+            if (version == null) {
+                changes.add("Removed " + mod.getKey() + " " + mod.getValue());
+            } else if (!version.equals(mod.getValue())) {
+                changes.add("Updated " + mod.getKey() + " " + mod.getValue() + " -> " + version);
+            }
+        }
+        for (Map.Entry<String, String> mod : modsAfter.entrySet()) {
+            if (!modsBefore.containsKey(mod.getKey())) {
+                changes.add("Added " + mod.getKey() + " " + mod.getValue());
+            }
+        }
+    }
+
+    private static Row untested(String label, String unit, double before, double after) {
+        return new Row(label, unit, before, after, Double.NaN, Verdict.UNTESTED);
+    }
+
+    private static Verdict verdict(PerformanceSnapshot.Better better, double before, double after, double p) {
+        if (Double.isNaN(p) || better == PerformanceSnapshot.Better.NEITHER) return Verdict.UNTESTED;
+        if (p >= Significance.LEVEL || before == after) return Verdict.NO_CHANGE;
+        boolean lower = after < before;
+        return lower == (better == PerformanceSnapshot.Better.LOWER) ? Verdict.BETTER : Verdict.WORSE;
+    }
+
+    public String format() {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+        StringBuilder report = new StringBuilder();
+        report.append("=== PERFORMANCE COMPARISON ===\n");
+        report.append(String.format("Before: %s (%s, %d s, %,d ticks)\n", before.name(),
+                dateFormat.format(new Date(before.timeMillis())), before.getWindowSeconds(), before.ticks()));
+        report.append(String.format("After:  %s (%s, %d s, %,d ticks)\n\n", after.name(),
+                dateFormat.format(new Date(after.timeMillis())), after.getWindowSeconds(), after.ticks()));
+
+        report.append("=== CHANGES ===\n");
+        if (changes.isEmpty()) report.append("No setting, mod or Java changes\n");
+        for (String change : changes) report.append(change).append("\n");
+
+        report.append("\n=== METRICS ===\n");
+        report.append(String.format("%-28s %12s %12s %12s %8s %9s  %s\n", "Metric", "Before", "After", "Delta", "Delta %", "p", ""));
+        for (Row row : rows) {
+            report.append(String.format("%-28s %12s %12s %12s %8s %9s  %s\n", row.label(),
+                    formatValue(row.before(), row.unit()), formatValue(row.after(), row.unit()),
+                    formatDelta(row.delta(), row.unit()), Double.isNaN(row.deltaPercent()) ? "-" : String.format("%+.1f", row.deltaPercent()),
+                    formatPValue(row.pValue()), row.verdict() == Verdict.BETTER || row.verdict() == Verdict.WORSE ? row.verdict().name().toLowerCase() : ""));
+        }
+        report.append(String.format("\np is two-sided; better/worse only where p < %.2f. Tick means are tested over one-second averages.\n",
+                Significance.LEVEL));
+        return report.toString();
+    }
+
+    public static String formatValue(double value, String unit) {
+        if (Double.isNaN(value)) return "-";
+        String number = Math.abs(value) >= 100 ? String.format("%,.0f", value) : String.format("%.2f", value);
+        if (unit.isEmpty()) return number;
+        return unit.startsWith("%") ? number + "%" : number + " " + unit;
+    }
+
+    public static String formatDelta(double delta, String unit) {
+        return (delta > 0 ? "+" : "") + formatValue(delta, unit);
+    }
+
+    public static String formatPValue(double p) {
+        if (Double.isNaN(p)) return "-";
+        return p < 0.001 ? "<0.001" : String.format("%.3f", p);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.export;
+
+import java.util.Locale;
+
+/*
+ * Writes the OpenMetrics text format, or the older Prometheus 0.0.4 text format for
+ * scrapers that do not ask for OpenMetrics. The two only differ in how counters are
+ * declared, UNIT lines and the closing "# EOF".
+ */
+public class MetricsWriter {
+    public static final String OPENMETRICS_CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    public static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final StringBuilder out = new StringBuilder(8192);
+    private final boolean openMetrics;
+
+    public MetricsWriter(boolean openMetrics) {
+        this.openMetrics = openMetrics;
+    }
+
+    public String getContentType() {
+        return openMetrics ? OPENMETRICS_CONTENT_TYPE : PROMETHEUS_CONTENT_TYPE;
+    }
+
+    // Starts a metric family, samples for it must follow before the next family
+    public MetricsWriter family(String name, String type, String unit, String help) {
+        String declared = !openMetrics && type.equals("counter") ? name + "_total" : name;
+        out.append("# TYPE ").append(declared).append(' ').append(type).append('\n');
+        if (openMetrics && unit != null) {
+            out.append("# UNIT ").append(declared).append(' ').append(unit).append('\n');
+        }
+        out.append("# HELP ").append(declared).append(' ').append(help).append('\n');
+        return this;
+    }
+
+    // Labels are name/value pairs
+    public MetricsWriter sample(String name, double value, String... labels) {
+        out.append(name);
+        if (labels.length > 0) {
+            out.append('{');
+            for (int i = 0; i + 1 < labels.length; i += 2) {
+                if (i > 0) out.append(',');
+                out.append(labels[i]).append("=\"");
+                escape(labels[i + 1]);
+                out.append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ').append(formatValue(value)).append('\n');
+        return this;
+    }
+
+    public MetricsWriter gauge(String name, String unit, String help, double value) {
+        return family(name, "gauge", unit, help).sample(name, value);
+    }
+
+    public MetricsWriter counter(String name, String unit, String help, double value) {
+        return family(name, "counter", unit, help).sample(name + "_total", value);
+    }
+
+    private void escape(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) return "NaN";
+        if (Double.isInfinite(value)) return value > 0 ? "+Inf" : "-Inf";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return String.format(Locale.ROOT, "%.6g", value);
+    }
+
+    public String finish() {
+        if (openMetrics) out.append("# EOF\n");
+        return out.toString();
+    }
+}
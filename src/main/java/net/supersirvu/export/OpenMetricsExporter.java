@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.export;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+import net.supersirvu.metrics.GcMonitor;
+import net.supersirvu.profiling.LagWatchdog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * Serves the server's metrics for Prometheus on a local HTTP endpoint, off by default.
+ *
+ * A scrape renders the latest ServerSnapshot plus JVM numbers from the platform MXBeans,
+ * all of which are safe to read from any thread, so scraping never waits for or slows
+ * down a tick. If the server thread hangs, the endpoint keeps answering and
+ * dedicatedpower_snapshot_age_seconds keeps growing, which is easy to alert on.
+ */
+public class OpenMetricsExporter {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.95, 0.99, 1.0};
+
+    private final ServerSnapshotter snapshotter;
+    private final LagWatchdog watchdog;
+    private final String host;
+    private final int port;
+    private final String path;
+
+    private HttpServer httpServer;
+    private ExecutorService executor;
+
+    public OpenMetricsExporter(ServerSnapshotter snapshotter, LagWatchdog watchdog) {
+        this.snapshotter = snapshotter;
+        this.watchdog = watchdog;
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        this.host = config.getString("export.host", "127.0.0.1");
+        this.port = config.getInt("export.port", 9225);
+        this.path = config.getString("export.path", "/metrics");
+    }
+
+    public static OpenMetricsExporter install(ServerSnapshotter snapshotter, LagWatchdog watchdog) {
+        OpenMetricsExporter exporter = new OpenMetricsExporter(snapshotter, watchdog);
+        if (DedicatedPowerConfig.get().getBoolean("export.enabled", false)) {
+            ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+                try {
+                    exporter.start();
+                } catch (IOException e) {
+                    DedicatedPower.LOGGER.error("Failed to start the metrics endpoint on {}:{}", exporter.host, exporter.port, e);
+                }
+            });
+        }
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> exporter.stop());
+        return exporter;
+    }
+
+    public synchronized void start() throws IOException {
+        if (httpServer != null) return;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        server.createContext(path, this::handle);
+        // One thread is plenty for a scrape every few seconds, and it never competes with the game
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "DedicatedPower Metrics Endpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        httpServer = server;
+
+        DedicatedPower.LOGGER.info("Serving metrics on {}", getUrl());
+    }
+
+    public synchronized void stop() {
+        if (httpServer == null) return;
+        httpServer.stop(0);
+        executor.shutdownNow();
+        httpServer = null;
+        executor = null;
+        DedicatedPower.LOGGER.info("Metrics endpoint stopped");
+    }
+
+    public synchronized boolean isRunning() {
+        return httpServer != null;
+    }
+
+    public String getUrl() {
+        String urlHost = host.contains(":") ? "[" + host + "]" : host;
+        return "http://" + urlHost + ":" + port + path;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET") && !exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            String accept = exchange.getRequestHeaders().getFirst("Accept");
+            MetricsWriter writer = new MetricsWriter(accept != null && accept.contains("application/openmetrics-text"));
+            byte[] body = render(writer).getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", writer.getContentType());
+            if (exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    public String render(MetricsWriter writer) {
+        ServerSnapshot snapshot = snapshotter.getLatest();
+        if (snapshot != null) {
+            writeServer(writer, snapshot);
+        }
+        writeJvm(writer);
+        writeMod(writer, snapshot);
+        return writer.finish();
+    }
+
+    private static void writeServer(MetricsWriter writer, ServerSnapshot snapshot) {
+        writer.family("minecraft_tick_duration_seconds", "summary", "seconds",
+                "Server tick duration, quantiles over the recent tick window");
+        long[] percentiles = snapshot.tickPercentiles(QUANTILES);
+        for (int i = 0; i < QUANTILES.length; i++) {
+            writer.sample("minecraft_tick_duration_seconds", percentiles[i] / 1e9, "quantile", String.valueOf(QUANTILES[i]));
+        }
+        writer.sample("minecraft_tick_duration_seconds_sum", snapshot.totalTickNanos() / 1e9);
+        writer.sample("minecraft_tick_duration_seconds_count", snapshot.totalTicks());
+
+        writer.gauge("minecraft_tps", null, "Ticks per second, 20 at most", snapshot.tps());
+        writer.gauge("minecraft_players_online", null, "Players currently online", snapshot.players());
+        writer.gauge("minecraft_players_max", null, "Player limit", snapshot.maxPlayers());
+
+        writer.family("minecraft_world_entities", "gauge", null, "Loaded entities per world");
+        for (ServerSnapshot.WorldStats world : snapshot.worlds()) {
+            writer.sample("minecraft_world_entities", world.entities(), "world", world.name());
+        }
+        writer.family("minecraft_world_item_entities", "gauge", null, "Dropped item entities per world");
+        for (ServerSnapshot.WorldStats world : snapshot.worlds()) {
+            writer.sample("minecraft_world_item_entities", world.itemEntities(), "world", world.name());
+        }
+        writer.family("minecraft_world_loaded_chunks", "gauge", null, "Loaded chunks per world");
+        for (ServerSnapshot.WorldStats world : snapshot.worlds()) {
+            writer.sample("minecraft_world_loaded_chunks", world.loadedChunks(), "world", world.name());
+        }
+    }
+
+    private static void writeJvm(MetricsWriter writer) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        writer.gauge("jvm_memory_heap_used_bytes", "bytes", "Used heap", heap.getUsed());
+        writer.gauge("jvm_memory_heap_committed_bytes", "bytes", "Committed heap", heap.getCommitted());
+        writer.gauge("jvm_memory_heap_max_bytes", "bytes", "Maximum heap", heap.getMax());
+
+        writer.family("jvm_memory_pool_used_bytes", "gauge", "bytes", "Used bytes per memory pool");
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            writer.sample("jvm_memory_pool_used_bytes", pool.getUsage().getUsed(),
+                    "pool", pool.getName(), "area", pool.getType() == MemoryType.HEAP ? "heap" : "nonheap");
+        }
+
+        writer.family("jvm_gc_collections", "counter", null, "Garbage collections per collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            writer.sample("jvm_gc_collections_total", gc.getCollectionCount(), "gc", gc.getName());
+        }
+        writer.family("jvm_gc_collection_seconds", "counter", "seconds", "Time spent in garbage collection per collector");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            writer.sample("jvm_gc_collection_seconds_total", gc.getCollectionTime() / 1000.0, "gc", gc.getName());
+        }
+
+        writer.gauge("jvm_threads_live", null, "Live threads", ManagementFactory.getThreadMXBean().getThreadCount());
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            writer.gauge("process_cpu_load_ratio", "ratio", "CPU used by the server process, 1 is all cores", Math.max(0, os.getProcessCpuLoad()));
+        }
+        writer.gauge("process_uptime_seconds", "seconds", "Time since the JVM started",
+                ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0);
+    }
+
+    private void writeMod(MetricsWriter writer, ServerSnapshot snapshot) {
+        double age = snapshot != null ? (System.currentTimeMillis() - snapshot.timeMillis()) / 1000.0 : Double.NaN;
+        writer.gauge("dedicatedpower_snapshot_age_seconds", "seconds",
+                "Age of the server data, grows while the server thread is stuck", age);
+
+        if (watchdog != null) {
+            writer.counter("dedicatedpower_lag_spikes", null, "Ticks that went over lag.threshold-ms", watchdog.getSpikeCount());
+        }
+        GcMonitor monitor = DedicatedPower.getGcMonitor();
+        if (monitor != null) {
+            writer.counter("dedicatedpower_gc_pause_seconds", "seconds", "Stop-the-world GC pause time seen by the GC monitor",
+                    monitor.getTotalPauseMillis() / 1000.0);
+        }
+    }
+}
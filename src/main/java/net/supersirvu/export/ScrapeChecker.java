@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/*
+ * Scrapes the endpoint the way Prometheus would and checks the answer, so the setup can
+ * be verified from the server itself before pointing a real scraper at it. The checks
+ * cover what usually breaks a scrape: sample lines that do not parse, samples without a
+ * TYPE, duplicate series and a missing "# EOF".
+ */
+public class ScrapeChecker {
+    private static final Pattern SAMPLE = Pattern.compile(
+            "[a-zA-Z_:][a-zA-Z0-9_:]*(\\{([a-zA-Z_][a-zA-Z0-9_]*=\"([^\"\\\\]|\\\\.)*\",?)*})? (NaN|[+-]Inf|[-+]?[0-9.]+([eE][-+]?[0-9]+)?)");
+
+    public record Result(int status, String contentType, long millis, int samples, List<String> problems, String body) {
+        public boolean isOk() {
+            return status == 200 && problems.isEmpty();
+        }
+    }
+
+    public static Result scrape(String url) throws IOException {
+        long start = System.nanoTime();
+        HttpURLConnection connection = (HttpURLConnection) URI.create(url).toURL().openConnection();
+        connection.setConnectTimeout(5000);
+        connection.setReadTimeout(10_000);
+        connection.setRequestProperty("Accept", "application/openmetrics-text; version=1.0.0,text/plain;version=0.0.4;q=0.5");
+        try {
+            int status = connection.getResponseCode();
+            InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+            String body = in != null ? new String(in.readAllBytes(), StandardCharsets.UTF_8) : "";
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            String contentType = connection.getContentType();
+
+            List<String> problems = new ArrayList<>();
+            int samples = check(body, contentType != null && contentType.startsWith("application/openmetrics-text"), problems);
+            return new Result(status, contentType, millis, samples, problems, body);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static int check(String body, boolean openMetrics, List<String> problems) {
+        Set<String> families = new HashSet<>();
+        Set<String> series = new HashSet<>();
+        int samples = 0;
+        boolean eof = false;
+
+        String[] lines = body.split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i];
+            if (line.isEmpty()) continue;
+            if (eof) {
+                problems.add("Line " + (i + 1) + ": content after # EOF");
+                break;
+            }
+            if (line.equals("# EOF")) {
+                eof = true;
+            } else if (line.startsWith("# TYPE ")) {
+                String[] parts = line.split(" ");
+                if (parts.length != 4 || !families.add(parts[2])) {
+                    problems.add("Line " + (i + 1) + ": bad or repeated TYPE: " + line);
+                }
+            } else if (!line.startsWith("#")) {
+                samples++;
+                if (!SAMPLE.matcher(line).matches()) {
+                    problems.add("Line " + (i + 1) + ": does not parse: " + line);
+                    continue;
+                }
+                String key = line.substring(0, line.lastIndexOf(' '));
+                if (!series.add(key)) {
+                    problems.add("Line " + (i + 1) + ": duplicate series " + key);
+                }
+                int brace = key.indexOf('{');
+                String name = brace >= 0 ? key.substring(0, brace) : key;
+                if (!hasFamily(families, name)) {
+                    problems.add("Line " + (i + 1) + ": no TYPE for " + name);
+                }
+            }
+        }
+        if (openMetrics && !eof) {
+            problems.add("OpenMetrics response does not end with # EOF");
+        }
+        return samples;
+    }
+
+    // Samples of a summary or counter carry a suffix the family name does not have
+    private static boolean hasFamily(Set<String> families, String name) {
+        if (families.contains(name)) return true;
+        for (String suffix : new String[]{"_total", "_sum", "_count", "_created", "_bucket"}) {
+            if (name.endsWith(suffix) && families.contains(name.substring(0, name.length() - suffix.length()))) return true;
+        }
+        return false;
+    }
+}
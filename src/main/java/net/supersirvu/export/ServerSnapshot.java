@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.export;
+
+import com.mojang.authlib.GameProfile;
+import net.minecraft.server.PlayerConfigEntry;
+import net.minecraft.world.GameMode;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * What the server thread knows, copied out once a second so other threads can read it
+ * without touching live game state. Never modified after construction, the tick array
+ * included. This is the only way the GUI panels, the exporter and the rules see players
+ * and worlds.
+ *
+ * Parts that did not change since the previous snapshot are the same objects: an
+ * unchanged player list is the same List instance, so a panel can skip re-rendering with a
+ * reference comparison.
+ */
+public final class ServerSnapshot {
+    private final long timeMillis;
+    private final long totalTicks;
+    private final long totalTickNanos;
+    // Not handed out, a consumer writing to it would change every panel's view
+    private final long[] recentTickNanos;
+    private final double averageTickMillis;
+    private final int players;
+    private final int maxPlayers;
+    private final List<PlayerStats> onlinePlayers;
+    private final List<WorldStats> worlds;
+
+    // Takes ownership of recentTickNanos
+    ServerSnapshot(long timeMillis, long totalTicks, long totalTickNanos, long[] recentTickNanos,
+                   double averageTickMillis, int players, int maxPlayers, List<PlayerStats> onlinePlayers,
+                   List<WorldStats> worlds) {
+        this.timeMillis = timeMillis;
+        this.totalTicks = totalTicks;
+        this.totalTickNanos = totalTickNanos;
+        this.recentTickNanos = recentTickNanos;
+        this.averageTickMillis = averageTickMillis;
+        this.players = players;
+        this.maxPlayers = maxPlayers;
+        this.onlinePlayers = onlinePlayers;
+        this.worlds = worlds;
+    }
+
+    public long timeMillis() {
+        return timeMillis;
+    }
+
+    public long totalTicks() {
+        return totalTicks;
+    }
+
+    public long totalTickNanos() {
+        return totalTickNanos;
+    }
+
+    // Oldest first
+    public int recentTickCount() {
+        return recentTickNanos.length;
+    }
+
+    public long recentTickNanos(int index) {
+        return recentTickNanos[index];
+    }
+
+    public double averageTickMillis() {
+        return averageTickMillis;
+    }
+
+    public int players() {
+        return players;
+    }
+
+    public int maxPlayers() {
+        return maxPlayers;
+    }
+
+    public List<PlayerStats> onlinePlayers() {
+        return onlinePlayers;
+    }
+
+    public List<WorldStats> worlds() {
+        return worlds;
+    }
+
+    public double tps() {
+        return averageTickMillis > 0 ? Math.min(20.0, 1000.0 / averageTickMillis) : 20.0;
+    }
+
+    // Nearest-rank percentiles of the recent tick durations, quantiles in 0..1
+    public long[] tickPercentiles(double... quantiles) {
+        long[] result = new long[quantiles.length];
+        if (recentTickNanos.length == 0) return result;
+
+        long[] sorted = recentTickNanos.clone();
+        Arrays.sort(sorted);
+        for (int i = 0; i < quantiles.length; i++) {
+            int rank = (int) Math.ceil(quantiles[i] * sorted.length) - 1;
+            result[i] = sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+        }
+        return result;
+    }
+
+    public WorldStats world(String name) {
+        for (WorldStats world : worlds) {
+            if (world.name().equals(name)) return world;
+        }
+        return null;
+    }
+
+    public record WorldStats(String name, int entities, int itemEntities, int loadedChunks, long timeOfDay,
+                             boolean raining, boolean thundering, String difficulty) {
+        public String weather() {
+            return raining ? (thundering ? "Thunder" : "Rain") : "Clear";
+        }
+    }
+
+    // Game profiles and config entries are immutable once a player has logged in
+    public record PlayerStats(GameProfile profile, PlayerConfigEntry configEntry, int ping, GameMode gameMode,
+                              boolean op, float health, int food) {
+        public UUID id() {
+            return profile.id();
+        }
+
+        public String name() {
+            return profile.name();
+        }
+    }
+}
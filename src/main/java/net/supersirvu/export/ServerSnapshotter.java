@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.export;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.supersirvu.DedicatedPowerConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+ * Times every tick into a ring buffer and, every snapshot-interval-ticks, copies the ring,
+ * the players and the per-world counts into a ServerSnapshot. All of it runs at the end of
+ * a tick on the server thread, so readers only ever see a finished snapshot through one
+ * volatile field and never wait on the game. This is the one pass over server state per
+ * interval; nothing else in the mod walks players or entities.
+ *
+ * Tick listeners get every tick's duration, for consumers that need more than the ring.
+ */
+public class ServerSnapshotter {
+    private final long[] tickNanos;
+    private final int intervalTicks;
+
+    // Server thread only
+    private long tickStartNanos;
+    private long totalTicks;
+    private long totalTickNanos;
+    private int ringPosition;
+    private int ringSize;
+
+    private volatile ServerSnapshot latest;
+    private final List<Consumer<ServerSnapshot>> listeners = new CopyOnWriteArrayList<>();
+    private final List<TickListener> tickListeners = new CopyOnWriteArrayList<>();
+
+    public ServerSnapshotter() {
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        this.tickNanos = new long[Math.max(20, config.getInt("export.tick-window", 1200))];
+        this.intervalTicks = Math.max(1, config.getInt("export.snapshot-interval-ticks", 20));
+    }
+
+    public static ServerSnapshotter install() {
+        ServerSnapshotter snapshotter = new ServerSnapshotter();
+        ServerTickEvents.START_SERVER_TICK.register(server -> snapshotter.tickStartNanos = System.nanoTime());
+        ServerTickEvents.END_SERVER_TICK.register(snapshotter::onTickEnd);
+        return snapshotter;
+    }
+
+    private void onTickEnd(MinecraftServer server) {
+        long duration = System.nanoTime() - tickStartNanos;
+        tickNanos[ringPosition] = duration;
+        ringPosition = (ringPosition + 1) % tickNanos.length;
+        ringSize = Math.min(ringSize + 1, tickNanos.length);
+        totalTicks++;
+        totalTickNanos += duration;
+        for (TickListener listener : tickListeners) {
+            listener.onTick(totalTicks, duration);
+        }
+
+        // Always taken, the metrics history records every snapshot
+        if (totalTicks % intervalTicks == 0) {
+            ServerSnapshot snapshot = capture(server);
+            latest = snapshot;
+            for (Consumer<ServerSnapshot> listener : listeners) {
+                listener.accept(snapshot);
+            }
+        }
+    }
+
+    private ServerSnapshot capture(MinecraftServer server) {
+        long[] recent = new long[ringSize];
+        for (int i = 0; i < ringSize; i++) {
+            recent[i] = tickNanos[(ringPosition - ringSize + i + tickNanos.length) % tickNanos.length];
+        }
+
+        ServerSnapshot previous = latest;
+
+        List<ServerSnapshot.PlayerStats> players = new ArrayList<>();
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            players.add(new ServerSnapshot.PlayerStats(player.getGameProfile(), player.getPlayerConfigEntry(),
+                    player.networkHandler.getLatency(), player.interactionManager.getGameMode(),
+                    server.getPlayerManager().isOperator(player.getPlayerConfigEntry()),
+                    player.getHealth(), player.getHungerManager().getFoodLevel()));
+        }
+
+        List<ServerSnapshot.WorldStats> worlds = new ArrayList<>();
+        for (ServerWorld world : server.getWorlds()) {
+            int entities = 0;
+            int items = 0;
+            for (Entity entity : world.iterateEntities()) {
+                entities++;
+                if (entity instanceof ItemEntity) items++;
+            }
+            worlds.add(new ServerSnapshot.WorldStats(world.getRegistryKey().getValue().toString(), entities, items,
+                    world.getChunkManager().getLoadedChunkCount(), world.getTimeOfDay(), world.isRaining(),
+                    world.isThundering(), world.getDifficulty().getName()));
+        }
+
+        return new ServerSnapshot(System.currentTimeMillis(), totalTicks, totalTickNanos, recent,
+                server.getAverageNanosPerTick() / 1_000_000.0, server.getCurrentPlayerCount(),
+                server.getMaxPlayerCount(),
+                share(previous != null ? previous.onlinePlayers() : null, players),
+                share(previous != null ? previous.worlds() : null, worlds));
+    }
+
+    // Reuses the previous list, or the previous elements, where nothing changed
+    private static <T> List<T> share(List<T> previous, List<T> current) {
+        if (previous == null) return List.copyOf(current);
+
+        boolean same = previous.size() == current.size();
+        for (int i = 0; i < current.size(); i++) {
+            T value = current.get(i);
+            T old = i < previous.size() ? previous.get(i) : null;
+            if (value.equals(old)) {
+                current.set(i, old);
+            } else {
+                same = false;
+            }
+        }
+        return same ? previous : List.copyOf(current);
+    }
+
+    // Called on the server thread right after each snapshot, keep it quick
+    public void addListener(Consumer<ServerSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<ServerSnapshot> listener) {
+        listeners.remove(listener);
+    }
+
+    // Called on the server thread at the end of every tick, keep it very quick
+    public void addTickListener(TickListener listener) {
+        tickListeners.add(listener);
+    }
+
+    // Null until the first snapshot
+    public ServerSnapshot getLatest() {
+        return latest;
+    }
+
+    public interface TickListener {
+        void onTick(long tick, long durationNanos);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/*
+ * Zips a server or world folder for the backup menu items, skipping earlier backups and caches.
+ */
+final class Backups {
+    private Backups() {
+    }
+
+    static void zipDirectory(File sourceDir, File zipFile) throws IOException {
+        Path source = sourceDir.toPath();
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zipFile));
+             Stream<Path> paths = Files.walk(source)) {
+            // Filtered on the path inside the folder, a server under /srv/backups/ still gets backed up
+            paths.filter(path -> !Files.isDirectory(path))
+                    .filter(path -> !source.relativize(path).toString().contains("backup")) // Don't backup backups
+                    .filter(path -> !source.relativize(path).toString().contains("cache"))
+                    .forEach(path -> {
+                        try {
+                            String zipEntryName = source.relativize(path).toString();
+                            zos.putNextEntry(new ZipEntry(zipEntryName));
+                            Files.copy(path, zos);
+                            zos.closeEntry();
+                        } catch (IOException e) {
+                            e.printStackTrace();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.metrics.ClassHistogram;
+import net.supersirvu.metrics.LeakDetector;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class ClassHistogramDialog extends JDialog {
+    private static final double MB = 1024.0 * 1024.0;
+    private static final String NO_BASELINE = "(none)";
+
+    private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+    private final List<ClassHistogram> histograms = new ArrayList<>();
+
+    private final HistogramTableModel tableModel = new HistogramTableModel();
+    private final JComboBox<String> histogramBox = new JComboBox<>();
+    private final JComboBox<String> baselineBox = new JComboBox<>();
+    private final JButton captureButton = new JButton("Take Histogram");
+    private final JButton heapDumpButton = new JButton("Heap Dump...");
+    private final JProgressBar progressBar = new JProgressBar();
+    private final JLabel heapLabel = new JLabel();
+    private final JLabel totalsLabel = new JLabel();
+
+    public ClassHistogramDialog(Frame parent) {
+        super(parent, "Class Histogram", false);
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        // Histograms the leak detector already took are a free baseline
+        LeakDetector detector = DedicatedPower.getLeakDetector();
+        if (detector != null) {
+            if (detector.getPreviousHistogram() != null) histograms.add(detector.getPreviousHistogram());
+            if (detector.getLatestHistogram() != null) histograms.add(detector.getLatestHistogram());
+        }
+
+        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        captureButton.addActionListener(e -> captureHistogram());
+        heapDumpButton.addActionListener(e -> writeHeapDump());
+        histogramBox.addActionListener(e -> showSelected());
+        baselineBox.addActionListener(e -> showSelected());
+        topPanel.add(captureButton);
+        topPanel.add(new JLabel("  Histogram:"));
+        topPanel.add(histogramBox);
+        topPanel.add(new JLabel("  Compare with:"));
+        topPanel.add(baselineBox);
+        topPanel.add(heapDumpButton);
+
+        JTable table = new JTable(tableModel);
+        table.setAutoCreateRowSorter(true);
+        table.getColumnModel().getColumn(0).setPreferredWidth(400);
+
+        progressBar.setStringPainted(true);
+        progressBar.setVisible(false);
+
+        JPanel bottomPanel = new JPanel(new GridLayout(3, 1));
+        bottomPanel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+        bottomPanel.add(heapLabel);
+        bottomPanel.add(totalsLabel);
+        bottomPanel.add(progressBar);
+
+        add(topPanel, BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(bottomPanel, BorderLayout.SOUTH);
+
+        refreshChoices();
+        updateHeapSummary();
+
+        setSize(900, 600);
+        setLocationRelativeTo(parent);
+    }
+
+    private void updateHeapSummary() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        heapLabel.setText(String.format("Heap: %.0f MB used, %.0f MB committed, %.0f MB max    Non-heap: %.0f MB used",
+                heap.getUsed() / MB, heap.getCommitted() / MB, heap.getMax() / MB, nonHeap.getUsed() / MB));
+    }
+
+    private void refreshChoices() {
+        int selected = histogramBox.getSelectedIndex();
+        Object baseline = baselineBox.getSelectedItem();
+
+        histogramBox.removeAllItems();
+        baselineBox.removeAllItems();
+        baselineBox.addItem(NO_BASELINE);
+        for (ClassHistogram histogram : histograms) {
+            String label = timeFormat.format(new Date(histogram.getTimeMillis()));
+            histogramBox.addItem(label);
+            baselineBox.addItem(label);
+        }
+
+        if (!histograms.isEmpty()) {
+            histogramBox.setSelectedIndex(selected >= 0 && selected < histograms.size() - 1 ? selected : histograms.size() - 1);
+        }
+        baselineBox.setSelectedItem(baseline != null ? baseline : NO_BASELINE);
+        showSelected();
+    }
+
+    private void showSelected() {
+        int index = histogramBox.getSelectedIndex();
+        if (index < 0 || index >= histograms.size()) {
+            tableModel.show(null, null);
+            totalsLabel.setText("No histogram yet, taking one runs a full garbage collection.");
+            return;
+        }
+
+        ClassHistogram histogram = histograms.get(index);
+        int baselineIndex = baselineBox.getSelectedIndex() - 1;
+        ClassHistogram baseline = baselineIndex >= 0 && baselineIndex < histograms.size() && baselineIndex != index
+                ? histograms.get(baselineIndex) : null;
+        tableModel.show(histogram, baseline);
+
+        String totals = String.format("%,d classes, %,d instances, %.1f MB",
+                histogram.getEntries().size(), histogram.getTotalInstances(), histogram.getTotalBytes() / MB);
+        if (baseline != null) {
+            totals += String.format("    (%+.1f MB since %s)", (histogram.getTotalBytes() - baseline.getTotalBytes()) / MB,
+                    timeFormat.format(new Date(baseline.getTimeMillis())));
+        }
+        totalsLabel.setText(totals);
+    }
+
+    private void captureHistogram() {
+        setBusy("Taking class histogram...");
+
+        new Thread(() -> {
+            try {
+                ClassHistogram histogram = ClassHistogram.capture();
+                SwingUtilities.invokeLater(() -> {
+                    histograms.add(histogram);
+                    histogramBox.setSelectedIndex(-1);
+                    refreshChoices();
+                    updateHeapSummary();
+                    setIdle();
+                });
+            } catch (Exception e) {
+                DedicatedPower.LOGGER.warn("Failed to take a class histogram", e);
+                SwingUtilities.invokeLater(() -> {
+                    setIdle();
+                    JOptionPane.showMessageDialog(this, "Failed to take a class histogram: " + e.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                });
+            }
+        }, "DedicatedPower Class Histogram").start();
+    }
+
+    private void writeHeapDump() {
+        Path directory = DedicatedPower.getDataDirectory().resolve("heapdumps");
+        String name = "heap-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + ".hprof";
+
+        JFileChooser chooser = new JFileChooser(directory.toFile());
+        chooser.setSelectedFile(directory.resolve(name).toFile());
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+        File selected = chooser.getSelectedFile();
+        Path file = selected.getName().endsWith(".hprof") ? selected.toPath() : selected.toPath().resolveSibling(selected.getName() + ".hprof");
+        if (Files.exists(file)) {
+            JOptionPane.showMessageDialog(this, "The JVM will not overwrite an existing heap dump, pick another name.",
+                    "Heap Dump", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        int live = JOptionPane.showConfirmDialog(this,
+                "Only dump reachable objects? This runs a full GC first and gives a smaller file.\n" +
+                        "The server is paused while the dump is written.",
+                "Heap Dump", JOptionPane.YES_NO_CANCEL_OPTION);
+        if (live == JOptionPane.CANCEL_OPTION || live == JOptionPane.CLOSED_OPTION) return;
+
+        setBusy("Writing heap dump...");
+        // dumpHeap has no progress callback, the file size is the best we get
+        Timer progressTimer = new Timer(500, e -> {
+            try {
+                if (Files.exists(file)) {
+                    progressBar.setString(String.format("Writing heap dump... %.0f MB", Files.size(file) / MB));
+                }
+            } catch (IOException ignored) {
+            }
+        });
+        progressTimer.start();
+
+        new Thread(() -> {
+            String error = null;
+            try {
+                Files.createDirectories(file.getParent());
+                HotSpotDiagnosticMXBean diagnostics = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+                diagnostics.dumpHeap(file.toString(), live == JOptionPane.YES_OPTION);
+            } catch (Exception e) {
+                DedicatedPower.LOGGER.warn("Failed to write heap dump to {}", file, e);
+                error = e.getMessage();
+            }
+
+            String failure = error;
+            SwingUtilities.invokeLater(() -> {
+                progressTimer.stop();
+                setIdle();
+                updateHeapSummary();
+                if (failure != null) {
+                    JOptionPane.showMessageDialog(this, "Failed to write heap dump: " + failure, "Error", JOptionPane.ERROR_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(this, "Heap dump written to:\n" + file.toAbsolutePath(),
+                            "Heap Dump", JOptionPane.INFORMATION_MESSAGE);
+                }
+            });
+        }, "DedicatedPower Heap Dump").start();
+    }
+
+    private void setBusy(String message) {
+        captureButton.setEnabled(false);
+        heapDumpButton.setEnabled(false);
+        progressBar.setIndeterminate(true);
+        progressBar.setString(message);
+        progressBar.setVisible(true);
+    }
+
+    private void setIdle() {
+        captureButton.setEnabled(true);
+        heapDumpButton.setEnabled(true);
+        progressBar.setIndeterminate(false);
+        progressBar.setVisible(false);
+    }
+
+    // Plain histogram, or the changes against a baseline when one is selected
+    private static class HistogramTableModel extends AbstractTableModel {
+        private static final String[] PLAIN_COLUMNS = {"Class", "Instances", "Bytes"};
+        private static final String[] DIFF_COLUMNS = {"Class", "Instances", "Bytes", "Instances Change", "Bytes Change"};
+
+        private List<ClassHistogram.Entry> entries = List.of();
+        private List<ClassHistogram.Change> changes;
+
+        void show(ClassHistogram histogram, ClassHistogram baseline) {
+            this.entries = histogram != null ? histogram.getEntries() : List.of();
+            this.changes = histogram != null && baseline != null ? histogram.diff(baseline) : null;
+            fireTableStructureChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return changes != null ? changes.size() : entries.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return changes != null ? DIFF_COLUMNS.length : PLAIN_COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return changes != null ? DIFF_COLUMNS[column] : PLAIN_COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column == 0 ? String.class : Long.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            if (changes != null) {
+                ClassHistogram.Change change = changes.get(row);
+                return switch (column) {
+                    case 0 -> change.className();
+                    case 1 -> change.instancesAfter();
+                    case 2 -> change.bytesAfter();
+                    case 3 -> change.instanceDelta();
+                    default -> change.byteDelta();
+                };
+            }
+
+            ClassHistogram.Entry entry = entries.get(row);
+            return switch (column) {
+                case 0 -> entry.className();
+                case 1 -> entry.instances();
+                default -> entry.bytes();
+            };
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+
+import javax.swing.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Watches the Swing thread from the outside. A monitor thread posts a heartbeat to the
+ * event queue every gui.edt.heartbeat-ms and measures how long it waits to run; while one
+ * is outstanding no other is posted, so a blocked queue does not pile up heartbeats.
+ *
+ * If a heartbeat has waited longer than gui.edt.stall-ms, the Swing thread's stack is
+ * captured once (with the locks it holds or waits for) and logged, which names the handler
+ * or paint that froze the window. The stall ends when the heartbeat finally runs.
+ *
+ * Custom components report their paint times here too, so the GUI Health view can show
+ * that the window is cheap, or exactly what is not.
+ */
+public final class EdtMonitor {
+    private static final int LATENCY_WINDOW = 600;
+    private static final int MAX_STALLS = 50;
+
+    private static EdtMonitor instance;
+
+    // Written on the Swing thread only, read there by the GUI Health view
+    private static final Map<String, PaintStats> paintStats = new LinkedHashMap<>();
+
+    private final long heartbeatMillis;
+    private final long stallNanos;
+
+    private volatile Heartbeat outstanding;
+    private volatile Thread edtThread;
+
+    // Guarded by this
+    private final long[] latencies = new long[LATENCY_WINDOW];
+    private int latencyPosition;
+    private int latencyCount;
+    private long heartbeats;
+    private Stall currentStall;
+    private final Deque<Stall> stalls = new ArrayDeque<>();
+    private int totalStalls;
+
+    private EdtMonitor() {
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        this.heartbeatMillis = Math.max(10, config.getInt("gui.edt.heartbeat-ms", 100));
+        this.stallNanos = Math.max(50, config.getInt("gui.edt.stall-ms", 500)) * 1_000_000L;
+    }
+
+    public static synchronized EdtMonitor start() {
+        if (instance == null) {
+            instance = new EdtMonitor();
+            Thread thread = new Thread(instance::run, "DedicatedPower EDT Monitor");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return instance;
+    }
+
+    // Null until the window has been created
+    public static synchronized EdtMonitor get() {
+        return instance;
+    }
+
+    private void run() {
+        while (true) {
+            Heartbeat heartbeat = outstanding;
+            if (heartbeat == null) {
+                heartbeat = new Heartbeat();
+                outstanding = heartbeat;
+                SwingUtilities.invokeLater(heartbeat);
+            } else if (System.nanoTime() - heartbeat.postedNanos > stallNanos) {
+                captureStall(heartbeat);
+            }
+
+            try {
+                Thread.sleep(heartbeatMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void captureStall(Heartbeat heartbeat) {
+        Thread edt = edtThread;
+        synchronized (this) {
+            if (currentStall != null) return;
+            currentStall = new Stall(System.currentTimeMillis() - (System.nanoTime() - heartbeat.postedNanos) / 1_000_000L);
+        }
+
+        String stack = edt != null ? formatStack(edt) : "The Swing thread has not run a heartbeat yet.";
+        synchronized (this) {
+            if (currentStall != null) currentStall.stack = stack;
+        }
+        DedicatedPower.LOGGER.warn("The server window has been unresponsive for over {} ms, Swing thread stack:\n{}",
+                stallNanos / 1_000_000L, stack);
+    }
+
+    private static String formatStack(Thread thread) {
+        ThreadInfo info = ManagementFactory.getThreadMXBean().getThreadInfo(new long[]{thread.getId()}, true, false)[0];
+        if (info == null) return "The Swing thread has ended.";
+
+        StringBuilder text = new StringBuilder();
+        text.append(info.getThreadName()).append(" (").append(info.getThreadState()).append(')');
+        if (info.getLockName() != null) {
+            text.append(" waiting for ").append(info.getLockName());
+            if (info.getLockOwnerName() != null) text.append(" held by ").append(info.getLockOwnerName());
+        }
+        text.append('\n');
+        for (StackTraceElement element : info.getStackTrace()) {
+            text.append("  at ").append(element).append('\n');
+        }
+        return text.toString();
+    }
+
+    private synchronized void onHeartbeat(Heartbeat heartbeat, long latencyNanos) {
+        latencies[latencyPosition] = latencyNanos;
+        latencyPosition = (latencyPosition + 1) % latencies.length;
+        latencyCount = Math.min(latencyCount + 1, latencies.length);
+        heartbeats++;
+
+        if (currentStall != null) {
+            currentStall.durationMillis = latencyNanos / 1_000_000L;
+            stalls.addFirst(currentStall);
+            if (stalls.size() > MAX_STALLS) stalls.removeLast();
+            totalStalls++;
+            currentStall = null;
+        }
+    }
+
+    // Queue latency percentiles over the last minute or so, in milliseconds: p50, p99, max
+    public synchronized double[] getLatencyPercentiles() {
+        if (latencyCount == 0) return new double[]{Double.NaN, Double.NaN, Double.NaN};
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        return new double[]{
+                sorted[(int) Math.ceil(0.5 * sorted.length) - 1] / 1e6,
+                sorted[(int) Math.ceil(0.99 * sorted.length) - 1] / 1e6,
+                sorted[sorted.length - 1] / 1e6
+        };
+    }
+
+    // How long the queue has been blocked right now, 0 when it is responsive
+    public long getCurrentBlockMillis() {
+        Heartbeat heartbeat = outstanding;
+        return heartbeat != null ? (System.nanoTime() - heartbeat.postedNanos) / 1_000_000L : 0;
+    }
+
+    public synchronized long getHeartbeats() {
+        return heartbeats;
+    }
+
+    public synchronized int getTotalStalls() {
+        return totalStalls;
+    }
+
+    // Newest first; a stall still in progress is included with its duration so far
+    public synchronized List<StallInfo> getStalls() {
+        List<StallInfo> result = new ArrayList<>();
+        if (currentStall != null) {
+            result.add(new StallInfo(currentStall.startMillis, getCurrentBlockMillis(), true, currentStall.stack));
+        }
+        for (Stall stall : stalls) {
+            result.add(new StallInfo(stall.startMillis, stall.durationMillis, false, stall.stack));
+        }
+        return result;
+    }
+
+    public long getStallThresholdMillis() {
+        return stallNanos / 1_000_000L;
+    }
+
+    // Swing thread only, called at the end of a custom component's paint
+    public static void recordPaint(String component, long nanos) {
+        paintStats.computeIfAbsent(component, name -> new PaintStats()).add(nanos);
+    }
+
+    // Swing thread only
+    public static List<PaintInfo> getPaintStats() {
+        List<PaintInfo> result = new ArrayList<>();
+        paintStats.forEach((name, stats) -> result.add(new PaintInfo(name, stats.count,
+                stats.totalNanos / 1e6 / Math.max(1, stats.count), stats.maxNanos / 1e6, stats.lastNanos / 1e6)));
+        return result;
+    }
+
+    private final class Heartbeat implements Runnable {
+        final long postedNanos = System.nanoTime();
+
+        @Override
+        public void run() {
+            edtThread = Thread.currentThread();
+            long latency = System.nanoTime() - postedNanos;
+            outstanding = null;
+            onHeartbeat(this, latency);
+        }
+    }
+
+    private static final class Stall {
+        final long startMillis;
+        long durationMillis;
+        String stack = "";
+
+        Stall(long startMillis) {
+            this.startMillis = startMillis;
+        }
+    }
+
+    private static final class PaintStats {
+        long count;
+        long totalNanos;
+        long maxNanos;
+        long lastNanos;
+
+        void add(long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            lastNanos = nanos;
+        }
+    }
+
+    public record StallInfo(long startMillis, long durationMillis, boolean ongoing, String stack) {
+    }
+
+    public record PaintInfo(String component, long count, double averageMillis, double maxMillis, double lastMillis) {
+    }
+}
@@ -13,11 +13,12 @@ import com.mojang.brigadier.suggestion.Suggestion;
 import com.mojang.brigadier.suggestion.Suggestions;
 import net.minecraft.server.command.ServerCommandSource;
 import net.minecraft.server.dedicated.MinecraftDedicatedServer;
+import net.supersirvu.DedicatedPower;
 
 import javax.swing.*;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
-import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
 import javax.swing.text.Style;
 import javax.swing.text.StyleConstants;
 import javax.swing.text.StyledDocument;
@@ -26,6 +27,7 @@ import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.event.MouseMotionAdapter;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
@@ -54,15 +56,10 @@ public class EnhancedLogPanel extends JPanel {
     private final List<String> commandHistory = new ArrayList<>();
     private int historyIndex = -1;
 
-    // Filtering and display
-    private final Set<LogLevel> enabledLevels = new HashSet<>(Arrays.asList(LogLevel.values()));
-    private String searchQuery = "";
-
-    // Store all log entries for filtering
-    private final List<LogEntry> allLogEntries = new ArrayList<>();
+    // All log entries, the filters and the log document
+    private final LogBuffer logBuffer;
 
     // Styles
-    private final Map<LogLevel, Style> logStyles = new HashMap<>();
     private Style commandStyle;
     private Style argumentStyle;
     private Style errorStyle;
@@ -83,10 +80,29 @@ public class EnhancedLogPanel extends JPanel {
         logTextPane.setFont(new Font("Monospaced", Font.PLAIN, 12));
         logTextPane.setBackground(Color.WHITE);
         logDocument = logTextPane.getStyledDocument();
+        logBuffer = new LogBuffer(logTextPane);
 
         // NOW initialize styles (after logTextPane is created)
         initializeStyles();
 
+        logTextPane.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                Object spikeId = getLagSpikeAt(e.getPoint());
+                if (spikeId != null) {
+                    openLagSpike((Integer) spikeId);
+                }
+            }
+        });
+        logTextPane.addMouseMotionListener(new MouseMotionAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                logTextPane.setCursor(getLagSpikeAt(e.getPoint()) != null
+                        ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR)
+                        : Cursor.getPredefinedCursor(Cursor.TEXT_CURSOR));
+            }
+        });
+
         logScrollPane = new JScrollPane(logTextPane);
         logScrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS);
 
@@ -117,44 +133,19 @@ public class EnhancedLogPanel extends JPanel {
 
     public void processLogMessage(String message) {
         // Parse log level from message
-        LogLevel level = detectLogLevel(message);
+        LogLevel level = LogBuffer.detectLevel(message);
         appendLog(message, level);
     }
 
-    private LogLevel detectLogLevel(String message) {
-        if (message.contains("[ERROR]") || message.contains("ERROR:")) {
-            return LogLevel.ERROR;
-        } else if (message.contains("[WARN]") || message.contains("WARN:")) {
-            return LogLevel.WARN;
-        } else if (message.contains("[DEBUG]") || message.contains("DEBUG:")) {
-            return LogLevel.DEBUG;
-        } else if (message.contains("<") && message.contains(">")) {
-            // Chat messages typically have <PlayerName> format
-            return LogLevel.CHAT;
-        } else {
-            return LogLevel.INFO;
-        }
-    }
-
     private void initializeStyles() {
-        // Log level styles
-        logStyles.put(LogLevel.INFO, createStyle(new Color(52, 152, 219), false));
-        logStyles.put(LogLevel.WARN, createStyle(new Color(243, 156, 18), false));
-        logStyles.put(LogLevel.ERROR, createStyle(new Color(231, 76, 60), true));
-        logStyles.put(LogLevel.DEBUG, createStyle(new Color(149, 165, 166), false));
-        logStyles.put(LogLevel.CHAT, createStyle(new Color(46, 204, 113), false));
-
-        // Command syntax styles
+        // Command syntax styles, the log level styles belong to the log buffer
         commandStyle = createStyle(new Color(52, 152, 219), true);
         argumentStyle = createStyle(new Color(155, 89, 182), false);
         errorStyle = createStyle(new Color(231, 76, 60), false);
     }
 
     private Style createStyle(Color color, boolean bold) {
-        Style style = logTextPane.addStyle(null, null);
-        StyleConstants.setForeground(style, color);
-        StyleConstants.setBold(style, bold);
-        return style;
+        return LogBuffer.createStyle(logTextPane, color, bold);
     }
 
     private void createControlPanel() {
@@ -184,7 +175,7 @@ public class EnhancedLogPanel extends JPanel {
             public void changedUpdate(javax.swing.event.DocumentEvent e) { updateSearch(); }
 
             private void updateSearch() {
-                searchQuery = searchField.getText().toLowerCase();
+                logBuffer.setSearchQuery(searchField.getText());
                 refreshLogs();
             }
         });
@@ -281,38 +272,26 @@ public class EnhancedLogPanel extends JPanel {
 
     public void appendLog(String message, LogLevel level) {
         // Store the log entry
-        LogEntry entry = new LogEntry(message, level);
-        allLogEntries.add(entry);
+        LogBuffer.Entry entry = logBuffer.add(message, level);
 
         // Display if it passes filters
         SwingUtilities.invokeLater(() -> {
-            if (shouldDisplayEntry(entry)) {
-                displayLogEntry(entry);
+            if (logBuffer.accepts(entry)) {
+                logBuffer.display(entry);
             }
         });
     }
 
-    private boolean shouldDisplayEntry(LogEntry entry) {
-        // Check log level filter
-        if (!enabledLevels.contains(entry.level)) return false;
-
-        // Check search filter
-        if (!searchQuery.isEmpty() && !entry.message.toLowerCase().contains(searchQuery)) return false;
-
-        return true;
+    private Object getLagSpikeAt(Point point) {
+        int position = logTextPane.viewToModel2D(point);
+        if (position < 0) return null;
+        Element element = logDocument.getCharacterElement(position);
+        return element.getAttributes().getAttribute(LogBuffer.LAG_SPIKE_ATTRIBUTE);
     }
 
-    private void displayLogEntry(LogEntry entry) {
-        try {
-            // Add log level tag
-            String levelTag = "[" + (entry.level == LogLevel.CHAT ? "CHAT" : "SERVER LOG") + "] ";
-            logDocument.insertString(logDocument.getLength(), levelTag, logStyles.get(entry.level));
-
-            // Add message
-            logDocument.insertString(logDocument.getLength(), entry.message + "\n", logStyles.get(entry.level));
-        } catch (BadLocationException e) {
-            e.printStackTrace();
-        }
+    private void openLagSpike(int id) {
+        Frame owner = (Frame) SwingUtilities.getAncestorOfClass(Frame.class, this);
+        new LagSpikeDialog(owner, DedicatedPower.getLagWatchdog(), id).setVisible(true);
     }
 
     private void executeCommand() {
@@ -472,7 +451,7 @@ public class EnhancedLogPanel extends JPanel {
 
         Map<LogLevel, JCheckBox> checkboxes = new HashMap<>();
         for (LogLevel level : LogLevel.values()) {
-            JCheckBox checkbox = new JCheckBox(level.name(), enabledLevels.contains(level));
+            JCheckBox checkbox = new JCheckBox(level.name(), logBuffer.isEnabled(level));
             checkboxes.put(level, checkbox);
             checkboxPanel.add(checkbox);
         }
@@ -480,12 +459,13 @@ public class EnhancedLogPanel extends JPanel {
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         JButton applyButton = new JButton("Apply");
         applyButton.addActionListener(e -> {
-            enabledLevels.clear();
+            List<LogLevel> enabledLevels = new ArrayList<>();
             for (Map.Entry<LogLevel, JCheckBox> entry : checkboxes.entrySet()) {
                 if (entry.getValue().isSelected()) {
                     enabledLevels.add(entry.getKey());
                 }
             }
+            logBuffer.setEnabledLevels(enabledLevels);
             refreshLogs();
             dialog.dispose();
         });
@@ -502,28 +482,12 @@ public class EnhancedLogPanel extends JPanel {
     }
 
     private void clearLogs() {
-        allLogEntries.clear();
-        try {
-            logDocument.remove(0, logDocument.getLength());
-        } catch (BadLocationException e) {
-            e.printStackTrace();
-        }
+        logBuffer.clear();
     }
 
     private void refreshLogs() {
-        // Clear display
-        try {
-            logDocument.remove(0, logDocument.getLength());
-        } catch (BadLocationException e) {
-            e.printStackTrace();
-        }
-
         // Re-display all entries that match current filters
-        for (LogEntry entry : allLogEntries) {
-            if (shouldDisplayEntry(entry)) {
-                displayLogEntry(entry);
-            }
-        }
+        logBuffer.refresh();
     }
 
     private void exportLogs() {
@@ -673,15 +637,4 @@ public class EnhancedLogPanel extends JPanel {
             return displayName;
         }
     }
-
-    // Log entry class to store all log data
-    private static class LogEntry {
-        final String message;
-        final LogLevel level;
-
-        LogEntry(String message, LogLevel level) {
-            this.message = message;
-            this.level = level;
-        }
-    }
 }
\ No newline at end of file
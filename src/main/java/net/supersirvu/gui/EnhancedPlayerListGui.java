@@ -15,12 +15,12 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.PlayerConfigEntry;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
-import net.minecraft.world.GameMode;
 import net.supersirvu.DedicatedPower;
+import net.supersirvu.export.ServerSnapshot;
+import net.supersirvu.export.ServerSnapshot.PlayerStats;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
-import javax.swing.Timer;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -32,6 +32,7 @@ import java.net.URL;
 import java.util.*;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class EnhancedPlayerListGui extends JPanel {
     private static final String[] SKINS = new String[]{
@@ -56,18 +57,19 @@ public class EnhancedPlayerListGui extends JPanel {
     };
 
     private final MinecraftServer server;
-    private final JList<PlayerInfo> playerList;
-    private final DefaultListModel<PlayerInfo> listModel;
+    private final JList<PlayerStats> playerList;
+    private final SnapshotListModel<PlayerStats> listModel;
     private final Map<String, BufferedImage> headCache;
-    private int tick;
+    // The list from the last snapshot shown, unchanged lists are the same instance
+    private List<PlayerStats> snapshotPlayers = List.of();
     private SortMode sortMode = SortMode.NAME;
     private String searchFilter = "";
 
     public EnhancedPlayerListGui(MinecraftServer server) {
         this.server = server;
-        this.listModel = new DefaultListModel<>();
+        this.listModel = new SnapshotListModel<>();
         this.playerList = new JList<>(listModel);
-        this.headCache = new HashMap<>();
+        this.headCache = new ConcurrentHashMap<>();
 
         this.setLayout(new BorderLayout());
         this.setBackground(new Color(240, 240, 240));
@@ -84,24 +86,22 @@ public class EnhancedPlayerListGui extends JPanel {
         scrollPane.setBorder(BorderFactory.createEmptyBorder());
         this.add(scrollPane, BorderLayout.CENTER);
 
-        // Register tick handler
-        server.addServerGuiTickable(this::tick);
-
-        // Start async head loading
-        startHeadLoading();
+        // Render from the server snapshots instead of reading players from the server thread
+        GuiScheduler.get().schedule("Player List", 1000, this, this::refreshFromSnapshot);
     }
 
-    private void startHeadLoading() {
-        // Periodically check and load missing player heads
-        Timer headLoadTimer = new Timer(2000, e -> {
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                String uuid = player.getGameProfile().id().toString();
-                if (!headCache.containsKey(uuid)) {
-                    loadPlayerHead(player.getGameProfile());
-                }
+    private void refreshFromSnapshot() {
+        ServerSnapshot snapshot = DedicatedPower.getServerSnapshotter().getLatest();
+        if (snapshot == null || snapshot.onlinePlayers() == snapshotPlayers) return;
+        snapshotPlayers = snapshot.onlinePlayers();
+
+        // Load missing player heads in the background
+        for (PlayerStats player : snapshotPlayers) {
+            if (!headCache.containsKey(player.id().toString())) {
+                loadPlayerHead(player.profile());
             }
-        });
-        headLoadTimer.start();
+        }
+        updatePlayerList();
     }
 
     private void loadPlayerHead(GameProfile profile) {
@@ -278,54 +278,28 @@ public class EnhancedPlayerListGui extends JPanel {
         return panel;
     }
 
-    public void tick() {
-        if (this.tick++ % 20 == 0) {
-            updatePlayerList();
-        }
-    }
-
     private void updatePlayerList() {
-        List<PlayerInfo> players = new ArrayList<>();
-
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            String name = player.getGameProfile().name();
-
-            // Apply search filter
-            if (!searchFilter.isEmpty() && !name.toLowerCase().contains(searchFilter.toLowerCase())) {
-                continue;
-            }
-
-            PlayerInfo info = new PlayerInfo(
-                    player.getGameProfile(),
-                    player.getPlayerConfigEntry(),
-                    player.networkHandler.getLatency(),
-                    player.interactionManager.getGameMode(),
-                    server.getPlayerManager().isOperator(player.getPlayerConfigEntry()),
-                    player.getHealth(),
-                    player.getHungerManager().getFoodLevel()
-            );
-            players.add(info);
-        }
-
-        // Sort players
-        players.sort(sortMode.getComparator());
-
-        // Update list model
-        listModel.clear();
-        for (PlayerInfo info : players) {
-            listModel.addElement(info);
-        }
+        // Apply search filter and sort, then update the list model in one go
+        String filter = searchFilter.toLowerCase();
+        listModel.setContents(snapshotPlayers,
+                player -> filter.isEmpty() || player.name().toLowerCase().contains(filter),
+                sortMode.getComparator());
     }
 
-    private void showContextMenu(int x, int y, PlayerInfo player) {
+    // Player actions run on the server thread, the snapshot only identifies the player
+    private void showContextMenu(int x, int y, PlayerStats player) {
         JPopupMenu menu = new JPopupMenu();
 
         JMenuItem kickItem = new JMenuItem("Kick Player");
         kickItem.addActionListener(e -> {
             String reason = JOptionPane.showInputDialog(this, "Kick reason:", "Kick Player", JOptionPane.QUESTION_MESSAGE);
             if (reason != null) {
-                ServerPlayerEntity serverPlayer = server.getPlayerManager().getPlayer(player.profile.id());
-                serverPlayer.networkHandler.disconnect(Text.literal(reason));
+                server.execute(() -> {
+                    ServerPlayerEntity serverPlayer = server.getPlayerManager().getPlayer(player.id());
+                    if (serverPlayer != null) {
+                        serverPlayer.networkHandler.disconnect(Text.literal(reason));
+                    }
+                });
             }
         });
 
@@ -333,15 +307,17 @@ public class EnhancedPlayerListGui extends JPanel {
         banItem.addActionListener(e -> {
             String reason = JOptionPane.showInputDialog(this, "Ban reason:", "Ban Player", JOptionPane.QUESTION_MESSAGE);
             if (reason != null) {
-                BannedPlayerList bannedPlayerList = server.getPlayerManager().getUserBanList();
-                if (!bannedPlayerList.contains(player.configEntry)) {
-                    BannedPlayerEntry bannedPlayerEntry = new BannedPlayerEntry(player.configEntry, null, "SERVER", null, reason);
-                    bannedPlayerList.add(bannedPlayerEntry);
-                    ServerPlayerEntity serverPlayerEntity = server.getPlayerManager().getPlayer(player.profile.id());
-                    if (serverPlayerEntity != null) {
-                        serverPlayerEntity.networkHandler.disconnect(Text.translatable("multiplayer.disconnect.banned"));
+                server.execute(() -> {
+                    BannedPlayerList bannedPlayerList = server.getPlayerManager().getUserBanList();
+                    if (!bannedPlayerList.contains(player.configEntry())) {
+                        BannedPlayerEntry bannedPlayerEntry = new BannedPlayerEntry(player.configEntry(), null, "SERVER", null, reason);
+                        bannedPlayerList.add(bannedPlayerEntry);
+                        ServerPlayerEntity serverPlayerEntity = server.getPlayerManager().getPlayer(player.id());
+                        if (serverPlayerEntity != null) {
+                            serverPlayerEntity.networkHandler.disconnect(Text.translatable("multiplayer.disconnect.banned"));
+                        }
                     }
-                }
+                });
             }
         });
 
@@ -349,18 +325,23 @@ public class EnhancedPlayerListGui extends JPanel {
         messageItem.addActionListener(e -> {
             String message = JOptionPane.showInputDialog(this, "Message:", "Send Message", JOptionPane.QUESTION_MESSAGE);
             if (message != null) {
-                server.getPlayerManager().getPlayer(player.profile.id()).sendMessage(Text.literal("SERVER: " + message));
+                server.execute(() -> {
+                    ServerPlayerEntity serverPlayer = server.getPlayerManager().getPlayer(player.id());
+                    if (serverPlayer != null) {
+                        serverPlayer.sendMessage(Text.literal("SERVER: " + message));
+                    }
+                });
             }
         });
 
-        JMenuItem opItem = new JMenuItem(player.isOp ? "Deop Player" : "Op Player");
-        opItem.addActionListener(e -> {
-            if(player.isOp) {
-                server.getPlayerManager().removeFromOperators(player.configEntry);
+        JMenuItem opItem = new JMenuItem(player.op() ? "Deop Player" : "Op Player");
+        opItem.addActionListener(e -> server.execute(() -> {
+            if(player.op()) {
+                server.getPlayerManager().removeFromOperators(player.configEntry());
             } else {
-                server.getPlayerManager().addToOperators(player.configEntry);
+                server.getPlayerManager().addToOperators(player.configEntry());
             }
-        });
+        }));
 
         menu.add(kickItem);
         menu.add(banItem);
@@ -371,15 +352,15 @@ public class EnhancedPlayerListGui extends JPanel {
         menu.show(playerList, x, y);
     }
 
-    private void showPlayerDetails(PlayerInfo player) {
+    private void showPlayerDetails(PlayerStats player) {
         String details = String.format(
                 "Player: %s\n\nPing: %d ms\nGame Mode: %s\nOperator: %s\nHealth: %.1f\nHunger: %d",
-                player.profile.name(),
-                player.ping,
-                player.gameMode.getTranslatableName(),
-                player.isOp ? "Yes" : "No",
-                player.health,
-                player.hunger
+                player.name(),
+                player.ping(),
+                player.gameMode().getTranslatableName(),
+                player.op() ? "Yes" : "No",
+                player.health(),
+                player.food()
         );
 
         JOptionPane.showMessageDialog(this, details, "Player Details", JOptionPane.INFORMATION_MESSAGE);
@@ -432,29 +413,8 @@ public class EnhancedPlayerListGui extends JPanel {
         dialog.setVisible(true);
     }
 
-    // Player info data class
-    private static class PlayerInfo {
-        final GameProfile profile;
-        final PlayerConfigEntry configEntry;
-        final int ping;
-        final GameMode gameMode;
-        final boolean isOp;
-        final float health;
-        final int hunger;
-
-        PlayerInfo(GameProfile profile, PlayerConfigEntry configEntry, int ping, GameMode gameMode, boolean isOp, float health, int hunger) {
-            this.profile = profile;
-            this.configEntry = configEntry;
-            this.ping = ping;
-            this.gameMode = gameMode;
-            this.isOp = isOp;
-            this.health = health;
-            this.hunger = hunger;
-        }
-    }
-
     // Custom cell renderer
-    private class PlayerCellRenderer extends JPanel implements ListCellRenderer<PlayerInfo> {
+    private class PlayerCellRenderer extends JPanel implements ListCellRenderer<PlayerStats> {
         private final JLabel headLabel;
         private final JLabel nameLabel;
         private final JLabel infoLabel;
@@ -503,7 +463,7 @@ public class EnhancedPlayerListGui extends JPanel {
         }
 
         @Override
-        public Component getListCellRendererComponent(JList<? extends PlayerInfo> list, PlayerInfo player,
+        public Component getListCellRendererComponent(JList<? extends PlayerStats> list, PlayerStats player,
                                                       int index, boolean isSelected, boolean cellHasFocus) {
             // Set background
             if (isSelected) {
@@ -513,7 +473,7 @@ public class EnhancedPlayerListGui extends JPanel {
             }
 
             // Set player head
-            String uuid = player.profile.id().toString();
+            String uuid = player.id().toString();
             BufferedImage headImage = headCache.get(uuid);
             if (headImage != null) {
                 headLabel.setIcon(new ImageIcon(headImage));
@@ -526,16 +486,16 @@ public class EnhancedPlayerListGui extends JPanel {
             }
 
             // Set name
-            nameLabel.setText(player.profile.name());
+            nameLabel.setText(player.name());
 
             // Set info (gamemode)
-            infoLabel.setText("Mode: " + player.gameMode.getTranslatableName());
+            infoLabel.setText("Mode: " + player.gameMode().getTranslatableName());
 
             // Set ping with color coding
-            pingLabel.setText(player.ping + " ms");
-            if (player.ping < 50) {
+            pingLabel.setText(player.ping() + " ms");
+            if (player.ping() < 50) {
                 pingLabel.setForeground(new Color(40, 180, 99));
-            } else if (player.ping < 100) {
+            } else if (player.ping() < 100) {
                 pingLabel.setForeground(new Color(241, 196, 15));
             } else {
                 pingLabel.setForeground(new Color(231, 76, 60));
@@ -545,7 +505,7 @@ public class EnhancedPlayerListGui extends JPanel {
             iconPanel.removeAll();
 
             // Op indicator
-            if (player.isOp) {
+            if (player.op()) {
                 JLabel opLabel = new JLabel("OP");
                 opLabel.setForeground(new Color(255, 215, 0));
                 opLabel.setFont(new Font("Arial", Font.BOLD, 16));
@@ -559,14 +519,14 @@ public class EnhancedPlayerListGui extends JPanel {
 
     // Sort modes
     private enum SortMode {
-        NAME("Name", Comparator.comparing(p -> p.profile.name())),
-        PING("Ping", Comparator.comparingInt(p -> p.ping)),
-        GAMEMODE("Game Mode", Comparator.comparing(p -> p.gameMode.getTranslatableName().getString()));
+        NAME("Name", Comparator.comparing(PlayerStats::name)),
+        PING("Ping", Comparator.comparingInt(PlayerStats::ping)),
+        GAMEMODE("Game Mode", Comparator.comparing(p -> p.gameMode().getTranslatableName().getString()));
 
         private final String displayName;
-        private final Comparator<PlayerInfo> comparator;
+        private final Comparator<PlayerStats> comparator;
 
-        SortMode(String displayName, Comparator<PlayerInfo> comparator) {
+        SortMode(String displayName, Comparator<PlayerStats> comparator) {
             this.displayName = displayName;
             this.comparator = comparator;
         }
@@ -575,7 +535,7 @@ public class EnhancedPlayerListGui extends JPanel {
             return displayName;
         }
 
-        Comparator<PlayerInfo> getComparator() {
+        Comparator<PlayerStats> getComparator() {
             return comparator;
         }
 
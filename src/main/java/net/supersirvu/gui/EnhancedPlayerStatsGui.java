@@ -6,19 +6,35 @@
 
 package net.supersirvu.gui;
 
-import net.minecraft.entity.Entity;
 import net.minecraft.server.MinecraftServer;
-import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.TimeHelper;
 import net.minecraft.util.Util;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.core.MetricsSample;
+import net.supersirvu.core.MetricsSink;
+import net.supersirvu.core.SampleWindow;
+import net.supersirvu.core.TickAggregator;
+import net.supersirvu.core.TickWindow;
+import net.supersirvu.metrics.LeakDetector;
+import net.supersirvu.metrics.Metric;
+import net.supersirvu.metrics.MetricSeries;
+import net.supersirvu.metrics.MetricsStore;
+import net.supersirvu.metrics.Resolution;
 
 import javax.swing.*;
 import java.awt.*;
+import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 
 public class EnhancedPlayerStatsGui extends JComponent {
     private static final DecimalFormat AVG_TICK_FORMAT = Util.make(
@@ -27,19 +43,43 @@ public class EnhancedPlayerStatsGui extends JComponent {
     );
     private static final DecimalFormat NUMBER_FORMAT = new DecimalFormat("#,###");
 
-    // Graph data
-    private final int[] memoryUsePercentage = new int[256];
-    private final double[] tickTimeHistory = new double[256];
+    // Live graph data, one column per window of ticks
+    private final TickWindow[] liveWindows = new TickWindow[256];
     private int dataPosition;
 
-    // Stats lines
-    private final String[] lines = new String[11];
+    // Samples from the metrics core (which also keeps the history for the zoomed out views) and
+    // tick windows from the aggregator queue up here and are drawn by the GUI scheduler, which
+    // slows down when nobody is looking
+    private final Queue<MetricsSample> pendingSamples = new ConcurrentLinkedQueue<>();
+    private final MetricsSink sink = sample -> {
+        this.pendingSamples.add(sample);
+        // Hidden for a long time: older samples would scroll out of the live graph anyway
+        while (this.pendingSamples.size() > 256) this.pendingSamples.poll();
+    };
+    private final Queue<TickWindow> pendingWindows = new ConcurrentLinkedQueue<>();
+    private final Consumer<TickWindow> windowListener = window -> {
+        this.pendingWindows.add(window);
+        while (this.pendingWindows.size() > 256) this.pendingWindows.poll();
+    };
+    private final GuiScheduler.Task refreshTask;
+    private GraphZoom zoom = GraphZoom.LIVE;
+    private MetricSeries zoomedMemory;
+    private MetricSeries zoomedTickTime;
+    private double[] columnMin = new double[0];
+    private double[] columnAvg = new double[0];
+    private double[] columnMax = new double[0];
+
+    // Stats lines, drawn under the graphs
+    private final String[] lines = new String[9];
+    private static final int STATS_LINE_HEIGHT = 14;
     private final MinecraftServer server;
-    private final Timer timer;
 
     // Colors
     private static final Color BG_COLOR = new Color(255, 255, 255);
     private static final Color TEXT_COLOR = new Color(0, 0, 0);
+    private static final Color GRID_COLOR = new Color(220, 220, 220);
+    private static final Color BORDER_COLOR = new Color(100, 100, 100);
+    private static final Color TOOLTIP_BG_COLOR = new Color(255, 255, 255, 200);
     private static final Color MEMORY_GOOD = new Color(40, 180, 99);
     private static final Color MEMORY_WARNING = new Color(241, 196, 15);
     private static final Color MEMORY_CRITICAL = new Color(231, 76, 60);
@@ -48,9 +88,31 @@ public class EnhancedPlayerStatsGui extends JComponent {
     private static final Color TPS_WARNING = new Color(230, 126, 34);
     private static final Color TPS_POOR = new Color(192, 57, 43);
 
-    // Tooltip
-    private int mouseX = -1;
-    private int mouseY = -1;
+    // Fonts
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 11);
+    private static final Font SCALE_FONT = new Font("Arial", Font.PLAIN, 9);
+    private static final Font STATS_FONT = new Font("Monospaced", Font.PLAIN, 11);
+    private static final Font TOOLTIP_FONT = new Font("Arial", Font.PLAIN, 10);
+
+    // Graphs are rendered into cached images and only blitted in paint
+    private static final double MEMORY_MAX = 100;
+    private static final double TICK_MAX = 50;
+    private final GraphCache memoryGraph = new GraphCache(BG_COLOR, GRID_COLOR);
+    private final GraphCache tickGraph = new GraphCache(BG_COLOR, GRID_COLOR);
+    private final GraphCache.Source memorySource = new GraphSource(true);
+    private final GraphCache.Source tickSource = new GraphSource(false);
+    private String memoryTitle;
+    private String tickTitle;
+
+    // Tooltip, computed and split into lines when the mouse moves and only drawn as an overlay
+    private String tooltipText;
+    private String[] tooltipLines;
+    private final Rectangle tooltipBounds = new Rectangle();
+
+    // Paint time tracking
+    private long paintNanosTotal;
+    private long paintNanosMax;
+    private int paintCount;
 
     // Uptime tracking
     private long startTime;
@@ -58,42 +120,127 @@ public class EnhancedPlayerStatsGui extends JComponent {
     public EnhancedPlayerStatsGui(MinecraftServer server) {
         this.server = server;
         this.startTime = System.currentTimeMillis();
-        this.setPreferredSize(new Dimension(456, 246));
-        this.setMinimumSize(new Dimension(400, 200));
-        this.timer = new Timer(500, event -> this.update());
-        this.timer.start();
+        // Graphs 53 px high by default and 30 at least, with room for every stats line below
+        this.setPreferredSize(new Dimension(456, 60 + 2 * 53 + getStatsHeight()));
+        this.setMinimumSize(new Dimension(400, 60 + 2 * 30 + getStatsHeight()));
+        DedicatedPower.getMetricsCollector().addSink(this.sink);
+        DedicatedPower.getTickAggregator().addListener(this.windowListener);
+        this.refreshTask = GuiScheduler.get().schedule("Stats Panel", 500, this, this::drainSamples);
         this.setBackground(BG_COLOR);
+        this.setOpaque(true);
+        this.updateTitles();
 
         // Add mouse motion listener for tooltips
         this.addMouseMotionListener(new MouseMotionAdapter() {
             @Override
             public void mouseMoved(MouseEvent e) {
-                mouseX = e.getX();
-                mouseY = e.getY();
-                repaint();
+                updateTooltip(e.getX(), e.getY());
             }
         });
-    }
+        this.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseExited(MouseEvent e) {
+                updateTooltip(-1, -1);
+            }
 
-    private void update() {
-        Runtime runtime = Runtime.getRuntime();
-        long usedMemory = runtime.totalMemory() - runtime.freeMemory();
-        long maxMemory = runtime.maxMemory();
-        long freeMemory = runtime.freeMemory();
-
-        // Calculate stats
-        double avgTickMs = (double)this.server.getAverageNanosPerTick() / TimeHelper.MILLI_IN_NANOS;
-        double tps = Math.min(20.0, 1000.0 / avgTickMs);
-
-        int entityCount = 0;
-        int chunkCount = 0;
-        for (ServerWorld world : this.server.getWorlds()) {
-            for (Entity ignored : world.iterateEntities()) {
-                entityCount++;
+            @Override
+            public void mousePressed(MouseEvent e) {
+                showSampleWindowMenu(e);
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                showSampleWindowMenu(e);
             }
-            chunkCount += world.getChunkManager().getLoadedChunkCount();
+        });
+
+        // Scroll to zoom between the live view and the stored history
+        this.addMouseWheelListener((MouseWheelEvent e) -> {
+            if (DedicatedPower.getMetricsStore() == null) return;
+            this.zoom = e.getWheelRotation() < 0 ? this.zoom.zoomIn() : this.zoom.zoomOut();
+
+            this.updateTitles();
+            this.refreshZoomedSeries();
+            this.updateTooltip(-1, -1);
+            this.repaint();
+        });
+    }
+
+    private void drainSamples() {
+        TickWindow window;
+        boolean scrolled = false;
+        while ((window = this.pendingWindows.poll()) != null) {
+            this.liveWindows[this.dataPosition & 0xFF] = window;
+            this.dataPosition++;
+            scrolled = true;
+        }
+        if (scrolled && this.zoom == GraphZoom.LIVE) {
+            this.repaint();
         }
 
+        MetricsSample sample;
+        while ((sample = this.pendingSamples.poll()) != null) {
+            this.update(sample);
+        }
+    }
+
+    private void updateTitles() {
+        String suffix = this.zoom == GraphZoom.LIVE
+                ? " - " + DedicatedPower.getTickAggregator().getWindow().getDisplayName()
+                : " - " + this.zoom.getDisplayName();
+        this.memoryTitle = "Memory Usage (%)" + suffix;
+        this.tickTitle = "Tick Time (ms)" + suffix;
+    }
+
+    private void showSampleWindowMenu(MouseEvent e) {
+        if (!e.isPopupTrigger()) return;
+
+        TickAggregator aggregator = DedicatedPower.getTickAggregator();
+        JPopupMenu menu = new JPopupMenu();
+        ButtonGroup group = new ButtonGroup();
+        for (SampleWindow window : SampleWindow.values()) {
+            JRadioButtonMenuItem item = new JRadioButtonMenuItem("Live graph: min/avg/max " + window.getDisplayName(),
+                    window == aggregator.getWindow());
+            item.addActionListener(event -> setSampleWindow(window));
+            group.add(item);
+            menu.add(item);
+        }
+        menu.show(this, e.getX(), e.getY());
+    }
+
+    private void setSampleWindow(SampleWindow window) {
+        TickAggregator aggregator = DedicatedPower.getTickAggregator();
+        if (window == aggregator.getWindow()) return;
+        aggregator.setWindow(window);
+
+        // Columns of different sizes side by side would read as a change in load
+        this.pendingWindows.clear();
+        Arrays.fill(this.liveWindows, null);
+        this.memoryGraph.invalidate();
+        this.tickGraph.invalidate();
+        this.updateTitles();
+        this.updateTooltip(-1, -1);
+        this.repaint();
+    }
+
+    private void update(MetricsSample sample) {
+        long usedMemory = sample.usedMemoryBytes();
+        long maxMemory = sample.maxMemoryBytes();
+        long freeMemory = maxMemory - usedMemory;
+
+        // Counted on the server thread by the snapshotter, never from the EDT
+        double avgTickMs = sample.tickMillis();
+        double tps = sample.tps();
+        int entityCount = sample.entities();
+        int chunkCount = sample.chunks();
+
+        double avgPaintMs = this.paintCount > 0 ? this.paintNanosTotal / (double) this.paintCount / TimeHelper.MILLI_IN_NANOS : Double.NaN;
+        double maxPaintMs = (double) this.paintNanosMax / TimeHelper.MILLI_IN_NANOS;
+        this.paintNanosTotal = 0;
+        this.paintNanosMax = 0;
+        this.paintCount = 0;
+        DedicatedPower.getMetricsCollector().reportGuiPaintMillis(avgPaintMs);
+
         // Update text lines
         this.lines[0] = "Memory: " + (usedMemory / 1024L / 1024L) + " MB / " +
                 (maxMemory / 1024L / 1024L) + " MB (" +
@@ -103,15 +250,51 @@ public class EnhancedPlayerStatsGui extends JComponent {
         this.lines[3] = "Entities: " + NUMBER_FORMAT.format(entityCount);
         this.lines[4] = "Chunks: " + NUMBER_FORMAT.format(chunkCount);
         this.lines[5] = "Uptime: " + formatUptime(System.currentTimeMillis() - startTime);
+        if (!Double.isNaN(avgPaintMs)) {
+            this.lines[6] = "GUI Paint: " + AVG_TICK_FORMAT.format(avgPaintMs) + " ms avg, " +
+                    AVG_TICK_FORMAT.format(maxPaintMs) + " ms max";
+        }
+
+        GuiScheduler scheduler = GuiScheduler.get();
+        if (!Double.isNaN(scheduler.getCpuPercent())) {
+            this.lines[8] = "GUI CPU: " + AVG_TICK_FORMAT.format(scheduler.getCpuPercent()) + "% of a core" +
+                    (scheduler.getSlowdown() > 1 ? ", refreshing " + scheduler.getSlowdown() + "x slower (" +
+                            scheduler.getSlowdownReason() + ")" : "");
+        }
 
-        // Update graph data
-        this.memoryUsePercentage[this.dataPosition & 0xFF] = (int)(usedMemory * 100L / maxMemory);
-        this.tickTimeHistory[this.dataPosition & 0xFF] = avgTickMs;
-        this.dataPosition++;
+        LeakDetector.Trend heapTrend = DedicatedPower.getLeakDetector().getTrend();
+        if (heapTrend.samples() >= 2) {
+            this.lines[7] = (heapTrend.isLeaking() ? "WARNING - Live Heap: " : "Live Heap: ") +
+                    (heapTrend.liveBytes() / 1024L / 1024L) + " MB, " +
+                    String.format("%+.1f", heapTrend.slopeBytesPerHour() / 1024 / 1024) + " MB/h, " +
+                    LeakDetector.describeTimeToOom(heapTrend);
+        }
+
+        if (this.zoom != GraphZoom.LIVE) {
+            this.refreshZoomedSeries();
+        }
 
         this.repaint();
     }
 
+    private void refreshZoomedSeries() {
+        MetricsStore store = DedicatedPower.getMetricsStore();
+        Resolution resolution = this.zoom.getResolution();
+        if (resolution == null || store == null) {
+            this.zoomedMemory = null;
+            this.zoomedTickTime = null;
+        } else {
+            long now = System.currentTimeMillis();
+            long from = now - this.zoom.getSpanMillis();
+            this.zoomedMemory = store.query(Metric.MEMORY, resolution, from, now);
+            this.zoomedTickTime = store.query(Metric.MSPT, resolution, from, now);
+        }
+
+        // History views are redrawn from scratch, the live view scrolls
+        this.memoryGraph.invalidate();
+        this.tickGraph.invalidate();
+    }
+
     private String formatUptime(long millis) {
         long seconds = millis / 1000;
         long minutes = seconds / 60;
@@ -129,12 +312,35 @@ public class EnhancedPlayerStatsGui extends JComponent {
         }
     }
 
+    // Layout helpers shared by paint and the tooltip hit testing
+    private int getGraphWidth() {
+        return getWidth() - 60; // Made smaller to fit scale labels
+    }
+
+    // Titles and gaps take 60 px, the graphs share what the stats lines leave
+    private int getGraphHeight() {
+        return (getHeight() - 60 - getStatsHeight()) / 2;
+    }
+
+    // The last line sits 10 px above the bottom
+    private int getStatsHeight() {
+        return (this.lines.length - 1) * STATS_LINE_HEIGHT + 10;
+    }
+
+    private int getMemoryGraphY() {
+        return 20;
+    }
+
+    private int getTickGraphY() {
+        return getMemoryGraphY() + getGraphHeight() + 20;
+    }
+
     @Override
     public void paint(Graphics g) {
+        long paintStart = System.nanoTime();
         Graphics2D g2d = (Graphics2D) g;
 
-        // Enable anti-aliasing
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        // Only text benefits from anti-aliasing, the graphs are axis aligned
         g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
 
         int width = getWidth();
@@ -145,126 +351,101 @@ public class EnhancedPlayerStatsGui extends JComponent {
         g2d.fillRect(0, 0, width, height);
 
         // Calculate graph dimensions
-        int graphHeight = (height - 140) / 2;
-        int graphY1 = 20;
-        int graphY2 = graphY1 + graphHeight + 20;
+        int graphHeight = getGraphHeight();
+        int graphY1 = getMemoryGraphY();
+        int graphY2 = getTickGraphY();
         int statsY = graphY2 + graphHeight + 20;
 
+        // Live graphs scroll by one column per tick window. History views stay put and are only
+        // redrawn when invalidated, live windows keep arriving in between and must not scroll them
+        long position = this.zoom == GraphZoom.LIVE ? this.dataPosition : 0;
+
         // Draw memory graph
-        drawGraph(g2d, "Memory Usage (%)", graphY1, graphHeight, this.memoryUsePercentage, 0, 100, true);
+        drawGraph(g2d, this.memoryGraph, this.memorySource, this.memoryTitle, graphY1, graphHeight, position);
 
         // Draw TPS/Tick time graph
-        drawGraph(g2d, "Tick Time (ms)", graphY2, graphHeight, this.tickTimeHistory, 0, 50, false);
+        drawGraph(g2d, this.tickGraph, this.tickSource, this.tickTitle, graphY2, graphHeight, position);
 
         // Draw stats text
         drawStats(g2d, statsY);
 
         // Draw tooltip if mouse is over a graph
-        if (mouseX >= 0 && mouseY >= 0) {
-            if (mouseY >= graphY1 && mouseY <= graphY1 + graphHeight) {
-                drawTooltip(g2d, mouseX, mouseY, true);
-            } else if (mouseY >= graphY2 && mouseY <= graphY2 + graphHeight) {
-                drawTooltip(g2d, mouseX, mouseY, false);
-            }
+        if (this.tooltipText != null) {
+            drawTooltip(g2d);
         }
+
+        long paintNanos = System.nanoTime() - paintStart;
+        this.paintNanosTotal += paintNanos;
+        this.paintNanosMax = Math.max(this.paintNanosMax, paintNanos);
+        this.paintCount++;
+        EdtMonitor.recordPaint("Stats Panel", paintNanos);
     }
 
-    private void drawGraph(Graphics2D g2d, String title, int y, int height, double[] data, double minVal, double maxVal, boolean isMemory) {
-        int width = getWidth();
-        int graphWidth = width - 60; // Made smaller to fit scale labels
+    private void drawGraph(Graphics2D g2d, GraphCache cache, GraphCache.Source source, String title, int y, int height, long position) {
+        int graphWidth = getGraphWidth();
         int graphX = 10;
 
-        // Draw grid background
-        g2d.setColor(Color.WHITE);
-        g2d.fillRect(graphX, y, graphWidth, height);
-
-        // Draw grid lines
-        g2d.setColor(new Color(220, 220, 220));
-        for (int i = 0; i <= 5; i++) {
-            int gridY = y + (height * i / 5);
-            g2d.drawLine(graphX, gridY, graphX + graphWidth, gridY);
-        }
-        for (int i = 0; i <= 8; i++) {
-            int gridX = graphX + (graphWidth * i / 8);
-            g2d.drawLine(gridX, y, gridX, y + height);
+        BufferedImage image = cache.update(graphWidth, height, position, source);
+        if (image != null) {
+            g2d.drawImage(image, graphX, y, null);
         }
 
         // Draw title
         g2d.setColor(Color.BLACK);
-        g2d.setFont(new Font("Arial", Font.BOLD, 11));
+        g2d.setFont(TITLE_FONT);
         g2d.drawString(title, graphX + 5, y - 2);
 
         // Draw scale labels
-        g2d.setFont(new Font("Arial", Font.PLAIN, 9));
+        g2d.setFont(SCALE_FONT);
         g2d.setColor(Color.BLACK);
-        g2d.drawString(String.valueOf((int)maxVal), graphX + graphWidth + 5, y + 10);
-        g2d.drawString(String.valueOf((int)(maxVal / 2)), graphX + graphWidth + 5, y + height / 2 + 5);
-        g2d.drawString(String.valueOf((int)minVal), graphX + graphWidth + 5, y + height);
-
-        // Draw graph data (from right to left)
-        for (int i = 0; i < graphWidth && i < 256; i++) {
-            int dataIndex = (this.dataPosition - 1 - i) & 0xFF; // Start from most recent
-            double value = data[dataIndex];
-
-            int barHeight = (int)((value / maxVal) * height);
-            barHeight = Math.min(barHeight, height);
-
-            Color barColor = isMemory ? getMemoryColor((int)value) : getTickColor(value);
-            g2d.setColor(barColor);
-            // Draw from right to left
-            g2d.fillRect(graphX + graphWidth - 1 - i, y + height - barHeight, 1, barHeight);
-        }
+        boolean isMemory = source == this.memorySource;
+        g2d.drawString(isMemory ? "100" : "50", graphX + graphWidth + 5, y + 10);
+        g2d.drawString(isMemory ? "50" : "25", graphX + graphWidth + 5, y + height / 2 + 5);
+        g2d.drawString("0", graphX + graphWidth + 5, y + height);
 
         // Draw border
-        g2d.setColor(new Color(100, 100, 100));
+        g2d.setColor(BORDER_COLOR);
         g2d.drawRect(graphX, y, graphWidth, height);
     }
 
-    private void drawGraph(Graphics2D g2d, String title, int y, int height, int[] data, double minVal, double maxVal, boolean isMemory) {
-        // Overload for int arrays (memory percentage)
-        double[] doubleData = new double[data.length];
-        for (int i = 0; i < data.length; i++) {
-            doubleData[i] = data[i];
+    private int downsampleColumns(MetricSeries series, int graphWidth) {
+        int columns = Math.max(1, Math.min(series.size(), graphWidth));
+        if (this.columnAvg.length < columns) {
+            this.columnMin = new double[columns];
+            this.columnAvg = new double[columns];
+            this.columnMax = new double[columns];
         }
-        drawGraph(g2d, title, y, height, doubleData, minVal, maxVal, isMemory);
+        series.downsample(columns, this.columnMin, this.columnAvg, this.columnMax);
+        return columns;
     }
 
     private void drawStats(Graphics2D g2d, int y) {
         g2d.setColor(TEXT_COLOR);
-        g2d.setFont(new Font("Monospaced", Font.PLAIN, 11));
+        g2d.setFont(STATS_FONT);
 
         for (int i = 0; i < this.lines.length; i++) {
             String line = this.lines[i];
             if (line != null) {
-                g2d.drawString(line, 15, y + i * 14);
+                g2d.drawString(line, 15, y + i * STATS_LINE_HEIGHT);
             }
         }
     }
 
-    private void drawTooltip(Graphics2D g2d, int mx, int my, boolean isMemory) {
-        int graphWidth = getWidth() - 60; // Match the new graph width
-        int graphX = 10;
-
-        if (mx < graphX || mx > graphX + graphWidth) return;
-
-        int relativeX = mx - graphX;
-        // Calculate index from right to left
-        int dataIndex = (this.dataPosition - 1 - (graphWidth - 1 - relativeX)) & 0xFF;
-
-        String tooltipText;
-        if (isMemory) {
-            int memPercent = this.memoryUsePercentage[dataIndex];
-            tooltipText = "Memory: " + memPercent + "%";
-        } else {
-            double tickTime = this.tickTimeHistory[dataIndex];
-            double tps = Math.min(20.0, 1000.0 / tickTime);
-            tooltipText = String.format("Tick: %.2f ms | TPS: %.2f", tickTime, tps);
+    private void updateTooltip(int mx, int my) {
+        // Repaint only where the old tooltip was and where the new one goes
+        if (this.tooltipText != null) {
+            repaint(this.tooltipBounds.x, this.tooltipBounds.y, this.tooltipBounds.width + 1, this.tooltipBounds.height + 1);
         }
-
-        // Tooltip background
-        FontMetrics fm = g2d.getFontMetrics();
-        int tooltipWidth = fm.stringWidth(tooltipText) + 10;
-        int tooltipHeight = fm.getHeight() + 6;
+        this.tooltipText = computeTooltipText(mx, my);
+        if (this.tooltipText == null) return;
+
+        FontMetrics fm = getFontMetrics(TOOLTIP_FONT);
+        this.tooltipLines = this.tooltipText.split("\n");
+        int tooltipWidth = 0;
+        for (String line : this.tooltipLines) {
+            tooltipWidth = Math.max(tooltipWidth, fm.stringWidth(line) + 10);
+        }
+        int tooltipHeight = fm.getHeight() * this.tooltipLines.length + 6;
 
         int tooltipX = mx + 10;
         int tooltipY = my - 25;
@@ -274,13 +455,79 @@ public class EnhancedPlayerStatsGui extends JComponent {
             tooltipX = mx - tooltipWidth - 10;
         }
 
-        g2d.setColor(new Color(255, 255, 255, 200));
-        g2d.fillRoundRect(tooltipX, tooltipY, tooltipWidth, tooltipHeight, 5, 5);
+        this.tooltipBounds.setBounds(tooltipX, tooltipY, tooltipWidth, tooltipHeight);
+        repaint(tooltipX, tooltipY, tooltipWidth + 1, tooltipHeight + 1);
+    }
+
+    private String computeTooltipText(int mx, int my) {
+        int graphWidth = getGraphWidth();
+        int graphX = 10;
+        int graphHeight = getGraphHeight();
+
+        if (mx < graphX || mx > graphX + graphWidth) return null;
+
+        boolean isMemory;
+        if (my >= getMemoryGraphY() && my <= getMemoryGraphY() + graphHeight) {
+            isMemory = true;
+        } else if (my >= getTickGraphY() && my <= getTickGraphY() + graphHeight) {
+            isMemory = false;
+        } else {
+            return null;
+        }
+
+        int relativeX = mx - graphX;
+
+        MetricSeries series = isMemory ? this.zoomedMemory : this.zoomedTickTime;
+        if (series != null) {
+            int columns = downsampleColumns(series, graphWidth);
+            int column = Math.min(columns - 1, relativeX * columns / graphWidth);
+            if (Double.isNaN(this.columnAvg[column])) return null;
+
+            long secondsAgo = (System.currentTimeMillis() - series.getTimeMillis(column * series.size() / columns)) / 1000;
+            return String.format("%s ago | min %.1f / avg %.1f / max %.1f %s",
+                    formatUptime(secondsAgo * 1000), this.columnMin[column], this.columnAvg[column], this.columnMax[column],
+                    isMemory ? "%" : "ms");
+        }
+
+        TickWindow window = liveWindowAt(graphWidth - 1 - relativeX);
+        if (window == null) return null;
+
+        String header = (window.ticks() == 1
+                ? "Tick " + NUMBER_FORMAT.format(window.firstTick())
+                : "Ticks " + NUMBER_FORMAT.format(window.firstTick()) + " - " + NUMBER_FORMAT.format(window.lastTick()))
+                + ", " + formatUptime(System.currentTimeMillis() - window.endMillis()) + " ago";
+        if (isMemory) {
+            return header + "\n" + (window.ticks() == 1
+                    ? String.format("Memory: %.1f%%", window.avgMemoryPercent())
+                    : String.format("Memory min %.1f / avg %.1f / max %.1f %%",
+                    window.minMemoryPercent(), window.avgMemoryPercent(), window.maxMemoryPercent()));
+        }
+        return header + "\n" + (window.ticks() == 1
+                ? String.format("Tick: %.2f ms", window.avgTickMillis())
+                : String.format("Tick min %.2f / avg %.2f / max %.2f ms | TPS: %.2f",
+                window.minTickMillis(), window.avgTickMillis(), window.maxTickMillis(), window.tps()));
+    }
+
+    // Null past the oldest window still in the ring
+    private TickWindow liveWindowAt(int columnFromRight) {
+        if (columnFromRight < 0 || columnFromRight >= 256 || columnFromRight >= this.dataPosition) return null;
+        return this.liveWindows[(this.dataPosition - 1 - columnFromRight) & 0xFF];
+    }
+
+    private void drawTooltip(Graphics2D g2d) {
+        Rectangle bounds = this.tooltipBounds;
+
+        g2d.setColor(TOOLTIP_BG_COLOR);
+        g2d.fillRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, 5, 5);
         g2d.setColor(TEXT_COLOR);
-        g2d.drawRoundRect(tooltipX, tooltipY, tooltipWidth, tooltipHeight, 5, 5);
+        g2d.drawRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, 5, 5);
 
-        g2d.setFont(new Font("Arial", Font.PLAIN, 10));
-        g2d.drawString(tooltipText, tooltipX + 5, tooltipY + tooltipHeight - 6);
+        g2d.setFont(TOOLTIP_FONT);
+        FontMetrics fm = g2d.getFontMetrics();
+        String[] lines = this.tooltipLines;
+        for (int i = 0; i < lines.length; i++) {
+            g2d.drawString(lines[i], bounds.x + 5, bounds.y + 3 + fm.getAscent() + i * fm.getHeight());
+        }
     }
 
     private Color getMemoryColor(int percentage) {
@@ -306,6 +553,61 @@ public class EnhancedPlayerStatsGui extends JComponent {
     }
 
     public void stop() {
-        this.timer.stop();
+        DedicatedPower.getMetricsCollector().removeSink(this.sink);
+        DedicatedPower.getTickAggregator().removeListener(this.windowListener);
+        this.refreshTask.cancel();
+    }
+
+    // Feeds a cached graph from either the live ring buffer or the zoomed history
+    private class GraphSource implements GraphCache.Source {
+        private final boolean isMemory;
+
+        GraphSource(boolean isMemory) {
+            this.isMemory = isMemory;
+        }
+
+        @Override
+        public double valueAt(int pixelFromRight, int width) {
+            MetricSeries series = isMemory ? zoomedMemory : zoomedTickTime;
+            if (series == null) {
+                TickWindow window = liveWindowAt(pixelFromRight);
+                if (window == null) return Double.NaN;
+                return isMemory ? window.avgMemoryPercent() : window.avgTickMillis();
+            }
+
+            // The history is downsampled once per redraw, on the first (rightmost) column
+            if (pixelFromRight == 0) {
+                downsampleColumns(series, width);
+            }
+            return columnAvg[toColumn(series, pixelFromRight, width)];
+        }
+
+        @Override
+        public Color colorAt(int pixelFromRight, int width) {
+            // Colour by the worst value in the column so spikes stand out
+            double value = peakAt(pixelFromRight, width);
+            return isMemory ? getMemoryColor((int) value) : getTickColor(value);
+        }
+
+        @Override
+        public double peakAt(int pixelFromRight, int width) {
+            MetricSeries series = isMemory ? zoomedMemory : zoomedTickTime;
+            if (series != null) {
+                return columnMax[toColumn(series, pixelFromRight, width)];
+            }
+            TickWindow window = liveWindowAt(pixelFromRight);
+            if (window == null) return Double.NaN;
+            return isMemory ? window.maxMemoryPercent() : window.maxTickMillis();
+        }
+
+        @Override
+        public double maxValue() {
+            return isMemory ? MEMORY_MAX : TICK_MAX;
+        }
+
+        private int toColumn(MetricSeries series, int pixelFromRight, int width) {
+            int columns = Math.max(1, Math.min(series.size(), width));
+            return Math.min(columns - 1, (width - 1 - pixelFromRight) * columns / width);
+        }
     }
-}
\ No newline at end of file
+}
@@ -16,6 +16,17 @@ import net.minecraft.world.rule.GameRule;
 import net.minecraft.world.rule.GameRuleCategory;
 import net.minecraft.world.rule.GameRuleVisitor;
 import net.minecraft.world.rule.GameRules;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+import net.supersirvu.diagnostics.DiagnosticBundle;
+import net.supersirvu.diagnostics.ServerSummary;
+import net.supersirvu.export.OpenMetricsExporter;
+import net.supersirvu.export.ScrapeChecker;
+import net.supersirvu.export.ServerSnapshot;
+import net.supersirvu.jfr.FlightRecorderControl;
+import net.supersirvu.profiling.StartupTimeline;
+import net.supersirvu.profiling.TickRecorder;
+import net.supersirvu.rules.EntityClearing;
 
 import javax.swing.*;
 import java.awt.*;
@@ -25,10 +36,10 @@ import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.function.Consumer;
 
 public class EnhancedServerMenuBar extends JMenuBar {
     private final MinecraftDedicatedServer server;
@@ -41,19 +52,62 @@ public class EnhancedServerMenuBar extends JMenuBar {
         SwingUtilities.invokeLater(this::createMenus);
     }
 
+    /*
+     * The bar is created while the server thread is still loading the worlds, so only the
+     * empty top-level menus are made here. Each one is filled in the first time it opens, and
+     * anything showing server state (difficulty, game mode, worlds) is read every time it opens.
+     */
     private void createMenus() {
-        add(createServerMenu());
-        add(createWorldMenu());
-        add(createPerformanceMenu());
-        add(createToolsMenu());
-        add(createHelpMenu());
+        StartupTimeline.begin("GUI menu bar", StartupTimeline.GUI);
+        add(lazyMenu("Server", 'S', this::populateServerMenu));
+        add(lazyMenu("World", 'W', this::populateWorldMenu));
+        add(lazyMenu("Performance", 'P', this::populatePerformanceMenu));
+        add(lazyMenu("Tools", 'T', this::populateToolsMenu));
+        add(lazyMenu("Help", 'H', this::populateHelpMenu));
+
+        // Accelerators only work once their item is in a menu, so these are bound on the bar
+        bindShortcut("ctrl S", this::saveAllWorlds);
+        bindShortcut("ctrl shift P", this::showCommandPalette);
+        bindShortcut("F1", this::showKeyboardShortcuts);
+        revalidate();
+        StartupTimeline.end("GUI menu bar");
     }
 
-    // ==================== SERVER MENU ====================
-    private JMenu createServerMenu() {
-        JMenu serverMenu = new JMenu("Server");
-        serverMenu.setMnemonic('S');
+    private JMenu lazyMenu(String title, char mnemonic, Consumer<JMenu> populate) {
+        JMenu menu = new JMenu(title);
+        menu.setMnemonic(mnemonic);
+        onMenuSelected(menu, () -> {
+            if (menu.getMenuComponentCount() > 0) return;
+            long start = System.nanoTime();
+            populate.accept(menu);
+            DedicatedPower.LOGGER.debug("Built the {} menu in {} ms", title,
+                    String.format("%.1f", (System.nanoTime() - start) / 1_000_000.0));
+        });
+        return menu;
+    }
 
+    private static void onMenuSelected(JMenu menu, Runnable action) {
+        menu.addMenuListener(new javax.swing.event.MenuListener() {
+            public void menuSelected(javax.swing.event.MenuEvent e) {
+                action.run();
+            }
+            public void menuDeselected(javax.swing.event.MenuEvent e) {}
+            public void menuCanceled(javax.swing.event.MenuEvent e) {}
+        });
+    }
+
+    private void bindShortcut(String keyStroke, Runnable action) {
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(keyStroke), keyStroke);
+        getActionMap().put(keyStroke, new AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                action.run();
+            }
+        });
+    }
+
+    // ==================== SERVER MENU ====================
+    private void populateServerMenu(JMenu serverMenu) {
         JMenuItem propertiesItem = new JMenuItem("Server Properties...");
         propertiesItem.addActionListener(e -> showServerProperties());
         serverMenu.add(propertiesItem);
@@ -65,25 +119,31 @@ public class EnhancedServerMenuBar extends JMenuBar {
         // Difficulty submenu
         JMenu difficultyMenu = new JMenu("Difficulty");
         ButtonGroup difficultyGroup = new ButtonGroup();
+        Map<Difficulty, JRadioButtonMenuItem> difficultyItems = new EnumMap<>(Difficulty.class);
         for (Difficulty difficulty : Difficulty.values()) {
             JRadioButtonMenuItem diffItem = new JRadioButtonMenuItem(difficulty.getName());
-            diffItem.setSelected(server.getSaveProperties().getDifficulty() == difficulty);
             diffItem.addActionListener(e -> setDifficulty(difficulty));
             difficultyGroup.add(diffItem);
             difficultyMenu.add(diffItem);
+            difficultyItems.put(difficulty, diffItem);
         }
+        onMenuSelected(difficultyMenu, () -> difficultyGroup.setSelected(
+                difficultyItems.get(server.getSaveProperties().getDifficulty()).getModel(), true));
         serverMenu.add(difficultyMenu);
 
         // Default Game Mode submenu
         JMenu gameModeMenu = new JMenu("Default Game Mode");
         ButtonGroup gameModeGroup = new ButtonGroup();
+        Map<GameMode, JRadioButtonMenuItem> gameModeItems = new EnumMap<>(GameMode.class);
         for (GameMode mode : GameMode.values()) {
             JRadioButtonMenuItem modeItem = new JRadioButtonMenuItem(mode.getTranslatableName().getString());
-            modeItem.setSelected(server.getSaveProperties().getGameMode() == mode);
             modeItem.addActionListener(e -> setDefaultGameMode(mode));
             gameModeGroup.add(modeItem);
             gameModeMenu.add(modeItem);
+            gameModeItems.put(mode, modeItem);
         }
+        onMenuSelected(gameModeMenu, () -> gameModeGroup.setSelected(
+                gameModeItems.get(server.getSaveProperties().getGameMode()).getModel(), true));
         serverMenu.add(gameModeMenu);
 
         serverMenu.addSeparator();
@@ -96,8 +156,6 @@ public class EnhancedServerMenuBar extends JMenuBar {
         JMenuItem backupItem = new JMenuItem("Backup Server...");
         backupItem.addActionListener(e -> backupServer());
         serverMenu.add(backupItem);
-
-        return serverMenu;
     }
 
     private void showServerProperties() {
@@ -273,7 +331,7 @@ public class EnhancedServerMenuBar extends JMenuBar {
                     Thread.sleep(2000); // Wait for save to complete
 
                     // Create zip
-                    zipDirectory(new File("."), backupFile);
+                    Backups.zipDirectory(new File("."), backupFile);
 
                     SwingUtilities.invokeLater(() -> {
                         progressDialog.dispose();
@@ -291,37 +349,23 @@ public class EnhancedServerMenuBar extends JMenuBar {
         }
     }
 
-    private void zipDirectory(File sourceDir, File zipFile) throws IOException {
-        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zipFile))) {
-            Files.walk(sourceDir.toPath())
-                    .filter(path -> !Files.isDirectory(path))
-                    .filter(path -> !path.toString().contains("backup")) // Don't backup backups
-                    .filter(path -> !path.toString().contains("cache"))
-                    .forEach(path -> {
-                        try {
-                            String zipEntryName = sourceDir.toPath().relativize(path).toString();
-                            zos.putNextEntry(new ZipEntry(zipEntryName));
-                            Files.copy(path, zos);
-                            zos.closeEntry();
-                        } catch (IOException e) {
-                            e.printStackTrace();
-                        }
-                    });
-        }
-    }
-
     // ==================== WORLD MENU ====================
-    private JMenu createWorldMenu() {
-        JMenu worldMenu = new JMenu("World");
-        worldMenu.setMnemonic('W');
-
-        // World list submenu
+    private void populateWorldMenu(JMenu worldMenu) {
+        // World list submenu, listed again on every open as worlds can be added at runtime
         JMenu worldListMenu = new JMenu("World List");
-        for (ServerWorld world : server.getWorlds()) {
-            JMenuItem worldItem = new JMenuItem(getWorldName(world));
-            worldItem.addActionListener(e -> showWorldInfo(world));
-            worldListMenu.add(worldItem);
-        }
+        onMenuSelected(worldListMenu, () -> {
+            worldListMenu.removeAll();
+            for (ServerWorld world : server.getWorlds()) {
+                JMenuItem worldItem = new JMenuItem(getWorldName(world));
+                worldItem.addActionListener(e -> showWorldInfo(world));
+                worldListMenu.add(worldItem);
+            }
+            if (worldListMenu.getMenuComponentCount() == 0) {
+                JMenuItem noneItem = new JMenuItem("No worlds loaded yet");
+                noneItem.setEnabled(false);
+                worldListMenu.add(noneItem);
+            }
+        });
         worldMenu.add(worldListMenu);
 
         worldMenu.addSeparator();
@@ -373,8 +417,6 @@ public class EnhancedServerMenuBar extends JMenuBar {
         JMenuItem worldInfoItem = new JMenuItem("World Info...");
         worldInfoItem.addActionListener(e -> showGeneralWorldInfo());
         worldMenu.add(worldInfoItem);
-
-        return worldMenu;
     }
 
     private void showGameruleSettings() {
@@ -637,23 +679,33 @@ public class EnhancedServerMenuBar extends JMenuBar {
     }
 
     private void showWorldInfo(ServerWorld world) {
+        // The world itself belongs to the server thread, the snapshot has everything shown here
+        String dimension = world.getRegistryKey().getValue().toString();
+        ServerSnapshot snapshot = DedicatedPower.getServerSnapshotter().getLatest();
+        ServerSnapshot.WorldStats stats = snapshot != null ? snapshot.world(dimension) : null;
+        if (stats == null) {
+            JOptionPane.showMessageDialog(parentFrame, "No data for this world yet.", "World Information", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
         String info = String.format(
                 """
                         World: %s
                         
                         Dimension: %s
                         Loaded Chunks: %d
-                        Entities: %d
+                        Entities: %d (%d items)
                         Time: %d
                         Weather: %s
                         Difficulty: %s""",
                 getWorldName(world),
-                world.getRegistryKey().getValue().toString(),
-                world.getChunkManager().getLoadedChunkCount(),
-                world.iterateEntities().spliterator().estimateSize(),
-                world.getTimeOfDay(),
-                world.isRaining() ? (world.isThundering() ? "Thunder" : "Rain") : "Clear",
-                world.getDifficulty().getName()
+                dimension,
+                stats.loadedChunks(),
+                stats.entities(),
+                stats.itemEntities(),
+                stats.timeOfDay(),
+                stats.weather(),
+                stats.difficulty()
         );
 
         JOptionPane.showMessageDialog(parentFrame, info, "World Information", JOptionPane.INFORMATION_MESSAGE);
@@ -803,7 +855,7 @@ public class EnhancedServerMenuBar extends JMenuBar {
                                 new File("world/" + selected.toLowerCase().replace(" ", "_"));
 
                         if (worldFolder.exists()) {
-                            zipDirectory(worldFolder, backupFile);
+                            Backups.zipDirectory(worldFolder, backupFile);
                             SwingUtilities.invokeLater(() -> {
                                 JOptionPane.showMessageDialog(parentFrame, "World backup created!\n" + backupFile.getAbsolutePath(),
                                         "Success", JOptionPane.INFORMATION_MESSAGE);
@@ -859,10 +911,7 @@ public class EnhancedServerMenuBar extends JMenuBar {
     }
 
     // ==================== PERFORMANCE MENU ====================
-    private JMenu createPerformanceMenu() {
-        JMenu perfMenu = new JMenu("Performance");
-        perfMenu.setMnemonic('P');
-
+    private void populatePerformanceMenu(JMenu perfMenu) {
         // Clear Entities submenu
         JMenu clearEntitiesMenu = new JMenu("Clear Entities");
         addClearEntityOption(clearEntitiesMenu, "Items Only", "minecraft:item");
@@ -881,15 +930,213 @@ public class EnhancedServerMenuBar extends JMenuBar {
         gcItem.addActionListener(e -> forceGarbageCollection());
         perfMenu.add(gcItem);
 
+        JMenuItem gcMonitorItem = new JMenuItem("GC Monitor...");
+        gcMonitorItem.addActionListener(e -> new GcMonitorDialog(parentFrame, DedicatedPower.getGcMonitor()).setVisible(true));
+        perfMenu.add(gcMonitorItem);
+
+        JMenuItem histogramItem = new JMenuItem("Class Histogram...");
+        histogramItem.addActionListener(e -> new ClassHistogramDialog(parentFrame).setVisible(true));
+        perfMenu.add(histogramItem);
+
+        JMenuItem lagSpikesItem = new JMenuItem("Lag Spikes...");
+        lagSpikesItem.addActionListener(e -> new LagSpikeDialog(parentFrame, DedicatedPower.getLagWatchdog(), -1).setVisible(true));
+        perfMenu.add(lagSpikesItem);
+
+        JMenuItem tickRewindItem = new JMenuItem("Tick Rewind...");
+        tickRewindItem.addActionListener(e -> {
+            TickRecorder recorder = DedicatedPower.getTickRecorder();
+            if (recorder == null) {
+                JOptionPane.showMessageDialog(parentFrame, "The tick recorder is turned off (recorder.enabled in the config).",
+                        "Tick Rewind", JOptionPane.INFORMATION_MESSAGE);
+                return;
+            }
+            new TickRewindDialog(parentFrame, recorder).setVisible(true);
+        });
+        perfMenu.add(tickRewindItem);
+
+        JMenuItem startupItem = new JMenuItem("Startup Timeline...");
+        startupItem.addActionListener(e -> new StartupTimelineDialog(parentFrame).setVisible(true));
+        perfMenu.add(startupItem);
+
+        JMenuItem profilerItem = new JMenuItem("Profiler...");
+        profilerItem.addActionListener(e -> new ProfilerDialog(parentFrame).setVisible(true));
+        perfMenu.add(profilerItem);
+
+        JMenuItem modTickItem = new JMenuItem("Tick Time by Mod...");
+        modTickItem.addActionListener(e -> new ModTickDialog(parentFrame, DedicatedPower.getModTickSampler()).setVisible(true));
+        perfMenu.add(modTickItem);
+
+        perfMenu.add(createFlightRecorderMenu());
+        perfMenu.add(createMetricsEndpointMenu());
+
         JMenuItem threadDumpItem = new JMenuItem("Thread Dump...");
         threadDumpItem.addActionListener(e -> generateThreadDump());
         perfMenu.add(threadDumpItem);
 
+        JMenuItem threadUsageItem = new JMenuItem("Thread Usage...");
+        threadUsageItem.addActionListener(e -> new ThreadUsageDialog(parentFrame).setVisible(true));
+        perfMenu.add(threadUsageItem);
+
+        JMenuItem rulesItem = new JMenuItem("Automation Rules...");
+        rulesItem.addActionListener(e -> new RulesDialog(parentFrame, DedicatedPower.getRuleEngine()).setVisible(true));
+        perfMenu.add(rulesItem);
+
+        JMenuItem guiHealthItem = new JMenuItem("GUI Health...");
+        guiHealthItem.addActionListener(e -> new GuiHealthDialog(parentFrame).setVisible(true));
+        perfMenu.add(guiHealthItem);
+
         JMenuItem perfReportItem = new JMenuItem("Generate Performance Report...");
         perfReportItem.addActionListener(e -> generatePerformanceReport());
         perfMenu.add(perfReportItem);
 
-        return perfMenu;
+        JMenuItem snapshotsItem = new JMenuItem("Performance Snapshots...");
+        snapshotsItem.addActionListener(e -> new PerformanceSnapshotDialog(parentFrame, server).setVisible(true));
+        perfMenu.add(snapshotsItem);
+
+        JMenuItem bundleItem = new JMenuItem("Export Diagnostic Bundle...");
+        bundleItem.addActionListener(e -> exportDiagnosticBundle());
+        perfMenu.add(bundleItem);
+    }
+
+    private JMenu createFlightRecorderMenu() {
+        FlightRecorderControl recorder = DedicatedPower.getFlightRecorder();
+        JMenu jfrMenu = new JMenu("Flight Recorder");
+
+        JMenuItem startItem = new JMenuItem("Start Recording");
+        startItem.addActionListener(e -> {
+            try {
+                recorder.start();
+                JOptionPane.showMessageDialog(parentFrame,
+                        "Flight recording started, the last " + recorder.getMaxAgeMinutes() + " minutes are kept.",
+                        "Flight Recorder", JOptionPane.INFORMATION_MESSAGE);
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(parentFrame, "Failed to start recording: " + ex.getMessage(),
+                        "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+        jfrMenu.add(startItem);
+
+        JMenuItem dumpItem = new JMenuItem("Dump Recording...");
+        dumpItem.addActionListener(e -> dumpFlightRecording(recorder, false));
+        jfrMenu.add(dumpItem);
+
+        JMenuItem stopItem = new JMenuItem("Stop Recording...");
+        stopItem.addActionListener(e -> {
+            int choice = JOptionPane.showConfirmDialog(parentFrame, "Save the recording before stopping?",
+                    "Flight Recorder", JOptionPane.YES_NO_CANCEL_OPTION);
+            if (choice == JOptionPane.YES_OPTION) {
+                dumpFlightRecording(recorder, true);
+            } else if (choice == JOptionPane.NO_OPTION) {
+                recorder.stop();
+            }
+        });
+        jfrMenu.add(stopItem);
+
+        jfrMenu.addSeparator();
+
+        JCheckBoxMenuItem spikeItem = new JCheckBoxMenuItem("Dump on Lag Spike", recorder.isDumpOnLagSpike());
+        spikeItem.addActionListener(e -> recorder.setDumpOnLagSpike(spikeItem.isSelected()));
+        jfrMenu.add(spikeItem);
+
+        // Only offer what makes sense for the current state
+        jfrMenu.addMenuListener(new javax.swing.event.MenuListener() {
+            public void menuSelected(javax.swing.event.MenuEvent e) {
+                boolean recording = recorder.isRecording();
+                startItem.setEnabled(!recording);
+                dumpItem.setEnabled(recording);
+                stopItem.setEnabled(recording);
+            }
+            public void menuDeselected(javax.swing.event.MenuEvent e) {}
+            public void menuCanceled(javax.swing.event.MenuEvent e) {}
+        });
+
+        return jfrMenu;
+    }
+
+    private JMenu createMetricsEndpointMenu() {
+        OpenMetricsExporter exporter = DedicatedPower.getMetricsExporter();
+        JMenu endpointMenu = new JMenu("Metrics Endpoint");
+
+        JCheckBoxMenuItem serveItem = new JCheckBoxMenuItem("Serve Metrics");
+        serveItem.addActionListener(e -> {
+            try {
+                if (serveItem.isSelected()) {
+                    exporter.start();
+                } else {
+                    exporter.stop();
+                }
+                // Remember the choice for the next start
+                DedicatedPowerConfig.get().set("export.enabled", String.valueOf(exporter.isRunning()));
+            } catch (IOException ex) {
+                serveItem.setSelected(false);
+                JOptionPane.showMessageDialog(parentFrame, "Failed to start the metrics endpoint: " + ex.getMessage(),
+                        "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        });
+        endpointMenu.add(serveItem);
+
+        JMenuItem testItem = new JMenuItem("Test Scrape...");
+        testItem.addActionListener(e -> testScrape(exporter));
+        endpointMenu.add(testItem);
+
+        endpointMenu.addMenuListener(new javax.swing.event.MenuListener() {
+            public void menuSelected(javax.swing.event.MenuEvent e) {
+                serveItem.setSelected(exporter.isRunning());
+                serveItem.setText("Serve Metrics (" + exporter.getUrl() + ")");
+                testItem.setEnabled(exporter.isRunning());
+            }
+            public void menuDeselected(javax.swing.event.MenuEvent e) {}
+            public void menuCanceled(javax.swing.event.MenuEvent e) {}
+        });
+
+        return endpointMenu;
+    }
+
+    private void testScrape(OpenMetricsExporter exporter) {
+        new Thread(() -> {
+            try {
+                ScrapeChecker.Result result = ScrapeChecker.scrape(exporter.getUrl());
+                StringBuilder text = new StringBuilder();
+                text.append(String.format("HTTP %d, %s%n%d samples, %.1f KB in %d ms%n", result.status(), result.contentType(),
+                        result.samples(), result.body().length() / 1024.0, result.millis()));
+                text.append(result.isOk() ? "No problems found.\n" : "Problems:\n");
+                for (String problem : result.problems()) {
+                    text.append("  ").append(problem).append("\n");
+                }
+                text.append("\n").append(result.body());
+
+                SwingUtilities.invokeLater(() -> {
+                    JTextArea textArea = new JTextArea(text.toString(), 30, 90);
+                    textArea.setEditable(false);
+                    textArea.setFont(new Font("Monospaced", Font.PLAIN, 11));
+                    textArea.setCaretPosition(0);
+                    JOptionPane.showMessageDialog(parentFrame, new JScrollPane(textArea), "Test Scrape",
+                            result.isOk() ? JOptionPane.INFORMATION_MESSAGE : JOptionPane.WARNING_MESSAGE);
+                });
+            } catch (IOException ex) {
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(parentFrame,
+                        "Scraping " + exporter.getUrl() + " failed: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+            }
+        }, "DedicatedPower Test Scrape").start();
+    }
+
+    private void dumpFlightRecording(FlightRecorderControl recorder, boolean stopAfterwards) {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(recorder.getDefaultDumpFile("recording").toFile());
+        if (chooser.showSaveDialog(parentFrame) != JFileChooser.APPROVE_OPTION) return;
+        File file = chooser.getSelectedFile();
+
+        new Thread(() -> {
+            try {
+                recorder.dump(file.toPath());
+                if (stopAfterwards) recorder.stop();
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(parentFrame,
+                        "Recording saved to:\n" + file.getAbsolutePath(), "Flight Recorder", JOptionPane.INFORMATION_MESSAGE));
+            } catch (IOException ex) {
+                SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(parentFrame,
+                        "Failed to save recording: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+            }
+        }).start();
     }
 
     private void addClearEntityOption(JMenu menu, String name, String type) {
@@ -900,15 +1147,7 @@ public class EnhancedServerMenuBar extends JMenuBar {
                     "Confirm", JOptionPane.YES_NO_OPTION);
 
             if (confirm == JOptionPane.YES_OPTION) {
-                String command = switch (type) {
-                    case "minecraft:item" -> "kill @e[type=item]";
-                    case "hostile" -> "kill @e[type=!player,type=!item,type=!armor_stand]";
-                    case "mobs" -> "kill @e[type=!player,type=!item]";
-                    case "all" -> "kill @e[type=!player]";
-                    default -> "kill @e[type=" + type + "]";
-                };
-
-                server.getCommandManager().parseAndExecute(server.getCommandSource(), command);
+                server.getCommandManager().parseAndExecute(server.getCommandSource(), EntityClearing.command(type, null));
                 JOptionPane.showMessageDialog(parentFrame, "Entities cleared!", "Success", JOptionPane.INFORMATION_MESSAGE);
             }
         });
@@ -942,101 +1181,26 @@ public class EnhancedServerMenuBar extends JMenuBar {
     }
 
     private void forceGarbageCollection() {
-        Runtime runtime = Runtime.getRuntime();
-        long beforeMem = runtime.totalMemory() - runtime.freeMemory();
-
-        System.gc();
-
-        long afterMem = runtime.totalMemory() - runtime.freeMemory();
-        long freed = beforeMem - afterMem;
-
-        JOptionPane.showMessageDialog(parentFrame,
-                String.format("Garbage collection completed!\n\nMemory freed: %.2f MB", freed / 1024.0 / 1024.0),
-                "Success", JOptionPane.INFORMATION_MESSAGE);
+        // Reports the collection the JVM actually performed, not a freeMemory() difference
+        GcMonitorDialog.forceCollection(parentFrame, DedicatedPower.getGcMonitor());
     }
 
     private void generateThreadDump() {
-        StringBuilder dump = new StringBuilder();
-        dump.append("=== THREAD DUMP ===\n");
-        dump.append("Generated: ").append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date())).append("\n\n");
-
-        Map<Thread, StackTraceElement[]> allThreads = Thread.getAllStackTraces();
-        for (Map.Entry<Thread, StackTraceElement[]> entry : allThreads.entrySet()) {
-            Thread thread = entry.getKey();
-            dump.append("Thread: ").append(thread.getName())
-                    .append(" (").append(thread.getState()).append(")\n");
-
-            for (StackTraceElement element : entry.getValue()) {
-                dump.append("  at ").append(element.toString()).append("\n");
-            }
-            dump.append("\n"); // Add spacing between threads
-        }
-
-        // NOW create the dialog ONCE with all the collected data
-        JTextArea textArea = new JTextArea(dump.toString());
-        textArea.setEditable(false);
-        textArea.setFont(new Font("Monospaced", Font.PLAIN, 10));
-
-        JDialog dialog = new JDialog(parentFrame, "Thread Dump", false);
-        dialog.setLayout(new BorderLayout());
-        dialog.add(new JScrollPane(textArea), BorderLayout.CENTER);
-
-        JButton saveButton = new JButton("Save to File");
-        saveButton.addActionListener(e -> {
-            JFileChooser fc = new JFileChooser();
-            fc.setSelectedFile(new File("threaddump-" + System.currentTimeMillis() + ".txt"));
-            if (fc.showSaveDialog(dialog) == JFileChooser.APPROVE_OPTION) {
-                try (FileWriter writer = new FileWriter(fc.getSelectedFile())) {
-                    writer.write(dump.toString());
-                    JOptionPane.showMessageDialog(dialog, "Thread dump saved!", "Success", JOptionPane.INFORMATION_MESSAGE);
-                } catch (IOException ex) {
-                    JOptionPane.showMessageDialog(dialog, "Failed to save: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
-                }
-            }
-        });
-
-        JPanel buttonPanel = new JPanel();
-        buttonPanel.add(saveButton);
-        dialog.add(buttonPanel, BorderLayout.SOUTH);
-
-        dialog.setSize(700, 500);
-        dialog.setLocationRelativeTo(parentFrame);
-        dialog.setVisible(true);
+        new ThreadDumpDialog(parentFrame).setVisible(true);
     }
 
     private void generatePerformanceReport() {
-        Runtime runtime = Runtime.getRuntime();
-        long usedMemory = runtime.totalMemory() - runtime.freeMemory();
-        long maxMemory = runtime.maxMemory();
-
-        int totalEntities = 0;
-        int totalChunks = 0;
-        for (ServerWorld world : server.getWorlds()) {
-            for (Object ignored : world.iterateEntities()) {
-                totalEntities++;
-            }
-            totalChunks += world.getChunkManager().getLoadedChunkCount();
+        String report = ServerSummary.formatLatest();
+        if (report == null) {
+            JOptionPane.showMessageDialog(parentFrame, "No server data yet, try again in a few seconds.",
+                    "Performance Report", JOptionPane.INFORMATION_MESSAGE);
+            return;
         }
+        showPerformanceReport(report);
+    }
 
-        StringBuilder report = new StringBuilder();
-        report.append("=== PERFORMANCE REPORT ===\n");
-        report.append("Generated: ").append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date())).append("\n\n");
-        report.append("=== MEMORY ===\n");
-        report.append(String.format("Used: %d MB\n", usedMemory / 1024 / 1024));
-        report.append(String.format("Max: %d MB\n", maxMemory / 1024 / 1024));
-        report.append(String.format("Usage: %.1f%%\n\n", (usedMemory * 100.0) / maxMemory));
-        report.append("=== SERVER ===\n");
-        report.append(String.format("TPS: %.2f\n", Math.min(20.0, 1000.0 / server.getAverageTickTime())));
-        report.append(String.format("Average Tick: %.2f ms\n", server.getAverageTickTime()));
-        report.append(String.format("Players: %d\n", server.getCurrentPlayerCount()));
-        report.append(String.format("Entities: %d\n", totalEntities));
-        report.append(String.format("Chunks: %d\n\n", totalChunks));
-        report.append("=== SYSTEM ===\n");
-        report.append(String.format("CPU Cores: %d\n", runtime.availableProcessors()));
-        report.append(String.format("Java Version: %s\n", System.getProperty("java.version")));
-        report.append(String.format("OS: %s %s\n", System.getProperty("os.name"), System.getProperty("os.version")));
-
-        JTextArea textArea = new JTextArea(report.toString());
+    private void showPerformanceReport(String report) {
+        JTextArea textArea = new JTextArea(report);
         textArea.setEditable(false);
         textArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
 
@@ -1050,7 +1214,7 @@ public class EnhancedServerMenuBar extends JMenuBar {
             fc.setSelectedFile(new File("performance-report-" + System.currentTimeMillis() + ".txt"));
             if (fc.showSaveDialog(dialog) == JFileChooser.APPROVE_OPTION) {
                 try (FileWriter writer = new FileWriter(fc.getSelectedFile())) {
-                    writer.write(report.toString());
+                    writer.write(report);
                     JOptionPane.showMessageDialog(dialog, "Report saved!", "Success", JOptionPane.INFORMATION_MESSAGE);
                 } catch (IOException ex) {
                     JOptionPane.showMessageDialog(dialog, "Failed to save: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
@@ -1058,8 +1222,12 @@ public class EnhancedServerMenuBar extends JMenuBar {
             }
         });
 
+        JButton snapshotsButton = new JButton("Snapshots...");
+        snapshotsButton.addActionListener(e -> new PerformanceSnapshotDialog(parentFrame, server).setVisible(true));
+
         JPanel buttonPanel = new JPanel();
         buttonPanel.add(saveButton);
+        buttonPanel.add(snapshotsButton);
         dialog.add(buttonPanel, BorderLayout.SOUTH);
 
         dialog.setSize(500, 400);
@@ -1067,11 +1235,55 @@ public class EnhancedServerMenuBar extends JMenuBar {
         dialog.setVisible(true);
     }
 
-    // ==================== TOOLS MENU ====================
-    private JMenu createToolsMenu() {
-        JMenu toolsMenu = new JMenu("Tools");
-        toolsMenu.setMnemonic('T');
+    private void exportDiagnosticBundle() {
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(DiagnosticBundle.getDefaultFile().toFile());
+        if (chooser.showSaveDialog(parentFrame) != JFileChooser.APPROVE_OPTION) return;
+        File file = chooser.getSelectedFile();
+
+        // The class histogram forces a full GC, so it is only taken when asked for
+        DiagnosticBundle bundle = new DiagnosticBundle(server, DedicatedPower.getMetricsStore());
+        Object[] options = {"Without Histogram", "With Class Histogram", "Cancel"};
+        int choice = JOptionPane.showOptionDialog(parentFrame,
+                "Include a class histogram? Taking one forces a full garbage collection, which pauses the server.",
+                "Diagnostic Bundle", JOptionPane.YES_NO_CANCEL_OPTION, JOptionPane.QUESTION_MESSAGE, null,
+                options, options[bundle.isIncludingClassHistogram() ? 1 : 0]);
+        if (choice != JOptionPane.YES_OPTION && choice != JOptionPane.NO_OPTION) return;
+        bundle.setIncludeClassHistogram(choice == JOptionPane.NO_OPTION);
+
+        JDialog progressDialog = new JDialog(parentFrame, "Exporting Diagnostic Bundle...", false);
+        JProgressBar progressBar = new JProgressBar();
+        progressBar.setStringPainted(true);
+        progressBar.setString("Starting...");
+        progressDialog.add(progressBar);
+        progressDialog.setSize(400, 80);
+        progressDialog.setLocationRelativeTo(parentFrame);
+        progressDialog.setVisible(true);
+
+        new Thread(() -> {
+            try {
+                bundle.write(file.toPath(), (step, totalSteps, description) -> SwingUtilities.invokeLater(() -> {
+                    progressBar.setMaximum(totalSteps);
+                    progressBar.setValue(step);
+                    progressBar.setString(description);
+                }));
+                SwingUtilities.invokeLater(() -> {
+                    progressDialog.dispose();
+                    JOptionPane.showMessageDialog(parentFrame, "Diagnostic bundle saved to:\n" + file.getAbsolutePath(),
+                            "Diagnostic Bundle", JOptionPane.INFORMATION_MESSAGE);
+                });
+            } catch (IOException e) {
+                SwingUtilities.invokeLater(() -> {
+                    progressDialog.dispose();
+                    JOptionPane.showMessageDialog(parentFrame, "Failed to write the bundle: " + e.getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                });
+            }
+        }, "DedicatedPower Diagnostic Bundle").start();
+    }
 
+    // ==================== TOOLS MENU ====================
+    private void populateToolsMenu(JMenu toolsMenu) {
         JMenuItem commandPaletteItem = new JMenuItem("Command Palette...");
         commandPaletteItem.setAccelerator(KeyStroke.getKeyStroke("ctrl shift P"));
         commandPaletteItem.addActionListener(e -> showCommandPalette());
@@ -1100,8 +1312,6 @@ public class EnhancedServerMenuBar extends JMenuBar {
         JMenuItem serverIconItem = new JMenuItem("Server Icon...");
         serverIconItem.addActionListener(e -> changeServerIcon());
         toolsMenu.add(serverIconItem);
-
-        return toolsMenu;
     }
 
     private void showCommandPalette() {
@@ -1300,10 +1510,7 @@ public class EnhancedServerMenuBar extends JMenuBar {
     }
 
     // ==================== HELP MENU ====================
-    private JMenu createHelpMenu() {
-        JMenu helpMenu = new JMenu("Help");
-        helpMenu.setMnemonic('H');
-
+    private void populateHelpMenu(JMenu helpMenu) {
         JMenuItem wikiItem = new JMenuItem("Minecraft Wiki");
         wikiItem.addActionListener(e -> openURL("https://minecraft.wiki"));
         helpMenu.add(wikiItem);
@@ -1328,8 +1535,6 @@ public class EnhancedServerMenuBar extends JMenuBar {
         JMenuItem sysInfoItem = new JMenuItem("System Information");
         sysInfoItem.addActionListener(e -> showSystemInformation());
         helpMenu.add(sysInfoItem);
-
-        return helpMenu;
     }
 
     private void openURL(String url) {
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.profiling.CallTree;
+import net.supersirvu.profiling.FrameTable;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Classic flame graph: the root at the bottom, callees stacked on top, width proportional
+ * to samples. Clicking a frame zooms into it, right click or Escape zooms back out.
+ * Frames narrower than a pixel are skipped entirely.
+ */
+public class FlameGraphPanel extends JComponent implements Scrollable {
+    private static final int FRAME_HEIGHT = 16;
+    private static final Font FRAME_FONT = new Font("Monospaced", Font.PLAIN, 11);
+    private static final Color BG_COLOR = Color.WHITE;
+    private static final Color HIGHLIGHT_COLOR = new Color(0, 0, 0, 60);
+
+    private CallTree tree;
+    private FrameTable frames;
+    private int zoomNode = CallTree.ROOT;
+    private int hoverNode = -1;
+    private int maxDepth;
+
+    // Layout of the last paint, used for hit testing
+    private final List<Rectangle> boxes = new ArrayList<>();
+    private final List<Integer> boxNodes = new ArrayList<>();
+
+    public FlameGraphPanel() {
+        setOpaque(true);
+        setFocusable(true);
+        ToolTipManager.sharedInstance().registerComponent(this);
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                requestFocusInWindow();
+                if (SwingUtilities.isRightMouseButton(e)) {
+                    zoomOut();
+                    return;
+                }
+                int node = nodeAt(e.getPoint());
+                if (node >= 0) {
+                    zoomNode = node;
+                    repaint();
+                }
+            }
+
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                int node = nodeAt(e.getPoint());
+                if (node != hoverNode) {
+                    hoverNode = node;
+                    repaint();
+                }
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                hoverNode = -1;
+                repaint();
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+
+        getInputMap(WHEN_FOCUSED).put(KeyStroke.getKeyStroke(KeyEvent.VK_ESCAPE, 0), "zoomOut");
+        getActionMap().put("zoomOut", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                zoomOut();
+            }
+        });
+    }
+
+    public void setProfile(CallTree tree, FrameTable frames) {
+        this.tree = tree;
+        this.frames = frames;
+        this.zoomNode = CallTree.ROOT;
+        this.hoverNode = -1;
+        this.maxDepth = 0;
+        if (tree != null) {
+            for (int node = 0; node < tree.size(); node++) {
+                maxDepth = Math.max(maxDepth, tree.getDepth(node));
+            }
+        }
+        revalidate();
+        repaint();
+    }
+
+    private void zoomOut() {
+        if (tree != null && zoomNode != CallTree.ROOT) {
+            zoomNode = tree.getParent(zoomNode);
+            repaint();
+        }
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(600, Math.max(200, (maxDepth + 1) * FRAME_HEIGHT + 4));
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        int node = nodeAt(event.getPoint());
+        if (node < 0 || tree == null) return null;
+
+        int total = Math.max(1, tree.getTotalSamples());
+        return String.format("<html><b>%s</b><br>%d samples (%.2f%%), %d self</html>",
+                escape(nameOf(node)), tree.getTotal(node), tree.getTotal(node) * 100.0 / total, tree.getSelf(node));
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private String nameOf(int node) {
+        return node == CallTree.ROOT ? "all" : frames.getName(tree.getFrame(node));
+    }
+
+    private int nodeAt(Point point) {
+        for (int i = 0; i < boxes.size(); i++) {
+            if (boxes.get(i).contains(point)) return boxNodes.get(i);
+        }
+        return -1;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
+        try {
+            paintFlameGraph((Graphics2D) g);
+        } finally {
+            EdtMonitor.recordPaint("Flame Graph", System.nanoTime() - paintStart);
+        }
+    }
+
+    private void paintFlameGraph(Graphics2D g2d) {
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setColor(BG_COLOR);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+
+        boxes.clear();
+        boxNodes.clear();
+        if (tree == null || tree.getTotalSamples() == 0) {
+            g2d.setColor(Color.GRAY);
+            g2d.drawString("No samples", 10, 20);
+            return;
+        }
+
+        g2d.setFont(FRAME_FONT);
+        int bottom = getHeight() - FRAME_HEIGHT - 2;
+
+        // Ancestors of the zoomed frame span the full width so you can see where you are
+        int depth = 0;
+        List<Integer> path = new ArrayList<>();
+        for (int node = zoomNode; node != CallTree.ROOT; node = tree.getParent(node)) path.add(0, node);
+        path.add(0, CallTree.ROOT);
+        for (int i = 0; i < path.size() - 1; i++) {
+            drawFrame(g2d, path.get(i), 0, bottom - depth * FRAME_HEIGHT, getWidth(), true);
+            depth++;
+        }
+
+        drawSubtree(g2d, zoomNode, 0, getWidth(), bottom - depth * FRAME_HEIGHT, g2d.getClipBounds());
+    }
+
+    private void drawSubtree(Graphics2D g2d, int node, double x, double width, int y, Rectangle clip) {
+        if (y + FRAME_HEIGHT < 0) return;
+        drawFrame(g2d, node, (int) x, y, (int) Math.round(width), false);
+
+        double childX = x;
+        double scale = width / Math.max(1, tree.getTotal(node));
+        for (int child : tree.getChildren(node)) {
+            double childWidth = tree.getTotal(child) * scale;
+            if (childWidth < 1) break; // Sorted biggest first, the rest are even smaller
+            if (clip == null || (childX < clip.x + clip.width && childX + childWidth > clip.x)) {
+                drawSubtree(g2d, child, childX, childWidth, y - FRAME_HEIGHT, clip);
+            }
+            childX += childWidth;
+        }
+    }
+
+    private void drawFrame(Graphics2D g2d, int node, int x, int y, int width, boolean ancestor) {
+        String name = nameOf(node);
+        Color color = ancestor ? new Color(220, 220, 220) : colorFor(name);
+        g2d.setColor(color);
+        g2d.fillRect(x, y, Math.max(1, width - 1), FRAME_HEIGHT - 1);
+        if (node == hoverNode) {
+            g2d.setColor(HIGHLIGHT_COLOR);
+            g2d.fillRect(x, y, Math.max(1, width - 1), FRAME_HEIGHT - 1);
+        }
+
+        boxes.add(new Rectangle(x, y, width, FRAME_HEIGHT));
+        boxNodes.add(node);
+
+        if (width > 30) {
+            FontMetrics metrics = g2d.getFontMetrics();
+            String label = name;
+            if (metrics.stringWidth(label) > width - 6) {
+                // Keep the method name, which sits at the end
+                while (label.length() > 3 && metrics.stringWidth(".." + label) > width - 6) {
+                    label = label.substring(1);
+                }
+                label = ".." + label;
+            }
+            g2d.setColor(Color.BLACK);
+            g2d.drawString(label, x + 3, y + FRAME_HEIGHT - 4);
+        }
+    }
+
+    // Stable warm color per method, JDK frames a bit paler so game code stands out
+    private static Color colorFor(String name) {
+        int hash = name.hashCode();
+        int red = 205 + Math.floorMod(hash, 50);
+        int green = 80 + Math.floorMod(hash >> 8, 120);
+        int blue = 40 + Math.floorMod(hash >> 16, 40);
+        if (name.startsWith("java.") || name.startsWith("jdk.") || name.startsWith("sun.")) {
+            return new Color(Math.min(255, red), Math.min(255, green + 60), Math.min(255, blue + 90));
+        }
+        return new Color(red, green, blue);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(800, 400);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return FRAME_HEIGHT;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return visibleRect.height - FRAME_HEIGHT;
+    }
+
+    // Always as wide as the viewport, only scroll vertically for deep stacks
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport viewport && viewport.getHeight() > getPreferredSize().height;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.metrics.GcEvent;
+import net.supersirvu.metrics.GcMonitor;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+public class GcMonitorDialog extends JDialog {
+    private static final int GAUGE_HISTORY = 300;
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final GcMonitor monitor;
+
+    private final TimeSeriesGraph pauseGraph = new TimeSeriesGraph("GC Pauses", "ms", new Color(231, 76, 60));
+    private final TimeSeriesGraph allocationGraph = new TimeSeriesGraph("Allocation Rate", "MB/s", new Color(52, 152, 219));
+    private final TimeSeriesGraph liveHeapGraph = new TimeSeriesGraph("Live Heap After GC", "MB", new Color(40, 180, 99));
+    private final TimeSeriesGraph oldGenGraph = new TimeSeriesGraph("Old Gen Occupancy", "%", new Color(230, 126, 34));
+    private final TimeSeriesGraph metaspaceGraph = new TimeSeriesGraph("Metaspace", "MB", new Color(155, 89, 182));
+    private final TimeSeriesGraph bufferGraph = new TimeSeriesGraph("Direct + Mapped Buffers", "MB", new Color(149, 165, 166));
+
+    // Gauges are sampled once per refresh, events come from the monitor
+    private final double[] oldGenHistory = new double[GAUGE_HISTORY];
+    private final double[] metaspaceHistory = new double[GAUGE_HISTORY];
+    private final double[] bufferHistory = new double[GAUGE_HISTORY];
+
+    private final EventTableModel eventModel = new EventTableModel();
+    private final JTable eventTable = new JTable(eventModel);
+    private final JTextArea poolArea = new JTextArea(6, 40);
+    private final JLabel summaryLabel = new JLabel();
+
+    public GcMonitorDialog(Frame parent, GcMonitor monitor) {
+        super(parent, "GC Monitor", false);
+        this.monitor = monitor;
+
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        oldGenGraph.setFixedMax(100);
+        Arrays.fill(oldGenHistory, Double.NaN);
+        Arrays.fill(metaspaceHistory, Double.NaN);
+        Arrays.fill(bufferHistory, Double.NaN);
+
+        JPanel graphPanel = new JPanel(new GridLayout(2, 3, 5, 5));
+        graphPanel.setBorder(BorderFactory.createEmptyBorder(5, 5, 0, 5));
+        graphPanel.add(pauseGraph);
+        graphPanel.add(allocationGraph);
+        graphPanel.add(liveHeapGraph);
+        graphPanel.add(oldGenGraph);
+        graphPanel.add(metaspaceGraph);
+        graphPanel.add(bufferGraph);
+
+        eventTable.setAutoCreateRowSorter(true);
+        eventTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        eventTable.getSelectionModel().addListSelectionListener(e -> showSelectedPools());
+
+        poolArea.setEditable(false);
+        poolArea.setFont(new Font("Monospaced", Font.PLAIN, 11));
+
+        JSplitPane tableSplit = new JSplitPane(JSplitPane.VERTICAL_SPLIT,
+                new JScrollPane(eventTable), new JScrollPane(poolArea));
+        tableSplit.setResizeWeight(0.7);
+
+        JSplitPane mainSplit = new JSplitPane(JSplitPane.VERTICAL_SPLIT, graphPanel, tableSplit);
+        mainSplit.setResizeWeight(0.5);
+
+        JButton forceGcButton = new JButton("Force Garbage Collection");
+        forceGcButton.addActionListener(e -> forceCollection(this, monitor));
+        JButton closeButton = new JButton("Close");
+        closeButton.addActionListener(e -> dispose());
+
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        bottomPanel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+        bottomPanel.add(summaryLabel, BorderLayout.CENTER);
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(forceGcButton);
+        buttonPanel.add(closeButton);
+        bottomPanel.add(buttonPanel, BorderLayout.EAST);
+
+        add(mainSplit, BorderLayout.CENTER);
+        add(bottomPanel, BorderLayout.SOUTH);
+
+        refresh();
+        GuiScheduler.get().schedule("GC Monitor", 1000, this, this::refresh);
+
+        setSize(900, 650);
+        setLocationRelativeTo(parent);
+    }
+
+    private void refresh() {
+        GcMonitor.MemoryGauges gauges = GcMonitor.sampleGauges();
+        pushGauge(oldGenHistory, gauges.oldGenPercent());
+        pushGauge(metaspaceHistory, gauges.metaspaceBytes() / MB);
+        pushGauge(bufferHistory, (gauges.directBufferBytes() + gauges.mappedBufferBytes()) / MB);
+
+        oldGenGraph.setValues(oldGenHistory, GAUGE_HISTORY);
+        metaspaceGraph.setValues(metaspaceHistory, GAUGE_HISTORY);
+        bufferGraph.setValues(bufferHistory, GAUGE_HISTORY);
+
+        List<GcEvent> events = monitor.getRecentEvents();
+        double[] pauses = new double[events.size()];
+        double[] allocation = new double[events.size()];
+        double[] liveHeap = new double[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            GcEvent event = events.get(i);
+            pauses[i] = event.pause() ? event.durationMillis() : Double.NaN;
+            allocation[i] = event.allocationRateBytesPerSecond() / MB;
+            liveHeap[i] = event.heapAfterBytes() / MB;
+        }
+        pauseGraph.setValues(pauses, pauses.length);
+        allocationGraph.setValues(allocation, allocation.length);
+        liveHeapGraph.setValues(liveHeap, liveHeap.length);
+
+        if (events.size() != eventModel.getRowCount()
+                || (!events.isEmpty() && events.get(events.size() - 1) != eventModel.getLatest())) {
+            eventModel.setEvents(events);
+        }
+
+        summaryLabel.setText(String.format("  %d collections, %.1f s total pause time, direct %.1f MB, mapped %.1f MB",
+                monitor.getTotalCollections(), monitor.getTotalPauseMillis() / 1000.0,
+                gauges.directBufferBytes() / MB, gauges.mappedBufferBytes() / MB));
+    }
+
+    private static void pushGauge(double[] history, double value) {
+        System.arraycopy(history, 1, history, 0, history.length - 1);
+        history[history.length - 1] = value;
+    }
+
+    private void showSelectedPools() {
+        int row = eventTable.getSelectedRow();
+        if (row < 0) {
+            poolArea.setText("");
+            return;
+        }
+        poolArea.setText(describe(eventModel.getEvent(eventTable.convertRowIndexToModel(row))));
+        poolArea.setCaretPosition(0);
+    }
+
+    // Human readable summary of a collection, including every memory pool it touched
+    public static String describe(GcEvent event) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%s (%s), cause: %s%n", event.collector(), event.action(), event.cause()));
+        text.append(String.format("%s: %d ms%n", event.pause() ? "Pause" : "Concurrent cycle", event.durationMillis()));
+        text.append(String.format("Heap: %.1f MB -> %.1f MB (freed %.1f MB)%n%n",
+                event.heapBeforeBytes() / MB, event.heapAfterBytes() / MB,
+                (event.heapBeforeBytes() - event.heapAfterBytes()) / MB));
+
+        for (GcEvent.PoolUsage pool : event.pools()) {
+            text.append(String.format("%-32s %10.1f MB -> %10.1f MB%n", pool.name(), pool.beforeBytes() / MB, pool.afterBytes() / MB));
+        }
+        return text.toString();
+    }
+
+    // Runs a collection and reports what it really did once the GC notification arrives
+    public static void forceCollection(Component parent, GcMonitor monitor) {
+        monitor.requestCollection().whenComplete((event, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                JOptionPane.showMessageDialog(parent,
+                        "The garbage collection was requested, but the JVM did not report it (it may be disabled with -XX:+DisableExplicitGC).",
+                        "Garbage Collection", JOptionPane.WARNING_MESSAGE);
+                return;
+            }
+
+            JTextArea textArea = new JTextArea(describe(event));
+            textArea.setEditable(false);
+            textArea.setFont(new Font("Monospaced", Font.PLAIN, 11));
+            JOptionPane.showMessageDialog(parent, new JScrollPane(textArea),
+                    "Garbage collection completed!", JOptionPane.INFORMATION_MESSAGE);
+        }));
+    }
+
+    private static class EventTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Time", "Collector", "Cause", "Duration (ms)", "Before (MB)", "After (MB)", "Freed (MB)"};
+        private final SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+        private List<GcEvent> events = new ArrayList<>();
+
+        void setEvents(List<GcEvent> newEvents) {
+            // Newest first is what people want to look at
+            List<GcEvent> reversed = new ArrayList<>(newEvents);
+            Collections.reverse(reversed);
+            this.events = reversed;
+            fireTableDataChanged();
+        }
+
+        GcEvent getLatest() {
+            return events.isEmpty() ? null : events.get(0);
+        }
+
+        GcEvent getEvent(int row) {
+            return events.get(row);
+        }
+
+        @Override
+        public int getRowCount() {
+            return events.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column >= 3 ? Number.class : String.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            GcEvent event = events.get(row);
+            return switch (column) {
+                case 0 -> timeFormat.format(new Date(event.timeMillis()));
+                case 1 -> event.collector();
+                case 2 -> event.cause();
+                case 3 -> event.durationMillis();
+                case 4 -> Math.round(event.heapBeforeBytes() / MB);
+                case 5 -> Math.round(event.heapAfterBytes() / MB);
+                default -> Math.round((event.heapBeforeBytes() - event.heapAfterBytes()) / MB);
+            };
+        }
+    }
+}
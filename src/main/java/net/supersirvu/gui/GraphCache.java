@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/*
+ * Keeps a bar graph in an offscreen image so painting is a single blit.
+ *
+ * When new samples arrive the image is scrolled left by one column per sample and only the
+ * new columns on the right are drawn. Anything else (resize, zoom change, new history data)
+ * invalidates the image and it is redrawn once from the source.
+ *
+ * A source that aggregates several samples per column can also give a peak, drawn as a
+ * paler band above the bar so a spike stays visible next to the column's average.
+ */
+final class GraphCache {
+    private static final int HORIZONTAL_GRID_LINES = 5;
+    private static final int VERTICAL_GRID_LINES = 8;
+
+    private final Color background;
+    private final Color gridColor;
+
+    private BufferedImage image;
+    private Graphics2D graphics;
+    private long renderedPosition;
+    private boolean valid;
+    private Color lastBarColor;
+    private Color lastPeakColor;
+
+    GraphCache(Color background, Color gridColor) {
+        this.background = background;
+        this.gridColor = gridColor;
+    }
+
+    void invalidate() {
+        this.valid = false;
+    }
+
+    /*
+     * Brings the image up to date with the source. The position is a running sample counter,
+     * the difference to the last call is how many columns the graph has to scroll.
+     */
+    BufferedImage update(int width, int height, long position, Source source) {
+        if (width <= 0 || height <= 0) return null;
+
+        if (this.image == null || this.image.getWidth() != width || this.image.getHeight() != height) {
+            if (this.graphics != null) {
+                this.graphics.dispose();
+            }
+            this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            this.graphics = this.image.createGraphics();
+            this.valid = false;
+        }
+
+        long newColumns = position - this.renderedPosition;
+        if (!this.valid || newColumns < 0 || newColumns >= width) {
+            drawColumns(width, height, width, position, source);
+        } else if (newColumns > 0) {
+            // Shift the existing bars left and only draw what came in since the last frame
+            this.graphics.copyArea((int) newColumns, 0, width - (int) newColumns, height, (int) -newColumns, 0);
+            drawColumns(width, height, (int) newColumns, position, source);
+        }
+
+        this.renderedPosition = position;
+        this.valid = true;
+        return this.image;
+    }
+
+    // Draws the given number of columns at the right edge, newest (rightmost) first
+    private void drawColumns(int width, int height, int count, long position, Source source) {
+        int gridSpacing = Math.max(1, width / VERTICAL_GRID_LINES);
+
+        for (int i = 0; i < count; i++) {
+            int x = width - 1 - i;
+
+            this.graphics.setColor(this.background);
+            this.graphics.fillRect(x, 0, 1, height);
+
+            // Vertical grid lines are tied to samples so they scroll along with the data
+            this.graphics.setColor(this.gridColor);
+            if (Math.floorMod(position - 1 - i, gridSpacing) == 0) {
+                this.graphics.fillRect(x, 0, 1, height);
+            } else {
+                for (int line = 0; line <= HORIZONTAL_GRID_LINES; line++) {
+                    this.graphics.fillRect(x, Math.min(height - 1, height * line / HORIZONTAL_GRID_LINES), 1, 1);
+                }
+            }
+
+            double value = source.valueAt(i, width);
+            if (Double.isNaN(value)) continue;
+
+            Color color = source.colorAt(i, width);
+            int barHeight = toHeight(value, height, source);
+            double peak = source.peakAt(i, width);
+            int peakHeight = Double.isNaN(peak) ? 0 : toHeight(peak, height, source);
+            if (peakHeight > barHeight) {
+                this.graphics.setColor(peakColor(color));
+                this.graphics.fillRect(x, height - peakHeight, 1, peakHeight - barHeight);
+            }
+            if (barHeight <= 0) continue;
+
+            this.graphics.setColor(color);
+            this.graphics.fillRect(x, height - barHeight, 1, barHeight);
+        }
+    }
+
+    private static int toHeight(double value, int height, Source source) {
+        return Math.min((int) ((value / source.maxValue()) * height), height);
+    }
+
+    // Halfway to the background; the palette is small, so remembering the last one is enough
+    private Color peakColor(Color color) {
+        if (!color.equals(this.lastBarColor)) {
+            this.lastBarColor = color;
+            this.lastPeakColor = new Color((color.getRed() + this.background.getRed()) / 2,
+                    (color.getGreen() + this.background.getGreen()) / 2,
+                    (color.getBlue() + this.background.getBlue()) / 2);
+        }
+        return this.lastPeakColor;
+    }
+
+    // Data behind a graph, addressed by pixel column counted from the right edge
+    interface Source {
+        double valueAt(int pixelFromRight, int width);
+
+        Color colorAt(int pixelFromRight, int width);
+
+        double maxValue();
+
+        // NaN when the column is a single value
+        default double peakAt(int pixelFromRight, int width) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.metrics.Resolution;
+
+import java.util.concurrent.TimeUnit;
+
+// Time windows the stats graphs can show, from the live view up to a month of history
+public enum GraphZoom {
+    LIVE("Live", 0, null),
+    LAST_MINUTE("Last Minute", TimeUnit.MINUTES.toMillis(1), Resolution.SECOND),
+    LAST_10_MINUTES("Last 10 Minutes", TimeUnit.MINUTES.toMillis(10), Resolution.SECOND),
+    LAST_HOUR("Last Hour", TimeUnit.HOURS.toMillis(1), Resolution.SECOND),
+    LAST_6_HOURS("Last 6 Hours", TimeUnit.HOURS.toMillis(6), Resolution.MINUTE),
+    LAST_DAY("Last Day", TimeUnit.DAYS.toMillis(1), Resolution.MINUTE),
+    LAST_WEEK("Last Week", TimeUnit.DAYS.toMillis(7), Resolution.HOUR),
+    LAST_30_DAYS("Last 30 Days", TimeUnit.DAYS.toMillis(30), Resolution.HOUR);
+
+    private final String displayName;
+    private final long spanMillis;
+    private final Resolution resolution;
+
+    GraphZoom(String displayName, long spanMillis, Resolution resolution) {
+        this.displayName = displayName;
+        this.spanMillis = spanMillis;
+        this.resolution = resolution;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public long getSpanMillis() {
+        return spanMillis;
+    }
+
+    // Null for the live view, which is served from memory
+    public Resolution getResolution() {
+        return resolution;
+    }
+
+    public GraphZoom zoomIn() {
+        return this == LIVE ? LIVE : values()[ordinal() - 1];
+    }
+
+    public GraphZoom zoomOut() {
+        GraphZoom[] values = values();
+        return ordinal() == values.length - 1 ? this : values[ordinal() + 1];
+    }
+}
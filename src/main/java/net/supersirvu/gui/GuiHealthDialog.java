@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+public class GuiHealthDialog extends JDialog {
+    private static final SimpleDateFormat TIME_FORMAT = new SimpleDateFormat("HH:mm:ss");
+
+    private final JLabel summaryLabel = new JLabel(" ");
+    private final TaskTableModel taskModel = new TaskTableModel();
+    private final PaintTableModel paintModel = new PaintTableModel();
+    private final DefaultListModel<EdtMonitor.StallInfo> stallModel = new DefaultListModel<>();
+    private final JList<EdtMonitor.StallInfo> stallList = new JList<>(stallModel);
+    private final JTextArea stackArea = new JTextArea();
+    private List<EdtMonitor.StallInfo> shownStalls = List.of();
+
+    public GuiHealthDialog(Frame parent) {
+        super(parent, "GUI Health", false);
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        summaryLabel.setBorder(BorderFactory.createEmptyBorder(5, 5, 0, 5));
+
+        JTable taskTable = new JTable(taskModel);
+        taskTable.setAutoCreateRowSorter(true);
+        JTable paintTable = new JTable(paintModel);
+        paintTable.setAutoCreateRowSorter(true);
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Refresh Tasks", new JScrollPane(taskTable));
+        tabs.addTab("Paint Times", new JScrollPane(paintTable));
+        tabs.addTab("Stalls", createStallPanel());
+
+        add(summaryLabel, BorderLayout.NORTH);
+        add(tabs, BorderLayout.CENTER);
+
+        refresh();
+        GuiScheduler.get().schedule("GUI Health", 1000, this, this::refresh);
+
+        setSize(750, 500);
+        setLocationRelativeTo(parent);
+    }
+
+    private JComponent createStallPanel() {
+        stallList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        stallList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+                EdtMonitor.StallInfo stall = (EdtMonitor.StallInfo) value;
+                String text = TIME_FORMAT.format(new Date(stall.startMillis())) + "  "
+                        + String.format("%,d ms", stall.durationMillis()) + (stall.ongoing() ? " (ongoing)" : "");
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+        stallList.addListSelectionListener(e -> {
+            if (e.getValueIsAdjusting()) return;
+            EdtMonitor.StallInfo stall = stallList.getSelectedValue();
+            stackArea.setText(stall != null ? stall.stack() : "");
+            stackArea.setCaretPosition(0);
+        });
+
+        stackArea.setEditable(false);
+        stackArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+
+        JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, new JScrollPane(stallList), new JScrollPane(stackArea));
+        split.setDividerLocation(180);
+        return split;
+    }
+
+    private void refresh() {
+        GuiScheduler scheduler = GuiScheduler.get();
+        EdtMonitor monitor = EdtMonitor.get();
+
+        StringBuilder summary = new StringBuilder("<html>");
+        if (monitor != null) {
+            double[] latency = monitor.getLatencyPercentiles();
+            summary.append(String.format("Event queue latency: p50 %.1f ms, p99 %.1f ms, max %.1f ms over %,d heartbeats",
+                    latency[0], latency[1], latency[2], monitor.getHeartbeats()));
+            summary.append(String.format("<br>Stalls over %,d ms: %,d", monitor.getStallThresholdMillis(), monitor.getTotalStalls()));
+        } else {
+            summary.append("The event queue monitor is not running.");
+        }
+
+        double cpu = scheduler.getCpuPercent();
+        summary.append("<br>Swing thread CPU: ").append(Double.isNaN(cpu) ? "measuring..." : String.format("%.1f%%", cpu));
+        if (scheduler.getSlowdown() > 1) {
+            summary.append(String.format(", refreshing %dx slower (%s)", scheduler.getSlowdown(), scheduler.getSlowdownReason()));
+        }
+        summaryLabel.setText(summary.append("</html>").toString());
+
+        taskModel.setTasks(scheduler.getTaskStats());
+        paintModel.setPaints(EdtMonitor.getPaintStats());
+        if (monitor != null) updateStalls(monitor.getStalls());
+    }
+
+    private void updateStalls(List<EdtMonitor.StallInfo> stalls) {
+        // Rebuilding the list would reset the stack being read
+        if (stalls.equals(shownStalls)) return;
+        shownStalls = stalls;
+
+        // Keep the selection on the same stall as new ones are added above it
+        EdtMonitor.StallInfo selected = stallList.getSelectedValue();
+        stallModel.clear();
+        for (EdtMonitor.StallInfo stall : stalls) {
+            stallModel.addElement(stall);
+        }
+        if (selected == null) return;
+        for (int i = 0; i < stalls.size(); i++) {
+            if (stalls.get(i).startMillis() == selected.startMillis()) {
+                stallList.setSelectedIndex(i);
+                return;
+            }
+        }
+    }
+
+    private static class TaskTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Task", "Period (ms)", "Runs", "Avg CPU (ms)", "Last (ms)"};
+
+        private List<GuiScheduler.TaskStats> tasks = List.of();
+
+        void setTasks(List<GuiScheduler.TaskStats> tasks) {
+            this.tasks = tasks;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return tasks.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 0 -> String.class;
+                case 1 -> Integer.class;
+                case 2 -> Long.class;
+                default -> Double.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            GuiScheduler.TaskStats task = tasks.get(row);
+            return switch (column) {
+                case 0 -> task.name();
+                case 1 -> task.periodMillis();
+                case 2 -> task.runs();
+                case 3 -> Double.isNaN(task.averageCpuMillis()) ? null : Math.round(task.averageCpuMillis() * 100) / 100.0;
+                default -> Math.round(task.lastWallMillis() * 100) / 100.0;
+            };
+        }
+    }
+
+    private static class PaintTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Component", "Paints", "Avg (ms)", "Max (ms)", "Last (ms)"};
+
+        private List<EdtMonitor.PaintInfo> paints = List.of();
+
+        void setPaints(List<EdtMonitor.PaintInfo> paints) {
+            this.paints = paints;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return paints.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 0 -> String.class;
+                case 1 -> Long.class;
+                default -> Double.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            EdtMonitor.PaintInfo paint = paints.get(row);
+            return switch (column) {
+                case 0 -> paint.component();
+                case 1 -> paint.count();
+                case 2 -> Math.round(paint.averageMillis() * 100) / 100.0;
+                case 3 -> Math.round(paint.maxMillis() * 100) / 100.0;
+                default -> Math.round(paint.lastMillis() * 100) / 100.0;
+            };
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+import net.supersirvu.export.ServerSnapshot;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * Runs all of the GUI's periodic work (panel refreshes, dialog updates) from one Swing
+ * timer, so the work can be slowed down in one place:
+ *   - the server window is minimized (gui.scheduler.minimized-factor, 10x slower)
+ *   - none of the mod's windows has focus (gui.scheduler.unfocused-factor, 2x)
+ *   - the server is struggling, average tick over gui.scheduler.busy-mspt (2x)
+ * Tasks owned by a component are skipped while it is not showing, and tasks owned by a
+ * window are cancelled when it closes.
+ *
+ * The scheduler also measures the Swing thread's CPU time, which is where nearly all GUI
+ * work (these tasks and painting) happens, and the CPU time of each task.
+ */
+public final class GuiScheduler {
+    private static final int BASE_PERIOD_MILLIS = 250;
+    private static final long CPU_WINDOW_NANOS = 2_000_000_000L;
+
+    private static GuiScheduler instance;
+
+    private final Timer timer = new Timer(BASE_PERIOD_MILLIS, e -> tick());
+    private final List<Task> tasks = new CopyOnWriteArrayList<>();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final boolean cpuSupported = threads.isCurrentThreadCpuTimeSupported();
+    private final int minimizedFactor;
+    private final int unfocusedFactor;
+    private final double busyMspt;
+
+    private volatile Frame mainFrame;
+
+    // Swing thread only
+    private int slowdown = 1;
+    private String slowdownReason = "";
+    private long cpuWindowStart;
+    private long cpuWindowStartCpu;
+    private double cpuPercent = Double.NaN;
+
+    private GuiScheduler() {
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        this.minimizedFactor = Math.max(1, config.getInt("gui.scheduler.minimized-factor", 10));
+        this.unfocusedFactor = Math.max(1, config.getInt("gui.scheduler.unfocused-factor", 2));
+        this.busyMspt = config.getDouble("gui.scheduler.busy-mspt", 45);
+        timer.setCoalesce(true);
+        timer.start();
+    }
+
+    // Panels are created on the server's startup thread, dialogs on the Swing thread
+    public static synchronized GuiScheduler get() {
+        if (instance == null) {
+            instance = new GuiScheduler();
+        }
+        return instance;
+    }
+
+    // The window whose minimized state slows everything down
+    public void setMainFrame(Frame frame) {
+        this.mainFrame = frame;
+    }
+
+    /*
+     * Runs the action on the Swing thread every periodMillis (times the current slowdown).
+     * With an owner, the action is skipped while the owner is not showing; if the owner is
+     * a window, the task is cancelled when the window closes.
+     */
+    public Task schedule(String name, int periodMillis, Component owner, Runnable action) {
+        Task task = new Task(name, periodMillis, owner, action);
+        if (owner instanceof Window window) {
+            window.addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowClosed(WindowEvent e) {
+                    task.cancel();
+                }
+            });
+        }
+        tasks.add(task);
+        return task;
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        updateSlowdown(now);
+
+        for (Task task : tasks) {
+            if (now < task.nextRunNanos) continue;
+            task.nextRunNanos = now + (long) task.periodMillis * slowdown * 1_000_000L;
+            if (task.owner != null && !task.owner.isShowing()) continue;
+
+            long startCpu = cpuSupported ? threads.getCurrentThreadCpuTime() : 0;
+            long start = System.nanoTime();
+            try {
+                task.action.run();
+            } catch (RuntimeException e) {
+                DedicatedPower.LOGGER.warn("GUI task {} failed", task.name, e);
+            }
+            task.runs++;
+            task.lastWallNanos = System.nanoTime() - start;
+            if (cpuSupported) task.cpuNanos += threads.getCurrentThreadCpuTime() - startCpu;
+        }
+
+        updateCpu(now);
+    }
+
+    private void updateSlowdown(long now) {
+        int factor = 1;
+        List<String> reasons = new ArrayList<>();
+
+        Frame frame = mainFrame;
+        if (frame != null && (frame.getExtendedState() & Frame.ICONIFIED) != 0) {
+            factor *= minimizedFactor;
+            reasons.add("minimized");
+        } else if (KeyboardFocusManager.getCurrentKeyboardFocusManager().getActiveWindow() == null) {
+            factor *= unfocusedFactor;
+            reasons.add("not focused");
+        }
+
+        ServerSnapshot snapshot = DedicatedPower.getServerSnapshotter().getLatest();
+        if (snapshot != null && snapshot.averageTickMillis() > busyMspt) {
+            factor *= 2;
+            reasons.add("server busy");
+        }
+
+        // Coming back to the window should not wait out a long minimized period
+        if (factor < slowdown) {
+            for (Task task : tasks) {
+                task.nextRunNanos = Math.min(task.nextRunNanos, now);
+            }
+        }
+        slowdown = factor;
+        slowdownReason = String.join(", ", reasons);
+    }
+
+    private void updateCpu(long now) {
+        if (!cpuSupported) return;
+        long cpu = threads.getCurrentThreadCpuTime();
+        if (cpuWindowStart == 0) {
+            cpuWindowStart = now;
+            cpuWindowStartCpu = cpu;
+        } else if (now - cpuWindowStart >= CPU_WINDOW_NANOS) {
+            cpuPercent = (cpu - cpuWindowStartCpu) * 100.0 / (now - cpuWindowStart);
+            cpuWindowStart = now;
+            cpuWindowStartCpu = cpu;
+        }
+    }
+
+    // CPU used by the Swing thread as a percentage of one core, NaN until measured
+    public double getCpuPercent() {
+        return cpuPercent;
+    }
+
+    public int getSlowdown() {
+        return slowdown;
+    }
+
+    // Empty while running at full rate
+    public String getSlowdownReason() {
+        return slowdownReason;
+    }
+
+    public List<TaskStats> getTaskStats() {
+        List<TaskStats> stats = new ArrayList<>();
+        for (Task task : tasks) {
+            stats.add(new TaskStats(task.name, task.periodMillis, task.runs,
+                    task.runs > 0 ? task.cpuNanos / 1e6 / task.runs : Double.NaN, task.lastWallNanos / 1e6));
+        }
+        return stats;
+    }
+
+    public record TaskStats(String name, int periodMillis, long runs, double averageCpuMillis, double lastWallMillis) {
+    }
+
+    public final class Task {
+        private final String name;
+        private final int periodMillis;
+        private final Component owner;
+        private final Runnable action;
+
+        // Swing thread only
+        private long nextRunNanos;
+        private long runs;
+        private long cpuNanos;
+        private long lastWallNanos;
+
+        private Task(String name, int periodMillis, Component owner, Runnable action) {
+            this.name = name;
+            this.periodMillis = periodMillis;
+            this.owner = owner;
+            this.action = action;
+        }
+
+        public void cancel() {
+            tasks.remove(this);
+        }
+    }
+}
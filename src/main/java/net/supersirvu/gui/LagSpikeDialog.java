@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.profiling.LagSpike;
+import net.supersirvu.profiling.LagWatchdog;
+
+import javax.swing.*;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+public class LagSpikeDialog extends JDialog {
+    private final LagWatchdog watchdog;
+    private final DefaultListModel<LagSpike> spikeModel = new DefaultListModel<>();
+    private final JList<LagSpike> spikeList = new JList<>(spikeModel);
+    private final JLabel detailLabel = new JLabel(" ");
+    private final ProfileView profileView = new ProfileView();
+
+    public LagSpikeDialog(Frame parent, LagWatchdog watchdog, int selectedId) {
+        super(parent, "Lag Spikes", false);
+        this.watchdog = watchdog;
+        setLayout(new BorderLayout());
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        SimpleDateFormat timeFormat = new SimpleDateFormat("HH:mm:ss");
+        spikeList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        spikeList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+                LagSpike spike = (LagSpike) value;
+                String text = String.format("#%d  %s  %.0f ms", spike.getId(), timeFormat.format(new Date(spike.getStartMillis())), spike.getDurationMillis());
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+        spikeList.addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) showSpike(spikeList.getSelectedValue());
+        });
+
+        detailLabel.setBorder(BorderFactory.createEmptyBorder(5, 5, 5, 5));
+        JPanel detailPanel = new JPanel(new BorderLayout());
+        detailPanel.add(detailLabel, BorderLayout.NORTH);
+        detailPanel.add(profileView, BorderLayout.CENTER);
+
+        JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, new JScrollPane(spikeList), detailPanel);
+        split.setDividerLocation(180);
+
+        JButton refreshButton = new JButton("Refresh");
+        refreshButton.addActionListener(e -> reload(spikeList.getSelectedValue() != null ? spikeList.getSelectedValue().getId() : -1));
+        JButton closeButton = new JButton("Close");
+        closeButton.addActionListener(e -> dispose());
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttonPanel.add(refreshButton);
+        buttonPanel.add(closeButton);
+
+        add(split, BorderLayout.CENTER);
+        add(buttonPanel, BorderLayout.SOUTH);
+
+        reload(selectedId);
+
+        setSize(900, 600);
+        setLocationRelativeTo(parent);
+    }
+
+    private void reload(int selectedId) {
+        spikeModel.clear();
+        List<LagSpike> spikes = watchdog.getSpikes();
+        // Newest on top
+        for (int i = spikes.size() - 1; i >= 0; i--) {
+            spikeModel.addElement(spikes.get(i));
+        }
+
+        for (int i = 0; i < spikeModel.size(); i++) {
+            if (spikeModel.get(i).getId() == selectedId) {
+                spikeList.setSelectedIndex(i);
+                return;
+            }
+        }
+        if (!spikeModel.isEmpty()) {
+            spikeList.setSelectedIndex(0);
+        } else {
+            detailLabel.setText(selectedId > 0
+                    ? "Lag spike #" + selectedId + " is no longer in the history."
+                    : "No lag spikes recorded yet.");
+        }
+    }
+
+    private void showSpike(LagSpike spike) {
+        if (spike == null) return;
+        detailLabel.setText(String.format("Lag spike #%d at %s, tick %d took %.1f ms. %d samples, taken after the tick passed %d ms.",
+                spike.getId(), new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(spike.getStartMillis())),
+                spike.getTickNumber(), spike.getDurationMillis(), spike.getSampleCount(), spike.getThresholdMillis()));
+        profileView.setProfile(spike.getCallTree(), spike.getFrames());
+    }
+}
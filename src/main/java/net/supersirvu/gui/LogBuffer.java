@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.gui.EnhancedLogPanel.LogLevel;
+
+import javax.swing.*;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.SimpleAttributeSet;
+import javax.swing.text.Style;
+import javax.swing.text.StyleConstants;
+import javax.swing.text.StyledDocument;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * Every line the log panel has received, and the styled document showing the ones that pass
+ * the level and search filters. Kept apart from the panel, which needs the server for command
+ * completion, so ingestion and filtering can be benchmarked on their own.
+ */
+final class LogBuffer {
+    // Lines logged by the lag watchdog link to the captured stacks
+    private static final Pattern LAG_SPIKE_PATTERN = Pattern.compile("Lag spike #(\\d+)");
+    static final String LAG_SPIKE_ATTRIBUTE = "lagSpikeId";
+
+    private final StyledDocument document;
+    private final Map<LogLevel, Style> levelStyles = new HashMap<>();
+    private final Style linkStyle;
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Set<LogLevel> enabledLevels = new HashSet<>(Arrays.asList(LogLevel.values()));
+    private String searchQuery = "";
+
+    record Entry(String message, LogLevel level) {
+    }
+
+    LogBuffer(JTextPane textPane) {
+        this.document = textPane.getStyledDocument();
+
+        levelStyles.put(LogLevel.INFO, createStyle(textPane, new Color(52, 152, 219), false));
+        levelStyles.put(LogLevel.WARN, createStyle(textPane, new Color(243, 156, 18), false));
+        levelStyles.put(LogLevel.ERROR, createStyle(textPane, new Color(231, 76, 60), true));
+        levelStyles.put(LogLevel.DEBUG, createStyle(textPane, new Color(149, 165, 166), false));
+        levelStyles.put(LogLevel.CHAT, createStyle(textPane, new Color(46, 204, 113), false));
+
+        linkStyle = createStyle(textPane, new Color(41, 128, 185), true);
+        StyleConstants.setUnderline(linkStyle, true);
+    }
+
+    static Style createStyle(JTextPane textPane, Color color, boolean bold) {
+        Style style = textPane.addStyle(null, null);
+        StyleConstants.setForeground(style, color);
+        StyleConstants.setBold(style, bold);
+        return style;
+    }
+
+    static LogLevel detectLevel(String message) {
+        if (message.contains("[ERROR]") || message.contains("ERROR:")) {
+            return LogLevel.ERROR;
+        } else if (message.contains("[WARN]") || message.contains("WARN:")) {
+            return LogLevel.WARN;
+        } else if (message.contains("[DEBUG]") || message.contains("DEBUG:")) {
+            return LogLevel.DEBUG;
+        } else if (message.contains("<") && message.contains(">")) {
+            // Chat messages typically have <PlayerName> format
+            return LogLevel.CHAT;
+        } else {
+            return LogLevel.INFO;
+        }
+    }
+
+    Entry add(String message, LogLevel level) {
+        Entry entry = new Entry(message, level);
+        entries.add(entry);
+        return entry;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean isEnabled(LogLevel level) {
+        return enabledLevels.contains(level);
+    }
+
+    void setEnabledLevels(Collection<LogLevel> levels) {
+        enabledLevels.clear();
+        enabledLevels.addAll(levels);
+    }
+
+    void setSearchQuery(String query) {
+        searchQuery = query.toLowerCase();
+    }
+
+    boolean accepts(Entry entry) {
+        // Check log level filter
+        if (!enabledLevels.contains(entry.level())) return false;
+
+        // Check search filter
+        if (!searchQuery.isEmpty() && !entry.message().toLowerCase().contains(searchQuery)) return false;
+
+        return true;
+    }
+
+    void display(Entry entry) {
+        Style style = levelStyles.get(entry.level());
+        try {
+            // Add log level tag
+            String levelTag = "[" + (entry.level() == LogLevel.CHAT ? "CHAT" : "SERVER LOG") + "] ";
+            document.insertString(document.getLength(), levelTag, style);
+
+            // Add message, with lag spike references turned into links
+            Matcher matcher = LAG_SPIKE_PATTERN.matcher(entry.message());
+            if (matcher.find() && DedicatedPower.getLagWatchdog() != null) {
+                SimpleAttributeSet link = new SimpleAttributeSet(linkStyle);
+                link.addAttribute(LAG_SPIKE_ATTRIBUTE, Integer.parseInt(matcher.group(1)));
+
+                document.insertString(document.getLength(), entry.message().substring(0, matcher.start()), style);
+                document.insertString(document.getLength(), matcher.group(), link);
+                document.insertString(document.getLength(), entry.message().substring(matcher.end()) + "\n", style);
+            } else {
+                document.insertString(document.getLength(), entry.message() + "\n", style);
+            }
+        } catch (BadLocationException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // Rebuilds the document from all entries after a filter change
+    void refresh() {
+        clearDocument();
+        for (Entry entry : entries) {
+            if (accepts(entry)) {
+                display(entry);
+            }
+        }
+    }
+
+    void clear() {
+        entries.clear();
+        clearDocument();
+    }
+
+    private void clearDocument() {
+        try {
+            document.remove(0, document.getLength());
+        } catch (BadLocationException e) {
+            e.printStackTrace();
+        }
+    }
+}
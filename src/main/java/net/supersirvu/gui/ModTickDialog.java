@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.profiling.ModTickSampler;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.util.List;
+
+public class ModTickDialog extends JDialog {
+    private static final int[] WINDOW_MINUTES = {1, 5, 15, 60};
+
+    private final ModTickSampler sampler;
+    private final ShareTableModel tableModel = new ShareTableModel();
+    private final JComboBox<String> windowBox = new JComboBox<>();
+    private final JLabel statusLabel = new JLabel(" ");
+
+    public ModTickDialog(Frame parent, ModTickSampler sampler) {
+        super(parent, "Tick Time by Mod", false);
+        this.sampler = sampler;
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        for (int minutes : WINDOW_MINUTES) {
+            windowBox.addItem(minutes == 1 ? "Last minute" : minutes == 60 ? "Last hour" : "Last " + minutes + " minutes");
+        }
+        windowBox.setSelectedIndex(1);
+        windowBox.addActionListener(e -> refresh());
+
+        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        topPanel.add(new JLabel("Window:"));
+        topPanel.add(windowBox);
+
+        JTable table = new JTable(tableModel);
+        table.setAutoCreateRowSorter(true);
+        table.getColumnModel().getColumn(1).setPreferredWidth(250);
+
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+
+        add(topPanel, BorderLayout.NORTH);
+        add(new JScrollPane(table), BorderLayout.CENTER);
+        add(statusLabel, BorderLayout.SOUTH);
+
+        refresh();
+        GuiScheduler.get().schedule("Tick Time by Mod", 2000, this, this::refresh);
+
+        setSize(700, 500);
+        setLocationRelativeTo(parent);
+    }
+
+    private void refresh() {
+        if (!sampler.isRunning()) {
+            statusLabel.setText("Mod attribution is off (mods.attribution-enabled) or the server is not running.");
+        }
+
+        ModTickSampler.Report report = sampler.getReport(WINDOW_MINUTES[windowBox.getSelectedIndex()]);
+        tableModel.setShares(report.shares());
+        if (sampler.isRunning()) {
+            statusLabel.setText(String.format("%,d tick samples over %,d ticks every %d ms, server thread busy %.1f%% of the time",
+                    report.tickSamples(), report.ticks(), sampler.getIntervalMillis(), report.busyPercent()));
+        }
+    }
+
+    private static class ShareTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Mod ID", "Name", "Tick Share %", "ms / Tick", "Samples"};
+
+        private List<ModTickSampler.ModShare> shares = List.of();
+
+        void setShares(List<ModTickSampler.ModShare> shares) {
+            this.shares = shares;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return shares.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 0, 1 -> String.class;
+                case 2, 3 -> Double.class;
+                default -> Long.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            ModTickSampler.ModShare share = shares.get(row);
+            return switch (column) {
+                case 0 -> share.modId();
+                case 1 -> share.name();
+                case 2 -> Math.round(share.percent() * 10) / 10.0;
+                case 3 -> Double.isNaN(share.msPerTick()) ? null : Math.round(share.msPerTick() * 100) / 100.0;
+                default -> share.samples();
+            };
+        }
+    }
+}
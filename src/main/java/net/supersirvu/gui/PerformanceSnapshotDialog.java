@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.minecraft.server.MinecraftServer;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.diagnostics.PerformanceSnapshot;
+import net.supersirvu.diagnostics.SnapshotComparison;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+import java.awt.*;
+import java.awt.datatransfer.StringSelection;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+/*
+ * Saved performance snapshots and the comparison between two of them. Selecting one
+ * snapshot compares it with the one saved before it; selecting two compares the older
+ * with the newer.
+ */
+public class PerformanceSnapshotDialog extends JDialog {
+    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+    private static final Color BETTER_COLOR = new Color(40, 180, 99);
+    private static final Color WORSE_COLOR = new Color(192, 57, 43);
+
+    private final MinecraftServer server;
+    private final DefaultListModel<PerformanceSnapshot> listModel = new DefaultListModel<>();
+    private final JList<PerformanceSnapshot> snapshotList = new JList<>(listModel);
+    private final ComparisonTableModel tableModel = new ComparisonTableModel();
+    private final JTextArea changesArea = new JTextArea(4, 40);
+    private final JComboBox<String> windowBox = new JComboBox<>();
+    private final JButton takeButton = new JButton("Take Snapshot...");
+    private final JLabel statusLabel = new JLabel(" ");
+    private SnapshotComparison comparison;
+
+    public PerformanceSnapshotDialog(Frame parent, MinecraftServer server) {
+        super(parent, "Performance Snapshots", false);
+        this.server = server;
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        for (int minutes : PerformanceSnapshot.WINDOW_MINUTES) {
+            windowBox.addItem(minutes == 1 ? "Last minute" : "Last " + minutes + " minutes");
+        }
+        windowBox.setSelectedIndex(1);
+
+        takeButton.addActionListener(e -> takeSnapshot());
+        JButton deleteButton = new JButton("Delete");
+        deleteButton.addActionListener(e -> deleteSelected());
+        JButton copyButton = new JButton("Copy Report");
+        copyButton.addActionListener(e -> {
+            if (comparison == null) return;
+            StringSelection selection = new StringSelection(comparison.format());
+            Toolkit.getDefaultToolkit().getSystemClipboard().setContents(selection, selection);
+        });
+
+        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        topPanel.add(new JLabel("Window:"));
+        topPanel.add(windowBox);
+        topPanel.add(takeButton);
+        topPanel.add(deleteButton);
+        topPanel.add(copyButton);
+
+        snapshotList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
+                PerformanceSnapshot snapshot = (PerformanceSnapshot) value;
+                String text = "<html>" + escape(snapshot.name()) + "<br><small>" + DATE_FORMAT.format(new Date(snapshot.timeMillis()))
+                        + ", " + snapshot.getWindowSeconds() / 60 + " min</small></html>";
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+        snapshotList.addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) compareSelected();
+        });
+
+        JTable table = new JTable(tableModel);
+        table.getColumnModel().getColumn(0).setPreferredWidth(200);
+        table.setDefaultRenderer(Object.class, new DefaultTableCellRenderer() {
+            @Override
+            public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+                Component component = super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
+                if (!isSelected) {
+                    SnapshotComparison.Verdict verdict = tableModel.getRow(row).verdict();
+                    component.setForeground(verdict == SnapshotComparison.Verdict.BETTER ? BETTER_COLOR
+                            : verdict == SnapshotComparison.Verdict.WORSE ? WORSE_COLOR : table.getForeground());
+                }
+                setHorizontalAlignment(column == 0 ? LEFT : RIGHT);
+                return component;
+            }
+        });
+
+        changesArea.setEditable(false);
+        changesArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+
+        JPanel comparePanel = new JPanel(new BorderLayout(5, 5));
+        comparePanel.add(new JScrollPane(table), BorderLayout.CENTER);
+        comparePanel.add(new JScrollPane(changesArea), BorderLayout.SOUTH);
+
+        JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, new JScrollPane(snapshotList), comparePanel);
+        split.setDividerLocation(200);
+
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+
+        add(topPanel, BorderLayout.NORTH);
+        add(split, BorderLayout.CENTER);
+        add(statusLabel, BorderLayout.SOUTH);
+
+        reload(null);
+
+        setSize(950, 600);
+        setLocationRelativeTo(parent);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    private void reload(PerformanceSnapshot select) {
+        List<PerformanceSnapshot> snapshots;
+        try {
+            snapshots = PerformanceSnapshot.loadAll();
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "Failed to load snapshots: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        listModel.clear();
+        snapshots.forEach(listModel::addElement);
+        int index = snapshots.size() - 1;
+        for (int i = 0; select != null && i < snapshots.size(); i++) {
+            if (snapshots.get(i).timeMillis() == select.timeMillis()) index = i;
+        }
+        if (index >= 0) {
+            snapshotList.setSelectedIndex(index);
+            snapshotList.ensureIndexIsVisible(index);
+        }
+        compareSelected();
+    }
+
+    private void compareSelected() {
+        int[] selected = snapshotList.getSelectedIndices();
+        PerformanceSnapshot before = null;
+        PerformanceSnapshot after = null;
+        if (selected.length == 1 && selected[0] > 0) {
+            before = listModel.get(selected[0] - 1);
+            after = listModel.get(selected[0]);
+        } else if (selected.length == 2) {
+            before = listModel.get(selected[0]);
+            after = listModel.get(selected[1]);
+        }
+
+        if (before == null) {
+            comparison = null;
+            tableModel.setRows(List.of());
+            changesArea.setText("");
+            statusLabel.setText(listModel.size() < 2
+                    ? "Take a snapshot before and after a change to compare them."
+                    : "Select a snapshot to compare it with the one before, or two to compare them.");
+            return;
+        }
+
+        comparison = new SnapshotComparison(before, after);
+        tableModel.setRows(comparison.getRows());
+        changesArea.setText(comparison.getChanges().isEmpty() ? "No setting, mod or Java changes between the snapshots."
+                : String.join("\n", comparison.getChanges()));
+        changesArea.setCaretPosition(0);
+        statusLabel.setText("Comparing \"" + before.name() + "\" (before) with \"" + after.name()
+                + "\" (after). Colored rows changed significantly (p < 0.05).");
+    }
+
+    private void takeSnapshot() {
+        String name = JOptionPane.showInputDialog(this, "Snapshot name:", "Snapshot " + DATE_FORMAT.format(new Date()));
+        if (name == null || name.isBlank()) return;
+        int minutes = PerformanceSnapshot.WINDOW_MINUTES[windowBox.getSelectedIndex()];
+
+        takeButton.setEnabled(false);
+        new Thread(() -> {
+            PerformanceSnapshot snapshot = PerformanceSnapshot.capture(name.trim(), minutes, server);
+            String error = null;
+            if (snapshot == null) {
+                error = DedicatedPower.getTickRecorder() == null
+                        ? "Snapshots need the tick recorder, which is turned off (recorder.enabled)."
+                        : "Not enough ticks recorded yet, try again in a few seconds.";
+            } else {
+                try {
+                    snapshot.save();
+                } catch (IOException e) {
+                    error = "Failed to save: " + e.getMessage();
+                }
+            }
+
+            String message = error;
+            SwingUtilities.invokeLater(() -> {
+                takeButton.setEnabled(true);
+                if (message != null) {
+                    JOptionPane.showMessageDialog(this, message, "Performance Snapshots", JOptionPane.ERROR_MESSAGE);
+                } else {
+                    reload(snapshot);
+                }
+            });
+        }, "DedicatedPower Performance Snapshot").start();
+    }
+
+    private void deleteSelected() {
+        List<PerformanceSnapshot> selected = snapshotList.getSelectedValuesList();
+        if (selected.isEmpty()) return;
+        int result = JOptionPane.showConfirmDialog(this, "Delete " + selected.size() + " snapshot(s)?",
+                "Confirm Delete", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+        if (result != JOptionPane.YES_OPTION) return;
+
+        for (PerformanceSnapshot snapshot : selected) {
+            try {
+                snapshot.delete();
+            } catch (IOException e) {
+                JOptionPane.showMessageDialog(this, "Failed to delete: " + e.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+        reload(null);
+    }
+
+    private static class ComparisonTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Metric", "Before", "After", "Delta", "Delta %", "p", "Verdict"};
+
+        private List<SnapshotComparison.Row> rows = List.of();
+
+        void setRows(List<SnapshotComparison.Row> rows) {
+            this.rows = rows;
+            fireTableDataChanged();
+        }
+
+        SnapshotComparison.Row getRow(int row) {
+            return rows.get(row);
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            SnapshotComparison.Row r = rows.get(row);
+            return switch (column) {
+                case 0 -> r.label();
+                case 1 -> SnapshotComparison.formatValue(r.before(), r.unit());
+                case 2 -> SnapshotComparison.formatValue(r.after(), r.unit());
+                case 3 -> SnapshotComparison.formatDelta(r.delta(), r.unit());
+                case 4 -> Double.isNaN(r.deltaPercent()) ? "-" : String.format("%+.1f%%", r.deltaPercent());
+                case 5 -> SnapshotComparison.formatPValue(r.pValue());
+                default -> switch (r.verdict()) {
+                    case BETTER -> "Better";
+                    case WORSE -> "Worse";
+                    case NO_CHANGE -> "No change";
+                    case UNTESTED -> "";
+                };
+            };
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.profiling.CallTree;
+import net.supersirvu.profiling.FrameTable;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.List;
+
+// Flame graph and hot methods table for one call tree, shared by the profiler and lag spike viewers
+public class ProfileView extends JTabbedPane {
+    private final FlameGraphPanel flameGraph = new FlameGraphPanel();
+    private final HotMethodsTableModel hotMethodsModel = new HotMethodsTableModel();
+
+    public ProfileView() {
+        JTable hotMethodsTable = new JTable(hotMethodsModel);
+        hotMethodsTable.setAutoCreateRowSorter(true);
+        hotMethodsTable.getColumnModel().getColumn(0).setPreferredWidth(500);
+
+        addTab("Flame Graph", new JScrollPane(flameGraph));
+        addTab("Hot Methods", new JScrollPane(hotMethodsTable));
+    }
+
+    public void setProfile(CallTree tree, FrameTable frames) {
+        flameGraph.setProfile(tree, frames);
+        hotMethodsModel.setMethods(tree != null ? tree.getHotMethods(frames) : List.of(),
+                tree != null ? tree.getTotalSamples() : 0);
+    }
+
+    private static class HotMethodsTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Method", "Self %", "Total %", "Self Samples", "Total Samples"};
+
+        private List<CallTree.HotMethod> methods = List.of();
+        private int totalSamples;
+
+        void setMethods(List<CallTree.HotMethod> methods, int totalSamples) {
+            this.methods = methods;
+            this.totalSamples = Math.max(1, totalSamples);
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return methods.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 0 -> String.class;
+                case 1, 2 -> Double.class;
+                default -> Long.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            CallTree.HotMethod method = methods.get(row);
+            return switch (column) {
+                case 0 -> method.name();
+                case 1 -> Math.round(method.selfSamples() * 1000.0 / totalSamples) / 10.0;
+                case 2 -> Math.round(method.totalSamples() * 1000.0 / totalSamples) / 10.0;
+                case 3 -> method.selfSamples();
+                default -> method.totalSamples();
+            };
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.profiling.CallTree;
+import net.supersirvu.profiling.SamplingProfiler;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+public class ProfilerDialog extends JDialog {
+    private final ProfileView profileView = new ProfileView();
+    private final JButton startButton = new JButton("Start");
+    private final JButton refreshButton = new JButton("Refresh");
+    private final JButton exportButton = new JButton("Export Collapsed Stacks...");
+    private final JCheckBox allThreadsBox = new JCheckBox("All threads");
+    private final JSpinner intervalSpinner;
+    private final JLabel statusLabel = new JLabel(" ");
+    private GuiScheduler.Task statusTask;
+
+    private SamplingProfiler profiler;
+    private CallTree shownTree;
+
+    public ProfilerDialog(Frame parent) {
+        super(parent, "Sampling Profiler", false);
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        intervalSpinner = new JSpinner(new SpinnerNumberModel((int) SamplingProfiler.getDefaultIntervalMillis(), 1, 1000, 1));
+
+        JPanel controls = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        controls.add(startButton);
+        controls.add(new JLabel("  Interval (ms):"));
+        controls.add(intervalSpinner);
+        controls.add(allThreadsBox);
+        controls.add(refreshButton);
+        controls.add(exportButton);
+
+        startButton.addActionListener(e -> toggle());
+        refreshButton.addActionListener(e -> showProfile());
+        exportButton.addActionListener(e -> exportCollapsed());
+        refreshButton.setEnabled(false);
+        exportButton.setEnabled(false);
+
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+
+        add(controls, BorderLayout.NORTH);
+        add(profileView, BorderLayout.CENTER);
+        add(statusLabel, BorderLayout.SOUTH);
+
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                stopStatusUpdates();
+                if (profiler != null) profiler.stop();
+            }
+        });
+
+        setSize(1000, 650);
+        setLocationRelativeTo(parent);
+    }
+
+    private void toggle() {
+        if (profiler != null && profiler.isRunning()) {
+            profiler.stop();
+            stopStatusUpdates();
+            startButton.setText("Start");
+            intervalSpinner.setEnabled(true);
+            allThreadsBox.setEnabled(true);
+            refreshButton.setEnabled(false);
+            showProfile();
+            updateStatus();
+            return;
+        }
+
+        Thread serverThread = DedicatedPower.getLagWatchdog() != null ? DedicatedPower.getLagWatchdog().getServerThread() : null;
+        try {
+            profiler = new SamplingProfiler(serverThread, allThreadsBox.isSelected(), (Integer) intervalSpinner.getValue());
+            profiler.start();
+        } catch (IllegalStateException e) {
+            JOptionPane.showMessageDialog(this, "The server has not ticked yet, try again in a moment.",
+                    "Profiler", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        startButton.setText("Stop");
+        intervalSpinner.setEnabled(false);
+        allThreadsBox.setEnabled(false);
+        refreshButton.setEnabled(true);
+        exportButton.setEnabled(false);
+        profileView.setProfile(null, null);
+        statusTask = GuiScheduler.get().schedule("Profiler Status", 1000, this, this::updateStatus);
+        updateStatus();
+    }
+
+    private void stopStatusUpdates() {
+        if (statusTask != null) {
+            statusTask.cancel();
+            statusTask = null;
+        }
+    }
+
+    private void showProfile() {
+        if (profiler == null) return;
+        shownTree = profiler.snapshot();
+        profileView.setProfile(shownTree, profiler.getFrames());
+        exportButton.setEnabled(shownTree.getTotalSamples() > 0);
+    }
+
+    private void updateStatus() {
+        if (profiler == null) return;
+        statusLabel.setText(String.format("%s %,d samples in %.0f s, interval %.1f ms%s, overhead %.2f%%",
+                profiler.isRunning() ? "Sampling..." : "Stopped.",
+                profiler.getSampleCount(), profiler.getElapsedSeconds(), profiler.getIntervalMillis(),
+                profiler.isThrottled() ? " (slowed down to stay under the overhead limit)" : "",
+                profiler.getOverheadPercent()));
+    }
+
+    private void exportCollapsed() {
+        if (shownTree == null) return;
+
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("profile-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + ".collapsed"));
+        if (chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+        try (Writer writer = Files.newBufferedWriter(chooser.getSelectedFile().toPath())) {
+            shownTree.writeCollapsed(writer, profiler.getFrames());
+            JOptionPane.showMessageDialog(this, "Profile exported to:\n" + chooser.getSelectedFile().getAbsolutePath(),
+                    "Export Complete", JOptionPane.INFORMATION_MESSAGE);
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "Failed to export profile: " + e.getMessage(),
+                    "Export Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+}
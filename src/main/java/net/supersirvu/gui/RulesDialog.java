@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.rules.RuleEngine;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+
+public class RulesDialog extends JDialog {
+    private final RuleEngine engine;
+    private final RuleTableModel tableModel = new RuleTableModel();
+    private final JTable table = new JTable(tableModel);
+    private final JTextArea historyArea = new JTextArea(10, 40);
+    private final JLabel statusLabel = new JLabel(" ");
+    private RuleEngine.Firing shownLatest;
+    private boolean historyShown;
+
+    public RulesDialog(Frame parent, RuleEngine engine) {
+        super(parent, "Automation Rules", false);
+        this.engine = engine;
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        table.setAutoCreateRowSorter(true);
+        table.getColumnModel().getColumn(0).setPreferredWidth(180);
+        table.getColumnModel().getColumn(1).setPreferredWidth(260);
+
+        historyArea.setEditable(false);
+        historyArea.setFont(new Font("Monospaced", Font.PLAIN, 11));
+
+        JSplitPane split = new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(table), new JScrollPane(historyArea));
+        split.setResizeWeight(0.5);
+
+        JButton reloadButton = new JButton("Reload Rules");
+        reloadButton.addActionListener(e -> {
+            engine.reload();
+            refresh();
+        });
+
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        bottomPanel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+        bottomPanel.add(statusLabel, BorderLayout.CENTER);
+        bottomPanel.add(reloadButton, BorderLayout.EAST);
+
+        add(split, BorderLayout.CENTER);
+        add(bottomPanel, BorderLayout.SOUTH);
+
+        refresh();
+        GuiScheduler.get().schedule("Automation Rules", 2000, this, this::refresh);
+
+        setSize(900, 550);
+        setLocationRelativeTo(parent);
+    }
+
+    private void refresh() {
+        tableModel.setRules(engine.getStatus());
+
+        String error = engine.getLoadError();
+        if (error != null) {
+            statusLabel.setText("Could not load " + engine.getFile().getFileName() + ": " + error + " (keeping the previous rules)");
+            statusLabel.setForeground(Color.RED);
+        } else {
+            statusLabel.setText("Rules: " + engine.getFile() + "   Audit log: " + engine.getAuditFile());
+            statusLabel.setForeground(UIManager.getColor("Label.foreground"));
+        }
+
+        // Only rewrite the text when something happened, so scrolling back is not interrupted
+        List<RuleEngine.Firing> history = engine.getHistory();
+        RuleEngine.Firing latest = history.isEmpty() ? null : history.get(history.size() - 1);
+        if (historyShown && latest == shownLatest) return;
+        shownLatest = latest;
+        historyShown = true;
+
+        StringBuilder text = new StringBuilder();
+        if (history.isEmpty()) {
+            text.append("No rule has fired yet.");
+        }
+        for (int i = history.size() - 1; i >= 0; i--) {
+            text.append(history.get(i).format()).append("\n");
+        }
+        historyArea.setText(text.toString());
+        historyArea.setCaretPosition(0);
+    }
+
+    private static class RuleTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Rule", "Condition", "State", "Value", "Firings", "Last Fired"};
+
+        private List<RuleEngine.RuleStatus> rules = List.of();
+
+        void setRules(List<RuleEngine.RuleStatus> rules) {
+            this.rules = rules;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rules.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column == 3 ? Double.class : column == 4 ? Integer.class : String.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            RuleEngine.RuleStatus rule = rules.get(row);
+            return switch (column) {
+                case 0 -> rule.name();
+                case 1 -> rule.condition();
+                case 2 -> !rule.enabled() ? "Disabled" : rule.active() ? "Active" : "Watching";
+                case 3 -> Double.isNaN(rule.lastValue()) ? null : Math.round(rule.lastValue() * 10) / 10.0;
+                case 4 -> rule.firings();
+                default -> rule.lastFiredMillis() == 0 ? "Never"
+                        : new SimpleDateFormat("HH:mm:ss").format(new Date(rule.lastFiredMillis()));
+            };
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/*
+ * A list model that is replaced as a whole from each snapshot. The contents are filtered and
+ * sorted first and then swapped in with one removal and one insertion event, instead of an
+ * event per row that the list has to lay out again.
+ */
+final class SnapshotListModel<T> extends DefaultListModel<T> {
+    void setContents(Collection<? extends T> items, Predicate<? super T> filter, Comparator<? super T> order) {
+        List<T> visible = new ArrayList<>();
+        for (T item : items) {
+            if (filter.test(item)) visible.add(item);
+        }
+        visible.sort(order);
+
+        clear();
+        addAll(visible);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.profiling.StartupTimeline;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * One row per startup phase, in start order, on a shared time axis from JVM start. When a
+ * previous startup is given, the same phase from that run is drawn as an outline under
+ * each bar, so a phase that got slower sticks out past its outline.
+ */
+public class StartupGanttPanel extends JComponent implements Scrollable {
+    private static final int ROW_HEIGHT = 20;
+    private static final int AXIS_HEIGHT = 22;
+    private static final int LABEL_WIDTH = 230;
+    private static final Font LABEL_FONT = new Font("SansSerif", Font.PLAIN, 11);
+    private static final Color GRID_COLOR = new Color(220, 220, 220);
+    private static final Color PREVIOUS_COLOR = new Color(100, 100, 100);
+    private static final Map<String, Color> CATEGORY_COLORS = Map.of(
+            StartupTimeline.LOADER, new Color(149, 165, 166),
+            StartupTimeline.MODS, new Color(155, 89, 182),
+            StartupTimeline.MIXIN, new Color(241, 196, 15),
+            StartupTimeline.BOOTSTRAP, new Color(230, 126, 34),
+            StartupTimeline.DATA, new Color(52, 152, 219),
+            StartupTimeline.SERVER, new Color(189, 195, 199),
+            StartupTimeline.WORLDS, new Color(46, 204, 113),
+            StartupTimeline.GUI, new Color(231, 76, 60));
+
+    private StartupTimeline.Timeline timeline;
+    private StartupTimeline.Timeline previous;
+
+    public StartupGanttPanel() {
+        setOpaque(true);
+        ToolTipManager.sharedInstance().registerComponent(this);
+    }
+
+    public void setTimelines(StartupTimeline.Timeline timeline, StartupTimeline.Timeline previous) {
+        this.timeline = timeline;
+        this.previous = previous;
+        revalidate();
+        repaint();
+    }
+
+    public static Color colorFor(String category) {
+        return CATEGORY_COLORS.getOrDefault(category, Color.GRAY);
+    }
+
+    private long getScaleMillis() {
+        long scale = timeline != null ? timeline.totalMillis() : 0;
+        if (previous != null) scale = Math.max(scale, previous.totalMillis());
+        return Math.max(1, scale);
+    }
+
+    private int toX(long millis) {
+        int width = Math.max(1, getWidth() - LABEL_WIDTH - 10);
+        return LABEL_WIDTH + (int) (millis * width / getScaleMillis());
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        int rows = timeline != null ? timeline.phases().size() : 0;
+        return new Dimension(800, AXIS_HEIGHT + rows * ROW_HEIGHT + 4);
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        if (timeline == null) return null;
+        int row = (event.getY() - AXIS_HEIGHT) / ROW_HEIGHT;
+        if (event.getY() < AXIS_HEIGHT || row >= timeline.phases().size()) return null;
+
+        StartupTimeline.Phase phase = timeline.phases().get(row);
+        StringBuilder text = new StringBuilder("<html><b>").append(escape(phase.name())).append("</b> (")
+                .append(phase.category()).append(")<br>")
+                .append(String.format("%.2f s to %.2f s, took %.2f s", phase.startMillis() / 1000.0,
+                        phase.endMillis() / 1000.0, phase.durationMillis() / 1000.0));
+        StartupTimeline.Phase before = previous != null ? previous.getPhase(phase.name()) : null;
+        if (before != null) {
+            text.append(String.format("<br>Previous startup: %.2f s (%+.2f s)", before.durationMillis() / 1000.0,
+                    (phase.durationMillis() - before.durationMillis()) / 1000.0));
+        }
+        return text.append("</html>").toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
+        try {
+            paintGantt((Graphics2D) g);
+        } finally {
+            EdtMonitor.recordPaint("Startup Timeline", System.nanoTime() - paintStart);
+        }
+    }
+
+    private void paintGantt(Graphics2D g2d) {
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, getWidth(), getHeight());
+        if (timeline == null || timeline.phases().isEmpty()) {
+            g2d.setColor(Color.GRAY);
+            g2d.drawString("No startup phases recorded", 10, 20);
+            return;
+        }
+
+        g2d.setFont(LABEL_FONT);
+        FontMetrics metrics = g2d.getFontMetrics();
+        paintAxis(g2d, metrics);
+
+        List<StartupTimeline.Phase> phases = timeline.phases();
+        for (int row = 0; row < phases.size(); row++) {
+            StartupTimeline.Phase phase = phases.get(row);
+            int y = AXIS_HEIGHT + row * ROW_HEIGHT;
+
+            g2d.setColor(Color.BLACK);
+            String label = phase.name();
+            while (label.length() > 3 && metrics.stringWidth(label) > LABEL_WIDTH - 10) {
+                label = label.substring(0, label.length() - 4) + "..";
+            }
+            g2d.drawString(label, 5, y + ROW_HEIGHT - 6);
+
+            StartupTimeline.Phase before = previous != null ? previous.getPhase(phase.name()) : null;
+            if (before != null) {
+                int x = toX(before.startMillis());
+                g2d.setColor(PREVIOUS_COLOR);
+                g2d.drawRect(x, y + 2, Math.max(2, toX(before.endMillis()) - x), ROW_HEIGHT - 5);
+            }
+
+            int x = toX(phase.startMillis());
+            int width = Math.max(2, toX(phase.endMillis()) - x);
+            g2d.setColor(colorFor(phase.category()));
+            g2d.fillRect(x, y + 4, width, ROW_HEIGHT - 8);
+
+            String duration = String.format("%.2f s", phase.durationMillis() / 1000.0);
+            int textX = x + width + 4;
+            if (textX + metrics.stringWidth(duration) > getWidth()) {
+                textX = x - metrics.stringWidth(duration) - 4;
+            }
+            g2d.setColor(Color.DARK_GRAY);
+            g2d.drawString(duration, textX, y + ROW_HEIGHT - 6);
+        }
+    }
+
+    // A gridline at a round number of seconds, about every 100 pixels
+    private void paintAxis(Graphics2D g2d, FontMetrics metrics) {
+        long scale = getScaleMillis();
+        int width = Math.max(1, getWidth() - LABEL_WIDTH - 10);
+        long step = 1000;
+        long[] steps = {100, 250, 500, 1000, 2000, 5000, 10_000, 15_000, 30_000, 60_000, 120_000, 300_000};
+        for (long candidate : steps) {
+            step = candidate;
+            if (candidate * width / scale >= 100) break;
+        }
+
+        for (long millis = 0; millis <= scale; millis += step) {
+            int x = toX(millis);
+            g2d.setColor(GRID_COLOR);
+            g2d.drawLine(x, AXIS_HEIGHT - 4, x, getHeight());
+            g2d.setColor(Color.DARK_GRAY);
+            String label = step < 1000 ? String.format("%.1f s", millis / 1000.0) : (millis / 1000) + " s";
+            g2d.drawString(label, x - metrics.stringWidth(label) / 2, AXIS_HEIGHT - 8);
+        }
+        g2d.setColor(GRID_COLOR);
+        g2d.drawLine(0, AXIS_HEIGHT - 2, getWidth(), AXIS_HEIGHT - 2);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(800, 400);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return ROW_HEIGHT;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return visibleRect.height - ROW_HEIGHT;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return true;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return getParent() instanceof JViewport viewport && viewport.getHeight() > getPreferredSize().height;
+    }
+}
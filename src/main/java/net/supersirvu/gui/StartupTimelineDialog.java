@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.supersirvu.profiling.StartupTimeline;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/*
+ * The startup timeline as a Gantt chart and a table, optionally against an earlier startup.
+ * Exports as CSV or as a Chrome trace (chrome://tracing, Perfetto).
+ */
+public class StartupTimelineDialog extends JDialog {
+    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm");
+
+    private final StartupGanttPanel ganttPanel = new StartupGanttPanel();
+    private final PhaseTableModel tableModel = new PhaseTableModel();
+    private final JComboBox<String> compareBox = new JComboBox<>();
+    private final JLabel statusLabel = new JLabel(" ");
+    private final List<StartupTimeline.Timeline> history = new ArrayList<>();
+    private StartupTimeline.Timeline timeline;
+    private boolean showedFinished;
+
+    public StartupTimelineDialog(Frame parent) {
+        super(parent, "Startup Timeline", false);
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        compareBox.addItem("Nothing");
+        try {
+            history.addAll(StartupTimeline.loadHistory());
+        } catch (IOException e) {
+            statusLabel.setText("Failed to load earlier startups: " + e.getMessage());
+        }
+        for (StartupTimeline.Timeline earlier : history) {
+            compareBox.addItem(String.format("%s (%.1f s)", DATE_FORMAT.format(new Date(earlier.jvmStartMillis())), earlier.totalMillis() / 1000.0));
+        }
+        if (!history.isEmpty()) compareBox.setSelectedIndex(1);
+        compareBox.addActionListener(e -> showTimeline());
+
+        JButton csvButton = new JButton("Export CSV...");
+        csvButton.addActionListener(e -> export(false));
+        JButton traceButton = new JButton("Export Trace...");
+        traceButton.addActionListener(e -> export(true));
+
+        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        topPanel.add(new JLabel("Compare with:"));
+        topPanel.add(compareBox);
+        topPanel.add(csvButton);
+        topPanel.add(traceButton);
+
+        JTable table = new JTable(tableModel);
+        table.setAutoCreateRowSorter(true);
+        table.getColumnModel().getColumn(0).setPreferredWidth(250);
+
+        JSplitPane split = new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(ganttPanel), new JScrollPane(table));
+        split.setResizeWeight(0.6);
+
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+
+        add(topPanel, BorderLayout.NORTH);
+        add(split, BorderLayout.CENTER);
+        add(statusLabel, BorderLayout.SOUTH);
+
+        refresh();
+        GuiScheduler.get().schedule("Startup Timeline", 1000, this, this::refresh);
+
+        setSize(1000, 650);
+        setLocationRelativeTo(parent);
+    }
+
+    // Follows the startup while it is still going, then stays put
+    private void refresh() {
+        if (showedFinished) return;
+        showedFinished = StartupTimeline.isFinished();
+        timeline = StartupTimeline.current();
+        showTimeline();
+    }
+
+    private StartupTimeline.Timeline getPrevious() {
+        int index = compareBox.getSelectedIndex();
+        return index > 0 ? history.get(index - 1) : null;
+    }
+
+    private void showTimeline() {
+        StartupTimeline.Timeline previous = getPrevious();
+        ganttPanel.setTimelines(timeline, previous);
+        tableModel.setTimelines(timeline, previous);
+
+        String status = String.format("%s %.1f s after JVM start", showedFinished ? "Server started" : "Still starting,",
+                timeline.totalMillis() / 1000.0);
+        if (previous != null) {
+            status += String.format(" (%+.1f s against the earlier startup)", (timeline.totalMillis() - previous.totalMillis()) / 1000.0);
+        }
+        statusLabel.setText(status);
+    }
+
+    private void export(boolean trace) {
+        JFileChooser fc = new JFileChooser();
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(timeline.jvmStartMillis()));
+        fc.setSelectedFile(new File("startup-" + stamp + (trace ? "-trace.json" : ".csv")));
+        if (fc.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) return;
+
+        try (FileWriter writer = new FileWriter(fc.getSelectedFile())) {
+            writer.write(trace ? formatTrace(timeline) : formatCsv(timeline));
+            JOptionPane.showMessageDialog(this, "Startup timeline exported!", "Success", JOptionPane.INFORMATION_MESSAGE);
+        } catch (IOException ex) {
+            JOptionPane.showMessageDialog(this, "Failed to save: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+        }
+    }
+
+    private static String formatCsv(StartupTimeline.Timeline timeline) {
+        StringBuilder csv = new StringBuilder("phase,category,start_ms,end_ms,duration_ms\n");
+        for (StartupTimeline.Phase phase : timeline.phases()) {
+            csv.append('"').append(phase.name().replace("\"", "\"\"")).append("\",").append(phase.category()).append(',')
+                    .append(phase.startMillis()).append(',').append(phase.endMillis()).append(',')
+                    .append(phase.durationMillis()).append('\n');
+        }
+        return csv.toString();
+    }
+
+    // Complete ("X") events, one track per category
+    private static String formatTrace(StartupTimeline.Timeline timeline) {
+        List<String> categories = new ArrayList<>();
+        JsonArray events = new JsonArray();
+        for (StartupTimeline.Phase phase : timeline.phases()) {
+            if (!categories.contains(phase.category())) categories.add(phase.category());
+            JsonObject event = new JsonObject();
+            event.addProperty("name", phase.name());
+            event.addProperty("cat", phase.category());
+            event.addProperty("ph", "X");
+            event.addProperty("ts", phase.startMillis() * 1000);
+            event.addProperty("dur", phase.durationMillis() * 1000);
+            event.addProperty("pid", 1);
+            event.addProperty("tid", categories.indexOf(phase.category()) + 1);
+            events.add(event);
+        }
+        for (String category : categories) {
+            JsonObject name = new JsonObject();
+            name.addProperty("name", "thread_name");
+            name.addProperty("ph", "M");
+            name.addProperty("pid", 1);
+            name.addProperty("tid", categories.indexOf(category) + 1);
+            JsonObject args = new JsonObject();
+            args.addProperty("name", category);
+            name.add("args", args);
+            events.add(name);
+        }
+
+        JsonObject trace = new JsonObject();
+        trace.add("traceEvents", events);
+        trace.addProperty("displayTimeUnit", "ms");
+        return trace.toString();
+    }
+
+    private static class PhaseTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Phase", "Category", "Start (s)", "Duration (s)", "Previous (s)", "Change (s)"};
+
+        private StartupTimeline.Timeline timeline;
+        private StartupTimeline.Timeline previous;
+
+        void setTimelines(StartupTimeline.Timeline timeline, StartupTimeline.Timeline previous) {
+            this.timeline = timeline;
+            this.previous = previous;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return timeline != null ? timeline.phases().size() : 0;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column < 2 ? String.class : Double.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            StartupTimeline.Phase phase = timeline.phases().get(row);
+            StartupTimeline.Phase before = previous != null ? previous.getPhase(phase.name()) : null;
+            return switch (column) {
+                case 0 -> phase.name();
+                case 1 -> phase.category();
+                case 2 -> seconds(phase.startMillis());
+                case 3 -> seconds(phase.durationMillis());
+                case 4 -> before != null ? seconds(before.durationMillis()) : null;
+                default -> before != null ? seconds(phase.durationMillis() - before.durationMillis()) : null;
+            };
+        }
+
+        private static double seconds(long millis) {
+            return millis / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.profiling.ThreadDump;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+public class ThreadDumpDialog extends JDialog {
+    private final JTabbedPane tabs = new JTabbedPane();
+    private final JTextArea threadsArea = createTextArea();
+    private final JTextArea groupsArea = createTextArea();
+    private final JTextArea deadlocksArea = createTextArea();
+    private final JTextArea stuckArea = createTextArea();
+    private final JSpinner intervalSpinner = new JSpinner(new SpinnerNumberModel(5, 1, 60, 1));
+    private final JButton compareButton = new JButton("Find Stuck Threads");
+    private final JLabel statusLabel = new JLabel(" ");
+
+    private ThreadDump dump;
+
+    public ThreadDumpDialog(Frame parent) {
+        super(parent, "Thread Dump", false);
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        tabs.addTab("Threads", new JScrollPane(threadsArea));
+        tabs.addTab("Grouped by Stack", new JScrollPane(groupsArea));
+        tabs.addTab("Deadlocks", new JScrollPane(deadlocksArea));
+        tabs.addTab("Stuck Threads", new JScrollPane(stuckArea));
+        stuckArea.setText("Takes a second dump after the chosen interval and lists the threads that did not move.");
+
+        JButton refreshButton = new JButton("New Dump");
+        refreshButton.addActionListener(e -> showDump(ThreadDump.capture()));
+        compareButton.addActionListener(e -> findStuckThreads());
+        JButton saveButton = new JButton("Save to File");
+        saveButton.addActionListener(e -> save());
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        buttonPanel.add(refreshButton);
+        buttonPanel.add(new JLabel("Compare after"));
+        buttonPanel.add(intervalSpinner);
+        buttonPanel.add(new JLabel("s"));
+        buttonPanel.add(compareButton);
+        buttonPanel.add(saveButton);
+
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+        JPanel southPanel = new JPanel(new BorderLayout());
+        southPanel.add(buttonPanel, BorderLayout.NORTH);
+        southPanel.add(statusLabel, BorderLayout.SOUTH);
+
+        add(tabs, BorderLayout.CENTER);
+        add(southPanel, BorderLayout.SOUTH);
+
+        showDump(ThreadDump.capture());
+
+        setSize(800, 600);
+        setLocationRelativeTo(parent);
+    }
+
+    private static JTextArea createTextArea() {
+        JTextArea area = new JTextArea();
+        area.setEditable(false);
+        area.setFont(new Font("Monospaced", Font.PLAIN, 10));
+        return area;
+    }
+
+    private void showDump(ThreadDump newDump) {
+        dump = newDump;
+        setText(threadsArea, dump.format());
+        setText(groupsArea, dump.formatGroups());
+        setText(deadlocksArea, dump.formatDeadlocks());
+        tabs.setTitleAt(2, dump.hasDeadlock() ? "Deadlocks (!)" : "Deadlocks");
+        tabs.setForegroundAt(2, dump.hasDeadlock() ? Color.RED : null);
+        if (dump.hasDeadlock()) tabs.setSelectedIndex(2);
+
+        statusLabel.setText(String.format("%d threads in %d distinct stacks%s", dump.getThreadCount(),
+                dump.groupByStack().size(), dump.hasDeadlock() ? ", DEADLOCK DETECTED" : ""));
+    }
+
+    private static void setText(JTextArea area, String text) {
+        area.setText(text);
+        area.setCaretPosition(0);
+    }
+
+    private void findStuckThreads() {
+        int seconds = (Integer) intervalSpinner.getValue();
+        compareButton.setEnabled(false);
+        statusLabel.setText("Taking a second dump in " + seconds + " seconds...");
+
+        new Thread(() -> {
+            ThreadDump first = ThreadDump.capture();
+            try {
+                Thread.sleep(seconds * 1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            ThreadDump second = ThreadDump.capture();
+            List<ThreadDump.StuckThread> stuck = second.findStuckThreads(first);
+            double elapsed = (second.getTime() - first.getTime()) / 1000.0;
+
+            SwingUtilities.invokeLater(() -> {
+                showDump(second);
+                setText(stuckArea, ThreadDump.formatStuckThreads(stuck, elapsed));
+                tabs.setSelectedIndex(3);
+                compareButton.setEnabled(true);
+            });
+        }, "DedicatedPower Thread Dump").start();
+    }
+
+    private void save() {
+        JFileChooser fc = new JFileChooser();
+        fc.setSelectedFile(new File("threaddump-" + dump.getTime() + ".txt"));
+        if (fc.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            try (FileWriter writer = new FileWriter(fc.getSelectedFile())) {
+                writer.write(dump.format());
+                if (dump.hasDeadlock()) {
+                    writer.write("\n");
+                    writer.write(dump.formatDeadlocks());
+                }
+                JOptionPane.showMessageDialog(this, "Thread dump saved!", "Success", JOptionPane.INFORMATION_MESSAGE);
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(this, "Failed to save: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.profiling.ThreadUsageSampler;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.List;
+
+public class ThreadUsageDialog extends JDialog {
+    private static final double MB = 1024.0 * 1024.0;
+
+    private final ThreadUsageSampler sampler = new ThreadUsageSampler();
+    private final UsageTableModel tableModel = new UsageTableModel();
+    private final JTable table = new JTable(tableModel);
+    private final JTextArea stackArea = new JTextArea(8, 40);
+    private final JLabel summaryLabel = new JLabel(" ");
+
+    public ThreadUsageDialog(Frame parent) {
+        super(parent, "Thread Usage", false);
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        table.setAutoCreateRowSorter(true);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.getColumnModel().getColumn(0).setPreferredWidth(250);
+        table.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) showSelectedStack();
+        });
+        // Busiest threads first
+        table.getRowSorter().setSortKeys(List.of(new RowSorter.SortKey(3, SortOrder.DESCENDING)));
+
+        stackArea.setEditable(false);
+        stackArea.setFont(new Font("Monospaced", Font.PLAIN, 10));
+
+        JSplitPane split = new JSplitPane(JSplitPane.VERTICAL_SPLIT, new JScrollPane(table), new JScrollPane(stackArea));
+        split.setResizeWeight(0.75);
+
+        summaryLabel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+
+        add(split, BorderLayout.CENTER);
+        add(summaryLabel, BorderLayout.SOUTH);
+
+        if (!sampler.isCpuSupported()) {
+            summaryLabel.setText("This JVM does not measure per-thread CPU time.");
+        }
+
+        refresh();
+        GuiScheduler.get().schedule("Thread Usage", 1000, this, this::refresh);
+
+        setSize(1000, 600);
+        setLocationRelativeTo(parent);
+    }
+
+    private void refresh() {
+        long selectedId = selectedThreadId();
+        List<ThreadUsageSampler.ThreadUsage> usages = sampler.sample();
+        tableModel.setUsages(usages);
+
+        // Keep the selection on the same thread even though rows move around
+        if (selectedId >= 0) {
+            for (int row = 0; row < usages.size(); row++) {
+                if (usages.get(row).id() == selectedId) {
+                    int viewRow = table.convertRowIndexToView(row);
+                    if (viewRow >= 0) table.getSelectionModel().setSelectionInterval(viewRow, viewRow);
+                    break;
+                }
+            }
+        }
+
+        if (sampler.isCpuSupported()) {
+            double cpu = 0;
+            double allocation = 0;
+            for (ThreadUsageSampler.ThreadUsage usage : usages) {
+                cpu += usage.cpuPercent();
+                allocation += usage.allocationBytesPerSecond();
+            }
+            int cores = Runtime.getRuntime().availableProcessors();
+            summaryLabel.setText(String.format("%d threads, %.1f%% CPU (of %d%% for %d cores), allocating %.1f MB/s",
+                    usages.size(), cpu, cores * 100, cores, allocation / MB));
+        }
+    }
+
+    private long selectedThreadId() {
+        int row = table.getSelectedRow();
+        return row >= 0 ? tableModel.getUsage(table.convertRowIndexToModel(row)).id() : -1;
+    }
+
+    private void showSelectedStack() {
+        long id = selectedThreadId();
+        if (id < 0) return;
+
+        ThreadInfo info = ManagementFactory.getThreadMXBean().getThreadInfo(id, Integer.MAX_VALUE);
+        if (info == null) {
+            stackArea.setText("Thread has ended.");
+            return;
+        }
+
+        StringBuilder text = new StringBuilder();
+        text.append(info.getThreadName()).append(" (").append(info.getThreadState()).append(")\n");
+        for (StackTraceElement element : info.getStackTrace()) {
+            text.append("  at ").append(element).append("\n");
+        }
+        stackArea.setText(text.toString());
+        stackArea.setCaretPosition(0);
+    }
+
+    private static class UsageTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Thread", "Category", "State", "CPU %", "User %", "Alloc MB/s", "CPU Time (s)", "Allocated (MB)"};
+
+        private List<ThreadUsageSampler.ThreadUsage> usages = List.of();
+
+        void setUsages(List<ThreadUsageSampler.ThreadUsage> usages) {
+            this.usages = usages;
+            fireTableDataChanged();
+        }
+
+        ThreadUsageSampler.ThreadUsage getUsage(int row) {
+            return usages.get(row);
+        }
+
+        @Override
+        public int getRowCount() {
+            return usages.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return column < 3 ? String.class : Double.class;
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            ThreadUsageSampler.ThreadUsage usage = usages.get(row);
+            return switch (column) {
+                case 0 -> usage.name();
+                case 1 -> usage.category();
+                case 2 -> usage.state().toString();
+                case 3 -> round(usage.cpuPercent());
+                case 4 -> round(usage.userPercent());
+                case 5 -> round(usage.allocationBytesPerSecond() / MB);
+                case 6 -> round(usage.totalCpuNanos() / 1_000_000_000.0);
+                default -> round(usage.totalAllocatedBytes() / MB);
+            };
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 10) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.profiling.TickRecorder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/*
+ * Scrubs back through the tick recorder. The view follows the newest ticks until the user
+ * scrolls away or picks a tick; picking one freezes the view so a spike stays where it is
+ * while the recorder keeps going.
+ */
+public class TickRewindDialog extends JDialog {
+    private static final SimpleDateFormat TIME_FORMAT = new SimpleDateFormat("HH:mm:ss.SSS");
+
+    private final TickRecorder recorder;
+    private final TickRecorder.Segment segment = new TickRecorder.Segment();
+    private final TickRewindPanel panel = new TickRewindPanel();
+    private final JToggleButton freezeButton = new JToggleButton("Freeze");
+    private final JLabel statusLabel = new JLabel(" ");
+    private final JLabel detailsLabel = new JLabel(" ");
+
+    public TickRewindDialog(Frame parent, TickRecorder recorder) {
+        super(parent, "Tick Rewind", false);
+        this.recorder = recorder;
+        setLayout(new BorderLayout(5, 5));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+
+        JButton worstButton = new JButton("Worst Tick");
+        worstButton.addActionListener(e -> selectWorst());
+        JButton exportButton = new JButton("Export CSV...");
+        exportButton.addActionListener(e -> exportCsv());
+        freezeButton.addActionListener(e -> {
+            if (!freezeButton.isSelected()) refresh();
+        });
+
+        JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        topPanel.add(freezeButton);
+        topPanel.add(worstButton);
+        topPanel.add(exportButton);
+        topPanel.add(statusLabel);
+
+        panel.setSelectionListener(tick -> {
+            freezeButton.setSelected(true);
+            showDetails();
+        });
+
+        detailsLabel.setBorder(BorderFactory.createEmptyBorder(0, 5, 5, 5));
+
+        add(topPanel, BorderLayout.NORTH);
+        add(panel, BorderLayout.CENTER);
+        add(detailsLabel, BorderLayout.SOUTH);
+
+        refresh();
+        GuiScheduler.get().schedule("Tick Rewind", 1000, this, this::refresh);
+
+        setSize(900, 450);
+        setLocationRelativeTo(parent);
+    }
+
+    private void refresh() {
+        if (freezeButton.isSelected()) return;
+
+        // Ask before the copy, the segment is refreshed in place
+        long firstVisibleTick = panel.getFirstVisibleTick();
+        recorder.copy(recorder.getOldest(), recorder.getRecorded(), segment);
+        panel.setSegment(segment, firstVisibleTick);
+
+        if (segment.size() == 0) {
+            statusLabel.setText("No ticks recorded yet");
+        } else {
+            long spanSeconds = (segment.startMillis(segment.size() - 1) - segment.startMillis(0)) / 1000;
+            statusLabel.setText(String.format("%,d ticks over %d:%02d (of %d minutes kept)",
+                    segment.size(), spanSeconds / 60, spanSeconds % 60, recorder.getCapacity() / 1200));
+        }
+        showDetails();
+    }
+
+    private void selectWorst() {
+        if (segment.size() == 0) return;
+        int worst = 0;
+        for (int i = 1; i < segment.size(); i++) {
+            if (segment.durationMillis(i) > segment.durationMillis(worst)) worst = i;
+        }
+        panel.selectIndex(worst);
+    }
+
+    private void showDetails() {
+        int index = panel.getSelectedIndex();
+        if (index < 0) {
+            detailsLabel.setText("Click a tick to freeze the view on it");
+            return;
+        }
+        detailsLabel.setText(String.format("Tick %,d at %s: %.1f ms (worlds %.1f, saving %.1f, other %.1f, GC pause %.1f)  |  %,d entities, %,d chunks, %d players",
+                segment.tickNumber(index), TIME_FORMAT.format(new Date(segment.startMillis(index))),
+                segment.durationMillis(index), segment.worldMillis(index), segment.saveMillis(index),
+                segment.otherMillis(index), segment.gcMillis(index),
+                segment.entities(index), segment.chunks(index), segment.players(index)));
+    }
+
+    // Writes the ticks currently in view
+    private void exportCsv() {
+        int from = panel.getViewStart();
+        int to = panel.getViewEnd();
+        if (to <= from) return;
+
+        JFileChooser fc = new JFileChooser();
+        fc.setSelectedFile(new File("ticks-" + segment.tickNumber(from) + "-" + segment.tickNumber(to - 1) + ".csv"));
+        if (fc.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
+            try (FileWriter writer = new FileWriter(fc.getSelectedFile())) {
+                writer.write("tick,time,duration_ms,worlds_ms,saving_ms,other_ms,gc_pause_ms,entities,chunks,players\n");
+                for (int i = from; i < to; i++) {
+                    writer.write(String.format(Locale.ROOT, "%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%d,%d\n",
+                            segment.tickNumber(i), segment.startMillis(i), segment.durationMillis(i),
+                            segment.worldMillis(i), segment.saveMillis(i), segment.otherMillis(i),
+                            segment.gcMillis(i), segment.entities(i), segment.chunks(i), segment.players(i)));
+                }
+                JOptionPane.showMessageDialog(this, "Exported " + (to - from) + " ticks.", "Success", JOptionPane.INFORMATION_MESSAGE);
+            } catch (IOException ex) {
+                JOptionPane.showMessageDialog(this, "Failed to save: " + ex.getMessage(), "Error", JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+}
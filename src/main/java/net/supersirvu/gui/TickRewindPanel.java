@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import net.supersirvu.profiling.TickRecorder;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ActionEvent;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.function.LongConsumer;
+
+/*
+ * Two views of a recorded segment of ticks. The strip at the top is the whole segment,
+ * worst tick per pixel, with the part shown below outlined; click or drag in it to scrub.
+ * Below, each tick of the visible part is a bar split into world ticks, saving and the
+ * rest, with any GC pause it overlapped in red on top. Click a bar (or use the arrow keys)
+ * to select a tick, scroll to show more or fewer ticks.
+ */
+public class TickRewindPanel extends JComponent {
+    private static final int OVERVIEW_HEIGHT = 44;
+    private static final int GAP = 22;
+    private static final int MIN_VIEW_TICKS = 20;
+    private static final double MIN_SCALE_MILLIS = 60;
+    private static final Color BG_COLOR = Color.WHITE;
+    private static final Color GRID_COLOR = new Color(220, 220, 220);
+    private static final Color BORDER_COLOR = new Color(100, 100, 100);
+    private static final Color VIEWPORT_COLOR = new Color(52, 152, 219, 50);
+    private static final Color GOOD_COLOR = new Color(46, 204, 113);
+    private static final Color WORLD_COLOR = new Color(52, 152, 219);
+    private static final Color SAVE_COLOR = new Color(230, 126, 34);
+    private static final Color OTHER_COLOR = new Color(149, 165, 166);
+    private static final Color GC_COLOR = new Color(192, 57, 43);
+    private static final Color SELECTION_COLOR = new Color(0, 0, 0, 80);
+    private static final Font LABEL_FONT = new Font("Arial", Font.PLAIN, 10);
+    private static final SimpleDateFormat TIME_FORMAT = new SimpleDateFormat("HH:mm:ss");
+
+    private TickRecorder.Segment segment;
+    private int viewStart;
+    private int viewTicks = 600;
+    private long selectedTick = -1;
+    private LongConsumer selectionListener = tick -> {
+    };
+
+    public TickRewindPanel() {
+        setOpaque(true);
+        setFocusable(true);
+        setPreferredSize(new Dimension(900, 360));
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                requestFocusInWindow();
+                handleMouse(e);
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                handleMouse(e);
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoom(e.getWheelRotation() < 0, e.getX());
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+
+        getInputMap().put(KeyStroke.getKeyStroke(KeyEvent.VK_LEFT, 0), "previous");
+        getInputMap().put(KeyStroke.getKeyStroke(KeyEvent.VK_RIGHT, 0), "next");
+        getActionMap().put("previous", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                step(-1);
+            }
+        });
+        getActionMap().put("next", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                step(1);
+            }
+        });
+    }
+
+    public void setSelectionListener(LongConsumer selectionListener) {
+        this.selectionListener = selectionListener;
+    }
+
+    /*
+     * Shows a new (or refreshed) segment starting at the given tick, or with the newest
+     * ticks in view for -1, as in the live view. Ask for the first visible tick before
+     * refreshing a segment in place.
+     */
+    public void setSegment(TickRecorder.Segment segment, long firstVisibleTick) {
+        this.segment = segment;
+        if (firstVisibleTick < 0 || segment.size() == 0) {
+            viewStart = Integer.MAX_VALUE;
+        } else {
+            viewStart = (int) (firstVisibleTick - segment.tickNumber(0));
+        }
+        clampView();
+        repaint();
+    }
+
+    // -1 while the newest ticks are in view, so a refresh keeps following them
+    public long getFirstVisibleTick() {
+        if (segment == null || segment.size() == 0 || getViewEnd() == segment.size()) return -1;
+        return segment.tickNumber(viewStart);
+    }
+
+    public long getSelectedTick() {
+        return selectedTick;
+    }
+
+    // Index of the selected tick in the segment, -1 if it is not in it
+    public int getSelectedIndex() {
+        if (segment == null || segment.size() == 0 || selectedTick < 0) return -1;
+        long index = selectedTick - segment.tickNumber(0);
+        return index >= 0 && index < segment.size() ? (int) index : -1;
+    }
+
+    public void selectIndex(int index) {
+        if (segment == null || index < 0 || index >= segment.size()) return;
+        selectedTick = segment.tickNumber(index);
+        // Keep the selection in view, centred if it was outside
+        if (index < viewStart || index >= getViewEnd()) {
+            viewStart = index - visibleTicks() / 2;
+            clampView();
+        }
+        selectionListener.accept(selectedTick);
+        repaint();
+    }
+
+    // The visible ticks as segment indices [first, last)
+    public int getViewStart() {
+        return viewStart;
+    }
+
+    public int getViewEnd() {
+        return segment == null ? 0 : Math.min(segment.size(), viewStart + viewTicks);
+    }
+
+    // The zoom is kept while the segment is still shorter, right after startup
+    private int visibleTicks() {
+        return Math.max(1, Math.min(viewTicks, segment == null ? 0 : segment.size()));
+    }
+
+    private void clampView() {
+        viewStart = Math.max(0, Math.min(viewStart, (segment == null ? 0 : segment.size()) - visibleTicks()));
+    }
+
+    private void step(int delta) {
+        int index = getSelectedIndex();
+        selectIndex(index < 0 ? getViewEnd() - 1 : index + delta);
+    }
+
+    private void zoom(boolean in, int mouseX) {
+        if (segment == null || segment.size() == 0) return;
+        int width = Math.max(1, getWidth());
+        int anchor = viewStart + (int) ((long) mouseX * visibleTicks() / width);
+        int ticks = in ? visibleTicks() / 2 : visibleTicks() * 2;
+        viewTicks = Math.max(MIN_VIEW_TICKS, Math.min(ticks, Math.max(MIN_VIEW_TICKS, segment.size())));
+        viewStart = anchor - (int) ((long) mouseX * visibleTicks() / width);
+        clampView();
+        repaint();
+    }
+
+    private void handleMouse(MouseEvent e) {
+        if (segment == null || segment.size() == 0 || !SwingUtilities.isLeftMouseButton(e)) return;
+        int width = Math.max(1, getWidth());
+        int x = Math.max(0, Math.min(width - 1, e.getX()));
+
+        if (e.getY() < OVERVIEW_HEIGHT + GAP / 2) {
+            // Scrub: centre the detail view where the overview was clicked
+            viewStart = (int) ((long) x * segment.size() / width) - visibleTicks() / 2;
+            clampView();
+            repaint();
+        } else {
+            selectIndex(Math.min(getViewEnd() - 1, viewStart + (int) ((long) x * visibleTicks() / width)));
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
+        try {
+            paintRewind((Graphics2D) g);
+        } finally {
+            EdtMonitor.recordPaint("Tick Rewind", System.nanoTime() - paintStart);
+        }
+    }
+
+    private void paintRewind(Graphics2D g2d) {
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        int width = getWidth();
+        int height = getHeight();
+        g2d.setColor(BG_COLOR);
+        g2d.fillRect(0, 0, width, height);
+        g2d.setFont(LABEL_FONT);
+
+        if (segment == null || segment.size() == 0) {
+            g2d.setColor(Color.GRAY);
+            g2d.drawString("No ticks recorded yet", 10, 20);
+            return;
+        }
+
+        paintOverview(g2d, width);
+        int detailTop = OVERVIEW_HEIGHT + GAP;
+        paintDetail(g2d, width, detailTop, height - detailTop - 14);
+    }
+
+    private void paintOverview(Graphics2D g2d, int width) {
+        int size = segment.size();
+        double scale = Math.max(MIN_SCALE_MILLIS, maxDuration(0, size));
+
+        for (int x = 0; x < width; x++) {
+            int from = (int) ((long) x * size / width);
+            int to = Math.max(from + 1, (int) ((long) (x + 1) * size / width));
+            double worst = 0;
+            boolean gc = false;
+            for (int i = from; i < to && i < size; i++) {
+                worst = Math.max(worst, segment.durationMillis(i));
+                gc |= segment.gcMillis(i) > 0;
+            }
+            int barHeight = (int) Math.min(OVERVIEW_HEIGHT, worst / scale * OVERVIEW_HEIGHT);
+            g2d.setColor(getTickColor(worst));
+            g2d.fillRect(x, OVERVIEW_HEIGHT - barHeight, 1, barHeight);
+            if (gc) {
+                g2d.setColor(GC_COLOR);
+                g2d.fillRect(x, 0, 1, 3);
+            }
+        }
+
+        int viewX = (int) ((long) viewStart * width / size);
+        int viewWidth = Math.max(2, (int) ((long) (getViewEnd() - viewStart) * width / size));
+        g2d.setColor(VIEWPORT_COLOR);
+        g2d.fillRect(viewX, 0, viewWidth, OVERVIEW_HEIGHT);
+        g2d.setColor(BORDER_COLOR);
+        g2d.drawRect(viewX, 0, viewWidth - 1, OVERVIEW_HEIGHT - 1);
+
+        g2d.setColor(Color.BLACK);
+        g2d.drawString(TIME_FORMAT.format(new Date(segment.startMillis(0))), 2, OVERVIEW_HEIGHT + 12);
+        String end = TIME_FORMAT.format(new Date(segment.startMillis(size - 1))) + String.format("   worst %.0f ms", scale);
+        g2d.drawString(end, width - g2d.getFontMetrics().stringWidth(end) - 2, OVERVIEW_HEIGHT + 12);
+    }
+
+    private void paintDetail(Graphics2D g2d, int width, int top, int height) {
+        if (height <= 0) return;
+        int end = getViewEnd();
+        double scale = Math.max(MIN_SCALE_MILLIS, maxDuration(viewStart, end));
+
+        // 50 ms is the whole budget of a tick
+        int budgetY = top + height - (int) (50 / scale * height);
+        g2d.setColor(GRID_COLOR);
+        g2d.drawLine(0, budgetY, width, budgetY);
+
+        int selectedIndex = getSelectedIndex();
+        int ticks = visibleTicks();
+        for (int x = 0; x < width; x++) {
+            int from = viewStart + (int) ((long) x * ticks / width);
+            int to = Math.max(from + 1, viewStart + (int) ((long) (x + 1) * ticks / width));
+            if (from >= end) break;
+
+            // The worst tick stands for the column when there are more ticks than pixels
+            int worst = from;
+            for (int i = from + 1; i < to && i < end; i++) {
+                if (segment.durationMillis(i) > segment.durationMillis(worst)) worst = i;
+            }
+
+            int y = top + height;
+            y = drawPart(g2d, x, y, segment.worldMillis(worst), scale, height, WORLD_COLOR);
+            y = drawPart(g2d, x, y, segment.saveMillis(worst), scale, height, SAVE_COLOR);
+            drawPart(g2d, x, y, segment.otherMillis(worst), scale, height, OTHER_COLOR);
+
+            double gc = Math.min(segment.gcMillis(worst), segment.durationMillis(worst));
+            if (gc > 0) {
+                int barTop = top + height - (int) Math.min(height, segment.durationMillis(worst) / scale * height);
+                g2d.setColor(GC_COLOR);
+                g2d.fillRect(x, barTop, 1, Math.max(1, (int) (gc / scale * height)));
+            }
+
+            if (selectedIndex >= from && selectedIndex < to) {
+                g2d.setColor(SELECTION_COLOR);
+                g2d.fillRect(Math.max(0, x - 1), top, 3, height);
+            }
+        }
+
+        g2d.setColor(BORDER_COLOR);
+        g2d.drawRect(0, top, width - 1, height);
+        g2d.setColor(Color.BLACK);
+        g2d.drawString(String.format("%.0f ms", scale), 3, top + 11);
+        g2d.drawString("50 ms", 3, budgetY - 2);
+        g2d.drawString(TIME_FORMAT.format(new Date(segment.startMillis(viewStart))), 2, top + height + 12);
+        String last = TIME_FORMAT.format(new Date(segment.startMillis(end - 1))) + String.format("   %,d ticks", end - viewStart);
+        g2d.drawString(last, width - g2d.getFontMetrics().stringWidth(last) - 2, top + height + 12);
+    }
+
+    private static int drawPart(Graphics2D g2d, int x, int bottom, double millis, double scale, int height, Color color) {
+        int partHeight = (int) Math.round(millis / scale * height);
+        if (partHeight <= 0) return bottom;
+        g2d.setColor(color);
+        g2d.fillRect(x, bottom - partHeight, 1, partHeight);
+        return bottom - partHeight;
+    }
+
+    private double maxDuration(int from, int to) {
+        double max = 0;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, segment.durationMillis(i));
+        }
+        return max;
+    }
+
+    private static Color getTickColor(double tickMs) {
+        if (tickMs < 25) {
+            return GOOD_COLOR;
+        } else if (tickMs < 40) {
+            return WORLD_COLOR;
+        } else if (tickMs < 50) {
+            return SAVE_COLOR;
+        } else {
+            return GC_COLOR;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.gui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Arrays;
+
+// Small auto-scaling bar graph used by the diagnostic dialogs
+public class TimeSeriesGraph extends JComponent {
+    private static final Color BG_COLOR = Color.WHITE;
+    private static final Color GRID_COLOR = new Color(220, 220, 220);
+    private static final Color BORDER_COLOR = new Color(100, 100, 100);
+    private static final Font TITLE_FONT = new Font("Arial", Font.BOLD, 11);
+    private static final Font SCALE_FONT = new Font("Arial", Font.PLAIN, 9);
+
+    private final String title;
+    private final String unit;
+    private final Color barColor;
+    private double[] values = new double[0];
+    private int count;
+    private double fixedMax = Double.NaN;
+    private String maxLabel = "";
+    private String latestLabel = "";
+
+    public TimeSeriesGraph(String title, String unit, Color barColor) {
+        this.title = title;
+        this.unit = unit;
+        this.barColor = barColor;
+        setPreferredSize(new Dimension(300, 120));
+        setOpaque(true);
+    }
+
+    // Pins the top of the scale, e.g. 100 for percentages
+    public void setFixedMax(double fixedMax) {
+        this.fixedMax = fixedMax;
+    }
+
+    // Oldest first; NaN values are left empty
+    public void setValues(double[] source, int count) {
+        if (this.values.length < count) {
+            this.values = new double[count];
+        }
+        System.arraycopy(source, 0, this.values, 0, count);
+        this.count = count;
+
+        double max = Double.isNaN(fixedMax) ? 0 : fixedMax;
+        if (Double.isNaN(fixedMax)) {
+            for (int i = 0; i < count; i++) {
+                if (!Double.isNaN(values[i])) max = Math.max(max, values[i]);
+            }
+        }
+        this.maxLabel = formatValue(max);
+        this.latestLabel = count > 0 && !Double.isNaN(values[count - 1]) ? title + ": " + formatValue(values[count - 1]) + " " + unit : title;
+        repaint();
+    }
+
+    public void clear() {
+        Arrays.fill(values, Double.NaN);
+        setValues(values, 0);
+    }
+
+    private static String formatValue(double value) {
+        if (value >= 100 || value == Math.rint(value)) {
+            return String.valueOf(Math.round(value));
+        }
+        return String.format("%.2f", value);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        long paintStart = System.nanoTime();
+        try {
+            paintGraph((Graphics2D) g);
+        } finally {
+            EdtMonitor.recordPaint("Time Series Graph", System.nanoTime() - paintStart);
+        }
+    }
+
+    private void paintGraph(Graphics2D g2d) {
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int width = getWidth();
+        int height = getHeight();
+        g2d.setColor(BG_COLOR);
+        g2d.fillRect(0, 0, width, height);
+
+        int graphX = 5;
+        int graphY = 16;
+        int graphWidth = width - 45;
+        int graphHeight = height - graphY - 5;
+        if (graphWidth <= 0 || graphHeight <= 0) return;
+
+        g2d.setColor(GRID_COLOR);
+        for (int i = 0; i <= 4; i++) {
+            int gridY = graphY + graphHeight * i / 4;
+            g2d.drawLine(graphX, gridY, graphX + graphWidth, gridY);
+        }
+
+        double max = Double.isNaN(fixedMax) ? 0 : fixedMax;
+        if (Double.isNaN(fixedMax)) {
+            for (int i = 0; i < count; i++) {
+                if (!Double.isNaN(values[i])) max = Math.max(max, values[i]);
+            }
+        }
+
+        if (max > 0 && count > 0) {
+            g2d.setColor(barColor);
+            // Newest value on the right, one pixel column per value when there is room
+            int columns = Math.min(count, graphWidth);
+            for (int column = 0; column < columns; column++) {
+                double value = values[count - columns + column];
+                if (Double.isNaN(value)) continue;
+
+                int x1 = graphX + column * graphWidth / columns;
+                int x2 = graphX + (column + 1) * graphWidth / columns;
+                int barHeight = Math.min(graphHeight, (int) (value / max * graphHeight));
+                g2d.fillRect(x1, graphY + graphHeight - barHeight, Math.max(1, x2 - x1 - (columns < graphWidth / 2 ? 1 : 0)), barHeight);
+            }
+        }
+
+        g2d.setColor(BORDER_COLOR);
+        g2d.drawRect(graphX, graphY, graphWidth, graphHeight);
+
+        g2d.setColor(Color.BLACK);
+        g2d.setFont(TITLE_FONT);
+        g2d.drawString(latestLabel.isEmpty() ? title : latestLabel, graphX, graphY - 4);
+        g2d.setFont(SCALE_FONT);
+        g2d.drawString(maxLabel, graphX + graphWidth + 4, graphY + 9);
+        g2d.drawString("0", graphX + graphWidth + 4, graphY + graphHeight);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Fabric only reports chunks once they are ready, so these are instant events
+@Name("dedicatedpower.ChunkLoad")
+@Label("Chunk Load")
+@Category({"DedicatedPower", "World"})
+@Description("A chunk was loaded from disk or newly generated")
+@StackTrace(false)
+public class ChunkLoadEvent extends jdk.jfr.Event {
+    @Label("World")
+    public String world;
+
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Z")
+    public int chunkZ;
+
+    @Label("Generated")
+    public boolean generated;
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("dedicatedpower.Command")
+@Label("Command Execution")
+@Category({"DedicatedPower", "Server"})
+@Description("A command run from the console, the GUI or by a player")
+public class CommandEvent extends jdk.jfr.Event {
+    @Label("Command")
+    public String command;
+
+    @Label("Source")
+    public String source;
+}
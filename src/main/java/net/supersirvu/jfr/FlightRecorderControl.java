@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.chunk.WorldChunk;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+import net.supersirvu.profiling.LagSpike;
+import net.supersirvu.profiling.LagWatchdog;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.util.Date;
+
+/*
+ * Emits the mod's own JFR events and controls a continuous recording from inside the
+ * server, no -XX:StartFlightRecording needed. The recording is a ring buffer limited by
+ * jfr.max-age-minutes, so dumping it, by hand or right after a lag spike, gives exactly
+ * the last N minutes.
+ *
+ * Events are only created while something records them, so none of this costs anything
+ * when no recording is running.
+ */
+public class FlightRecorderControl {
+    private static final EventType TICK_TYPE = EventType.getEventType(ServerTickEvent.class);
+    private static final EventType CHUNK_TYPE = EventType.getEventType(ChunkLoadEvent.class);
+
+    private final long maxAgeMinutes;
+    private final long maxSizeBytes;
+    private final String settings;
+    private final long dumpCooldownMillis;
+    private volatile boolean dumpOnLagSpike;
+
+    private Recording recording;
+    private long lastSpikeDumpMillis;
+
+    // Only touched on the server thread
+    private long tickNumber;
+    private ServerTickEvent serverTick;
+    private ServerTickEvent worldTick;
+
+    public FlightRecorderControl() {
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        this.maxAgeMinutes = Math.max(1, config.getLong("jfr.max-age-minutes", 10));
+        this.maxSizeBytes = Math.max(1, config.getLong("jfr.max-size-mb", 250)) * 1024 * 1024;
+        this.settings = config.getString("jfr.settings", "default");
+        this.dumpCooldownMillis = config.getLong("jfr.dump-cooldown-minutes", 5) * 60_000L;
+        this.dumpOnLagSpike = config.getBoolean("jfr.dump-on-lag-spike", true);
+    }
+
+    public static FlightRecorderControl install(LagWatchdog watchdog) {
+        FlightRecorderControl control = new FlightRecorderControl();
+
+        ServerTickEvents.START_SERVER_TICK.register(server -> control.onServerTickStart());
+        ServerTickEvents.END_SERVER_TICK.register(server -> control.onServerTickEnd());
+        ServerTickEvents.START_WORLD_TICK.register(control::onWorldTickStart);
+        ServerTickEvents.END_WORLD_TICK.register(world -> control.onWorldTickEnd());
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> control.onChunk(world, chunk, false));
+        ServerChunkEvents.CHUNK_GENERATE.register((world, chunk) -> control.onChunk(world, chunk, true));
+
+        watchdog.addListener(control::onLagSpike);
+
+        if (DedicatedPowerConfig.get().getBoolean("jfr.start-on-startup", false)) {
+            ServerLifecycleEvents.SERVER_STARTING.register(server -> {
+                try {
+                    control.start();
+                } catch (IOException | ParseException e) {
+                    DedicatedPower.LOGGER.error("Failed to start the flight recording", e);
+                }
+            });
+        }
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> control.stop());
+        return control;
+    }
+
+    private void onServerTickStart() {
+        tickNumber++;
+        if (!TICK_TYPE.isEnabled()) return;
+
+        serverTick = new ServerTickEvent();
+        serverTick.tick = tickNumber;
+        serverTick.phase = "server";
+        serverTick.begin();
+    }
+
+    private void onServerTickEnd() {
+        if (serverTick != null) {
+            serverTick.commit();
+            serverTick = null;
+        }
+    }
+
+    private void onWorldTickStart(ServerWorld world) {
+        if (!TICK_TYPE.isEnabled()) return;
+
+        worldTick = new ServerTickEvent();
+        worldTick.tick = tickNumber;
+        worldTick.phase = "world";
+        worldTick.world = world.getRegistryKey().getValue().toString();
+        worldTick.begin();
+    }
+
+    private void onWorldTickEnd() {
+        if (worldTick != null) {
+            worldTick.commit();
+            worldTick = null;
+        }
+    }
+
+    private void onChunk(ServerWorld world, WorldChunk chunk, boolean generated) {
+        if (!CHUNK_TYPE.isEnabled()) return;
+
+        ChunkLoadEvent event = new ChunkLoadEvent();
+        event.world = world.getRegistryKey().getValue().toString();
+        event.chunkX = chunk.getPos().x;
+        event.chunkZ = chunk.getPos().z;
+        event.generated = generated;
+        event.commit();
+    }
+
+    public synchronized void start() throws IOException, ParseException {
+        if (isRecording()) return;
+
+        Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+        newRecording.setName(DedicatedPower.MOD_ID);
+        newRecording.setToDisk(true);
+        newRecording.setMaxAge(Duration.ofMinutes(maxAgeMinutes));
+        newRecording.setMaxSize(maxSizeBytes);
+        newRecording.enable(ServerTickEvent.class);
+        newRecording.enable(ChunkLoadEvent.class);
+        newRecording.enable(WorldSaveEvent.class);
+        newRecording.enable(CommandEvent.class);
+        newRecording.start();
+        recording = newRecording;
+
+        DedicatedPower.LOGGER.info("Flight recording started, keeping the last {} minutes", maxAgeMinutes);
+    }
+
+    public synchronized void stop() {
+        if (recording == null) return;
+        recording.close();
+        recording = null;
+        DedicatedPower.LOGGER.info("Flight recording stopped");
+    }
+
+    public synchronized boolean isRecording() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    // Writes what the ring buffer currently holds, the recording keeps running
+    public Path dump(Path file) throws IOException {
+        Recording current;
+        synchronized (this) {
+            current = recording;
+        }
+        if (current == null) {
+            throw new IOException("No flight recording is running");
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        current.dump(file);
+        return file;
+    }
+
+    public Path getDefaultDumpFile(String prefix) {
+        String time = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        return DedicatedPower.getDataDirectory().resolve("jfr").resolve(prefix + "-" + time + ".jfr");
+    }
+
+    private void onLagSpike(LagSpike spike) {
+        if (!dumpOnLagSpike || !isRecording()) return;
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (lastSpikeDumpMillis != 0 && now - lastSpikeDumpMillis < dumpCooldownMillis) return;
+            lastSpikeDumpMillis = now;
+        }
+
+        // Dumping can take a while, don't hold up the watchdog
+        Thread thread = new Thread(() -> {
+            try {
+                Path file = dump(getDefaultDumpFile("lag-spike-" + spike.getId()));
+                DedicatedPower.LOGGER.warn("Saved the last {} minutes of flight recording for lag spike #{} to {}",
+                        maxAgeMinutes, spike.getId(), file);
+            } catch (IOException e) {
+                DedicatedPower.LOGGER.warn("Failed to dump the flight recording for lag spike #{}", spike.getId(), e);
+            }
+        }, "DedicatedPower JFR Dump");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isDumpOnLagSpike() {
+        return dumpOnLagSpike;
+    }
+
+    public void setDumpOnLagSpike(boolean dumpOnLagSpike) {
+        this.dumpOnLagSpike = dumpOnLagSpike;
+        DedicatedPowerConfig.get().set("jfr.dump-on-lag-spike", String.valueOf(dumpOnLagSpike));
+    }
+
+    public long getMaxAgeMinutes() {
+        return maxAgeMinutes;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// The whole server tick ("server") and each world's part of it ("world")
+@Name("dedicatedpower.ServerTick")
+@Label("Server Tick")
+@Category({"DedicatedPower", "Server"})
+@Description("Duration of a server tick or of one world's tick inside it")
+@StackTrace(false)
+public class ServerTickEvent extends jdk.jfr.Event {
+    @Label("Tick")
+    public long tick;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("World")
+    public String world;
+}
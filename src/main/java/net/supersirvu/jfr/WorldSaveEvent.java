@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dedicatedpower.WorldSave")
+@Label("World Save")
+@Category({"DedicatedPower", "World"})
+@Description("Saving all worlds, either the autosave or a save-all")
+@StackTrace(false)
+public class WorldSaveEvent extends jdk.jfr.Event {
+    @Label("Autosave")
+    public boolean autosave;
+
+    @Label("Flush")
+    public boolean flush;
+
+    @Label("Forced")
+    public boolean force;
+}
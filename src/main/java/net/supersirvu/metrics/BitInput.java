@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import java.nio.ByteBuffer;
+
+// Reads bits written by BitOutput straight out of a (memory-mapped) buffer
+final class BitInput {
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int limitBits;
+    private int bitPosition;
+
+    BitInput(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.limitBits = length * 8;
+    }
+
+    boolean readBit() {
+        if (bitPosition >= limitBits) {
+            throw new IllegalStateException("Read past end of block");
+        }
+        int b = buffer.get(offset + (bitPosition >>> 3));
+        boolean bit = (b & (0x80 >>> (bitPosition & 7))) != 0;
+        bitPosition++;
+        return bit;
+    }
+
+    long readBits(int count) {
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            value = (value << 1) | (readBit() ? 1L : 0L);
+        }
+        return value;
+    }
+}
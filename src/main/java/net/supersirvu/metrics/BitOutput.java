@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import java.util.Arrays;
+
+// Growable big-endian bit buffer, reused between blocks to avoid garbage
+final class BitOutput {
+    private byte[] buffer = new byte[256];
+    private int bitPosition;
+
+    void reset() {
+        Arrays.fill(buffer, 0, byteLength(), (byte) 0);
+        bitPosition = 0;
+    }
+
+    void writeBit(boolean bit) {
+        ensureCapacity(1);
+        if (bit) {
+            buffer[bitPosition >>> 3] |= (byte) (0x80 >>> (bitPosition & 7));
+        }
+        bitPosition++;
+    }
+
+    // Writes the lowest 'count' bits of value, most significant first
+    void writeBits(long value, int count) {
+        ensureCapacity(count);
+        for (int i = count - 1; i >= 0; i--) {
+            if (((value >>> i) & 1L) != 0) {
+                buffer[bitPosition >>> 3] |= (byte) (0x80 >>> (bitPosition & 7));
+            }
+            bitPosition++;
+        }
+    }
+
+    int byteLength() {
+        return (bitPosition + 7) >>> 3;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    private void ensureCapacity(int extraBits) {
+        int neededBytes = (bitPosition + extraBits + 7) >>> 3;
+        if (neededBytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(neededBytes, buffer.length * 2));
+        }
+    }
+}
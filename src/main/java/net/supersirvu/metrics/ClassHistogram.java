@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Instance counts and shallow sizes per class, as printed by the GC.class_histogram
+ * diagnostic command (the same thing "jmap -histo:live" shows). Taking one forces a full
+ * collection so only live objects are counted.
+ */
+public class ClassHistogram {
+    private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+
+    private final long timeMillis;
+    private final List<Entry> entries;
+    private final long totalInstances;
+    private final long totalBytes;
+
+    private ClassHistogram(long timeMillis, List<Entry> entries) {
+        this.timeMillis = timeMillis;
+        this.entries = List.copyOf(entries);
+
+        long instances = 0;
+        long bytes = 0;
+        for (Entry entry : entries) {
+            instances += entry.instances();
+            bytes += entry.bytes();
+        }
+        this.totalInstances = instances;
+        this.totalBytes = bytes;
+    }
+
+    // Blocks for as long as the full GC and heap walk take, keep it off the server and Swing threads
+    public static ClassHistogram capture() throws JMException {
+        Object output = ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName(DIAGNOSTIC_COMMAND),
+                "gcClassHistogram",
+                new Object[]{new String[0]},
+                new String[]{String[].class.getName()});
+        return parse(System.currentTimeMillis(), String.valueOf(output));
+    }
+
+    /*
+     * Lines look like "   1:   123456   7890123  [B (java.base@21)", the header and the
+     * trailing "Total" line are skipped.
+     */
+    public static ClassHistogram parse(long timeMillis, String text) {
+        List<Entry> entries = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            String[] parts = line.trim().split("\\s+");
+            if (parts.length < 4 || !parts[0].endsWith(":")) continue;
+
+            try {
+                long instances = Long.parseLong(parts[1]);
+                long bytes = Long.parseLong(parts[2]);
+                entries.add(new Entry(parts[3], instances, bytes));
+            } catch (NumberFormatException ignored) {
+                // Header line
+            }
+        }
+        return new ClassHistogram(timeMillis, entries);
+    }
+
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    // Largest first, as reported
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public long getTotalInstances() {
+        return totalInstances;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    // What changed since an older histogram, biggest growth in bytes first
+    public List<Change> diff(ClassHistogram older) {
+        Map<String, Entry> previous = new HashMap<>();
+        for (Entry entry : older.entries) {
+            previous.put(entry.className(), entry);
+        }
+
+        List<Change> changes = new ArrayList<>();
+        for (Entry entry : entries) {
+            Entry before = previous.remove(entry.className());
+            long instancesBefore = before != null ? before.instances() : 0;
+            long bytesBefore = before != null ? before.bytes() : 0;
+            changes.add(new Change(entry.className(), instancesBefore, entry.instances(), bytesBefore, entry.bytes()));
+        }
+        // Classes that disappeared entirely
+        for (Entry before : previous.values()) {
+            changes.add(new Change(before.className(), before.instances(), 0, before.bytes(), 0));
+        }
+
+        changes.sort(Comparator.comparingLong(Change::byteDelta).reversed());
+        return changes;
+    }
+
+    public record Entry(String className, long instances, long bytes) {
+    }
+
+    public record Change(String className, long instancesBefore, long instancesAfter, long bytesBefore, long bytesAfter) {
+        public long instanceDelta() {
+            return instancesAfter - instancesBefore;
+        }
+
+        public long byteDelta() {
+            return bytesAfter - bytesBefore;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import java.util.List;
+
+/*
+ * One finished garbage collection as reported by the JVM.
+ *
+ * Concurrent collectors (G1's concurrent cycle, ZGC/Shenandoah cycles) report the length of
+ * the whole cycle, which mostly runs alongside the application, so those are flagged as not
+ * being a pause.
+ */
+public record GcEvent(
+        long timeMillis,
+        String collector,
+        String action,
+        String cause,
+        long durationMillis,
+        boolean pause,
+        boolean oldGeneration,
+        long heapBeforeBytes,
+        long heapAfterBytes,
+        long allocatedBytes,
+        double allocationRateBytesPerSecond,
+        List<PoolUsage> pools
+) {
+    public record PoolUsage(String name, long beforeBytes, long afterBytes, long maxBytes) {
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import net.supersirvu.DedicatedPower;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/*
+ * Listens for the JVM's garbage collection notifications instead of polling
+ * Runtime.freeMemory(), which mostly shows allocation churn. Every collection is recorded
+ * with its cause, duration and per-pool usage before and after, which gives the real live
+ * heap (what survives a collection) and the allocation rate between collections.
+ */
+public class GcMonitor implements NotificationListener {
+    private static final int HISTORY_SIZE = 512;
+
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final Set<String> heapPools = new HashSet<>();
+    private final List<Consumer<GcEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    // Ring of recent collections, guarded by this
+    private final GcEvent[] history = new GcEvent[HISTORY_SIZE];
+    private int historyPosition;
+    private long lastHeapAfterBytes = -1;
+    private long lastGcEndMillis;
+    private long totalPauseMillis;
+    private long totalCollections;
+
+    public static GcMonitor start() {
+        GcMonitor monitor = new GcMonitor();
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                monitor.heapPools.add(pool.getName());
+            }
+        }
+
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(monitor,
+                        notification -> GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType()),
+                        null);
+                monitor.emitters.add(emitter);
+            }
+        }
+
+        if (monitor.emitters.isEmpty()) {
+            DedicatedPower.LOGGER.warn("This JVM does not publish GC notifications, the GC monitor will stay empty");
+        }
+        return monitor;
+    }
+
+    public void stop() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(this);
+            } catch (ListenerNotFoundException ignored) {
+            }
+        }
+        emitters.clear();
+    }
+
+    public void addListener(Consumer<GcEvent> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<GcEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        GcEvent event = toEvent(info);
+
+        for (Consumer<GcEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                DedicatedPower.LOGGER.warn("GC listener failed", e);
+            }
+        }
+    }
+
+    private synchronized GcEvent toEvent(GarbageCollectionNotificationInfo info) {
+        GcInfo gcInfo = info.getGcInfo();
+        Map<String, MemoryUsage> before = gcInfo.getMemoryUsageBeforeGc();
+        Map<String, MemoryUsage> after = gcInfo.getMemoryUsageAfterGc();
+
+        List<GcEvent.PoolUsage> pools = new ArrayList<>();
+        long heapBefore = 0;
+        long heapAfter = 0;
+        for (Map.Entry<String, MemoryUsage> entry : after.entrySet()) {
+            String pool = entry.getKey();
+            MemoryUsage beforeUsage = before.get(pool);
+            long beforeBytes = beforeUsage != null ? beforeUsage.getUsed() : 0;
+            long afterBytes = entry.getValue().getUsed();
+
+            pools.add(new GcEvent.PoolUsage(pool, beforeBytes, afterBytes, entry.getValue().getMax()));
+            if (heapPools.contains(pool)) {
+                heapBefore += beforeBytes;
+                heapAfter += afterBytes;
+            }
+        }
+
+        String collector = info.getGcName();
+        boolean pause = !collector.contains("Concurrent") && !collector.contains("Cycles");
+        boolean oldGeneration = info.getGcAction().contains("major") || collector.contains("Old")
+                || collector.contains("MarkSweep") || collector.contains("Major");
+
+        long startMillis = jvmStartMillis + gcInfo.getStartTime();
+        long endMillis = jvmStartMillis + gcInfo.getEndTime();
+
+        // Whatever the heap grew by since the previous collection was allocated in between
+        long allocated = lastHeapAfterBytes >= 0 ? Math.max(0, heapBefore - lastHeapAfterBytes) : 0;
+        long interval = startMillis - lastGcEndMillis;
+        double allocationRate = lastHeapAfterBytes >= 0 && interval > 0 ? allocated * 1000.0 / interval : 0;
+        lastHeapAfterBytes = heapAfter;
+        lastGcEndMillis = endMillis;
+
+        GcEvent event = new GcEvent(startMillis, collector, info.getGcAction(), info.getGcCause(), gcInfo.getDuration(),
+                pause, oldGeneration, heapBefore, heapAfter, allocated, allocationRate, List.copyOf(pools));
+
+        history[historyPosition % HISTORY_SIZE] = event;
+        historyPosition++;
+        totalCollections++;
+        if (pause) {
+            totalPauseMillis += gcInfo.getDuration();
+        }
+        return event;
+    }
+
+    /*
+     * Runs System.gc() on a background thread and completes with the collection it caused,
+     * so callers can report what the collector actually did instead of guessing from
+     * Runtime.freeMemory() before and after.
+     */
+    public CompletableFuture<GcEvent> requestCollection() {
+        CompletableFuture<GcEvent> result = new CompletableFuture<>();
+        Consumer<GcEvent> listener = event -> {
+            if ("System.gc()".equals(event.cause())) {
+                result.complete(event);
+            }
+        };
+        addListener(listener);
+        result.whenComplete((event, error) -> removeListener(listener));
+
+        Thread thread = new Thread(System::gc, "DedicatedPower GC Request");
+        thread.setDaemon(true);
+        thread.start();
+
+        return result.orTimeout(30, TimeUnit.SECONDS);
+    }
+
+    // Oldest first
+    public synchronized List<GcEvent> getRecentEvents() {
+        int count = Math.min(historyPosition, HISTORY_SIZE);
+        List<GcEvent> events = new ArrayList<>(count);
+        for (int i = historyPosition - count; i < historyPosition; i++) {
+            events.add(history[i % HISTORY_SIZE]);
+        }
+        return events;
+    }
+
+    public synchronized long getTotalPauseMillis() {
+        return totalPauseMillis;
+    }
+
+    public synchronized long getTotalCollections() {
+        return totalCollections;
+    }
+
+    // Current gauges that are not tied to a collection
+    public static MemoryGauges sampleGauges() {
+        long metaspace = 0;
+        long oldUsed = -1;
+        long oldMax = -1;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            String name = pool.getName();
+            if (name.equals("Metaspace")) {
+                metaspace = pool.getUsage().getUsed();
+            } else if (pool.getType() == MemoryType.HEAP && (name.contains("Old Gen") || name.contains("Tenured"))) {
+                MemoryUsage usage = pool.getCollectionUsage() != null ? pool.getCollectionUsage() : pool.getUsage();
+                oldUsed = usage.getUsed();
+                oldMax = usage.getMax() > 0 ? usage.getMax() : ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax();
+            }
+        }
+
+        long direct = 0;
+        long mapped = 0;
+        for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+            if (pool.getName().equals("direct")) {
+                direct = pool.getMemoryUsed();
+            } else if (pool.getName().startsWith("mapped")) {
+                mapped += pool.getMemoryUsed();
+            }
+        }
+
+        return new MemoryGauges(metaspace, oldUsed, oldMax, direct, mapped);
+    }
+
+    // Old generation is -1 on collectors without a separate old pool (ZGC, Shenandoah)
+    public record MemoryGauges(long metaspaceBytes, long oldGenUsedBytes, long oldGenMaxBytes,
+                               long directBufferBytes, long mappedBufferBytes) {
+        public double oldGenPercent() {
+            return oldGenUsedBytes < 0 || oldGenMaxBytes <= 0 ? Double.NaN : oldGenUsedBytes * 100.0 / oldGenMaxBytes;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+
+/*
+ * Watches the heap that survives old generation and concurrent collections. Young
+ * collections are ignored since what is left after them still contains plenty of garbage
+ * waiting to be promoted. A least squares line over the last few hours of those samples
+ * gives the growth rate and, extrapolated to the max heap, a rough time until we run out.
+ *
+ * When growth stays above the configured rate a class histogram is captured (and again
+ * every cooldown period while it lasts), so consecutive captures show which types grow.
+ */
+public class LeakDetector implements Consumer<GcEvent> {
+    private static final long HOUR_MILLIS = 3_600_000L;
+    private static final int REPORTED_CLASSES = 30;
+
+    private final GcMonitor monitor;
+    private final long windowMillis;
+    private final int minSamples;
+    private final long minSpanMillis;
+    private final double thresholdBytesPerHour;
+    private final boolean captureHistogram;
+    private final long histogramCooldownMillis;
+
+    // Guarded by this
+    private final ArrayDeque<Sample> samples = new ArrayDeque<>();
+    private Trend trend = Trend.EMPTY;
+    private boolean alerting;
+    private boolean capturing;
+    private long lastCaptureMillis;
+    private ClassHistogram previousHistogram;
+    private ClassHistogram latestHistogram;
+
+    public LeakDetector(GcMonitor monitor) {
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        this.monitor = monitor;
+        this.windowMillis = config.getLong("leak.window-hours", 6) * HOUR_MILLIS;
+        this.minSamples = Math.max(3, config.getInt("leak.min-samples", 5));
+        this.minSpanMillis = config.getLong("leak.min-span-minutes", 60) * 60_000L;
+        this.thresholdBytesPerHour = config.getDouble("leak.threshold-mb-per-hour", 25) * 1024 * 1024;
+        this.captureHistogram = config.getBoolean("leak.capture-histogram", true);
+        this.histogramCooldownMillis = config.getLong("leak.histogram-cooldown-minutes", 60) * 60_000L;
+    }
+
+    public static LeakDetector start(GcMonitor monitor) {
+        LeakDetector detector = new LeakDetector(monitor);
+        monitor.addListener(detector);
+        return detector;
+    }
+
+    public void stop() {
+        monitor.removeListener(this);
+    }
+
+    @Override
+    public void accept(GcEvent event) {
+        if (!event.oldGeneration() && !event.collector().contains("Concurrent")) return;
+
+        boolean capture;
+        synchronized (this) {
+            samples.addLast(new Sample(event.timeMillis(), event.heapAfterBytes()));
+            while (samples.size() > minSamples && event.timeMillis() - samples.peekFirst().timeMillis() > windowMillis) {
+                samples.removeFirst();
+            }
+
+            trend = fit();
+            boolean leaking = trend.isLeaking();
+            if (leaking && !alerting) {
+                DedicatedPower.LOGGER.warn("Live heap is growing by {} MB/h over the last {} collections, {}",
+                        Math.round(trend.slopeBytesPerHour() / 1024 / 1024), trend.samples(), describeTimeToOom(trend));
+            } else if (!leaking && alerting) {
+                DedicatedPower.LOGGER.info("Live heap growth is back under {} MB/h", Math.round(thresholdBytesPerHour / 1024 / 1024));
+            }
+            alerting = leaking;
+
+            capture = leaking && captureHistogram && !capturing
+                    && (lastCaptureMillis == 0 || event.timeMillis() - lastCaptureMillis >= histogramCooldownMillis);
+            if (capture) {
+                capturing = true;
+                lastCaptureMillis = event.timeMillis();
+            }
+        }
+
+        if (capture) {
+            // Called from the JMX notification thread, the histogram forces another full GC
+            Thread thread = new Thread(this::captureHistogram, "DedicatedPower Class Histogram");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private Trend fit() {
+        int count = samples.size();
+        long maxHeap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax();
+        Sample first = samples.peekFirst();
+        Sample last = samples.peekLast();
+        if (count < 2 || first == null || last == null) {
+            return new Trend(count, 0, last != null ? last.liveBytes() : 0, maxHeap, Double.NaN, false);
+        }
+
+        // Least squares over (hours since first sample, live bytes)
+        double sumX = 0, sumY = 0, sumXX = 0, sumXY = 0;
+        for (Sample sample : samples) {
+            double x = (sample.timeMillis() - first.timeMillis()) / (double) HOUR_MILLIS;
+            double y = sample.liveBytes();
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+        }
+        double denominator = count * sumXX - sumX * sumX;
+        double slope = denominator > 0 ? (count * sumXY - sumX * sumY) / denominator : 0;
+        double intercept = (sumY - slope * sumX) / count;
+        double lastX = (last.timeMillis() - first.timeMillis()) / (double) HOUR_MILLIS;
+        double fittedLive = intercept + slope * lastX;
+
+        double hoursToOom = slope > 0 && maxHeap > 0 ? Math.max(0, (maxHeap - fittedLive) / slope) : Double.NaN;
+        boolean confident = count >= minSamples && last.timeMillis() - first.timeMillis() >= minSpanMillis;
+        return new Trend(count, slope, (long) fittedLive, maxHeap, hoursToOom, confident && slope >= thresholdBytesPerHour);
+    }
+
+    private void captureHistogram() {
+        ClassHistogram histogram;
+        try {
+            histogram = ClassHistogram.capture();
+        } catch (Exception e) {
+            DedicatedPower.LOGGER.warn("Failed to capture a class histogram for the leak report", e);
+            synchronized (this) {
+                capturing = false;
+            }
+            return;
+        }
+
+        ClassHistogram baseline;
+        synchronized (this) {
+            baseline = latestHistogram;
+            previousHistogram = latestHistogram;
+            latestHistogram = histogram;
+            capturing = false;
+        }
+
+        try {
+            Path file = writeReport(histogram, baseline);
+            DedicatedPower.LOGGER.warn("Saved a class histogram for the growing heap to {}", file);
+        } catch (IOException e) {
+            DedicatedPower.LOGGER.warn("Failed to save the class histogram", e);
+        }
+
+        if (baseline != null) {
+            List<ClassHistogram.Change> changes = histogram.diff(baseline);
+            for (int i = 0; i < Math.min(5, changes.size()) && changes.get(i).byteDelta() > 0; i++) {
+                ClassHistogram.Change change = changes.get(i);
+                DedicatedPower.LOGGER.warn("  +{} KB, +{} instances: {}", change.byteDelta() / 1024, change.instanceDelta(), change.className());
+            }
+        }
+    }
+
+    private Path writeReport(ClassHistogram histogram, ClassHistogram baseline) throws IOException {
+        Path directory = DedicatedPower.getDataDirectory().resolve("leaks");
+        Files.createDirectories(directory);
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
+        Path file = directory.resolve("histogram-" + format.format(new Date(histogram.getTimeMillis())) + ".txt");
+
+        Trend current = getTrend();
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.printf("Live heap growth: %.1f MB/h, %s%n", current.slopeBytesPerHour() / 1024 / 1024, describeTimeToOom(current));
+            out.printf("Total: %d instances, %.1f MB%n%n", histogram.getTotalInstances(), histogram.getTotalBytes() / 1024.0 / 1024.0);
+
+            if (baseline != null) {
+                out.printf("Growth since %s:%n", new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(baseline.getTimeMillis())));
+                List<ClassHistogram.Change> changes = histogram.diff(baseline);
+                for (int i = 0; i < Math.min(REPORTED_CLASSES, changes.size()); i++) {
+                    ClassHistogram.Change change = changes.get(i);
+                    out.printf("%+14d bytes %+12d instances  %s%n", change.byteDelta(), change.instanceDelta(), change.className());
+                }
+                out.println();
+            }
+
+            out.println("Largest classes:");
+            List<ClassHistogram.Entry> entries = histogram.getEntries();
+            for (int i = 0; i < Math.min(REPORTED_CLASSES, entries.size()); i++) {
+                ClassHistogram.Entry entry = entries.get(i);
+                out.printf("%14d bytes %12d instances  %s%n", entry.bytes(), entry.instances(), entry.className());
+            }
+        }
+        return file;
+    }
+
+    public static String describeTimeToOom(Trend trend) {
+        if (Double.isNaN(trend.hoursToOom())) {
+            return "no out of memory expected";
+        }
+        if (trend.hoursToOom() < 1) {
+            return "out of memory in less than an hour";
+        }
+        if (trend.hoursToOom() < 48) {
+            return String.format("out of memory in ~%.0f hours", trend.hoursToOom());
+        }
+        return String.format("out of memory in ~%.0f days", trend.hoursToOom() / 24);
+    }
+
+    public synchronized Trend getTrend() {
+        return trend;
+    }
+
+    public synchronized ClassHistogram getLatestHistogram() {
+        return latestHistogram;
+    }
+
+    public synchronized ClassHistogram getPreviousHistogram() {
+        return previousHistogram;
+    }
+
+    private record Sample(long timeMillis, long liveBytes) {
+    }
+
+    // liveBytes is the fitted value at the newest sample, hoursToOom is NaN when the heap is not growing
+    public record Trend(int samples, double slopeBytesPerHour, long liveBytes, long maxHeapBytes,
+                        double hoursToOom, boolean isLeaking) {
+        static final Trend EMPTY = new Trend(0, 0, 0, -1, Double.NaN, false);
+    }
+}
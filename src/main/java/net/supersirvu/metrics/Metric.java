@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+// The ordinal is written to disk, so only ever append new metrics at the end
+public enum Metric {
+    MSPT("Tick Time", "ms"),
+    TPS("TPS", ""),
+    MEMORY("Memory Usage", "%"),
+    ENTITIES("Entities", ""),
+    CHUNKS("Chunks", ""),
+    PLAYERS("Players", ""),
+    GUI_PAINT("GUI Paint Time", "ms");
+
+    private final String displayName;
+    private final String unit;
+
+    Metric(String displayName, String unit) {
+        this.displayName = displayName;
+        this.unit = unit;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import java.util.Arrays;
+
+// Result of a store query: one min/avg/max triple per step, NaN where nothing was recorded
+public class MetricSeries {
+    private final Metric metric;
+    private final Resolution resolution;
+    private final long startMillis;
+    private final double[] min;
+    private final double[] avg;
+    private final double[] max;
+
+    MetricSeries(Metric metric, Resolution resolution, long startMillis, int size) {
+        this.metric = metric;
+        this.resolution = resolution;
+        this.startMillis = startMillis;
+        this.min = new double[size];
+        this.avg = new double[size];
+        this.max = new double[size];
+        Arrays.fill(this.min, Double.NaN);
+        Arrays.fill(this.avg, Double.NaN);
+        Arrays.fill(this.max, Double.NaN);
+    }
+
+    void set(int index, double minValue, double avgValue, double maxValue) {
+        min[index] = minValue;
+        avg[index] = avgValue;
+        max[index] = maxValue;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public Resolution getResolution() {
+        return resolution;
+    }
+
+    public int size() {
+        return avg.length;
+    }
+
+    public long getTimeMillis(int index) {
+        return startMillis + index * resolution.getStepMillis();
+    }
+
+    public double getMin(int index) {
+        return min[index];
+    }
+
+    public double getAvg(int index) {
+        return avg[index];
+    }
+
+    public double getMax(int index) {
+        return max[index];
+    }
+
+    /*
+     * Squeezes the series into a fixed number of columns (oldest first). Each column keeps the
+     * lowest min, the mean of the averages and the highest max of the steps it covers, so a
+     * short spike is still visible when zoomed out.
+     */
+    public void downsample(int columns, double[] outMin, double[] outAvg, double[] outMax) {
+        int size = size();
+        for (int column = 0; column < columns; column++) {
+            int from = (int) ((long) column * size / columns);
+            int to = Math.max(from + 1, (int) ((long) (column + 1) * size / columns));
+
+            double low = Double.NaN;
+            double high = Double.NaN;
+            double sum = 0;
+            int count = 0;
+            for (int i = from; i < to && i < size; i++) {
+                if (Double.isNaN(avg[i])) continue;
+                low = Double.isNaN(low) ? min[i] : Math.min(low, min[i]);
+                high = Double.isNaN(high) ? max[i] : Math.max(high, max[i]);
+                sum += avg[i];
+                count++;
+            }
+
+            outMin[column] = low;
+            outAvg[column] = count > 0 ? sum / count : Double.NaN;
+            outMax[column] = high;
+        }
+    }
+}
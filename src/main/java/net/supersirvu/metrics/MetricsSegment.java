@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/*
+ * One preallocated, memory-mapped file holding compressed blocks for a single resolution.
+ *
+ * Layout: a fixed header followed by blocks appended back to back. The write position is
+ * stored in the header after each block, so a crash never exposes a half written block.
+ */
+final class MetricsSegment implements Closeable {
+    static final String EXTENSION = ".seg";
+
+    private static final int MAGIC = 0x44504D53; // "DPMS"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int WRITE_POSITION_OFFSET = 20;
+    // int payloadLength, byte metric, byte statCount, short count, long startSlot
+    private static final int BLOCK_HEADER_BYTES = 16;
+
+    private final Path path;
+    private final long startMillis;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    // Range of steps covered by the blocks in this segment, used to skip it during queries
+    private long firstSlot = Long.MAX_VALUE;
+    private long lastSlot = Long.MIN_VALUE;
+
+    private MetricsSegment(Path path, long startMillis, FileChannel channel, MappedByteBuffer buffer, int writePosition) {
+        this.path = path;
+        this.startMillis = startMillis;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.writePosition = writePosition;
+    }
+
+    static MetricsSegment create(Path directory, long startMillis, Resolution resolution) throws IOException {
+        Path path = directory.resolve(startMillis + EXTENSION);
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, resolution.getSegmentBytes());
+
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, resolution.ordinal());
+        buffer.putLong(12, startMillis);
+        buffer.putInt(WRITE_POSITION_OFFSET, HEADER_BYTES);
+
+        return new MetricsSegment(path, startMillis, channel, buffer, HEADER_BYTES);
+    }
+
+    static MetricsSegment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a metrics segment: " + path);
+            }
+
+            int writePosition = buffer.getInt(WRITE_POSITION_OFFSET);
+            if (writePosition < HEADER_BYTES || writePosition > buffer.capacity()) {
+                throw new IOException("Corrupt metrics segment: " + path);
+            }
+            MetricsSegment segment = new MetricsSegment(path, buffer.getLong(12), channel, buffer, writePosition);
+            segment.forEachBlock((metric, statCount, count, startSlot, data, offset, length) -> segment.extendRange(startSlot, count));
+            return segment;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Returns false when the segment is full and a new one has to be started
+    boolean append(Metric metric, int statCount, int count, long startSlot, byte[] payload, int length) {
+        if (writePosition + BLOCK_HEADER_BYTES + length > buffer.capacity()) {
+            return false;
+        }
+
+        int position = writePosition;
+        buffer.putInt(position, length);
+        buffer.put(position + 4, (byte) metric.ordinal());
+        buffer.put(position + 5, (byte) statCount);
+        buffer.putShort(position + 6, (short) count);
+        buffer.putLong(position + 8, startSlot);
+        buffer.put(position + BLOCK_HEADER_BYTES, payload, 0, length);
+
+        writePosition = position + BLOCK_HEADER_BYTES + length;
+        buffer.putInt(WRITE_POSITION_OFFSET, writePosition);
+        extendRange(startSlot, count);
+        return true;
+    }
+
+    private void extendRange(long startSlot, int count) {
+        firstSlot = Math.min(firstSlot, startSlot);
+        lastSlot = Math.max(lastSlot, startSlot + count - 1);
+    }
+
+    boolean overlaps(long fromSlot, long toSlot) {
+        return lastSlot >= fromSlot && firstSlot < toSlot;
+    }
+
+    long getLastSlot() {
+        return lastSlot;
+    }
+
+    void forEachBlock(BlockVisitor visitor) {
+        int position = HEADER_BYTES;
+        while (position + BLOCK_HEADER_BYTES <= writePosition) {
+            int length = buffer.getInt(position);
+            int metric = buffer.get(position + 4);
+            int statCount = buffer.get(position + 5);
+            int count = buffer.getShort(position + 6) & 0xFFFF;
+            long startSlot = buffer.getLong(position + 8);
+
+            visitor.visit(metric, statCount, count, startSlot, buffer, position + BLOCK_HEADER_BYTES, length);
+            position += BLOCK_HEADER_BYTES + length;
+        }
+    }
+
+    long getStartMillis() {
+        return startMillis;
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    interface BlockVisitor {
+        void visit(int metric, int statCount, int count, long startSlot, ByteBuffer buffer, int offset, int length);
+    }
+}
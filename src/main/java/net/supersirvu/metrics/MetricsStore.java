@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import net.supersirvu.DedicatedPower;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/*
+ * Embedded time-series store for the server metrics.
+ *
+ * Every metric is kept at three resolutions: raw 1 second samples and 1 minute / 1 hour
+ * rollups with min/avg/max. Samples are collected into fixed-size blocks in memory, and a
+ * full block is XOR-compressed and appended to a memory-mapped segment file. Timestamps are
+ * never stored per sample: a block records its first step and every value after that is one
+ * step later, with NaN marking steps where the server was not running.
+ *
+ * Each resolution lives in its own directory and old segments are deleted once they fall
+ * outside that resolution's retention window.
+ */
+public class MetricsStore implements Closeable {
+    private static final int METRIC_COUNT = Metric.values().length;
+    private static final long RETENTION_CHECK_INTERVAL = 60 * 60 * 1000L;
+
+    private final Map<Resolution, Tier> tiers = new EnumMap<>(Resolution.class);
+    private long lastRetentionCheck;
+
+    private MetricsStore() {
+    }
+
+    public static MetricsStore open(Path directory, Map<Resolution, Long> retentionMillis) throws IOException {
+        MetricsStore store = new MetricsStore();
+        try {
+            for (Resolution resolution : Resolution.values()) {
+                long retention = retentionMillis.getOrDefault(resolution, resolution.getDefaultRetentionMillis());
+                Path tierDirectory = directory.resolve(resolution.name().toLowerCase(Locale.ROOT));
+                Files.createDirectories(tierDirectory);
+                store.tiers.put(resolution, new Tier(resolution, tierDirectory, retention));
+            }
+        } catch (IOException e) {
+            store.close();
+            throw e;
+        }
+        store.enforceRetention(System.currentTimeMillis());
+        return store;
+    }
+
+    // Values are indexed by Metric.ordinal(); NaN means "not available"
+    public synchronized void record(long timeMillis, double[] values) {
+        for (Tier tier : tiers.values()) {
+            for (int metric = 0; metric < METRIC_COUNT; metric++) {
+                tier.accumulate(metric, timeMillis, values[metric]);
+            }
+        }
+
+        if (timeMillis - lastRetentionCheck > RETENTION_CHECK_INTERVAL) {
+            enforceRetention(timeMillis);
+        }
+    }
+
+    public synchronized MetricSeries query(Metric metric, Resolution resolution, long fromMillis, long toMillis) {
+        Tier tier = tiers.get(resolution);
+        long fromSlot = resolution.toSlot(fromMillis);
+        long toSlot = resolution.toSlot(toMillis) + 1;
+        int size = (int) Math.max(0, Math.min(toSlot - fromSlot, 1_000_000));
+
+        MetricSeries series = new MetricSeries(metric, resolution, fromSlot * resolution.getStepMillis(), size);
+        if (tier != null && size > 0) {
+            tier.read(metric.ordinal(), fromSlot, series);
+        }
+        return series;
+    }
+
+    public synchronized void flush() {
+        for (Tier tier : tiers.values()) {
+            tier.flushAll();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        for (Tier tier : tiers.values()) {
+            tier.flushAll();
+            tier.close();
+        }
+        tiers.clear();
+    }
+
+    private void enforceRetention(long now) {
+        lastRetentionCheck = now;
+        for (Tier tier : tiers.values()) {
+            tier.enforceRetention(now);
+        }
+    }
+
+    private static class Tier {
+        private final Resolution resolution;
+        private final Path directory;
+        private final long retentionMillis;
+        private final List<MetricsSegment> segments = new ArrayList<>();
+        private final OpenBlock[] openBlocks = new OpenBlock[METRIC_COUNT];
+        private final Accumulator[] accumulators = new Accumulator[METRIC_COUNT];
+        private final BitOutput encoder = new BitOutput();
+        private final double[][] scratch;
+
+        Tier(Resolution resolution, Path directory, long retentionMillis) throws IOException {
+            this.resolution = resolution;
+            this.directory = directory;
+            this.retentionMillis = retentionMillis;
+            this.scratch = new double[resolution.getStatCount()][resolution.getBlockSlots()];
+
+            for (int i = 0; i < METRIC_COUNT; i++) {
+                accumulators[i] = new Accumulator();
+            }
+
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(directory)) {
+                files = stream.filter(path -> path.getFileName().toString().endsWith(MetricsSegment.EXTENSION)).toList();
+            }
+            for (Path file : files) {
+                try {
+                    segments.add(MetricsSegment.open(file));
+                } catch (IOException e) {
+                    DedicatedPower.LOGGER.warn("Skipping unreadable metrics segment {}: {}", file, e.getMessage());
+                }
+            }
+            segments.sort(Comparator.comparingLong(MetricsSegment::getStartMillis));
+        }
+
+        void accumulate(int metric, long timeMillis, double value) {
+            if (Double.isNaN(value)) return;
+
+            Accumulator accumulator = accumulators[metric];
+            long slot = resolution.toSlot(timeMillis);
+            if (accumulator.count > 0 && accumulator.slot != slot) {
+                emit(metric, accumulator);
+            }
+            accumulator.add(slot, value);
+        }
+
+        private void emit(int metric, Accumulator accumulator) {
+            put(metric, accumulator.slot, accumulator.min, accumulator.sum / accumulator.count, accumulator.max);
+            accumulator.count = 0;
+        }
+
+        private void put(int metric, long slot, double min, double avg, double max) {
+            int blockSlots = resolution.getBlockSlots();
+            OpenBlock block = openBlocks[metric];
+
+            if (block != null && slot < block.startSlot) {
+                // Clock went backwards, drop the sample rather than corrupting history
+                return;
+            }
+            if (block == null || slot >= block.startSlot + blockSlots) {
+                if (block != null) {
+                    writeBlock(metric, block);
+                }
+                block = new OpenBlock(slot - Math.floorMod(slot, blockSlots), blockSlots, resolution.getStatCount());
+                openBlocks[metric] = block;
+            }
+
+            int index = (int) (slot - block.startSlot);
+            if (resolution.getStatCount() == 1) {
+                block.stats[0][index] = avg;
+            } else {
+                block.stats[0][index] = min;
+                block.stats[1][index] = avg;
+                block.stats[2][index] = max;
+            }
+            block.count = Math.max(block.count, index + 1);
+        }
+
+        private void writeBlock(int metric, OpenBlock block) {
+            encoder.reset();
+            for (double[] stat : block.stats) {
+                XorCodec.encode(stat, block.count, encoder);
+            }
+
+            try {
+                MetricsSegment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+                if (segment == null || !segment.append(Metric.values()[metric], block.stats.length, block.count,
+                        block.startSlot, encoder.buffer(), encoder.byteLength())) {
+                    segment = MetricsSegment.create(directory, nextSegmentStart(), resolution);
+                    segments.add(segment);
+                    segment.append(Metric.values()[metric], block.stats.length, block.count,
+                            block.startSlot, encoder.buffer(), encoder.byteLength());
+                }
+            } catch (IOException e) {
+                DedicatedPower.LOGGER.error("Failed to write {} metrics block", resolution, e);
+            }
+        }
+
+        private long nextSegmentStart() {
+            long now = System.currentTimeMillis();
+            // Segment names must stay unique and ordered even if the clock jumps
+            if (!segments.isEmpty()) {
+                now = Math.max(now, segments.get(segments.size() - 1).getStartMillis() + 1);
+            }
+            return now;
+        }
+
+        void flushAll() {
+            for (int metric = 0; metric < METRIC_COUNT; metric++) {
+                if (accumulators[metric].count > 0) {
+                    emit(metric, accumulators[metric]);
+                }
+                if (openBlocks[metric] != null) {
+                    writeBlock(metric, openBlocks[metric]);
+                    openBlocks[metric] = null;
+                }
+            }
+            for (MetricsSegment segment : segments) {
+                segment.force();
+            }
+        }
+
+        void read(int metric, long fromSlot, MetricSeries series) {
+            long toSlot = fromSlot + series.size();
+
+            // Segments are visited oldest first, so blocks rewritten after a restart win
+            for (MetricsSegment segment : segments) {
+                if (!segment.overlaps(fromSlot, toSlot)) continue;
+
+                segment.forEachBlock((blockMetric, statCount, count, startSlot, buffer, offset, length) -> {
+                    if (blockMetric != metric || startSlot + count <= fromSlot || startSlot >= toSlot) return;
+                    decodeInto(statCount, count, startSlot, buffer, offset, length, fromSlot, series);
+                });
+            }
+
+            // Samples that have not been written out yet
+            Accumulator accumulator = accumulators[metric];
+            OpenBlock block = openBlocks[metric];
+            if (block != null) {
+                for (int i = 0; i < block.count; i++) {
+                    int index = (int) (block.startSlot + i - fromSlot);
+                    if (index < 0 || index >= series.size() || Double.isNaN(block.stats[0][i])) continue;
+                    if (block.stats.length == 1) {
+                        series.set(index, block.stats[0][i], block.stats[0][i], block.stats[0][i]);
+                    } else {
+                        series.set(index, block.stats[0][i], block.stats[1][i], block.stats[2][i]);
+                    }
+                }
+            }
+            if (accumulator.count > 0) {
+                int index = (int) (accumulator.slot - fromSlot);
+                if (index >= 0 && index < series.size()) {
+                    series.set(index, accumulator.min, accumulator.sum / accumulator.count, accumulator.max);
+                }
+            }
+        }
+
+        private void decodeInto(int statCount, int count, long startSlot, ByteBuffer buffer, int offset, int length,
+                                long fromSlot, MetricSeries series) {
+            if (statCount != scratch.length || count > scratch[0].length) return;
+
+            BitInput in = new BitInput(buffer, offset, length);
+            double[][] stats = scratch;
+            for (int s = 0; s < statCount; s++) {
+                XorCodec.decode(in, stats[s], count);
+            }
+
+            for (int i = 0; i < count; i++) {
+                int index = (int) (startSlot + i - fromSlot);
+                // Later blocks for the same steps (written after a restart) win, but never with gaps
+                if (index < 0 || index >= series.size() || Double.isNaN(stats[0][i])) continue;
+                if (statCount == 1) {
+                    series.set(index, stats[0][i], stats[0][i], stats[0][i]);
+                } else {
+                    series.set(index, stats[0][i], stats[1][i], stats[2][i]);
+                }
+            }
+        }
+
+        void enforceRetention(long now) {
+            long cutoffSlot = resolution.toSlot(now - retentionMillis);
+            // The newest segment is still being written to, so it is always kept
+            while (segments.size() > 1 && segments.get(0).getLastSlot() < cutoffSlot) {
+                MetricsSegment expired = segments.remove(0);
+                try {
+                    expired.close();
+                    Files.deleteIfExists(expired.getPath());
+                } catch (IOException e) {
+                    DedicatedPower.LOGGER.warn("Failed to delete expired metrics segment {}", expired.getPath(), e);
+                }
+            }
+        }
+
+        void close() {
+            for (MetricsSegment segment : segments) {
+                try {
+                    segment.close();
+                } catch (IOException e) {
+                    DedicatedPower.LOGGER.warn("Failed to close metrics segment {}", segment.getPath(), e);
+                }
+            }
+            segments.clear();
+        }
+    }
+
+    private static class OpenBlock {
+        final long startSlot;
+        final double[][] stats;
+        int count;
+
+        OpenBlock(long startSlot, int slots, int statCount) {
+            this.startSlot = startSlot;
+            this.stats = new double[statCount][slots];
+            for (double[] stat : stats) {
+                Arrays.fill(stat, Double.NaN);
+            }
+        }
+    }
+
+    private static class Accumulator {
+        long slot;
+        double min;
+        double max;
+        double sum;
+        int count;
+
+        void add(long slot, double value) {
+            if (count == 0) {
+                this.slot = slot;
+                min = value;
+                max = value;
+                sum = 0;
+            } else {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            sum += value;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+public enum Resolution {
+    // Raw samples, one value per second
+    SECOND(TimeUnit.SECONDS.toMillis(1), 300, 1, 4 << 20, TimeUnit.DAYS.toMillis(1)),
+    // Rollups keep min/avg/max for each step
+    MINUTE(TimeUnit.MINUTES.toMillis(1), 60, 3, 1 << 20, TimeUnit.DAYS.toMillis(7)),
+    HOUR(TimeUnit.HOURS.toMillis(1), 24, 3, 256 << 10, TimeUnit.DAYS.toMillis(90));
+
+    private final long stepMillis;
+    private final int blockSlots;
+    private final int statCount;
+    private final int segmentBytes;
+    private final long defaultRetentionMillis;
+
+    Resolution(long stepMillis, int blockSlots, int statCount, int segmentBytes, long defaultRetentionMillis) {
+        this.stepMillis = stepMillis;
+        this.blockSlots = blockSlots;
+        this.statCount = statCount;
+        this.segmentBytes = segmentBytes;
+        this.defaultRetentionMillis = defaultRetentionMillis;
+    }
+
+    public long getStepMillis() {
+        return stepMillis;
+    }
+
+    // Number of consecutive steps compressed together into one block
+    int getBlockSlots() {
+        return blockSlots;
+    }
+
+    // 1 for raw samples, 3 (min, avg, max) for rollups
+    int getStatCount() {
+        return statCount;
+    }
+
+    int getSegmentBytes() {
+        return segmentBytes;
+    }
+
+    public long getDefaultRetentionMillis() {
+        return defaultRetentionMillis;
+    }
+
+    public long toSlot(long timeMillis) {
+        return Math.floorDiv(timeMillis, stepMillis);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.metrics;
+
+/*
+ * Gorilla-style XOR compression for a run of doubles.
+ *
+ * Each value is XORed with the previous one. An unchanged value costs a single bit, and a
+ * changed value only stores the meaningful bits between the leading and trailing zeros,
+ * reusing the previous window when it still fits. Slowly moving gauges like entity counts
+ * or memory usage end up at a few bits per sample.
+ */
+final class XorCodec {
+    private XorCodec() {
+    }
+
+    static void encode(double[] values, int count, BitOutput out) {
+        if (count == 0) return;
+
+        long previous = Double.doubleToLongBits(values[0]);
+        out.writeBits(previous, 64);
+
+        int previousLeading = -1;
+        int previousTrailing = 0;
+
+        for (int i = 1; i < count; i++) {
+            long current = Double.doubleToLongBits(values[i]);
+            long xor = current ^ previous;
+            previous = current;
+
+            if (xor == 0) {
+                out.writeBit(false);
+                continue;
+            }
+            out.writeBit(true);
+
+            int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+            int trailing = Long.numberOfTrailingZeros(xor);
+
+            if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+                // Fits inside the previous window
+                out.writeBit(false);
+                out.writeBits(xor >>> previousTrailing, 64 - previousLeading - previousTrailing);
+            } else {
+                int meaningful = 64 - leading - trailing;
+                out.writeBit(true);
+                out.writeBits(leading, 5);
+                out.writeBits(meaningful - 1, 6);
+                out.writeBits(xor >>> trailing, meaningful);
+                previousLeading = leading;
+                previousTrailing = trailing;
+            }
+        }
+    }
+
+    static void decode(BitInput in, double[] values, int count) {
+        if (count == 0) return;
+
+        long previous = in.readBits(64);
+        values[0] = Double.longBitsToDouble(previous);
+
+        int previousLeading = 0;
+        int previousTrailing = 0;
+
+        for (int i = 1; i < count; i++) {
+            if (in.readBit()) {
+                if (in.readBit()) {
+                    previousLeading = (int) in.readBits(5);
+                    int meaningful = (int) in.readBits(6) + 1;
+                    previousTrailing = 64 - previousLeading - meaningful;
+                }
+                long xor = in.readBits(64 - previousLeading - previousTrailing) << previousTrailing;
+                previous ^= xor;
+            }
+            values[i] = Double.longBitsToDouble(previous);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.mixin;
+
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.mojang.brigadier.ParseResults;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.jfr.CommandEvent;
+import net.supersirvu.jfr.WorldSaveEvent;
+import net.supersirvu.profiling.TickRecorder;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+// Hooks for things Fabric API has no event for. Optional, a changed target only loses the event
+public class ProfilingHooks {
+    @Mixin(MinecraftServer.class)
+    public static class SaveEvents {
+        @Unique
+        private WorldSaveEvent dedicatedpower$saveEvent;
+
+        // Autosaves pass suppressLogs, save-all does not
+        @Inject(method = "saveAll", at = @At("HEAD"), require = 0)
+        private void beginSave(boolean suppressLogs, boolean flush, boolean force, CallbackInfoReturnable<Boolean> cir) {
+            TickRecorder recorder = DedicatedPower.getTickRecorder();
+            if (recorder != null) recorder.onSaveStart();
+
+            WorldSaveEvent event = new WorldSaveEvent();
+            if (!event.isEnabled()) return;
+
+            event.autosave = suppressLogs;
+            event.flush = flush;
+            event.force = force;
+            event.begin();
+            this.dedicatedpower$saveEvent = event;
+        }
+
+        @Inject(method = "saveAll", at = @At("RETURN"), require = 0)
+        private void endSave(boolean suppressLogs, boolean flush, boolean force, CallbackInfoReturnable<Boolean> cir) {
+            TickRecorder recorder = DedicatedPower.getTickRecorder();
+            if (recorder != null) recorder.onSaveEnd();
+
+            if (this.dedicatedpower$saveEvent != null) {
+                this.dedicatedpower$saveEvent.commit();
+                this.dedicatedpower$saveEvent = null;
+            }
+        }
+    }
+
+    @Mixin(CommandManager.class)
+    public static class CommandEvents {
+        // Console, GUI and player commands all end up here; nesting and exceptions unwind with the call
+        @WrapMethod(method = "execute", require = 0)
+        private void timeCommand(ParseResults<ServerCommandSource> parseResults, String command, Operation<Void> original) {
+            CommandEvent event = new CommandEvent();
+            if (!event.isEnabled()) {
+                original.call(parseResults, command);
+                return;
+            }
+
+            event.command = command;
+            event.source = parseResults.getContext().getSource().getName();
+            event.begin();
+            try {
+                original.call(parseResults, command);
+            } finally {
+                event.commit();
+            }
+        }
+    }
+}
@@ -11,10 +11,14 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.dedicated.MinecraftDedicatedServer;
 import net.minecraft.server.dedicated.gui.DedicatedServerGui;
 import net.minecraft.util.logging.UncaughtExceptionLogger;
+import net.supersirvu.core.GuiMode;
+import net.supersirvu.gui.EdtMonitor;
 import net.supersirvu.gui.EnhancedLogPanel;
 import net.supersirvu.gui.EnhancedPlayerListGui;
 import net.supersirvu.gui.EnhancedPlayerStatsGui;
 import net.supersirvu.gui.EnhancedServerMenuBar;
+import net.supersirvu.gui.GuiScheduler;
+import net.supersirvu.profiling.StartupTimeline;
 import org.slf4j.Logger;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -38,8 +42,11 @@ public class ServerGuiFixes {
                 at = @At(value = "TAIL")
         )
         private static <S extends MinecraftServer> void alwaysEnableGui(Function<Thread, S> serverFactory, CallbackInfoReturnable<S> cir) {
-            if(cir.getReturnValue() instanceof MinecraftDedicatedServer dedicatedServer) {
+            // With gui.mode=never (or auto without a display) the metrics core runs on its own
+            if(GuiMode.shouldShowGui() && cir.getReturnValue() instanceof MinecraftDedicatedServer dedicatedServer) {
+                StartupTimeline.begin("GUI creation", StartupTimeline.GUI);
                 dedicatedServer.createGui();
+                StartupTimeline.end("GUI creation");
             }
         }
     }
@@ -59,6 +66,7 @@ public class ServerGuiFixes {
 
         @Inject(method = "createStatsPanel", at = @At("HEAD"), cancellable = true)
         private void replaceStatsPanel(CallbackInfoReturnable<JComponent> cir) {
+            StartupTimeline.begin("GUI stats panel", StartupTimeline.GUI);
             JPanel jPanel = new JPanel(new java.awt.BorderLayout());
 
             // Use our enhanced stats GUI instead of the vanilla one
@@ -82,6 +90,7 @@ public class ServerGuiFixes {
 
             jPanel.add(jScrollPane, "Center");
             jPanel.setBorder(new javax.swing.border.TitledBorder(new javax.swing.border.EtchedBorder(), "Stats"));
+            StartupTimeline.end("GUI stats panel");
 
             // Cancel the original method and return our custom panel
             cir.setReturnValue(jPanel);
@@ -99,6 +108,8 @@ public class ServerGuiFixes {
             if (frame == null) return;
 
             frame.setJMenuBar(new EnhancedServerMenuBar(server, frame));
+            GuiScheduler.get().setMainFrame(frame);
+            EdtMonitor.start();
             SwingUtilities.invokeLater(() -> {
                 frame.revalidate();
                 frame.repaint();
@@ -108,6 +119,7 @@ public class ServerGuiFixes {
         @Inject(method = "createLogPanel", at = @At("HEAD"), cancellable = true)
         private void replaceLogPanel(CallbackInfoReturnable<JComponent> cir) {
             // Use our enhanced log panel
+            StartupTimeline.begin("GUI log panel", StartupTimeline.GUI);
             EnhancedLogPanel enhancedLogPanel = new EnhancedLogPanel(this.server);
 
             JPanel jPanel = new JPanel(new java.awt.BorderLayout());
@@ -123,6 +135,7 @@ public class ServerGuiFixes {
             this.consoleUpdateThread.setUncaughtExceptionHandler(new UncaughtExceptionLogger(LOGGER));
             this.consoleUpdateThread.setDaemon(true);
             this.consoleUpdateThread.start();
+            StartupTimeline.end("GUI log panel");
 
             // Cancel the original method and return our custom panel
             cir.setReturnValue(jPanel);
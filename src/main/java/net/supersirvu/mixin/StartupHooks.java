@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.mixin;
+
+import net.minecraft.registry.Registries;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.SaveLoading;
+import net.supersirvu.profiling.StartupTimeline;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/*
+ * Phase boundaries for the startup timeline. The handlers take no target arguments so a
+ * changed signature still matches, and a missing target only loses its phase.
+ */
+public class StartupHooks {
+    @Mixin(MinecraftServer.class)
+    public static class ServerStartup {
+        // Data packs are loaded right before the server is created
+        @Inject(method = "startServer", at = @At("HEAD"), require = 0)
+        private static void serverStarting(CallbackInfoReturnable<MinecraftServer> cir) {
+            StartupTimeline.end("Data packs");
+            StartupTimeline.begin("Server startup", StartupTimeline.SERVER);
+        }
+
+        @Inject(method = "createWorlds", at = @At("HEAD"), require = 0)
+        private void worldsStarting(CallbackInfo ci) {
+            StartupTimeline.worldsStarting();
+        }
+
+        @Inject(method = "createWorlds", at = @At("RETURN"), require = 0)
+        private void worldsLoaded(CallbackInfo ci) {
+            StartupTimeline.worldsLoaded();
+        }
+
+        @Inject(method = "prepareStartRegion", at = @At("HEAD"), require = 0)
+        private void spawnChunksStarting(CallbackInfo ci) {
+            StartupTimeline.begin("Spawn chunks", StartupTimeline.WORLDS);
+        }
+
+        @Inject(method = "prepareStartRegion", at = @At("RETURN"), require = 0)
+        private void spawnChunksPrepared(CallbackInfo ci) {
+            StartupTimeline.end("Spawn chunks");
+        }
+    }
+
+    @Mixin(Registries.class)
+    public static class RegistryFreeze {
+        @Inject(method = "freezeRegistries", at = @At("HEAD"), require = 0)
+        private static void freezeStarting(CallbackInfo ci) {
+            StartupTimeline.begin("Registry freeze", StartupTimeline.BOOTSTRAP);
+        }
+
+        @Inject(method = "freezeRegistries", at = @At("RETURN"), require = 0)
+        private static void frozen(CallbackInfo ci) {
+            StartupTimeline.end("Registry freeze");
+        }
+    }
+
+    @Mixin(SaveLoading.class)
+    public static class DataPackLoad {
+        // Runs on worker threads and is joined on the main thread, so it ends when the server is created
+        @Inject(method = "load", at = @At("HEAD"), require = 0)
+        private static void loadStarting(CallbackInfoReturnable<?> cir) {
+            StartupTimeline.begin("Data packs", StartupTimeline.DATA);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * Merged stack samples as a trie. Nodes live in parallel int arrays (frame id, parent,
+ * first child, next sibling, counts) instead of objects, so a profile with hundreds of
+ * thousands of nodes stays a handful of arrays. Node 0 is the root and has no frame.
+ *
+ * Not thread safe, the sampler and the readers synchronize around it.
+ */
+public class CallTree {
+    public static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private int[] frame = new int[256];
+    private int[] parent = new int[256];
+    private int[] firstChild = new int[256];
+    private int[] nextSibling = new int[256];
+    private int[] selfCount = new int[256];
+    private int[] totalCount = new int[256];
+    private int size;
+
+    public CallTree() {
+        newNode(NONE, NONE);
+    }
+
+    private int newNode(int frameId, int parentNode) {
+        if (size == frame.length) {
+            int capacity = size * 2;
+            frame = Arrays.copyOf(frame, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            selfCount = Arrays.copyOf(selfCount, capacity);
+            totalCount = Arrays.copyOf(totalCount, capacity);
+        }
+
+        int node = size++;
+        frame[node] = frameId;
+        parent[node] = parentNode;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        selfCount[node] = 0;
+        totalCount[node] = 0;
+        if (parentNode != NONE) {
+            nextSibling[node] = firstChild[parentNode];
+            firstChild[parentNode] = node;
+        }
+        return node;
+    }
+
+    // Frames outermost first
+    public void add(int[] frames, int length, int weight) {
+        int node = ROOT;
+        totalCount[ROOT] += weight;
+        for (int i = 0; i < length; i++) {
+            node = child(node, frames[i]);
+            totalCount[node] += weight;
+        }
+        selfCount[node] += weight;
+    }
+
+    private int child(int node, int frameId) {
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            if (frame[child] == frameId) return child;
+        }
+        return newNode(frameId, node);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getTotalSamples() {
+        return totalCount[ROOT];
+    }
+
+    public int getFrame(int node) {
+        return frame[node];
+    }
+
+    public int getParent(int node) {
+        return parent[node];
+    }
+
+    public int getSelf(int node) {
+        return selfCount[node];
+    }
+
+    public int getTotal(int node) {
+        return totalCount[node];
+    }
+
+    // Children, biggest first
+    public int[] getChildren(int node) {
+        int count = 0;
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) count++;
+
+        Integer[] children = new Integer[count];
+        int i = 0;
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) children[i++] = child;
+        Arrays.sort(children, Comparator.comparingInt((Integer child) -> totalCount[child]).reversed());
+
+        int[] result = new int[count];
+        for (i = 0; i < count; i++) result[i] = children[i];
+        return result;
+    }
+
+    public int getDepth(int node) {
+        int depth = 0;
+        for (int current = node; current != ROOT; current = parent[current]) depth++;
+        return depth;
+    }
+
+    public CallTree copy() {
+        CallTree copy = new CallTree();
+        copy.frame = Arrays.copyOf(frame, size);
+        copy.parent = Arrays.copyOf(parent, size);
+        copy.firstChild = Arrays.copyOf(firstChild, size);
+        copy.nextSibling = Arrays.copyOf(nextSibling, size);
+        copy.selfCount = Arrays.copyOf(selfCount, size);
+        copy.totalCount = Arrays.copyOf(totalCount, size);
+        copy.size = size;
+        return copy;
+    }
+
+    /*
+     * Collapsed stacks ("outer;inner;leaf 42" per line), the input format of
+     * flamegraph.pl, speedscope and most other flame graph tools.
+     */
+    public void writeCollapsed(Appendable out, FrameTable frames) throws IOException {
+        StringBuilder path = new StringBuilder();
+        for (int node = 1; node < size; node++) {
+            if (selfCount[node] == 0) continue;
+
+            path.setLength(0);
+            for (int current = node; current != ROOT; current = parent[current]) {
+                if (path.length() > 0) path.insert(0, ';');
+                path.insert(0, frames.getName(frame[current]).replace(';', ':').replace(' ', '_'));
+            }
+            out.append(path).append(' ').append(String.valueOf(selfCount[node])).append('\n');
+        }
+    }
+
+    /*
+     * Self and total samples per method. A recursive method counts once per sample
+     * for its total, not once per level of recursion.
+     */
+    public List<HotMethod> getHotMethods(FrameTable frames) {
+        int frameCount = frames.size();
+        long[] self = new long[frameCount];
+        long[] total = new long[frameCount];
+        int[] onStack = new int[frameCount];
+
+        // Iterative DFS, deep stacks would overflow the Java stack otherwise
+        int[] stack = new int[64];
+        boolean[] exiting = new boolean[64];
+        int top = 0;
+        stack[top] = ROOT;
+        exiting[top] = false;
+        top++;
+        while (top > 0) {
+            top--;
+            int node = stack[top];
+            int frameId = frame[node];
+            if (exiting[top]) {
+                onStack[frameId]--;
+                continue;
+            }
+
+            if (frameId != NONE) {
+                self[frameId] += selfCount[node];
+                if (onStack[frameId]++ == 0) {
+                    total[frameId] += totalCount[node];
+                }
+                // Visit again on the way out to pop the frame
+                exiting[top] = true;
+                top++;
+            }
+
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                    exiting = Arrays.copyOf(exiting, top * 2);
+                }
+                stack[top] = child;
+                exiting[top] = false;
+                top++;
+            }
+        }
+
+        List<HotMethod> methods = new ArrayList<>();
+        for (int id = 0; id < frameCount; id++) {
+            if (total[id] > 0) {
+                methods.add(new HotMethod(frames.getName(id), self[id], total[id]));
+            }
+        }
+        methods.sort(Comparator.comparingLong(HotMethod::selfSamples).reversed());
+        return methods;
+    }
+
+    public record HotMethod(String name, long selfSamples, long totalSamples) {
+    }
+}
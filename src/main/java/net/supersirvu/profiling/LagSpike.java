@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+/*
+ * One slow tick and what the server thread was doing during it. Sampling only starts once
+ * the tick is already over the threshold, so the samples cover the tail of the tick.
+ */
+public class LagSpike {
+    private final int id;
+    private final long startMillis;
+    private final long tickNumber;
+    private final long thresholdMillis;
+    private final FrameTable frames = new FrameTable();
+    private final CallTree tree = new CallTree();
+    private long durationNanos;
+    private int sampleCount;
+
+    LagSpike(int id, long startMillis, long tickNumber, long thresholdMillis) {
+        this.id = id;
+        this.startMillis = startMillis;
+        this.tickNumber = tickNumber;
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    void addSample(StackTraceElement[] trace) {
+        // Traces are innermost first, the tree wants outermost first
+        int[] frameIds = new int[trace.length];
+        for (int i = 0; i < trace.length; i++) {
+            frameIds[i] = frames.intern(trace[trace.length - 1 - i]);
+        }
+        tree.add(frameIds, frameIds.length, 1);
+        sampleCount++;
+    }
+
+    void finish(long durationNanos) {
+        this.durationNanos = durationNanos;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getTickNumber() {
+        return tickNumber;
+    }
+
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    public double getDurationMillis() {
+        return durationNanos / 1_000_000.0;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public FrameTable getFrames() {
+        return frames;
+    }
+
+    public CallTree getCallTree() {
+        return tree;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/*
+ * The server thread only publishes when a tick starts and ends, which is two volatile
+ * writes per tick. A daemon thread polls that and, once the running tick is over the
+ * threshold, samples the server thread's stack every few milliseconds until the tick ends.
+ * Healthy ticks never touch a stack trace.
+ */
+public class LagWatchdog {
+    private static final int MAX_STACK_DEPTH = 256;
+
+    private final long thresholdNanos;
+    private final long sampleIntervalMillis;
+    private final long pollMillis;
+    private final int historySize;
+
+    private volatile Thread serverThread;
+    private volatile long tickStartNanos;
+    private volatile long tickNumber;
+    private volatile long lastTickNanos;
+    private volatile boolean running;
+    private Thread watchdogThread;
+
+    // Guarded by this
+    private final List<LagSpike> spikes = new ArrayList<>();
+    private int nextId = 1;
+    private final List<Consumer<LagSpike>> listeners = new ArrayList<>();
+
+    public LagWatchdog() {
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        long thresholdMillis = Math.max(1, config.getLong("lag.threshold-ms", 250));
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.sampleIntervalMillis = Math.max(1, config.getLong("lag.sample-interval-ms", 5));
+        this.historySize = Math.max(1, config.getInt("lag.history-size", 100));
+        // Checking a few times per threshold is plenty to catch the spike early
+        this.pollMillis = Math.max(5, Math.min(50, thresholdMillis / 4));
+    }
+
+    public static LagWatchdog install() {
+        LagWatchdog watchdog = new LagWatchdog();
+        ServerTickEvents.START_SERVER_TICK.register(watchdog::onTickStart);
+        ServerTickEvents.END_SERVER_TICK.register(watchdog::onTickEnd);
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> watchdog.start(server));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> watchdog.stop());
+        return watchdog;
+    }
+
+    private void onTickStart(MinecraftServer server) {
+        if (serverThread == null) {
+            serverThread = Thread.currentThread();
+        }
+        tickStartNanos = System.nanoTime();
+    }
+
+    private void onTickEnd(MinecraftServer server) {
+        long start = tickStartNanos;
+        lastTickNanos = System.nanoTime() - start;
+        tickStartNanos = 0;
+        tickNumber++;
+    }
+
+    public synchronized void start(MinecraftServer server) {
+        if (running) return;
+        running = true;
+        watchdogThread = new Thread(this::run, "DedicatedPower Lag Watchdog");
+        watchdogThread.setDaemon(true);
+        watchdogThread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (watchdogThread != null) {
+            watchdogThread.interrupt();
+            watchdogThread = null;
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                long start = tickStartNanos;
+                long tick = tickNumber;
+                Thread thread = serverThread;
+                if (start == 0 || thread == null || System.nanoTime() - start < thresholdNanos) {
+                    Thread.sleep(pollMillis);
+                    continue;
+                }
+
+                capture(thread, start, tick);
+            }
+        } catch (InterruptedException ignored) {
+            // Server is stopping
+        }
+    }
+
+    private void capture(Thread thread, long start, long tick) throws InterruptedException {
+        long startMillis = System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LagSpike spike = new LagSpike(nextId(), startMillis, tick, TimeUnit.NANOSECONDS.toMillis(thresholdNanos));
+
+        while (running && tickNumber == tick && tickStartNanos == start) {
+            StackTraceElement[] trace = thread.getStackTrace();
+            if (trace.length > MAX_STACK_DEPTH) {
+                StackTraceElement[] truncated = new StackTraceElement[MAX_STACK_DEPTH];
+                System.arraycopy(trace, 0, truncated, 0, MAX_STACK_DEPTH);
+                trace = truncated;
+            }
+            spike.addSample(trace);
+            Thread.sleep(sampleIntervalMillis);
+        }
+
+        spike.finish(tickNumber != tick ? lastTickNanos : System.nanoTime() - start);
+        store(spike);
+
+        // The console turns "Lag spike #N" into a link to the viewer
+        DedicatedPower.LOGGER.warn("Lag spike #{}: tick {} took {} ms, {} stack samples captured",
+                spike.getId(), tick, Math.round(spike.getDurationMillis()), spike.getSampleCount());
+    }
+
+    private synchronized int nextId() {
+        return nextId++;
+    }
+
+    private void store(LagSpike spike) {
+        List<Consumer<LagSpike>> toNotify;
+        synchronized (this) {
+            spikes.add(spike);
+            if (spikes.size() > historySize) {
+                spikes.remove(0);
+            }
+            toNotify = List.copyOf(listeners);
+        }
+
+        for (Consumer<LagSpike> listener : toNotify) {
+            listener.accept(spike);
+        }
+    }
+
+    public synchronized void addListener(Consumer<LagSpike> listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized void removeListener(Consumer<LagSpike> listener) {
+        listeners.remove(listener);
+    }
+
+    // Null until the server has ticked once
+    public Thread getServerThread() {
+        return serverThread;
+    }
+
+    public boolean isTickRunning() {
+        return tickStartNanos != 0;
+    }
+
+    // Ticks completed since the server started
+    public long getTickNumber() {
+        return tickNumber;
+    }
+
+    // Spikes since startup, including the ones that dropped out of the history
+    public synchronized int getSpikeCount() {
+        return nextId - 1;
+    }
+
+    // Oldest first
+    public synchronized List<LagSpike> getSpikes() {
+        return List.copyOf(spikes);
+    }
+
+    public synchronized LagSpike getSpike(int id) {
+        for (LagSpike spike : spikes) {
+            if (spike.getId() == id) return spike;
+        }
+        return null;
+    }
+}
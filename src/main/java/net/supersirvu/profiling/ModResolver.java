@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Works out which mod a stack frame belongs to. The owning mod of a class is found by
+ * looking for its .class file in each mod's root paths, which is slow but only happens
+ * once per class. Mixin handlers live in the target class, so a vanilla class can run mod
+ * code; Fabric's Mixin puts the mod id in handler names ("handler$zza000$modid$tick"),
+ * which is checked first.
+ */
+public class ModResolver {
+    public static final String JAVA = "java";
+    public static final String MINECRAFT = "minecraft";
+    public static final String UNKNOWN = "unknown";
+
+    // Injector prefixes of Mixin and MixinExtras, lambda$name$0 and friends must not match
+    private static final Set<String> MIXIN_PREFIXES = Set.of(
+            "handler", "redirect", "modify", "localvar", "constant", "args",
+            "wrapOperation", "wrapWithCondition", "modifyExpressionValue", "modifyReturnValue",
+            "modifyReceiver", "wrapMethod");
+
+    private static final List<String> DISPATCH_PREFIXES = List.of(
+            "net.fabricmc.fabric.api.event.", "net.fabricmc.fabric.impl.base.event.",
+            "net.fabricmc.loader.", "org.spongepowered.asm.", "com.llamalad7.mixinextras.");
+
+    private final List<ModContainer> mods = new ArrayList<>();
+    private final Map<String, String> names = new HashMap<>();
+    private final Map<String, String> classOwners = new ConcurrentHashMap<>();
+
+    public ModResolver() {
+        for (ModContainer mod : FabricLoader.getInstance().getAllMods()) {
+            String id = mod.getMetadata().getId();
+            // The "java" builtin mod has no classes worth scanning
+            if (id.equals(JAVA)) continue;
+            mods.add(mod);
+            names.put(id, mod.getMetadata().getName());
+        }
+        names.put(JAVA, "Java");
+        names.putIfAbsent(MINECRAFT, "Minecraft");
+        names.put(UNKNOWN, "Unknown");
+    }
+
+    public String resolve(StackTraceElement frame) {
+        String handlerMod = resolveMixinHandler(frame.getMethodName());
+        if (handlerMod != null) return handlerMod;
+        return resolveClass(frame.getClassName());
+    }
+
+    private String resolveMixinHandler(String methodName) {
+        if (methodName.indexOf('$') < 0) return null;
+
+        String[] parts = methodName.split("\\$");
+        if (!MIXIN_PREFIXES.contains(parts[0])) return null;
+        for (int i = 1; i < parts.length - 1; i++) {
+            if (names.containsKey(parts[i]) && !parts[i].equals(MINECRAFT)) return parts[i];
+        }
+        return null;
+    }
+
+    public String resolveClass(String className) {
+        // Lambdas and hidden classes ("Foo$$Lambda/0x...") have no class file of their own
+        int hidden = className.indexOf("$$");
+        String lookup = hidden > 0 ? className.substring(0, hidden) : className;
+
+        String owner = classOwners.get(lookup);
+        if (owner == null) {
+            owner = findOwner(lookup);
+            classOwners.put(lookup, owner);
+        }
+        return owner;
+    }
+
+    private String findOwner(String className) {
+        if (className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("jdk.")
+                || className.startsWith("sun.") || className.startsWith("com.sun.")) {
+            return JAVA;
+        }
+
+        String file = className.replace('.', '/') + ".class";
+        for (ModContainer mod : mods) {
+            try {
+                if (mod.findPath(file).isPresent()) {
+                    return mod.getMetadata().getId();
+                }
+            } catch (RuntimeException ignored) {
+                // Some builtin mods have no file system behind them
+            }
+        }
+        return UNKNOWN;
+    }
+
+    public String getName(String modId) {
+        return names.getOrDefault(modId, modId);
+    }
+
+    // Event invokers, the loader and Mixin plumbing only pass control on to someone else's code
+    public static boolean isDispatch(String className) {
+        for (String prefix : DISPATCH_PREFIXES) {
+            if (className.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+}
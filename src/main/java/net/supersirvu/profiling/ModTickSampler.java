@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Background sampler that blames each tick sample on one mod: whoever owns the code that
+ * is running, walking up from the leaf through JDK frames and event dispatch. The walk
+ * stops at the first vanilla or mod frame, so vanilla work called from a mod's wrapper
+ * (a wrapOperation around world ticking, an event listener) is charged to Minecraft, not
+ * to the mod that happens to be further up the stack. Samples between ticks are counted
+ * as idle and left out of the shares.
+ *
+ * Counts are kept per minute for the last hour, so any window up to an hour is just a sum
+ * of buckets.
+ */
+public class ModTickSampler {
+    private static final int MAX_STACK_DEPTH = 256;
+    private static final int BUCKET_COUNT = 60;
+    private static final long BUCKET_MILLIS = 60_000L;
+
+    private final LagWatchdog watchdog;
+    private final ModResolver resolver = new ModResolver();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final long intervalMillis;
+
+    // Mod ids are numbered in the order they are first seen, guarded by this
+    private final Map<String, Integer> modIndexes = new HashMap<>();
+    private final List<String> modIds = new ArrayList<>();
+    private final Bucket[] buckets = new Bucket[BUCKET_COUNT];
+
+    private volatile boolean running;
+    private Thread samplerThread;
+
+    public ModTickSampler(LagWatchdog watchdog) {
+        this.watchdog = watchdog;
+        this.intervalMillis = Math.max(1, DedicatedPowerConfig.get().getLong("mods.sample-interval-ms", 50));
+    }
+
+    public static ModTickSampler install(LagWatchdog watchdog) {
+        ModTickSampler sampler = new ModTickSampler(watchdog);
+        if (DedicatedPowerConfig.get().getBoolean("mods.attribution-enabled", true)) {
+            ServerLifecycleEvents.SERVER_STARTED.register(server -> sampler.start());
+            ServerLifecycleEvents.SERVER_STOPPING.register(server -> sampler.stop());
+        }
+        return sampler;
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        samplerThread = new Thread(this::run, "DedicatedPower Mod Sampler");
+        samplerThread.setDaemon(true);
+        samplerThread.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (samplerThread != null) {
+            samplerThread.interrupt();
+            samplerThread = null;
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                sample();
+                Thread.sleep(intervalMillis);
+            }
+        } catch (InterruptedException ignored) {
+            // Server is stopping
+        } catch (RuntimeException e) {
+            DedicatedPower.LOGGER.error("Mod tick sampler stopped", e);
+        }
+    }
+
+    private void sample() {
+        Thread serverThread = watchdog.getServerThread();
+        if (serverThread == null) return;
+
+        long now = System.currentTimeMillis();
+        long tick = watchdog.getTickNumber();
+        if (!watchdog.isTickRunning()) {
+            record(now, null, tick);
+            return;
+        }
+
+        ThreadInfo info = threadBean.getThreadInfo(serverThread.getId(), MAX_STACK_DEPTH);
+        if (info == null) return;
+        record(now, attribute(info.getStackTrace()), tick);
+    }
+
+    private String attribute(StackTraceElement[] trace) {
+        // Innermost first
+        for (StackTraceElement frame : trace) {
+            String mod = resolver.resolve(frame);
+            if (mod.equals(ModResolver.JAVA) || mod.equals(ModResolver.UNKNOWN)) continue;
+            if (!mod.equals(ModResolver.MINECRAFT) && ModResolver.isDispatch(frame.getClassName())) continue;
+            return mod;
+        }
+        return ModResolver.JAVA;
+    }
+
+    private synchronized void record(long now, String modId, long tickNumber) {
+        long minute = now / BUCKET_MILLIS;
+        int slot = (int) (minute % BUCKET_COUNT);
+        Bucket bucket = buckets[slot];
+        if (bucket == null || bucket.minute != minute) {
+            bucket = new Bucket(minute, tickNumber, modIds.size());
+            buckets[slot] = bucket;
+        }
+        bucket.lastTick = tickNumber;
+
+        if (modId == null) {
+            bucket.idleSamples++;
+            return;
+        }
+
+        Integer index = modIndexes.get(modId);
+        if (index == null) {
+            index = modIds.size();
+            modIds.add(modId);
+            modIndexes.put(modId, index);
+        }
+        if (bucket.counts.length <= index) {
+            bucket.counts = Arrays.copyOf(bucket.counts, Math.max(index + 1, bucket.counts.length * 2));
+        }
+        bucket.counts[index]++;
+        bucket.tickSamples++;
+    }
+
+    // Per-mod share of tick samples over the last windowMinutes, biggest first
+    public synchronized Report getReport(int windowMinutes) {
+        long currentMinute = System.currentTimeMillis() / BUCKET_MILLIS;
+        long[] counts = new long[modIds.size()];
+        long tickSamples = 0;
+        long idleSamples = 0;
+        long ticks = 0;
+
+        for (Bucket bucket : buckets) {
+            if (bucket == null || currentMinute - bucket.minute >= Math.min(windowMinutes, BUCKET_COUNT)) continue;
+            // Buckets are allocated and grown ahead of the mods seen, the extra slots stay zero
+            int seen = Math.min(bucket.counts.length, counts.length);
+            for (int i = 0; i < seen; i++) {
+                counts[i] += bucket.counts[i];
+            }
+            tickSamples += bucket.tickSamples;
+            idleSamples += bucket.idleSamples;
+            ticks += bucket.lastTick - bucket.firstTick;
+        }
+
+        List<ModShare> shares = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) continue;
+            String modId = modIds.get(i);
+            double percent = counts[i] * 100.0 / tickSamples;
+            // Each sample stands for roughly one interval of server thread time
+            double msPerTick = ticks > 0 ? counts[i] * (double) intervalMillis / ticks : Double.NaN;
+            shares.add(new ModShare(modId, resolver.getName(modId), counts[i], percent, msPerTick));
+        }
+        shares.sort(Comparator.comparingLong(ModShare::samples).reversed());
+        return new Report(shares, tickSamples, idleSamples, ticks);
+    }
+
+    private static class Bucket {
+        final long minute;
+        final long firstTick;
+        long lastTick;
+        int[] counts;
+        int tickSamples;
+        int idleSamples;
+
+        Bucket(long minute, long firstTick, int modCount) {
+            this.minute = minute;
+            this.firstTick = firstTick;
+            this.lastTick = firstTick;
+            this.counts = new int[Math.max(8, modCount)];
+        }
+    }
+
+    public record ModShare(String modId, String name, long samples, double percent, double msPerTick) {
+    }
+
+    public record Report(List<ModShare> shares, long tickSamples, long idleSamples, long ticks) {
+        // Share of wall time the server thread spent inside a tick
+        public double busyPercent() {
+            long total = tickSamples + idleSamples;
+            return total > 0 ? tickSamples * 100.0 / total : 0;
+        }
+    }
+}
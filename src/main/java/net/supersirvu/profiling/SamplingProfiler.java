@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Samples thread stacks through ThreadMXBean into a CallTree. Taking a stack trace needs
+ * a safepoint, so the cost lands on the sampled threads as well. The time spent inside
+ * each sample is averaged and the interval is stretched whenever sampling at the requested
+ * rate would take more than the configured share (1% by default) of wall time.
+ *
+ * When all threads are sampled, each thread's stack is rooted under a frame with the
+ * thread name so the flame graph splits by thread first.
+ */
+public class SamplingProfiler {
+    private static final int MAX_STACK_DEPTH = 256;
+    private static final int WARMUP_SAMPLES = 5;
+    private static final long MAX_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final Thread serverThread;
+    private final boolean allThreads;
+    private final long requestedIntervalNanos;
+    private final double maxOverhead;
+
+    private final FrameTable frames = new FrameTable();
+    private final CallTree tree = new CallTree();
+    private final int[] frameBuffer = new int[MAX_STACK_DEPTH + 1];
+
+    private volatile boolean running;
+    private volatile long intervalNanos;
+    private volatile long sampleNanosTotal;
+    private volatile long startNanos;
+    private volatile long stopNanos;
+    private volatile int sampleCount;
+    private long averageSampleNanos;
+    private Thread samplerThread;
+
+    public SamplingProfiler(Thread serverThread, boolean allThreads, long intervalMillis) {
+        this.serverThread = serverThread;
+        this.allThreads = allThreads;
+        this.requestedIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, intervalMillis));
+        this.intervalNanos = requestedIntervalNanos;
+        this.maxOverhead = DedicatedPowerConfig.get().getDouble("profiler.max-overhead-percent", 1.0) / 100.0;
+    }
+
+    public static long getDefaultIntervalMillis() {
+        return DedicatedPowerConfig.get().getLong("profiler.interval-ms", 10);
+    }
+
+    public synchronized void start() {
+        if (running) return;
+        if (!allThreads && serverThread == null) {
+            throw new IllegalStateException("The server thread is not known yet");
+        }
+
+        running = true;
+        startNanos = System.nanoTime();
+        samplerThread = new Thread(this::run, "DedicatedPower Profiler");
+        samplerThread.setDaemon(true);
+        samplerThread.start();
+    }
+
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        stopNanos = System.nanoTime();
+        samplerThread.interrupt();
+        samplerThread = null;
+    }
+
+    private void run() {
+        long next = System.nanoTime();
+        while (running) {
+            long before = System.nanoTime();
+            try {
+                sample();
+            } catch (Exception e) {
+                DedicatedPower.LOGGER.warn("Profiler sample failed", e);
+            }
+            long spent = System.nanoTime() - before;
+            sampleNanosTotal += spent;
+            sampleCount++;
+
+            // Fit the interval to the recent cost of a sample, the first few are slow while the JIT warms up
+            averageSampleNanos = averageSampleNanos == 0 ? spent : (long) (averageSampleNanos * 0.8 + spent * 0.2);
+            long interval = intervalNanos;
+            if (sampleCount > WARMUP_SAMPLES) {
+                interval = Math.min(MAX_INTERVAL_NANOS, Math.max(requestedIntervalNanos, (long) (averageSampleNanos / maxOverhead)));
+                intervalNanos = interval;
+            }
+
+            next += interval;
+            long now = System.nanoTime();
+            if (next < now) next = now;
+            LockSupport.parkNanos(next - now);
+            if (Thread.interrupted()) return;
+        }
+    }
+
+    private void sample() {
+        if (allThreads) {
+            long self = Thread.currentThread().getId();
+            for (ThreadInfo info : threadBean.dumpAllThreads(false, false, MAX_STACK_DEPTH)) {
+                if (info == null || info.getThreadId() == self) continue;
+                record(info.getThreadName(), info.getStackTrace());
+            }
+        } else {
+            ThreadInfo info = threadBean.getThreadInfo(serverThread.getId(), MAX_STACK_DEPTH);
+            if (info != null) {
+                record(null, info.getStackTrace());
+            }
+        }
+    }
+
+    private void record(String threadName, StackTraceElement[] trace) {
+        if (trace.length == 0) return;
+
+        synchronized (tree) {
+            int length = 0;
+            if (threadName != null) {
+                frameBuffer[length++] = frames.intern("[" + threadName + "]");
+            }
+            // Traces are innermost first, the tree wants outermost first
+            for (int i = trace.length - 1; i >= 0; i--) {
+                frameBuffer[length++] = frames.intern(trace[i]);
+            }
+            tree.add(frameBuffer, length, 1);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public FrameTable getFrames() {
+        return frames;
+    }
+
+    // A copy, safe to read while sampling continues
+    public CallTree snapshot() {
+        synchronized (tree) {
+            return tree.copy();
+        }
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public double getIntervalMillis() {
+        return intervalNanos / 1_000_000.0;
+    }
+
+    public boolean isThrottled() {
+        return intervalNanos > requestedIntervalNanos;
+    }
+
+    public double getElapsedSeconds() {
+        long end = running ? System.nanoTime() : stopNanos;
+        return (end - startNanos) / 1_000_000_000.0;
+    }
+
+    // Share of wall time spent taking samples
+    public double getOverheadPercent() {
+        long elapsed = (running ? System.nanoTime() : stopNanos) - startNanos;
+        return elapsed > 0 ? sampleNanosTotal * 100.0 / elapsed : 0;
+    }
+
+    public boolean isAllThreads() {
+        return allThreads;
+    }
+}
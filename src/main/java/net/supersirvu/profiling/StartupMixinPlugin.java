@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import org.objectweb.asm.tree.ClassNode;
+import org.spongepowered.asm.mixin.extensibility.IMixinConfigPlugin;
+import org.spongepowered.asm.mixin.extensibility.IMixinInfo;
+
+import java.util.List;
+import java.util.Set;
+
+/*
+ * Times how long each of our mixins takes to apply for the startup timeline. A config plugin
+ * only sees its own config, so other mods' mixins are part of the loader and mod phases.
+ * Mixins are applied as their target classes load, not in one block.
+ */
+public class StartupMixinPlugin implements IMixinConfigPlugin {
+    @Override
+    public void onLoad(String mixinPackage) {
+    }
+
+    @Override
+    public String getRefMapperConfig() {
+        return null;
+    }
+
+    @Override
+    public boolean shouldApplyMixin(String targetClassName, String mixinClassName) {
+        return true;
+    }
+
+    @Override
+    public void acceptTargets(Set<String> myTargets, Set<String> otherTargets) {
+    }
+
+    @Override
+    public List<String> getMixins() {
+        return null;
+    }
+
+    @Override
+    public void preApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+        StartupTimeline.begin(phaseName(mixinClassName), StartupTimeline.MIXIN);
+    }
+
+    @Override
+    public void postApply(String targetClassName, ClassNode targetClass, String mixinClassName, IMixinInfo mixinInfo) {
+        StartupTimeline.end(phaseName(mixinClassName));
+    }
+
+    // Target names are obfuscated outside the dev environment, the mixin's own name is not
+    private static String phaseName(String mixinClassName) {
+        return "Apply mixin " + mixinClassName.substring(mixinClassName.lastIndexOf('.') + 1);
+    }
+}
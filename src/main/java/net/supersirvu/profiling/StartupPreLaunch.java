@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import net.fabricmc.loader.api.entrypoint.PreLaunchEntrypoint;
+
+// Only marks the moment for the startup timeline, nothing else may run this early
+public class StartupPreLaunch implements PreLaunchEntrypoint {
+    @Override
+    public void onPreLaunch() {
+        StartupTimeline.preLaunch();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/*
+ * Where the time goes between starting the JVM and "Done": loader start, mod init, our
+ * mixins being applied, registry freeze, data packs, each world, spawn chunks and the GUI.
+ * Phases are recorded in milliseconds since JVM start by the pre-launch entrypoint, the
+ * mixin plugin, the startup hooks and the lifecycle events, and may overlap (the GUI is
+ * built while the server thread loads the worlds).
+ *
+ * Called from the very first mod code that runs, so recording must not touch Minecraft or
+ * the config; persistence only runs once the server has started. Every startup is saved
+ * under <data>/startup so restarts can be compared.
+ */
+public final class StartupTimeline {
+    public static final String LOADER = "Loader";
+    public static final String MODS = "Mods";
+    public static final String MIXIN = "Mixin";
+    public static final String BOOTSTRAP = "Bootstrap";
+    public static final String DATA = "Data";
+    public static final String SERVER = "Server";
+    public static final String WORLDS = "Worlds";
+    public static final String GUI = "GUI";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String FILE_PREFIX = "startup-";
+    private static final long JVM_START_MILLIS = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+    // Guarded by the class
+    private static final List<Phase> phases = new ArrayList<>();
+    private static final Map<String, Phase> open = new HashMap<>();
+    private static Timeline finished;
+    private static long worldStartMillis = -1;
+    private static long preLaunchMillis = -1;
+
+    public record Phase(String name, String category, long startMillis, long endMillis) {
+        public long durationMillis() {
+            return endMillis - startMillis;
+        }
+    }
+
+    // Times are milliseconds since jvmStartMillis; totalMillis is JVM start to "Done"
+    public record Timeline(long jvmStartMillis, long totalMillis, List<Phase> phases) {
+        public Phase getPhase(String name) {
+            for (Phase phase : phases) {
+                if (phase.name().equals(name)) return phase;
+            }
+            return null;
+        }
+    }
+
+    private StartupTimeline() {
+    }
+
+    public static long now() {
+        return System.currentTimeMillis() - JVM_START_MILLIS;
+    }
+
+    public static synchronized void begin(String name, String category) {
+        if (finished == null) open.put(name, new Phase(name, category, now(), -1));
+    }
+
+    public static synchronized void end(String name) {
+        Phase phase = open.remove(name);
+        if (phase != null) span(phase.name(), phase.category(), phase.startMillis(), now());
+    }
+
+    // Replaces an earlier phase of the same name, so a span can be widened as it grows
+    public static synchronized void span(String name, String category, long startMillis, long endMillis) {
+        if (finished != null) return;
+        phases.removeIf(phase -> phase.name().equals(name));
+        phases.add(new Phase(name, category, startMillis, endMillis));
+    }
+
+    // Fabric's pre-launch entrypoint, after mod discovery and the mixin bootstrap
+    public static synchronized void preLaunch() {
+        preLaunchMillis = now();
+        span("JVM start to pre-launch", LOADER, 0, preLaunchMillis);
+    }
+
+    // First thing in our mod init; mods initialised before ours are in the loader phase
+    public static synchronized void modInitStarting() {
+        span(preLaunchMillis < 0 ? "JVM start to mod init" : "Pre-launch to mod init", LOADER, Math.max(0, preLaunchMillis), now());
+        begin("DedicatedPower init", MODS);
+    }
+
+    public static void install() {
+        ServerWorldEvents.LOAD.register((server, world) -> worldLoaded(world.getRegistryKey().getValue().toString()));
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> finish());
+    }
+
+    // World loads have no start event of their own, each one starts where the previous ended
+    public static synchronized void worldsStarting() {
+        worldStartMillis = now();
+    }
+
+    public static synchronized void worldsLoaded() {
+        worldStartMillis = -1;
+    }
+
+    private static synchronized void worldLoaded(String world) {
+        if (worldStartMillis < 0) return;
+        long time = now();
+        span("Load world " + world, WORLDS, worldStartMillis, time);
+        worldStartMillis = time;
+    }
+
+    private static void finish() {
+        Timeline timeline;
+        synchronized (StartupTimeline.class) {
+            if (finished != null) return;
+            end("Server startup");
+            open.clear();
+            List<Phase> sorted = new ArrayList<>(phases);
+            sorted.sort(Comparator.comparingLong(Phase::startMillis));
+            timeline = new Timeline(JVM_START_MILLIS, now(), List.copyOf(sorted));
+            finished = timeline;
+        }
+
+        Phase longest = timeline.phases().stream()
+                .filter(phase -> !phase.category().equals(SERVER))
+                .max(Comparator.comparingLong(Phase::durationMillis)).orElse(null);
+        DedicatedPower.LOGGER.info("Server started {} s after JVM start{}", String.format("%.1f", timeline.totalMillis() / 1000.0),
+                longest != null ? String.format(", longest phase %s (%.1f s)", longest.name(), longest.durationMillis() / 1000.0) : "");
+
+        try {
+            save(timeline);
+        } catch (IOException e) {
+            DedicatedPower.LOGGER.warn("Failed to save the startup timeline: {}", e.getMessage());
+        }
+    }
+
+    // The finished timeline, or what has been recorded so far while still starting
+    public static synchronized Timeline current() {
+        if (finished != null) return finished;
+        List<Phase> sorted = new ArrayList<>(phases);
+        long time = now();
+        for (Phase phase : open.values()) {
+            sorted.add(new Phase(phase.name(), phase.category(), phase.startMillis(), time));
+        }
+        sorted.sort(Comparator.comparingLong(Phase::startMillis));
+        return new Timeline(JVM_START_MILLIS, time, sorted);
+    }
+
+    public static synchronized boolean isFinished() {
+        return finished != null;
+    }
+
+    public static Path getDirectory() {
+        return DedicatedPower.getDataDirectory().resolve("startup");
+    }
+
+    private static void save(Timeline timeline) throws IOException {
+        Path directory = getDirectory();
+        Files.createDirectories(directory);
+        Path file = directory.resolve(FILE_PREFIX + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(timeline.jvmStartMillis())) + ".json");
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            GSON.toJson(timeline, writer);
+        }
+
+        // File names sort by time, drop the oldest beyond startup.history
+        int keep = Math.max(1, DedicatedPowerConfig.get().getInt("startup.history", 20));
+        List<Path> files = listFiles();
+        for (int i = 0; i < files.size() - keep; i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private static List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(getDirectory())) {
+            return files.filter(f -> f.getFileName().toString().startsWith(FILE_PREFIX)).sorted().toList();
+        }
+    }
+
+    // Earlier startups, newest first, without the current one
+    public static List<Timeline> loadHistory() throws IOException {
+        List<Timeline> timelines = new ArrayList<>();
+        if (!Files.isDirectory(getDirectory())) return timelines;
+
+        for (Path file : listFiles()) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                Timeline timeline = GSON.fromJson(reader, Timeline.class);
+                if (timeline != null && timeline.phases() != null && timeline.jvmStartMillis() != JVM_START_MILLIS) {
+                    timelines.add(timeline);
+                }
+            } catch (JsonParseException e) {
+                DedicatedPower.LOGGER.warn("Skipping unreadable startup timeline {}: {}", file, e.getMessage());
+            }
+        }
+        timelines.sort(Comparator.comparingLong(Timeline::jvmStartMillis).reversed());
+        return timelines;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * A thread dump with lock information, in the same layout jstack uses so it can be pasted
+ * into the usual analysis tools. Besides the raw text it can detect deadlocks, fold
+ * threads with identical stacks into one entry (a pool of 16 idle workers is one line,
+ * not 16 screens), and compare itself with an earlier dump to find threads that have not
+ * moved in between.
+ */
+public class ThreadDump {
+    private final long time;
+    private final ThreadInfo[] threads;
+    private final Map<Long, Long> cpuNanos = new HashMap<>();
+    private final long[] deadlocked;
+
+    private ThreadDump(long time, ThreadInfo[] threads, long[] deadlocked) {
+        this.time = time;
+        this.threads = threads;
+        this.deadlocked = deadlocked != null ? deadlocked : new long[0];
+        Arrays.sort(this.deadlocked);
+    }
+
+    public static ThreadDump capture() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        ThreadInfo[] infos = bean.dumpAllThreads(bean.isObjectMonitorUsageSupported(), bean.isSynchronizerUsageSupported());
+        long[] deadlocked = bean.isSynchronizerUsageSupported() ? bean.findDeadlockedThreads() : bean.findMonitorDeadlockedThreads();
+
+        ThreadDump dump = new ThreadDump(System.currentTimeMillis(), infos, deadlocked);
+        if (bean.isThreadCpuTimeSupported() && bean.isThreadCpuTimeEnabled()) {
+            for (ThreadInfo info : infos) {
+                dump.cpuNanos.put(info.getThreadId(), bean.getThreadCpuTime(info.getThreadId()));
+            }
+        }
+        return dump;
+    }
+
+    public long getTime() {
+        return time;
+    }
+
+    public int getThreadCount() {
+        return threads.length;
+    }
+
+    public boolean hasDeadlock() {
+        return deadlocked.length > 0;
+    }
+
+    public boolean isDeadlocked(long threadId) {
+        return Arrays.binarySearch(deadlocked, threadId) >= 0;
+    }
+
+    public String format() {
+        StringBuilder text = new StringBuilder();
+        text.append("=== THREAD DUMP ===\n");
+        text.append("Generated: ").append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(time))).append("\n");
+        text.append("Threads: ").append(threads.length);
+        if (hasDeadlock()) text.append(", ").append(deadlocked.length).append(" DEADLOCKED");
+        text.append("\n\n");
+
+        for (ThreadInfo info : threads) {
+            appendThread(text, info);
+            text.append("\n");
+        }
+        return text.toString();
+    }
+
+    private void appendThread(StringBuilder text, ThreadInfo info) {
+        text.append('"').append(info.getThreadName()).append("\" #").append(info.getThreadId());
+        if (info.isDaemon()) text.append(" daemon");
+        text.append(" prio=").append(info.getPriority()).append(' ').append(info.getThreadState());
+        if (isDeadlocked(info.getThreadId())) text.append(" (DEADLOCKED)");
+        text.append("\n");
+
+        StackTraceElement[] stack = info.getStackTrace();
+        MonitorInfo[] monitors = info.getLockedMonitors();
+        for (int depth = 0; depth < stack.length; depth++) {
+            text.append("\tat ").append(stack[depth]).append("\n");
+
+            // What the top frame is blocked or waiting on goes right under it, like jstack
+            if (depth == 0 && info.getLockInfo() != null) {
+                String verb = switch (info.getThreadState()) {
+                    case BLOCKED -> "waiting to lock";
+                    case WAITING, TIMED_WAITING -> isMonitorWait(stack[0]) ? "waiting on" : "parking to wait for";
+                    default -> "waiting on";
+                };
+                text.append("\t- ").append(verb).append(' ').append(describe(info.getLockInfo()));
+                if (info.getLockOwnerName() != null) {
+                    text.append(" owned by \"").append(info.getLockOwnerName()).append("\" #").append(info.getLockOwnerId());
+                }
+                text.append("\n");
+            }
+            for (MonitorInfo monitor : monitors) {
+                if (monitor.getLockedStackDepth() == depth) {
+                    text.append("\t- locked ").append(describe(monitor)).append("\n");
+                }
+            }
+        }
+
+        LockInfo[] synchronizers = info.getLockedSynchronizers();
+        if (synchronizers.length > 0) {
+            text.append("\n\tLocked ownable synchronizers:\n");
+            for (LockInfo synchronizer : synchronizers) {
+                text.append("\t- ").append(describe(synchronizer)).append("\n");
+            }
+        }
+    }
+
+    private static boolean isMonitorWait(StackTraceElement frame) {
+        return frame.getClassName().equals("java.lang.Object") && frame.getMethodName().startsWith("wait");
+    }
+
+    private static String describe(LockInfo lock) {
+        return String.format("<0x%08x> (a %s)", lock.getIdentityHashCode(), lock.getClassName());
+    }
+
+    // The cycle of threads waiting on each other, one block per deadlocked thread
+    public String formatDeadlocks() {
+        if (!hasDeadlock()) return "No deadlocks found.\n";
+
+        StringBuilder text = new StringBuilder();
+        text.append("Found a deadlock between ").append(deadlocked.length).append(" threads:\n\n");
+        for (ThreadInfo info : threads) {
+            if (!isDeadlocked(info.getThreadId())) continue;
+            text.append('"').append(info.getThreadName()).append("\" waits for ").append(describe(info.getLockInfo()));
+            text.append(" held by \"").append(info.getLockOwnerName()).append("\"\n");
+        }
+        text.append("\n");
+        for (ThreadInfo info : threads) {
+            if (isDeadlocked(info.getThreadId())) {
+                appendThread(text, info);
+                text.append("\n");
+            }
+        }
+        return text.toString();
+    }
+
+    // Threads with the same state and stack, biggest groups first
+    public List<StackGroup> groupByStack() {
+        Map<String, List<ThreadInfo>> groups = new LinkedHashMap<>();
+        for (ThreadInfo info : threads) {
+            String key = info.getThreadState() + "\n" + stackKey(info.getStackTrace());
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(info);
+        }
+
+        List<StackGroup> result = new ArrayList<>();
+        for (List<ThreadInfo> members : groups.values()) {
+            ThreadInfo first = members.get(0);
+            List<String> names = new ArrayList<>(members.size());
+            for (ThreadInfo member : members) names.add(member.getThreadName());
+            result.add(new StackGroup(first.getThreadState(), names, first.getStackTrace()));
+        }
+        result.sort(Comparator.comparingInt((StackGroup group) -> group.threadNames().size()).reversed());
+        return result;
+    }
+
+    public String formatGroups() {
+        StringBuilder text = new StringBuilder();
+        List<StackGroup> groups = groupByStack();
+        text.append(threads.length).append(" threads in ").append(groups.size()).append(" distinct stacks\n\n");
+        for (StackGroup group : groups) {
+            text.append(group.threadNames().size()).append(" x ").append(group.state()).append(": ");
+            text.append(String.join(", ", group.threadNames())).append("\n");
+            for (StackTraceElement element : group.stack()) {
+                text.append("\tat ").append(element).append("\n");
+            }
+            text.append("\n");
+        }
+        return text.toString();
+    }
+
+    /*
+     * Threads that sit on the same stack in both dumps. Idle pool threads parked in their
+     * queue look the same every time, so only threads that are runnable, blocked, or the
+     * server thread count. Runnable threads idling in native code (Netty's epoll, the
+     * reference handler) are the same kind of noise and are skipped unless they burned CPU.
+     */
+    public List<StuckThread> findStuckThreads(ThreadDump older) {
+        Map<Long, ThreadInfo> before = new HashMap<>();
+        for (ThreadInfo info : older.threads) before.put(info.getThreadId(), info);
+
+        double seconds = (time - older.time) / 1000.0;
+        List<StuckThread> stuck = new ArrayList<>();
+        for (ThreadInfo info : threads) {
+            ThreadInfo previous = before.get(info.getThreadId());
+            if (previous == null || info.getStackTrace().length == 0) continue;
+            if (previous.getThreadState() != info.getThreadState()) continue;
+            if (!Arrays.equals(previous.getStackTrace(), info.getStackTrace())) continue;
+
+            boolean serverThread = info.getThreadName().equals("Server thread");
+            Thread.State state = info.getThreadState();
+            if (!serverThread && state != Thread.State.RUNNABLE && state != Thread.State.BLOCKED) continue;
+            // Whoever took the dumps
+            if (info.getThreadId() == Thread.currentThread().getId()) continue;
+
+            Long cpuNow = cpuNanos.get(info.getThreadId());
+            Long cpuBefore = older.cpuNanos.get(info.getThreadId());
+            double cpuPercent = cpuNow != null && cpuBefore != null && seconds > 0
+                    ? (cpuNow - cpuBefore) / 1e7 / seconds : Double.NaN;
+            boolean idleInNative = state == Thread.State.RUNNABLE && info.getStackTrace()[0].isNativeMethod()
+                    && !(cpuPercent >= 1);
+            if (!serverThread && idleInNative) continue;
+            stuck.add(new StuckThread(info.getThreadId(), info.getThreadName(), state, seconds, cpuPercent, info.getStackTrace()));
+        }
+        return stuck;
+    }
+
+    public static String formatStuckThreads(List<StuckThread> stuck, double seconds) {
+        StringBuilder text = new StringBuilder();
+        if (stuck.isEmpty()) {
+            text.append(String.format("No runnable or blocked thread stayed on the same stack for %.1f seconds.%n", seconds));
+            return text.toString();
+        }
+
+        text.append(String.format("%d threads did not move in %.1f seconds:%n%n", stuck.size(), seconds));
+        for (StuckThread thread : stuck) {
+            text.append('"').append(thread.name()).append("\" ").append(thread.state());
+            if (!Double.isNaN(thread.cpuPercent())) {
+                text.append(String.format(", %.0f%% CPU", thread.cpuPercent()));
+                if (thread.state() == Thread.State.RUNNABLE) {
+                    text.append(thread.cpuPercent() >= 50 ? " (spinning)" : " (mostly waiting)");
+                }
+            }
+            text.append("\n");
+            for (StackTraceElement element : thread.stack()) {
+                text.append("\tat ").append(element).append("\n");
+            }
+            text.append("\n");
+        }
+        return text.toString();
+    }
+
+    private static String stackKey(StackTraceElement[] stack) {
+        StringBuilder key = new StringBuilder();
+        for (StackTraceElement element : stack) key.append(element).append('\n');
+        return key.toString();
+    }
+
+    public record StackGroup(Thread.State state, List<String> threadNames, StackTraceElement[] stack) {
+    }
+
+    public record StuckThread(long id, String name, Thread.State state, double seconds, double cpuPercent,
+                              StackTraceElement[] stack) {
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * CPU time and allocated bytes per thread, turned into rates by diffing against the
+ * previous sample. Uses the bulk getters of HotSpot's ThreadMXBean so a sample is three
+ * calls no matter how many threads there are.
+ */
+public class ThreadUsageSampler {
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final boolean cpuSupported;
+    private final boolean allocationSupported;
+
+    private static final long[] NEW_THREAD = {0, 0, 0};
+
+    private final Map<Long, long[]> previous = new HashMap<>();
+    private long previousNanos;
+
+    public ThreadUsageSampler() {
+        this.threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.cpuSupported = threadBean.isThreadCpuTimeSupported();
+        this.allocationSupported = threadBean.isThreadAllocatedMemorySupported();
+        if (cpuSupported && !threadBean.isThreadCpuTimeEnabled()) threadBean.setThreadCpuTimeEnabled(true);
+        if (allocationSupported && !threadBean.isThreadAllocatedMemoryEnabled()) threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    public boolean isCpuSupported() {
+        return cpuSupported;
+    }
+
+    public boolean isAllocationSupported() {
+        return allocationSupported;
+    }
+
+    // Rates are 0 on the first call, there is nothing to compare against yet
+    public List<ThreadUsage> sample() {
+        long now = System.nanoTime();
+        long[] ids = threadBean.getAllThreadIds();
+        ThreadInfo[] infos = threadBean.getThreadInfo(ids, 0);
+        long[] cpu = cpuSupported ? threadBean.getThreadCpuTime(ids) : new long[ids.length];
+        long[] user = cpuSupported ? threadBean.getThreadUserTime(ids) : new long[ids.length];
+        long[] allocated = allocationSupported ? threadBean.getThreadAllocatedBytes(ids) : new long[ids.length];
+
+        double elapsed = previousNanos > 0 ? now - previousNanos : 0;
+        Map<Long, long[]> current = new HashMap<>();
+        List<ThreadUsage> usages = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            // Threads that died between the calls come back as null or -1
+            if (infos[i] == null || cpu[i] < 0) continue;
+
+            long[] totals = {cpu[i], user[i], allocated[i]};
+            current.put(ids[i], totals);
+
+            // A thread that started since the last sample has used everything it shows
+            long[] before = previous.getOrDefault(ids[i], NEW_THREAD);
+            double cpuPercent = 0;
+            double userPercent = 0;
+            double allocationRate = 0;
+            if (elapsed > 0) {
+                cpuPercent = (totals[0] - before[0]) * 100.0 / elapsed;
+                userPercent = (totals[1] - before[1]) * 100.0 / elapsed;
+                allocationRate = (totals[2] - before[2]) * 1_000_000_000.0 / elapsed;
+            }
+
+            String name = infos[i].getThreadName();
+            usages.add(new ThreadUsage(ids[i], name, categorize(name), infos[i].getThreadState(),
+                    cpuPercent, userPercent, allocationRate, totals[0], totals[2]));
+        }
+
+        previous.clear();
+        previous.putAll(current);
+        previousNanos = now;
+        return usages;
+    }
+
+    // Rough grouping by the names Minecraft, Netty and the JVM give their threads
+    public static String categorize(String name) {
+        if (name.equals("Server thread")) return "Server";
+        if (name.startsWith("Worker-Main")) return "Worker Pool";
+        if (name.startsWith("IO-Worker")) return "Chunk IO";
+        if (name.startsWith("Netty")) return "Network";
+        if (name.startsWith("DedicatedPower")) return "DedicatedPower";
+        if (name.startsWith("AWT-") || name.startsWith("Java2D") || name.startsWith("Swing-") || name.equals("TimerQueue")) return "GUI";
+        if (name.startsWith("Server Watchdog") || name.startsWith("Server console") || name.startsWith("Server Infinisleeper")) return "Server";
+        if (name.startsWith("GC ") || name.startsWith("G1 ") || name.startsWith("C1 ") || name.startsWith("C2 ")
+                || name.equals("Reference Handler") || name.equals("Finalizer") || name.equals("Signal Dispatcher")
+                || name.startsWith("Common-Cleaner") || name.startsWith("Attach Listener") || name.startsWith("Notification Thread")) {
+            return "JVM";
+        }
+        return "Other";
+    }
+
+    public record ThreadUsage(long id, String name, String category, Thread.State state,
+                              double cpuPercent, double userPercent, double allocationBytesPerSecond,
+                              long totalCpuNanos, long totalAllocatedBytes) {
+    }
+}
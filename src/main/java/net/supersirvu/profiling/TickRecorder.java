@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.profiling;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.supersirvu.DedicatedPowerConfig;
+import net.supersirvu.export.ServerSnapshot;
+import net.supersirvu.export.ServerSnapshotter;
+import net.supersirvu.metrics.GcEvent;
+import net.supersirvu.metrics.GcMonitor;
+
+/*
+ * A post-mortem record of every tick for the last recorder.minutes (30), so "the server
+ * froze ten minutes ago" can still be looked at tick by tick. The ring is allocated once as
+ * parallel primitive arrays, about 1.5 MB for 30 minutes, and recording a tick is a handful
+ * of array stores on the server thread.
+ *
+ * A slot is claimed when its tick starts and published (recorded) when it ends, so GC
+ * pauses, which are reported after the fact on the notification thread, can be added to
+ * the tick they overlapped even if it is still running. Phases are the worlds' own ticks,
+ * saving (autosave inside a tick) and everything else (network, players, scheduled tasks).
+ * Entity counts come from the latest server snapshot, so they change once a second.
+ *
+ * Readers copy slots out without locking. A slot that is overwritten while being copied
+ * is detected by its sequence number afterwards and dropped.
+ */
+public class TickRecorder {
+    private final int capacity;
+    private final long[] startMillis;
+    private final int[] durationMicros;
+    private final int[] worldMicros;
+    private final int[] saveMicros;
+    private final int[] gcMicros;
+    private final int[] entities;
+    private final int[] chunks;
+    private final int[] players;
+
+    // Ticks started and ticks finished; slot = sequence % capacity
+    private volatile long started;
+    private volatile long recorded;
+
+    // Server thread only
+    private Thread serverThread;
+    private boolean inTick;
+    private long tickStartNanos;
+    private long worldStartNanos;
+    private long worldNanos;
+    private long saveStartNanos;
+    private long saveNanos;
+    private ServerSnapshot countedSnapshot;
+    private int snapshotEntities;
+
+    private final ServerSnapshotter snapshotter;
+
+    private TickRecorder(int capacity, ServerSnapshotter snapshotter) {
+        this.capacity = capacity;
+        this.snapshotter = snapshotter;
+        this.startMillis = new long[capacity];
+        this.durationMicros = new int[capacity];
+        this.worldMicros = new int[capacity];
+        this.saveMicros = new int[capacity];
+        this.gcMicros = new int[capacity];
+        this.entities = new int[capacity];
+        this.chunks = new int[capacity];
+        this.players = new int[capacity];
+    }
+
+    // Null when recorder.enabled is off
+    public static TickRecorder install(GcMonitor gcMonitor, ServerSnapshotter snapshotter) {
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        if (!config.getBoolean("recorder.enabled", true)) return null;
+
+        int minutes = Math.max(1, Math.min(240, config.getInt("recorder.minutes", 30)));
+        TickRecorder recorder = new TickRecorder(minutes * 60 * 20, snapshotter);
+        ServerTickEvents.START_SERVER_TICK.register(recorder::onTickStart);
+        ServerTickEvents.END_SERVER_TICK.register(recorder::onTickEnd);
+        ServerTickEvents.START_WORLD_TICK.register(world -> recorder.worldStartNanos = System.nanoTime());
+        ServerTickEvents.END_WORLD_TICK.register(world -> recorder.worldNanos += System.nanoTime() - recorder.worldStartNanos);
+        gcMonitor.addListener(recorder::onGc);
+        return recorder;
+    }
+
+    private void onTickStart(MinecraftServer server) {
+        if (serverThread == null) serverThread = Thread.currentThread();
+
+        long sequence = started;
+        int slot = (int) (sequence % capacity);
+        startMillis[slot] = System.currentTimeMillis();
+        gcMicros[slot] = 0;
+        worldNanos = 0;
+        saveNanos = 0;
+        inTick = true;
+        started = sequence + 1;
+        tickStartNanos = System.nanoTime();
+    }
+
+    private void onTickEnd(MinecraftServer server) {
+        long duration = System.nanoTime() - tickStartNanos;
+        inTick = false;
+        long sequence = started - 1;
+        int slot = (int) (sequence % capacity);
+
+        int loadedChunks = 0;
+        for (ServerWorld world : server.getWorlds()) {
+            loadedChunks += world.getChunkManager().getLoadedChunkCount();
+        }
+
+        durationMicros[slot] = toMicros(duration);
+        worldMicros[slot] = toMicros(worldNanos);
+        saveMicros[slot] = toMicros(saveNanos);
+        entities[slot] = countEntities();
+        chunks[slot] = loadedChunks;
+        players[slot] = server.getCurrentPlayerCount();
+        recorded = sequence + 1;
+    }
+
+    private int countEntities() {
+        ServerSnapshot snapshot = snapshotter.getLatest();
+        if (snapshot != countedSnapshot) {
+            countedSnapshot = snapshot;
+            snapshotEntities = 0;
+            if (snapshot != null) {
+                for (ServerSnapshot.WorldStats world : snapshot.worlds()) snapshotEntities += world.entities();
+            }
+        }
+        return snapshotEntities;
+    }
+
+    private static int toMicros(long nanos) {
+        return (int) Math.min(Integer.MAX_VALUE, nanos / 1000);
+    }
+
+    // From the save hooks; saves outside a tick (shutdown, the GUI thread) are not part of one
+    public void onSaveStart() {
+        if (inTick && Thread.currentThread() == serverThread) {
+            saveStartNanos = System.nanoTime();
+        }
+    }
+
+    public void onSaveEnd() {
+        if (inTick && Thread.currentThread() == serverThread && saveStartNanos != 0) {
+            saveNanos += System.nanoTime() - saveStartNanos;
+            saveStartNanos = 0;
+        }
+    }
+
+    // GC notification thread, after the collection; walks back from the newest tick
+    private void onGc(GcEvent event) {
+        if (!event.pause() || event.durationMillis() <= 0) return;
+        long gcStart = event.timeMillis();
+        long gcEnd = gcStart + event.durationMillis();
+
+        long newest = started - 1;
+        long oldest = Math.max(0, started - capacity);
+        long finished = recorded;
+        for (long sequence = newest; sequence >= oldest; sequence--) {
+            int slot = (int) (sequence % capacity);
+            long tickStart = startMillis[slot];
+            // A tick still running may end after the pause did
+            long tickEnd = sequence < finished ? tickStart + Math.max(1, durationMicros[slot] / 1000) : Long.MAX_VALUE;
+            if (tickEnd < gcStart) break;
+
+            long overlap = Math.min(tickEnd, gcEnd) - Math.max(tickStart, gcStart);
+            if (overlap > 0) gcMicros[slot] += (int) (overlap * 1000);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Sequence number after the newest finished tick
+    public long getRecorded() {
+        return recorded;
+    }
+
+    // A running tick has already claimed the slot of the tick capacity before it
+    public long getOldest() {
+        return Math.max(0, started - capacity);
+    }
+
+    /*
+     * Copies the finished ticks [from, to) into the segment, reusing its arrays. Returns
+     * false if none of them are still in the ring.
+     */
+    public boolean copy(long from, long to, Segment segment) {
+        from = Math.max(from, getOldest());
+        to = Math.min(to, recorded);
+        if (to <= from) {
+            segment.resize(from, 0);
+            return false;
+        }
+
+        int count = (int) (to - from);
+        segment.resize(from, count);
+        for (int i = 0; i < count; i++) {
+            int slot = (int) ((from + i) % capacity);
+            segment.startMillis[i] = startMillis[slot];
+            segment.durationMicros[i] = durationMicros[slot];
+            segment.worldMicros[i] = worldMicros[slot];
+            segment.saveMicros[i] = saveMicros[slot];
+            segment.gcMicros[i] = gcMicros[slot];
+            segment.entities[i] = entities[slot];
+            segment.chunks[i] = chunks[slot];
+            segment.players[i] = players[slot];
+        }
+
+        // Ticks started meanwhile may have overwritten the oldest copied slots
+        long overwritten = getOldest() - from;
+        if (overwritten > 0) {
+            segment.dropFirst((int) Math.min(count, overwritten));
+        }
+        return segment.size() > 0;
+    }
+
+    // A copy of consecutive ticks, independent of the ring once taken
+    public static final class Segment {
+        private long firstSequence;
+        private int size;
+        private long[] startMillis = new long[0];
+        private int[] durationMicros = new int[0];
+        private int[] worldMicros = new int[0];
+        private int[] saveMicros = new int[0];
+        private int[] gcMicros = new int[0];
+        private int[] entities = new int[0];
+        private int[] chunks = new int[0];
+        private int[] players = new int[0];
+
+        private void resize(long firstSequence, int size) {
+            this.firstSequence = firstSequence;
+            this.size = size;
+            if (startMillis.length < size) {
+                startMillis = new long[size];
+                durationMicros = new int[size];
+                worldMicros = new int[size];
+                saveMicros = new int[size];
+                gcMicros = new int[size];
+                entities = new int[size];
+                chunks = new int[size];
+                players = new int[size];
+            }
+        }
+
+        private void dropFirst(int count) {
+            int remaining = size - count;
+            System.arraycopy(startMillis, count, startMillis, 0, remaining);
+            System.arraycopy(durationMicros, count, durationMicros, 0, remaining);
+            System.arraycopy(worldMicros, count, worldMicros, 0, remaining);
+            System.arraycopy(saveMicros, count, saveMicros, 0, remaining);
+            System.arraycopy(gcMicros, count, gcMicros, 0, remaining);
+            System.arraycopy(entities, count, entities, 0, remaining);
+            System.arraycopy(chunks, count, chunks, 0, remaining);
+            System.arraycopy(players, count, players, 0, remaining);
+            firstSequence += count;
+            size = remaining;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // Ticks are numbered from 1 like the snapshots' tick counts
+        public long tickNumber(int index) {
+            return firstSequence + index + 1;
+        }
+
+        public long startMillis(int index) {
+            return startMillis[index];
+        }
+
+        public double durationMillis(int index) {
+            return durationMicros[index] / 1000.0;
+        }
+
+        public double worldMillis(int index) {
+            return worldMicros[index] / 1000.0;
+        }
+
+        public double saveMillis(int index) {
+            return saveMicros[index] / 1000.0;
+        }
+
+        // Whatever the worlds and saving do not account for
+        public double otherMillis(int index) {
+            return Math.max(0, durationMicros[index] - worldMicros[index] - saveMicros[index]) / 1000.0;
+        }
+
+        public double gcMillis(int index) {
+            return gcMicros[index] / 1000.0;
+        }
+
+        public int entities(int index) {
+            return entities[index];
+        }
+
+        public int chunks(int index) {
+            return chunks[index];
+        }
+
+        public int players(int index) {
+            return players[index];
+        }
+    }
+}
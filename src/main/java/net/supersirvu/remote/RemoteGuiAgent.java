@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.remote;
+
+import com.mojang.logging.LogQueues;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
+import net.fabricmc.loader.api.metadata.ModOrigin;
+import net.minecraft.server.MinecraftServer;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.DedicatedPowerConfig;
+import net.supersirvu.core.GuiMode;
+import net.supersirvu.core.LocalSockets;
+import net.supersirvu.core.MetricsCollector;
+import net.supersirvu.core.MetricsSample;
+import net.supersirvu.core.MetricsSink;
+import net.supersirvu.export.ServerSnapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+/*
+ * The server side of gui.mode=remote. Instead of a window, the server keeps only this:
+ *   - a metrics sink that encodes every sample as a SNAPSHOT frame (players and worlds too)
+ *   - a thread draining the vanilla console log queue into LOG frames, with the last
+ *     gui.remote.log-history lines kept to replay to a window that connects later
+ *   - console commands coming back from the window, run on the server thread
+ * over a Unix domain socket in the data directory that only the server's user can open;
+ * whoever can connect can run console commands.
+ *
+ * The window (RemoteGuiClient) is started as its own JVM when there is a display and
+ * gui.remote.launch is on; otherwise it can be started by hand with the mod jar:
+ *   java -cp dedicatedpower.jar net.supersirvu.remote.RemoteGuiClient dedicatedpower/sockets/gui.sock
+ *
+ * Each window gets a reader thread and a writer thread with a bounded queue; a window
+ * that stops reading is disconnected instead of growing the server's heap.
+ */
+public class RemoteGuiAgent implements MetricsSink {
+    private static final String LOG_QUEUE = "ServerGuiConsole";
+    private static final int CLIENT_QUEUE_FRAMES = 256;
+    // At most three UTF-8 bytes a char, well inside RemoteProtocol's frame limit
+    static final int MAX_LOG_CHARS = 64 * 1024;
+
+    private final Path path;
+    private final ServerSocketChannel serverChannel;
+    private final int logHistoryLines;
+    private final List<Client> clients = new CopyOnWriteArrayList<>();
+
+    // Guarded by itself, also makes a new window's replay and live log lines line up
+    private final Deque<ByteBuffer> logHistory = new ArrayDeque<>();
+    private volatile ByteBuffer latestSnapshot;
+    private volatile MinecraftServer server;
+    private volatile String serverVersion = "";
+
+    private RemoteGuiAgent(Path path, ServerSocketChannel serverChannel, int logHistoryLines) {
+        this.path = path;
+        this.serverChannel = serverChannel;
+        this.logHistoryLines = logHistoryLines;
+    }
+
+    public static RemoteGuiAgent install(MetricsCollector collector) {
+        DedicatedPowerConfig config = DedicatedPowerConfig.get();
+        Path path = LocalSockets.path("gui.sock");
+
+        RemoteGuiAgent agent;
+        try {
+            agent = new RemoteGuiAgent(path, LocalSockets.bind(path), Math.max(0, config.getInt("gui.remote.log-history", 1000)));
+        } catch (IOException e) {
+            DedicatedPower.LOGGER.error("Failed to open the remote GUI socket {}", path, e);
+            return null;
+        }
+
+        startDaemon(agent::acceptClients, "DedicatedPower Remote GUI");
+        startDaemon(agent::drainLog, "DedicatedPower Remote GUI Log");
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+            agent.server = server;
+            agent.serverVersion = server.getVersion();
+        });
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> agent.server = null);
+        // The collector closes its sinks, and so this agent, once the server has stopped
+        collector.addSink(agent);
+
+        DedicatedPower.LOGGER.info("Remote GUI listening on {}", path);
+        if (config.getBoolean("gui.remote.launch", true) && GuiMode.isDisplayAvailable()) {
+            agent.launchWindow(config.getInt("gui.remote.window-heap-mb", 256));
+        }
+        return agent;
+    }
+
+    private static void startDaemon(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void launchWindow(int heapMegabytes) {
+        String classPath = findModClassPath();
+        if (classPath == null) {
+            DedicatedPower.LOGGER.warn("Cannot tell where the mod jar is, start the window with: java -cp <mod jar> {} {}",
+                    RemoteGuiClient.class.getName(), path);
+            return;
+        }
+
+        Path java = Path.of(System.getProperty("java.home"), "bin", "java");
+        ProcessBuilder builder = new ProcessBuilder(java.toString(), "-Xmx" + heapMegabytes + "m", "-cp", classPath,
+                RemoteGuiClient.class.getName(), "--exit-with-server", path.toString());
+        builder.redirectErrorStream(true);
+        builder.redirectOutput(DedicatedPower.getDataDirectory().resolve("remote-gui.log").toFile());
+        try {
+            builder.start();
+        } catch (IOException e) {
+            DedicatedPower.LOGGER.error("Failed to start the remote GUI window", e);
+        }
+    }
+
+    // Only a mod loaded from a plain jar or directory can be put on another JVM's class path
+    private static String findModClassPath() {
+        Optional<ModContainer> mod = FabricLoader.getInstance().getModContainer(DedicatedPower.MOD_ID);
+        if (mod.isEmpty() || mod.get().getOrigin().getKind() != ModOrigin.Kind.PATH) return null;
+        return mod.get().getOrigin().getPaths().stream()
+                .map(Path::toString)
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private void acceptClients() {
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                Client client = new Client(channel);
+                client.send(hello());
+                synchronized (logHistory) {
+                    for (ByteBuffer line : logHistory) {
+                        client.send(line.duplicate());
+                    }
+                    clients.add(client);
+                }
+                ByteBuffer snapshot = latestSnapshot;
+                if (snapshot != null) client.send(snapshot.duplicate());
+                client.start();
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                DedicatedPower.LOGGER.warn("Failed to accept a remote GUI connection", e);
+            }
+        }
+    }
+
+    private ByteBuffer hello() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        RemoteProtocol.writeVarLong(out, RemoteProtocol.VERSION);
+        RemoteProtocol.writeString(out, serverVersion);
+        return RemoteProtocol.frame(RemoteProtocol.HELLO, bytes.toByteArray());
+    }
+
+    private void drainLog() {
+        String message;
+        while ((message = LogQueues.getNextLogEvent(LOG_QUEUE)) != null) {
+            // A frame over the limit would make the window drop the connection, on every replay too
+            message = truncateLog(message);
+            ByteBuffer frame;
+            try {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(message.length() + 8);
+                RemoteProtocol.writeString(new DataOutputStream(bytes), message);
+                frame = RemoteProtocol.frame(RemoteProtocol.LOG, bytes.toByteArray());
+            } catch (IOException e) {
+                continue;
+            }
+
+            synchronized (logHistory) {
+                if (logHistoryLines > 0) {
+                    logHistory.addLast(frame);
+                    if (logHistory.size() > logHistoryLines) logHistory.removeFirst();
+                }
+                broadcast(frame);
+            }
+        }
+    }
+
+    static String truncateLog(String message) {
+        if (message.length() <= MAX_LOG_CHARS) return message;
+        int end = MAX_LOG_CHARS;
+        // Do not split a surrogate pair
+        if (Character.isHighSurrogate(message.charAt(end - 1))) end--;
+        return message.substring(0, end) + "... (" + (message.length() - end) + " more characters)";
+    }
+
+    // Metrics collector thread
+    @Override
+    public void accept(MetricsSample sample) {
+        ByteBuffer frame;
+        try {
+            frame = RemoteProtocol.frame(RemoteProtocol.SNAPSHOT, encodeSnapshot(sample));
+        } catch (IOException e) {
+            return;
+        }
+        latestSnapshot = frame;
+        broadcast(frame);
+    }
+
+    static byte[] encodeSnapshot(MetricsSample sample) throws IOException {
+        ServerSnapshot snapshot = sample.snapshot();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        RemoteProtocol.writeVarLong(out, snapshot.timeMillis());
+        RemoteProtocol.writeVarLong(out, snapshot.totalTicks());
+        out.writeFloat((float) snapshot.averageTickMillis());
+        // The window only shows the spread of the tick window, not every tick in it
+        for (long nanos : snapshot.tickPercentiles(0.5, 0.99, 1.0)) {
+            RemoteProtocol.writeVarLong(out, nanos / 1000);
+        }
+        RemoteProtocol.writeVarLong(out, sample.usedMemoryBytes());
+        RemoteProtocol.writeVarLong(out, sample.maxMemoryBytes());
+        RemoteProtocol.writeVarLong(out, snapshot.players());
+        RemoteProtocol.writeVarLong(out, snapshot.maxPlayers());
+
+        RemoteProtocol.writeVarLong(out, snapshot.worlds().size());
+        for (ServerSnapshot.WorldStats world : snapshot.worlds()) {
+            RemoteProtocol.writeString(out, world.name());
+            RemoteProtocol.writeVarLong(out, world.entities());
+            RemoteProtocol.writeVarLong(out, world.itemEntities());
+            RemoteProtocol.writeVarLong(out, world.loadedChunks());
+            RemoteProtocol.writeVarLong(out, world.timeOfDay());
+            out.writeByte((world.raining() ? 1 : 0) | (world.thundering() ? 2 : 0));
+            RemoteProtocol.writeString(out, world.difficulty());
+        }
+
+        RemoteProtocol.writeVarLong(out, snapshot.onlinePlayers().size());
+        for (ServerSnapshot.PlayerStats player : snapshot.onlinePlayers()) {
+            out.writeLong(player.id().getMostSignificantBits());
+            out.writeLong(player.id().getLeastSignificantBits());
+            RemoteProtocol.writeString(out, player.name());
+            RemoteProtocol.writeVarLong(out, Math.max(0, player.ping()));
+            RemoteProtocol.writeString(out, player.gameMode().name());
+            out.writeBoolean(player.op());
+            out.writeFloat(player.health());
+            RemoteProtocol.writeVarLong(out, player.food());
+        }
+        return bytes.toByteArray();
+    }
+
+    private void broadcast(ByteBuffer frame) {
+        for (Client client : clients) {
+            client.send(frame.duplicate());
+        }
+    }
+
+    private void runCommand(String command) {
+        MinecraftServer server = this.server;
+        if (server == null) {
+            DedicatedPower.LOGGER.warn("Ignoring remote GUI command, the server is not running: {}", command);
+            return;
+        }
+        // Echoed so the window shows what was run between the output lines
+        DedicatedPower.LOGGER.info("[Remote GUI] /{}", command);
+        server.execute(() -> server.getCommandManager().parseAndExecute(server.getCommandSource(), command));
+    }
+
+    @Override
+    public void close() {
+        ByteBuffer bye = RemoteProtocol.frame(RemoteProtocol.BYE, new byte[0]);
+        for (Client client : clients) {
+            client.finish(bye.duplicate());
+        }
+        clients.clear();
+
+        try {
+            serverChannel.close();
+        } catch (IOException ignored) {
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    private final class Client {
+        // Marks the end of the queue for the writer thread
+        private static final ByteBuffer END = ByteBuffer.allocate(0);
+
+        private final SocketChannel channel;
+        // Room for the log replay on top of the live frames
+        private final BlockingQueue<ByteBuffer> outgoing = new LinkedBlockingQueue<>(logHistoryLines + CLIENT_QUEUE_FRAMES);
+
+        Client(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void start() {
+            startDaemon(this::writeFrames, "DedicatedPower Remote GUI Writer");
+            startDaemon(this::readFrames, "DedicatedPower Remote GUI Reader");
+        }
+
+        void send(ByteBuffer frame) {
+            if (!outgoing.offer(frame)) {
+                DedicatedPower.LOGGER.warn("Disconnecting a remote GUI window that is not keeping up");
+                disconnect();
+            }
+        }
+
+        // Lets the writer empty the queue and send one last frame, then close
+        void finish(ByteBuffer last) {
+            if (!outgoing.offer(last) || !outgoing.offer(END)) {
+                disconnect();
+            }
+        }
+
+        private void writeFrames() {
+            try {
+                while (true) {
+                    ByteBuffer frame = outgoing.take();
+                    if (frame == END) break;
+                    RemoteProtocol.writeFrame(channel, frame);
+                }
+            } catch (IOException | InterruptedException ignored) {
+            }
+            disconnect();
+        }
+
+        private void readFrames() {
+            try {
+                while (true) {
+                    ByteBuffer frame = RemoteProtocol.readFrame(channel);
+                    if (frame.get() == RemoteProtocol.COMMAND) {
+                        byte[] bytes = new byte[frame.remaining()];
+                        frame.get(bytes);
+                        String command = RemoteProtocol.readString(new DataInputStream(new ByteArrayInputStream(bytes))).trim();
+                        if (command.startsWith("/")) command = command.substring(1);
+                        if (!command.isEmpty()) runCommand(command);
+                    }
+                }
+            } catch (IOException ignored) {
+            }
+            disconnect();
+        }
+
+        private void disconnect() {
+            clients.remove(this);
+            outgoing.clear();
+            outgoing.offer(END);
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
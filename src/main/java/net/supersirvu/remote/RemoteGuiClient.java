@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.remote;
+
+import net.supersirvu.gui.TimeSeriesGraph;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+/*
+ * The server window for gui.mode=remote, in its own JVM: graphs, players, worlds, the log
+ * and a command line, fed by RemoteGuiAgent over its socket. Only the JDK and this mod's
+ * own classes are on the class path.
+ *
+ * It keeps reconnecting while the server is down, unless started with --exit-with-server
+ * (as the server does when it launches it), in which case it ends along with the server.
+ * Closing the window leaves the server running.
+ */
+public class RemoteGuiClient extends JFrame {
+    private static final int GRAPH_SAMPLES = 300;
+    private static final int MAX_LOG_LINES = 5000;
+
+    private final Path socketPath;
+    private final boolean exitWithServer;
+
+    private final TimeSeriesGraph tickGraph = new TimeSeriesGraph("Tick", "ms", new Color(200, 80, 80));
+    private final TimeSeriesGraph memoryGraph = new TimeSeriesGraph("Heap", "%", new Color(80, 120, 200));
+    private final double[] tickValues = new double[GRAPH_SAMPLES];
+    private final double[] memoryValues = new double[GRAPH_SAMPLES];
+    private int graphCount;
+
+    private final JLabel statusLabel = new JLabel("Connecting...");
+    private final PlayerTableModel playerModel = new PlayerTableModel();
+    private final WorldTableModel worldModel = new WorldTableModel();
+    private final JTable playerTable = new JTable(playerModel);
+    private final JTextArea logArea = new JTextArea();
+    private final JTextField commandField = new JTextField();
+
+    private volatile SocketChannel channel;
+
+    public RemoteGuiClient(Path socketPath, boolean exitWithServer) {
+        super("Minecraft server (remote)");
+        this.socketPath = socketPath;
+        this.exitWithServer = exitWithServer;
+        setDefaultCloseOperation(EXIT_ON_CLOSE);
+        setLayout(new BorderLayout(5, 5));
+
+        memoryGraph.setFixedMax(100);
+        JPanel graphPanel = new JPanel(new GridLayout(1, 2, 5, 5));
+        graphPanel.add(tickGraph);
+        graphPanel.add(memoryGraph);
+
+        statusLabel.setBorder(BorderFactory.createEmptyBorder(0, 5, 0, 5));
+        JPanel topPanel = new JPanel(new BorderLayout(5, 5));
+        topPanel.add(graphPanel, BorderLayout.CENTER);
+        topPanel.add(statusLabel, BorderLayout.SOUTH);
+
+        playerTable.setAutoCreateRowSorter(true);
+        playerTable.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                showPlayerMenu(e);
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                showPlayerMenu(e);
+            }
+        });
+        JTable worldTable = new JTable(worldModel);
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Players", new JScrollPane(playerTable));
+        tabs.addTab("Worlds", new JScrollPane(worldTable));
+
+        logArea.setEditable(false);
+        logArea.setFont(new Font(Font.MONOSPACED, Font.PLAIN, 12));
+        commandField.addActionListener(e -> {
+            String command = commandField.getText().trim();
+            if (!command.isEmpty() && sendCommand(command)) commandField.setText("");
+        });
+
+        JPanel logPanel = new JPanel(new BorderLayout());
+        logPanel.add(new JScrollPane(logArea), BorderLayout.CENTER);
+        logPanel.add(commandField, BorderLayout.SOUTH);
+        logPanel.setBorder(BorderFactory.createTitledBorder("Log and chat"));
+
+        JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT, tabs, logPanel);
+        split.setDividerLocation(330);
+
+        add(topPanel, BorderLayout.NORTH);
+        add(split, BorderLayout.CENTER);
+
+        setSize(1000, 650);
+        setLocationRelativeTo(null);
+    }
+
+    public static void main(String[] args) {
+        boolean exitWithServer = false;
+        String socket = null;
+        for (String arg : args) {
+            if (arg.equals("--exit-with-server")) {
+                exitWithServer = true;
+            } else {
+                socket = arg;
+            }
+        }
+        if (socket == null) {
+            System.err.println("Usage: java -cp <mod jar> " + RemoteGuiClient.class.getName()
+                    + " [--exit-with-server] <path to dedicatedpower/sockets/gui.sock>");
+            System.exit(2);
+        }
+
+        Path socketPath = Path.of(socket);
+        boolean exit = exitWithServer;
+        SwingUtilities.invokeLater(() -> {
+            RemoteGuiClient client = new RemoteGuiClient(socketPath, exit);
+            client.setVisible(true);
+            Thread thread = new Thread(client::connectLoop, "Remote GUI Connection");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    private void connectLoop() {
+        boolean connectedOnce = false;
+        while (true) {
+            try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+                channel.connect(UnixDomainSocketAddress.of(socketPath));
+                this.channel = channel;
+                connectedOnce = true;
+                readFrames(channel);
+            } catch (IOException e) {
+                setStatus(connectedOnce ? "Disconnected from the server, reconnecting..." : "Waiting for the server on " + socketPath + "...");
+            } finally {
+                this.channel = null;
+            }
+
+            if (connectedOnce && exitWithServer) {
+                System.exit(0);
+            }
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void readFrames(SocketChannel channel) throws IOException {
+        while (true) {
+            ByteBuffer frame = RemoteProtocol.readFrame(channel);
+            byte type = frame.get();
+            byte[] payload = new byte[frame.remaining()];
+            frame.get(payload);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+
+            switch (type) {
+                case RemoteProtocol.HELLO -> {
+                    long version = RemoteProtocol.readVarLong(in);
+                    if (version != RemoteProtocol.VERSION) {
+                        throw new IOException("The server speaks protocol " + version + ", this window " + RemoteProtocol.VERSION);
+                    }
+                    String serverVersion = RemoteProtocol.readString(in);
+                    SwingUtilities.invokeLater(() -> {
+                        setTitle(serverVersion.isEmpty() ? "Minecraft server (remote)" : "Minecraft server " + serverVersion + " (remote)");
+                        logArea.setText("");
+                    });
+                    setStatus("Connected, waiting for the first sample...");
+                }
+                case RemoteProtocol.SNAPSHOT -> {
+                    RemoteSnapshot snapshot = RemoteSnapshot.read(in);
+                    SwingUtilities.invokeLater(() -> update(snapshot));
+                }
+                case RemoteProtocol.LOG -> {
+                    String line = RemoteProtocol.readString(in);
+                    SwingUtilities.invokeLater(() -> appendLog(line));
+                }
+                case RemoteProtocol.BYE -> {
+                    setStatus("The server has stopped.");
+                    return;
+                }
+                default -> {
+                    // Newer server, frame types this window does not know are skipped
+                }
+            }
+        }
+    }
+
+    private void update(RemoteSnapshot snapshot) {
+        if (graphCount == GRAPH_SAMPLES) {
+            System.arraycopy(tickValues, 1, tickValues, 0, GRAPH_SAMPLES - 1);
+            System.arraycopy(memoryValues, 1, memoryValues, 0, GRAPH_SAMPLES - 1);
+            graphCount--;
+        }
+        tickValues[graphCount] = snapshot.averageTickMillis();
+        memoryValues[graphCount] = snapshot.memoryPercent();
+        graphCount++;
+        tickGraph.setValues(tickValues, graphCount);
+        memoryGraph.setValues(memoryValues, graphCount);
+
+        statusLabel.setText(String.format("TPS %.1f   Tick p50 %.1f / p99 %.1f / max %.1f ms   Heap %,d / %,d MB   Players %d / %d",
+                snapshot.tps(), snapshot.p50TickMillis(), snapshot.p99TickMillis(), snapshot.maxTickMillis(),
+                snapshot.usedMemoryBytes() >> 20, snapshot.maxMemoryBytes() >> 20, snapshot.players(), snapshot.maxPlayers()));
+        playerModel.setPlayers(snapshot.onlinePlayers());
+        worldModel.setWorlds(snapshot.worlds());
+    }
+
+    private void appendLog(String line) {
+        boolean atBottom = logArea.getCaretPosition() == logArea.getDocument().getLength();
+        logArea.append(line.endsWith("\n") ? line : line + "\n");
+
+        // Bounded like the server's replay, a week-long session should not fill this heap either
+        Document document = logArea.getDocument();
+        int excess = logArea.getLineCount() - MAX_LOG_LINES;
+        if (excess > 0) {
+            try {
+                document.remove(0, logArea.getLineEndOffset(excess - 1));
+            } catch (BadLocationException ignored) {
+            }
+        }
+        if (atBottom) logArea.setCaretPosition(document.getLength());
+    }
+
+    private void setStatus(String text) {
+        SwingUtilities.invokeLater(() -> statusLabel.setText(text));
+    }
+
+    private boolean sendCommand(String command) {
+        SocketChannel channel = this.channel;
+        if (channel == null) {
+            JOptionPane.showMessageDialog(this, "Not connected to the server.", "Command", JOptionPane.WARNING_MESSAGE);
+            return false;
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            RemoteProtocol.writeString(new DataOutputStream(bytes), command);
+            // Commands are short and rare, writing on the Swing thread is fine
+            synchronized (this) {
+                RemoteProtocol.writeFrame(channel, RemoteProtocol.frame(RemoteProtocol.COMMAND, bytes.toByteArray()));
+            }
+            return true;
+        } catch (IOException e) {
+            JOptionPane.showMessageDialog(this, "Failed to send the command: " + e.getMessage(), "Command", JOptionPane.ERROR_MESSAGE);
+            return false;
+        }
+    }
+
+    private void showPlayerMenu(MouseEvent e) {
+        if (!e.isPopupTrigger()) return;
+        int row = playerTable.rowAtPoint(e.getPoint());
+        if (row < 0) return;
+        playerTable.setRowSelectionInterval(row, row);
+        String name = (String) playerTable.getValueAt(row, 0);
+
+        JPopupMenu menu = new JPopupMenu();
+        addPlayerCommand(menu, "Message...", name, "tell " + name + " ", true);
+        addPlayerCommand(menu, "Kick", name, "kick " + name, false);
+        addPlayerCommand(menu, "Ban", name, "ban " + name, false);
+        menu.addSeparator();
+        addPlayerCommand(menu, "Op", name, "op " + name, false);
+        addPlayerCommand(menu, "Deop", name, "deop " + name, false);
+        menu.show(playerTable, e.getX(), e.getY());
+    }
+
+    private void addPlayerCommand(JPopupMenu menu, String label, String player, String command, boolean needsText) {
+        JMenuItem item = new JMenuItem(label);
+        item.addActionListener(e -> {
+            if (needsText) {
+                String message = JOptionPane.showInputDialog(this, "Message to " + player + ":", label, JOptionPane.PLAIN_MESSAGE);
+                if (message != null && !message.isBlank()) sendCommand(command + message);
+            } else if (JOptionPane.showConfirmDialog(this, label + " " + player + "?", label,
+                    JOptionPane.YES_NO_OPTION) == JOptionPane.YES_OPTION) {
+                sendCommand(command);
+            }
+        });
+        menu.add(item);
+    }
+
+    private static class PlayerTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"Name", "Ping", "Game Mode", "Op", "Health", "Food"};
+
+        private List<RemoteSnapshot.Player> players = List.of();
+
+        void setPlayers(List<RemoteSnapshot.Player> players) {
+            if (players.equals(this.players)) return;
+            this.players = players;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return players.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 0, 2 -> String.class;
+                case 3 -> Boolean.class;
+                case 4 -> Float.class;
+                default -> Integer.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            RemoteSnapshot.Player player = players.get(row);
+            return switch (column) {
+                case 0 -> player.name();
+                case 1 -> player.ping();
+                case 2 -> player.gameMode();
+                case 3 -> player.op();
+                case 4 -> player.health();
+                default -> player.food();
+            };
+        }
+    }
+
+    private static class WorldTableModel extends AbstractTableModel {
+        private static final String[] COLUMNS = {"World", "Entities", "Items", "Chunks", "Weather", "Difficulty"};
+
+        private List<RemoteSnapshot.World> worlds = List.of();
+
+        void setWorlds(List<RemoteSnapshot.World> worlds) {
+            if (worlds.equals(this.worlds)) return;
+            this.worlds = worlds;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return worlds.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 1, 2, 3 -> Integer.class;
+                default -> String.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            RemoteSnapshot.World world = worlds.get(row);
+            return switch (column) {
+                case 0 -> world.name();
+                case 1 -> world.entities();
+                case 2 -> world.itemEntities();
+                case 3 -> world.loadedChunks();
+                case 4 -> world.weather();
+                default -> world.difficulty();
+            };
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.remote;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * Wire format between the server and the out-of-process window. Every message is a frame:
+ *   int length (of type and payload), byte type, payload
+ * Payloads are written with DataOutput; counts and most numbers are varints, so a snapshot
+ * of a small server fits in a hundred bytes or so.
+ *
+ * Only JDK classes are used here, the window process has no Minecraft on its classpath.
+ */
+public final class RemoteProtocol {
+    public static final int VERSION = 1;
+
+    // Server to window
+    public static final byte HELLO = 1;
+    public static final byte SNAPSHOT = 2;
+    public static final byte LOG = 3;
+    public static final byte BYE = 4;
+
+    // Window to server
+    public static final byte COMMAND = 10;
+
+    private static final int MAX_FRAME_LENGTH = 1 << 20;
+
+    private RemoteProtocol() {
+    }
+
+    public static ByteBuffer frame(byte type, byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.allocate(5 + payload.length);
+        buffer.putInt(1 + payload.length).put(type).put(payload).flip();
+        return buffer;
+    }
+
+    public static void writeFrame(WritableByteChannel channel, ByteBuffer frame) throws IOException {
+        while (frame.hasRemaining()) {
+            channel.write(frame);
+        }
+    }
+
+    // Blocks until a whole frame has arrived; the type is the first byte of the result
+    public static ByteBuffer readFrame(ReadableByteChannel channel) throws IOException {
+        ByteBuffer header = readFully(channel, ByteBuffer.allocate(4));
+        int length = header.getInt();
+        if (length < 1 || length > MAX_FRAME_LENGTH) {
+            throw new IOException("Bad frame length " + length);
+        }
+        return readFully(channel, ByteBuffer.allocate(length));
+    }
+
+    private static ByteBuffer readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new EOFException();
+        }
+        return buffer.flip();
+    }
+
+    public static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    public static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Varint too long");
+    }
+
+    public static int readVarInt(DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    // writeUTF stops at 64 KB, a stack trace in the log can be longer
+    public static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    public static String readString(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || length > MAX_FRAME_LENGTH) throw new IOException("Bad string length " + length);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.remote;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// The window process's copy of a metrics sample, decoded from a SNAPSHOT frame
+public record RemoteSnapshot(
+        long timeMillis,
+        long totalTicks,
+        double averageTickMillis,
+        double p50TickMillis,
+        double p99TickMillis,
+        double maxTickMillis,
+        long usedMemoryBytes,
+        long maxMemoryBytes,
+        int players,
+        int maxPlayers,
+        List<World> worlds,
+        List<Player> onlinePlayers
+) {
+    public double tps() {
+        return averageTickMillis > 0 ? Math.min(20.0, 1000.0 / averageTickMillis) : 20.0;
+    }
+
+    public double memoryPercent() {
+        return usedMemoryBytes * 100.0 / maxMemoryBytes;
+    }
+
+    // The reverse of RemoteGuiAgent.encodeSnapshot
+    public static RemoteSnapshot read(DataInput in) throws IOException {
+        long timeMillis = RemoteProtocol.readVarLong(in);
+        long totalTicks = RemoteProtocol.readVarLong(in);
+        double averageTickMillis = in.readFloat();
+        double p50 = RemoteProtocol.readVarLong(in) / 1000.0;
+        double p99 = RemoteProtocol.readVarLong(in) / 1000.0;
+        double max = RemoteProtocol.readVarLong(in) / 1000.0;
+        long usedMemory = RemoteProtocol.readVarLong(in);
+        long maxMemory = RemoteProtocol.readVarLong(in);
+        int players = RemoteProtocol.readVarInt(in);
+        int maxPlayers = RemoteProtocol.readVarInt(in);
+
+        int worldCount = RemoteProtocol.readVarInt(in);
+        List<World> worlds = new ArrayList<>(worldCount);
+        for (int i = 0; i < worldCount; i++) {
+            String name = RemoteProtocol.readString(in);
+            int entities = RemoteProtocol.readVarInt(in);
+            int itemEntities = RemoteProtocol.readVarInt(in);
+            int loadedChunks = RemoteProtocol.readVarInt(in);
+            long timeOfDay = RemoteProtocol.readVarLong(in);
+            int weather = in.readByte();
+            String difficulty = RemoteProtocol.readString(in);
+            worlds.add(new World(name, entities, itemEntities, loadedChunks, timeOfDay,
+                    (weather & 1) != 0, (weather & 2) != 0, difficulty));
+        }
+
+        int playerCount = RemoteProtocol.readVarInt(in);
+        List<Player> onlinePlayers = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            UUID id = new UUID(in.readLong(), in.readLong());
+            String name = RemoteProtocol.readString(in);
+            int ping = RemoteProtocol.readVarInt(in);
+            String gameMode = RemoteProtocol.readString(in);
+            boolean op = in.readBoolean();
+            float health = in.readFloat();
+            int food = RemoteProtocol.readVarInt(in);
+            onlinePlayers.add(new Player(id, name, ping, gameMode, op, health, food));
+        }
+
+        return new RemoteSnapshot(timeMillis, totalTicks, averageTickMillis, p50, p99, max, usedMemory, maxMemory,
+                players, maxPlayers, worlds, onlinePlayers);
+    }
+
+    public record World(String name, int entities, int itemEntities, int loadedChunks, long timeOfDay,
+                        boolean raining, boolean thundering, String difficulty) {
+        public String weather() {
+            return raining ? (thundering ? "Thunder" : "Rain") : "Clear";
+        }
+    }
+
+    public record Player(UUID id, String name, int ping, String gameMode, boolean op, float health, int food) {
+    }
+}
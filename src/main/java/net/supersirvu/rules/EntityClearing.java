@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.rules;
+
+// The entity groups the Clear Entities menu and the clear-entities rule action know about
+public final class EntityClearing {
+    private EntityClearing() {
+    }
+
+    public static String selectorFilter(String group) {
+        return switch (group) {
+            case "items", "minecraft:item" -> "type=item";
+            case "hostile" -> "type=!player,type=!item,type=!armor_stand";
+            case "mobs" -> "type=!player,type=!item";
+            case "all" -> "type=!player";
+            default -> "type=" + group;
+        };
+    }
+
+    /*
+     * A bare @e selects entities in every world. Running it "in" a world and adding a
+     * distance limit makes the selector local to that world, so a rule that fired for one
+     * world only clears that world.
+     */
+    public static String command(String group, String world) {
+        String filter = selectorFilter(group);
+        if (world == null) {
+            return "kill @e[" + filter + "]";
+        }
+        return "execute in " + world + " run kill @e[" + filter + ",distance=0..]";
+    }
+}
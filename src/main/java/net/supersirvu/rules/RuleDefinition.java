@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.rules;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * One rule as written in dedicatedpower-rules.json. Exactly one of above/below is set;
+ * the matching clear threshold gives the hysteresis (a rule that fired above 5000 items
+ * stays active until the count drops to clearBelow, not just under 5000 again).
+ */
+public class RuleDefinition {
+    public String name;
+    public boolean enabled = true;
+    public String metric;
+    // null: the total over all worlds, "any": each world on its own, or a world id
+    public String world;
+    public Double above;
+    public Double below;
+    public Double clearBelow;
+    public Double clearAbove;
+    public double forSeconds;
+    public double cooldownSeconds = 300;
+    // Fire again every cooldown while the condition still holds
+    public boolean repeat;
+    public List<ActionDefinition> actions = new ArrayList<>();
+
+    public static class ActionDefinition {
+        // command, clear-entities, log, profile, jfr-dump, bundle
+        public String type;
+        public String command;
+        public String entities;
+        public String message;
+        public double seconds = 30;
+    }
+
+    // Returns a description of what is wrong, or null
+    public String validate() {
+        if (name == null || name.isBlank()) return "a rule has no name";
+        if (metric == null) return name + ": no metric";
+        if (!RuleEngine.isKnownMetric(metric)) return name + ": unknown metric " + metric;
+        if ((above == null) == (below == null)) return name + ": set exactly one of above and below";
+        if (actions == null || actions.isEmpty()) return name + ": no actions";
+        for (ActionDefinition action : actions) {
+            if (action.type == null) return name + ": an action has no type";
+            switch (action.type) {
+                case "command" -> {
+                    if (action.command == null) return name + ": command action without a command";
+                }
+                case "clear-entities" -> {
+                    if (action.entities == null) return name + ": clear-entities action without entities";
+                }
+                case "log", "profile", "jfr-dump", "bundle" -> {
+                }
+                default -> {
+                    return name + ": unknown action " + action.type;
+                }
+            }
+        }
+        return null;
+    }
+
+    public boolean isTriggered(double value) {
+        return above != null ? value > above : value < below;
+    }
+
+    public boolean isCleared(double value) {
+        if (above != null) return value <= (clearBelow != null ? clearBelow : above);
+        return value >= (clearAbove != null ? clearAbove : below);
+    }
+
+    public double threshold() {
+        return above != null ? above : below;
+    }
+
+    public String describeCondition() {
+        StringBuilder text = new StringBuilder(metric);
+        if (world != null) text.append(" in ").append(world.equals("any") ? "any world" : world);
+        text.append(above != null ? " > " + format(above) : " < " + format(below));
+        if (forSeconds > 0) text.append(" for ").append(format(forSeconds)).append(" s");
+        return text.toString();
+    }
+
+    static String format(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) 2026 SuperSirvu
+ *
+ * Licensed under the MIT License.
+ */
+
+package net.supersirvu.rules;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.server.MinecraftServer;
+import net.supersirvu.DedicatedPower;
+import net.supersirvu.diagnostics.DiagnosticBundle;
+import net.supersirvu.export.ServerSnapshot;
+import net.supersirvu.export.ServerSnapshotter;
+import net.supersirvu.jfr.FlightRecorderControl;
+import net.supersirvu.metrics.GcMonitor;
+import net.supersirvu.profiling.SamplingProfiler;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/*
+ * Evaluates the rules in config/dedicatedpower-rules.json against every server snapshot
+ * (once a second) and runs their actions when a condition has held long enough.
+ *
+ * Each rule, and each world for "world": "any" rules, moves between three states: quiet,
+ * pending (condition true, waiting out forSeconds) and active (fired, waiting for the
+ * value to cross the clear threshold). Firing again needs the cooldown to have passed,
+ * and only happens while active if the rule repeats. Evaluation runs on the server
+ * thread right after the snapshot is taken, so commands run exactly like typed ones;
+ * anything slow (profiling, dumps, bundles) is handed to a background thread.
+ *
+ * Every firing and every resolution goes to dedicatedpower/rules/audit.log.
+ */
+public class RuleEngine {
+    private static final String FILE_NAME = DedicatedPower.MOD_ID + "-rules.json";
+    private static final int HISTORY_SIZE = 200;
+    private static final Set<String> GLOBAL_METRICS = Set.of(
+            "tps", "mspt", "mspt.p50", "mspt.p95", "mspt.p99", "mspt.max", "players", "heap.percent", "oldgen.percent");
+    private static final Set<String> WORLD_METRICS = Set.of("entities", "items", "chunks");
+
+    private static final String DEFAULT_RULES = """
+            [
+              {
+                "name": "Clear dropped items",
+                "enabled": false,
+                "metric": "items",
+                "world": "any",
+                "above": 5000,
+                "clearBelow": 4000,
+                "forSeconds": 30,
+                "cooldownSeconds": 300,
+                "actions": [
+                  {"type": "clear-entities", "entities": "items"},
+                  {"type": "log", "message": "{value} dropped items in {world}, cleared them"}
+                ]
+              },
+              {
+                "name": "Profile slow ticks",
+                "enabled": false,
+                "metric": "mspt.p99",
+                "above": 100,
+                "clearBelow": 60,
+                "forSeconds": 60,
+                "cooldownSeconds": 900,
+                "actions": [
+                  {"type": "profile", "seconds": 30},
+                  {"type": "log", "message": "p99 tick time at {value} ms, profiling the server thread"}
+                ]
+              }
+            ]
+            """;
+
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final ServerSnapshotter snapshotter;
+    private final Consumer<ServerSnapshot> listener = this::evaluate;
+    private final Path file;
+    private final Path auditFile;
+
+    private volatile MinecraftServer server;
+    private volatile List<Rule> rules = List.of();
+    private volatile String loadError;
+
+    // Guarded by this
+    private final Deque<Firing> history = new ArrayDeque<>();
+
+    public RuleEngine(ServerSnapshotter snapshotter) {
+        this.snapshotter = snapshotter;
+        this.file = FabricLoader.getInstance().getConfigDir().resolve(FILE_NAME);
+        this.auditFile = DedicatedPower.getDataDirectory().resolve("rules").resolve("audit.log");
+    }
+
+    public static RuleEngine install(ServerSnapshotter snapshotter) {
+        RuleEngine engine = new RuleEngine(snapshotter);
+        engine.reload();
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> engine.server = server);
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> engine.server = null);
+        return engine;
+    }
+
+    public static boolean isKnownMetric(String metric) {
+        return GLOBAL_METRICS.contains(metric) || WORLD_METRICS.contains(metric);
+    }
+
+    // Keeps the previous rules if the file does not parse, the error is shown in the dialog
+    public synchronized void reload() {
+        try {
+            if (!Files.exists(file)) {
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, DEFAULT_RULES);
+            }
+
+            List<RuleDefinition> definitions;
+            try (Reader reader = Files.newBufferedReader(file)) {
+                definitions = gson.fromJson(reader, new TypeToken<List<RuleDefinition>>() {}.getType());
+            }
+            if (definitions == null) definitions = List.of();
+
+            List<Rule> loaded = new ArrayList<>();
+            for (RuleDefinition definition : definitions) {
+                String problem = definition.validate();
+                if (problem != null) throw new IllegalArgumentException(problem);
+                loaded.add(new Rule(definition));
+            }
+
+            rules = List.copyOf(loaded);
+            loadError = null;
+            DedicatedPower.LOGGER.info("Loaded {} rules from {}", loaded.size(), file);
+        } catch (IOException | JsonParseException | IllegalArgumentException e) {
+            loadError = e.getMessage();
+            DedicatedPower.LOGGER.error("Failed to load the rules from {}: {}", file, e.getMessage());
+        }
+
+        // Without enabled rules there is nothing to evaluate
+        snapshotter.removeListener(listener);
+        if (rules.stream().anyMatch(rule -> rule.definition.enabled)) {
+            snapshotter.addListener(listener);
+        }
+    }
+
+    private void evaluate(ServerSnapshot snapshot) {
+        MinecraftServer server = this.server;
+        if (server == null) return;
+
+        MetricValues values = new MetricValues(snapshot);
+        for (Rule rule : rules) {
+            RuleDefinition definition = rule.definition;
+            if (!definition.enabled) continue;
+
+            if (WORLD_METRICS.contains(definition.metric) && definition.world != null) {
+                // The dialog shows the world closest to (or furthest past) the threshold
+                double worst = Double.NaN;
+                for (ServerSnapshot.WorldStats world : snapshot.worlds()) {
+                    if (definition.world.equals("any") || definition.world.equals(world.name())) {
+                        double value = MetricValues.world(definition.metric, world);
+                        evaluate(rule, world.name(), value, snapshot.timeMillis(), server);
+                        if (Double.isNaN(worst) || (definition.above != null ? value > worst : value < worst)) worst = value;
+                    }
+                }
+                rule.lastValue = worst;
+            } else {
+                double value = values.global(definition.metric);
+                evaluate(rule, null, value, snapshot.timeMillis(), server);
+                rule.lastValue = value;
+            }
+        }
+    }
+
+    private void evaluate(Rule rule, String world, double value, long now, MinecraftServer server) {
+        if (Double.isNaN(value)) return;
+
+        RuleDefinition definition = rule.definition;
+        ScopeState state = rule.states.computeIfAbsent(world, key -> new ScopeState());
+
+        if (!state.active) {
+            if (!definition.isTriggered(value)) {
+                state.pendingSince = -1;
+                return;
+            }
+            if (state.pendingSince < 0) state.pendingSince = now;
+            if (now - state.pendingSince < definition.forSeconds * 1000) return;
+
+            // Still cooling down from the last firing: stay pending and fire once it has passed
+            if (state.lastFired != 0 && now - state.lastFired < definition.cooldownSeconds * 1000) return;
+
+            state.active = true;
+            fire(rule, state, world, value, now, server);
+        } else if (definition.isCleared(value)) {
+            state.active = false;
+            state.pendingSince = -1;
+            record(new Firing(now, definition.name, world, value, "resolved", List.of()));
+        } else if (definition.repeat && now - state.lastFired >= definition.cooldownSeconds * 1000) {
+            fire(rule, state, world, value, now, server);
+        }
+        rule.active = rule.states.values().stream().anyMatch(s -> s.active);
+    }
+
+    private void fire(Rule rule, ScopeState state, String world, double value, long now, MinecraftServer server) {
+        state.lastFired = now;
+        rule.lastFired = now;
+        rule.firings++;
+
+        List<String> results = new ArrayList<>();
+        for (RuleDefinition.ActionDefinition action : rule.definition.actions) {
+            try {
+                results.add(runAction(rule.definition, action, world, value, server));
+            } catch (RuntimeException e) {
+                DedicatedPower.LOGGER.warn("Rule '{}': {} action failed", rule.definition.name, action.type, e);
+                results.add(action.type + " failed: " + e.getMessage());
+            }
+        }
+        record(new Firing(now, rule.definition.name, world, value, "fired", results));
+    }
+
+    private String runAction(RuleDefinition rule, RuleDefinition.ActionDefinition action, String world, double value, MinecraftServer server) {
+        switch (action.type) {
+            case "command" -> {
+                // {world} falls back to the overworld so "execute in {world}" works for total rules
+                String command = expand(action.command, rule, world != null ? world : "minecraft:overworld", value);
+                server.getCommandManager().parseAndExecute(server.getCommandSource(), command);
+                return "ran /" + command;
+            }
+            case "clear-entities" -> {
+                String command = EntityClearing.command(action.entities, world);
+                server.getCommandManager().parseAndExecute(server.getCommandSource(), command);
+                return "ran /" + command;
+            }
+            case "log" -> {
+                String message = action.message != null ? expand(action.message, rule, world, value)
+                        : rule.describeCondition() + ", value " + RuleDefinition.format(value);
+                DedicatedPower.LOGGER.warn("[Rule '{}'] {}", rule.name, message);
+                return "logged \"" + message + "\"";
+            }
+            case "profile" -> {
+                return startProfiler(rule, action.seconds);
+            }
+            case "jfr-dump" -> {
+                FlightRecorderControl recorder = DedicatedPower.getFlightRecorder();
+                if (recorder == null || !recorder.isRecording()) return "no flight recording running, nothing dumped";
+                Path target = recorder.getDefaultDumpFile("rule-" + slug(rule.name));
+                runInBackground("JFR dump", () -> recorder.dump(target));
+                return "dumping the flight recording to " + target;
+            }
+            case "bundle" -> {
+                Path target = DiagnosticBundle.getDefaultFile();
+                DiagnosticBundle bundle = new DiagnosticBundle(server, DedicatedPower.getMetricsStore());
+                // Rules usually fire while the server already lags, never add a full GC on top
+                bundle.setIncludeClassHistogram(false);
+                runInBackground("diagnostic bundle", () -> bundle.write(target, (step, totalSteps, description) -> {}));
+                return "writing a diagnostic bundle to " + target;
+            }
+            default -> throw new IllegalStateException("unknown action " + action.type);
+        }
+    }
+
+    // Called on the server thread, which is the thread to profile
+    private String startProfiler(RuleDefinition rule, double seconds) {
+        SamplingProfiler profiler = new SamplingProfiler(Thread.currentThread(), false, SamplingProfiler.getDefaultIntervalMillis());
+        String time = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+        Path target = DedicatedPower.getDataDirectory().resolve("profiles").resolve("rule-" + slug(rule.name) + "-" + time + ".txt");
+        profiler.start();
+
+        runInBackground("profile", () -> {
+            try {
+                Thread.sleep((long) (seconds * 1000));
+            } finally {
+                profiler.stop();
+            }
+            Files.createDirectories(target.getParent());
+            try (Writer writer = Files.newBufferedWriter(target)) {
+                profiler.snapshot().writeCollapsed(writer, profiler.getFrames());
+            }
+            DedicatedPower.LOGGER.info("Rule '{}': saved {} profiler samples to {}", rule.name, profiler.getSampleCount(), target);
+        });
+        return "profiling the server thread for " + RuleDefinition.format(seconds) + " s into " + target;
+    }
+
+    private interface Task {
+        void run() throws Exception;
+    }
+
+    private static void runInBackground(String description, Task task) {
+        Thread thread = new Thread(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                DedicatedPower.LOGGER.warn("Rule action failed: {}", description, e);
+            }
+        }, "DedicatedPower Rule Action");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static String expand(String template, RuleDefinition rule, String world, double value) {
+        return template.replace("{rule}", rule.name)
+                .replace("{world}", world != null ? world : "all worlds")
+                .replace("{value}", RuleDefinition.format(Math.round(value * 10) / 10.0))
+                .replace("{threshold}", RuleDefinition.format(rule.threshold()));
+    }
+
+    private static String slug(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+    }
+
+    // Firings are rare (cooldowns), writing the line right away on the server thread is fine
+    private void record(Firing firing) {
+        synchronized (this) {
+            history.addLast(firing);
+            if (history.size() > HISTORY_SIZE) history.removeFirst();
+        }
+
+        try {
+            Files.createDirectories(auditFile.getParent());
+            Files.writeString(auditFile, firing.format() + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            DedicatedPower.LOGGER.warn("Failed to write the rule audit log", e);
+        }
+    }
+
+    public synchronized List<Firing> getHistory() {
+        return new ArrayList<>(history);
+    }
+
+    public List<RuleStatus> getStatus() {
+        List<RuleStatus> status = new ArrayList<>();
+        for (Rule rule : rules) {
+            status.add(new RuleStatus(rule.definition.name, rule.definition.describeCondition(), rule.definition.enabled,
+                    rule.active, rule.lastValue, rule.firings, rule.lastFired));
+        }
+        return status;
+    }
+
+    public String getLoadError() {
+        return loadError;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public Path getAuditFile() {
+        return auditFile;
+    }
+
+    private static class Rule {
+        final RuleDefinition definition;
+        // Per world, or the null key for total rules; server thread only
+        final Map<String, ScopeState> states = new HashMap<>();
+
+        // Read by the GUI
+        volatile double lastValue = Double.NaN;
+        volatile boolean active;
+        volatile int firings;
+        volatile long lastFired;
+
+        Rule(RuleDefinition definition) {
+            this.definition = definition;
+        }
+    }
+
+    private static class ScopeState {
+        long pendingSince = -1;
+        boolean active;
+        long lastFired;
+    }
+
+    // Global metrics of one snapshot, the tick percentiles are only sorted if a rule asks
+    private static class MetricValues {
+        private final ServerSnapshot snapshot;
+        private long[] percentiles;
+
+        MetricValues(ServerSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        double global(String metric) {
+            return switch (metric) {
+                case "tps" -> snapshot.tps();
+                case "mspt" -> snapshot.averageTickMillis();
+                case "mspt.p50" -> percentile(0);
+                case "mspt.p95" -> percentile(1);
+                case "mspt.p99" -> percentile(2);
+                case "mspt.max" -> percentile(3);
+                case "players" -> snapshot.players();
+                case "heap.percent" -> {
+                    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+                    yield heap.getMax() > 0 ? heap.getUsed() * 100.0 / heap.getMax() : Double.NaN;
+                }
+                case "oldgen.percent" -> GcMonitor.sampleGauges().oldGenPercent();
+                default -> {
+                    // World metrics summed over every world
+                    double total = 0;
+                    for (ServerSnapshot.WorldStats world : snapshot.worlds()) total += world(metric, world);
+                    yield total;
+                }
+            };
+        }
+
+        private double percentile(int index) {
+            if (percentiles == null) percentiles = snapshot.tickPercentiles(0.5, 0.95, 0.99, 1.0);
+            return percentiles[index] / 1_000_000.0;
+        }
+
+        static double world(String metric, ServerSnapshot.WorldStats world) {
+            return switch (metric) {
+                case "entities" -> world.entities();
+                case "items" -> world.itemEntities();
+                case "chunks" -> world.loadedChunks();
+                default -> Double.NaN;
+            };
+        }
+    }
+
+    public record RuleStatus(String name, String condition, boolean enabled, boolean active, double lastValue,
+                             int firings, long lastFiredMillis) {
+    }
+
+    public record Firing(long timeMillis, String rule, String world, double value, String event, List<String> results) {
+        public String format() {
+            StringBuilder text = new StringBuilder();
+            text.append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(timeMillis)));
+            text.append(" [").append(event).append("] ").append(rule);
+            if (world != null) text.append(" (").append(world).append(')');
+            text.append(", value ").append(RuleDefinition.format(Math.round(value * 10) / 10.0));
+            for (String result : results) {
+                text.append("; ").append(result);
+            }
+            return text.toString();
+        }
+    }
+}